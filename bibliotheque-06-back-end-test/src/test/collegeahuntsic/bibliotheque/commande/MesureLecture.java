@@ -0,0 +1,212 @@
+// Fichier MesureLecture.java
+// Auteur : Dragons Vicieux
+// Date de création : 2026-10-18
+
+package test.collegeahuntsic.bibliotheque.commande;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import ca.qc.collegeahuntsic.bibliotheque.commande.Commande;
+import ca.qc.collegeahuntsic.bibliotheque.commande.ConvertisseurJournal;
+import ca.qc.collegeahuntsic.bibliotheque.commande.EcrivainJournal;
+import ca.qc.collegeahuntsic.bibliotheque.commande.LecteurJournal;
+import ca.qc.collegeahuntsic.bibliotheque.commande.TokeniseurMappe;
+import ca.qc.collegeahuntsic.bibliotheque.exception.BibliothequeException;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Compare le débit de lecture d'un fichier de transactions avec un {@link BufferedReader}, avec un {@link TokeniseurMappe} et,
+ * après conversion, avec un {@link LecteurJournal}.<br />
+ * <br />
+ * Chaque lecteur lit le fichier en entier et construit toutes ses {@link Commande}, sans les exécuter ; aucune base de données n'est
+ * nécessaire. Le journal binaire est écrit dans un fichier temporaire, supprimé à la fin. Chaque mesure est répétée et la meilleure est retenue, la première servant à réchauffer la JVM.
+ *
+ * Paramètres
+ * 0 - Chemin du fichier de transactions
+ * 1 - Nombre de répétitions (optionnel)
+ *
+ * @author Dragons Vicieux
+ */
+public final class MesureLecture {
+    private static final Log LOGGER = LogFactory.getLog(MesureLecture.class);
+
+    private static final int REPETITIONS = 5;
+
+    private static final double MEGAOCTET = 1024.0 * 1024.0;
+
+    /**
+     * Constructeur privé pour empêcher toute instanciation.
+     */
+    private MesureLecture() {
+        super();
+    }
+
+    /**
+     * Mesure les deux lecteurs.
+     *
+     * @param argv Les paramètres du main
+     */
+    public static void main(String[] argv) {
+        if(argv.length < 1) {
+            MesureLecture.LOGGER.info("Usage: java MesureLecture <fichier-transactions> [<repetitions>]");
+            return;
+        }
+        final Path fichier = Paths.get(argv[0]);
+        final int repetitions = argv.length > 1
+            ? Integer.parseInt(argv[1])
+            : MesureLecture.REPETITIONS;
+        try {
+            final long taille = Files.size(fichier);
+            final Path journal = Files.createTempFile("bibliotheque",
+                ".bin");
+            int commandes;
+            try(
+                BufferedReader reader = new BufferedReader(new InputStreamReader(Files.newInputStream(fichier)));
+                EcrivainJournal ecrivainJournal = new EcrivainJournal(Files.newOutputStream(journal),
+                    true)) {
+                commandes = ConvertisseurJournal.convertir(reader,
+                    ecrivainJournal);
+            }
+            final long tailleJournal = Files.size(journal);
+            long meilleurReader = Long.MAX_VALUE;
+            long meilleurMappe = Long.MAX_VALUE;
+            long meilleurJournal = Long.MAX_VALUE;
+            int lignes = 0;
+            for(int i = 0; i < repetitions; i++) {
+                long debut = System.nanoTime();
+                lignes = MesureLecture.lireAvecReader(fichier);
+                meilleurReader = Math.min(meilleurReader,
+                    System.nanoTime()
+                        - debut);
+                debut = System.nanoTime();
+                MesureLecture.lireAvecTokeniseur(fichier);
+                meilleurMappe = Math.min(meilleurMappe,
+                    System.nanoTime()
+                        - debut);
+                debut = System.nanoTime();
+                commandes = MesureLecture.lireJournal(journal);
+                meilleurJournal = Math.min(meilleurJournal,
+                    System.nanoTime()
+                        - debut);
+            }
+            Files.delete(journal);
+            MesureLecture.LOGGER.info(MesureLecture.rapport("BufferedReader",
+                lignes,
+                taille,
+                meilleurReader));
+            MesureLecture.LOGGER.info(MesureLecture.rapport("TokeniseurMappe",
+                lignes,
+                taille,
+                meilleurMappe));
+            MesureLecture.LOGGER.info(MesureLecture.rapport("LecteurJournal",
+                commandes,
+                tailleJournal,
+                meilleurJournal));
+            MesureLecture.LOGGER.info("Journal binaire : "
+                + tailleJournal
+                + " octets pour "
+                + taille
+                + " octets de texte");
+        } catch(IOException ioException) {
+            MesureLecture.LOGGER.info(" **** "
+                + ioException.getMessage());
+        }
+    }
+
+    /**
+     * Lit un fichier avec un {@link BufferedReader} et {@link Commande#lire(int, String)}.
+     *
+     * @param fichier Le fichier de transactions
+     * @return Le nombre de lignes lues
+     * @throws IOException S'il y a une erreur de lecture
+     */
+    private static int lireAvecReader(Path fichier) throws IOException {
+        int numero = 0;
+        try(
+            BufferedReader reader = new BufferedReader(new InputStreamReader(Files.newInputStream(fichier)))) {
+            String ligne = reader.readLine();
+            while(ligne != null) {
+                numero++;
+                try {
+                    Commande.lire(numero,
+                        ligne);
+                } catch(BibliothequeException bibliothequeException) {
+                    // Une ligne invalide compte comme une ligne lue
+                }
+                ligne = reader.readLine();
+            }
+        }
+        return numero;
+    }
+
+    /**
+     * Lit un fichier avec un {@link TokeniseurMappe} et {@link Commande#lire(TokeniseurMappe)}.
+     *
+     * @param fichier Le fichier de transactions
+     * @return Le nombre de lignes lues
+     * @throws IOException S'il y a une erreur de lecture
+     */
+    private static int lireAvecTokeniseur(Path fichier) throws IOException {
+        try(
+            TokeniseurMappe tokeniseur = new TokeniseurMappe(fichier)) {
+            while(tokeniseur.avancer()) {
+                try {
+                    Commande.lire(tokeniseur);
+                } catch(BibliothequeException bibliothequeException) {
+                    // Une ligne invalide compte comme une ligne lue
+                }
+            }
+            return tokeniseur.getNumero();
+        }
+    }
+
+    /**
+     * Lit un journal binaire avec un {@link LecteurJournal} et {@link Commande#lire(LecteurJournal)}.
+     *
+     * @param journal Le journal binaire
+     * @return Le nombre de commandes lues
+     * @throws IOException S'il y a une erreur de lecture
+     */
+    private static int lireJournal(Path journal) throws IOException {
+        int commandes = 0;
+        try(
+            LecteurJournal lecteurJournal = new LecteurJournal(Files.newInputStream(journal))) {
+            while(Commande.lire(lecteurJournal) != null) {
+                commandes++;
+            }
+        }
+        return commandes;
+    }
+
+    /**
+     * Formate le résultat d'une mesure.
+     *
+     * @param nom Le nom du lecteur
+     * @param lignes Le nombre de lignes ou de commandes lues
+     * @param taille La taille du fichier, en octets
+     * @param duree La durée de la meilleure lecture, en nanosecondes
+     * @return Le résultat, une ligne
+     */
+    private static String rapport(String nom,
+        int lignes,
+        long taille,
+        long duree) {
+        final double secondes = Math.max(duree,
+            1) / 1e9;
+        return nom
+            + " : "
+            + lignes
+            + " lus en "
+            + (duree / 1000000)
+            + " ms, soit "
+            + (long) (lignes / secondes)
+            + " par seconde et "
+            + (long) (taille / MesureLecture.MEGAOCTET / secondes)
+            + " Mo/s";
+    }
+}
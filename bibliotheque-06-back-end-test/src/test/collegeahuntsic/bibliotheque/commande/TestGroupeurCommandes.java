@@ -0,0 +1,156 @@
+// Fichier TestGroupeurCommandes.java
+// Auteur : Dragons Vicieux
+// Date de création : 2026-10-18
+
+package test.collegeahuntsic.bibliotheque.commande;
+
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import ca.qc.collegeahuntsic.bibliotheque.commande.Commande;
+import ca.qc.collegeahuntsic.bibliotheque.commande.ExecuteurCommande;
+import ca.qc.collegeahuntsic.bibliotheque.commande.GroupeurCommandes;
+import ca.qc.collegeahuntsic.bibliotheque.commande.TypeCommande;
+import ca.qc.collegeahuntsic.bibliotheque.exception.BibliothequeException;
+import junit.framework.TestCase;
+
+/**
+ * Test case for {@link GroupeurCommandes}. <br/>
+ * The commands are run by an executor that hands out IDs like the hi/lo generator, without giving them back on rollback. No database is
+ * needed.
+ *
+ * @author Dragons Vicieux
+ */
+public class TestGroupeurCommandes extends TestCase {
+
+    private static final int TAILLE_GROUPE = 10;
+
+    private static final long DELAI_MAXIMUM = Long.MAX_VALUE;
+
+    /**
+     * Default constructor.
+     */
+    public TestGroupeurCommandes() {
+        super();
+    }
+
+    /**
+     * Vérifie qu'une inscription suivie d'une commande refusée obtient le même ID qu'en exécution séquentielle.
+     *
+     * @throws BibliothequeException S'il y a une erreur
+     */
+    public void testInscriptionAvantCommandeRefusee() throws BibliothequeException {
+        assertMemesIds(Commande.lire(1,
+            "inscrire Tremblay 4505551234 5"),
+            Commande.lire(2,
+                "vendre 999"));
+    }
+
+    /**
+     * Vérifie que l'utilisation d'une réservation, qui crée un prêt, suivie d'une commande refusée obtient le même ID de prêt qu'en
+     * exécution séquentielle.
+     *
+     * @throws BibliothequeException S'il y a une erreur
+     */
+    public void testUtilisationAvantCommandeRefusee() throws BibliothequeException {
+        assertMemesIds(Commande.lire(1,
+            "utiliser 7"),
+            Commande.lire(2,
+                "vendre 999"));
+    }
+
+    /**
+     * Exécute des commandes une à une, puis dans un même groupe, et vérifie que les IDs validés sont les mêmes.
+     *
+     * @param commandes Les commandes à exécuter
+     * @throws BibliothequeException S'il y a une erreur
+     */
+    private static void assertMemesIds(Commande... commandes) throws BibliothequeException {
+        final ExecuteurHiLo serie = new ExecuteurHiLo();
+        for(Commande commande : commandes) {
+            serie.executer(commande);
+        }
+
+        final ExecuteurHiLo groupe = new ExecuteurHiLo();
+        final GroupeurCommandes groupeurCommandes = new GroupeurCommandes(groupe,
+            TestGroupeurCommandes.TAILLE_GROUPE,
+            TestGroupeurCommandes.DELAI_MAXIMUM);
+        for(Commande commande : commandes) {
+            groupeurCommandes.ajouter(commande);
+        }
+        groupeurCommandes.vider();
+
+        assertFalse(serie.getIds().isEmpty());
+        assertEquals(serie.getIds(),
+            groupe.getIds());
+    }
+
+    /**
+     * Exécuteur qui simule le générateur hi/lo : chaque commande qui crée une ligne dans les services obtient l'ID suivant, qui n'est pas
+     * rendu si la transaction est annulée. Toute vente est refusée.
+     */
+    private static final class ExecuteurHiLo extends ExecuteurCommande {
+        private static final EnumSet<TypeCommande> CREATIONS = EnumSet.of(TypeCommande.ACQUERIR,
+            TypeCommande.PRETER,
+            TypeCommande.INSCRIRE,
+            TypeCommande.RESERVER,
+            TypeCommande.UTILISER);
+
+        private final Map<Integer, Integer> ids;
+
+        private int prochainId;
+
+        /**
+         * Crée un exécuteur sans base de données.
+         */
+        ExecuteurHiLo() {
+            super(null);
+            this.ids = new HashMap<>();
+            this.prochainId = 1;
+        }
+
+        /**
+         * Getter de la variable d'instance <code>this.ids</code>.
+         *
+         * @return Les IDs validés, par numéro de ligne
+         */
+        Map<Integer, Integer> getIds() {
+            return this.ids;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean executer(Commande commande) {
+            if(commande.getTypeCommande() == TypeCommande.VENDRE) {
+                return false;
+            }
+            if(ExecuteurHiLo.CREATIONS.contains(commande.getTypeCommande())) {
+                this.ids.put(commande.getNumero(),
+                    this.prochainId++);
+            }
+            return true;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean executerGroupe(List<Commande> commandes) {
+            final Map<Integer, Integer> idsGroupe = new HashMap<>();
+            for(Commande commande : commandes) {
+                if(commande.getTypeCommande() == TypeCommande.VENDRE) {
+                    return false;
+                }
+                if(ExecuteurHiLo.CREATIONS.contains(commande.getTypeCommande())) {
+                    idsGroupe.put(commande.getNumero(),
+                        this.prochainId++);
+                }
+            }
+            this.ids.putAll(idsGroupe);
+            return true;
+        }
+    }
+}
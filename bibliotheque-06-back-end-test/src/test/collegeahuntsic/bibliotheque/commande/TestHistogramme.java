@@ -0,0 +1,172 @@
+// Fichier TestHistogramme.java
+// Auteur : Dragons Vicieux
+// Date de création : 2026-10-18
+
+package test.collegeahuntsic.bibliotheque.commande;
+
+import java.util.Random;
+import ca.qc.collegeahuntsic.bibliotheque.commande.Histogramme;
+import junit.framework.TestCase;
+
+/**
+ * Test case for {@link Histogramme}. <br/>
+ * Bucket boundaries are observed through {@link Histogramme#getCentile(double)}, which returns the upper bound of the bucket that holds
+ * the requested rank. No database is needed.
+ *
+ * @author Dragons Vicieux
+ */
+public class TestHistogramme extends TestCase {
+
+    private static final int INTERVALLES = 8;
+
+    /**
+     * Default constructor.
+     */
+    public TestHistogramme() {
+        super();
+    }
+
+    /**
+     * Vérifie qu'un histogramme vide donne 0, et qu'une durée négative est comptée comme 0.
+     */
+    public void testVideEtNegatif() {
+        final Histogramme histogramme = new Histogramme();
+        assertEquals(0,
+            histogramme.getNombre());
+        assertEquals(0,
+            histogramme.getCentile(0.5));
+        histogramme.enregistrer(-5);
+        assertEquals(1,
+            histogramme.getNombre());
+        assertEquals(0,
+            histogramme.getMaximum());
+        assertEquals(0,
+            histogramme.getCentile(1));
+    }
+
+    /**
+     * Vérifie que les durées de 0 à 7 ont chacune leur intervalle.
+     */
+    public void testPetitesValeursExactes() {
+        final Histogramme histogramme = new Histogramme();
+        for(int i = 0; i < TestHistogramme.INTERVALLES; i++) {
+            histogramme.enregistrer(i);
+        }
+        for(int i = 0; i < TestHistogramme.INTERVALLES; i++) {
+            assertEquals(i,
+                histogramme.getCentile((i + 1.0) / TestHistogramme.INTERVALLES));
+        }
+    }
+
+    /**
+     * Vérifie les bornes des huit intervalles de chaque puissance de deux, jusqu'à {@link Long#MAX_VALUE} : la première et la dernière
+     * durée d'un intervalle donnent sa borne supérieure, et la durée suivante passe à l'intervalle suivant.
+     */
+    public void testBornesIntervalles() {
+        for(int exposant = 3; exposant < Long.SIZE
+            - 1; exposant++) {
+            final long largeur = 1L << exposant
+                - 3;
+            for(int intervalle = 0; intervalle < TestHistogramme.INTERVALLES; intervalle++) {
+                final long debut = (TestHistogramme.INTERVALLES + intervalle)
+                    * largeur;
+                final long fin = debut
+                    + largeur
+                    - 1;
+                final String message = "2^"
+                    + exposant
+                    + ", intervalle "
+                    + intervalle;
+                assertEquals(message,
+                    fin,
+                    TestHistogramme.borne(debut));
+                assertEquals(message,
+                    fin,
+                    TestHistogramme.borne(fin));
+                if(fin < Long.MAX_VALUE) {
+                    assertTrue(message,
+                        TestHistogramme.borne(fin + 1) > fin);
+                }
+            }
+        }
+        assertEquals(Long.MAX_VALUE,
+            TestHistogramme.borne(Long.MAX_VALUE));
+    }
+
+    /**
+     * Vérifie que la borne donnée pour une durée la dépasse de moins de 12,5 %.
+     */
+    public void testPrecisionRelative() {
+        final Random random = new Random(42);
+        for(int i = 0; i < 100_000; i++) {
+            final long duree = random.nextLong() >>> 1 + random.nextInt(Long.SIZE
+                - 1);
+            final long borne = TestHistogramme.borne(duree);
+            assertTrue(borne >= duree);
+            assertTrue(borne
+                - duree <= duree / TestHistogramme.INTERVALLES);
+        }
+    }
+
+    /**
+     * Vérifie les centiles des durées de 1 à 10 000 ns, enregistrées une fois chacune.
+     */
+    public void testCentilesDistributionUniforme() {
+        final Histogramme histogramme = new Histogramme();
+        for(int duree = 1; duree <= 10_000; duree++) {
+            histogramme.enregistrer(duree);
+        }
+        assertEquals(10_000,
+            histogramme.getNombre());
+        assertEquals(10_000,
+            histogramme.getMaximum());
+        // Le rang 5 000 tombe dans [4 608, 5 119] ; le rang 9 000 dans [8 192, 9 215] ; le rang 9 900 dans [9 216, 10 239], borné
+        // par le maximum
+        assertEquals(5_119,
+            histogramme.getCentile(0.5));
+        assertEquals(9_215,
+            histogramme.getCentile(0.9));
+        assertEquals(10_000,
+            histogramme.getCentile(0.99));
+        assertEquals(10_000,
+            histogramme.getCentile(1));
+        assertEquals(1,
+            histogramme.getCentile(0));
+    }
+
+    /**
+     * Vérifie les centiles d'une distribution à deux valeurs : 90 durées courtes et 10 longues.
+     */
+    public void testCentilesDistributionBimodale() {
+        final Histogramme histogramme = new Histogramme();
+        for(int i = 0; i < 90; i++) {
+            histogramme.enregistrer(1_000);
+        }
+        for(int i = 0; i < 10; i++) {
+            histogramme.enregistrer(1_000_000);
+        }
+        // 1 000 est dans [960, 1 023] ; 1 000 000 dans [983 040, 1 048 575], borné par le maximum
+        assertEquals(1_023,
+            histogramme.getCentile(0.5));
+        assertEquals(1_023,
+            histogramme.getCentile(0.9));
+        assertEquals(1_000_000,
+            histogramme.getCentile(0.91));
+        assertEquals(1_000_000,
+            histogramme.getCentile(0.99));
+    }
+
+    /**
+     * Donne la borne supérieure de l'intervalle d'une durée, en l'enregistrant avec une durée plus longue pour que le maximum ne borne
+     * pas le résultat.
+     *
+     * @param duree La durée
+     * @return La borne supérieure de son intervalle
+     */
+    private static long borne(long duree) {
+        final Histogramme histogramme = new Histogramme();
+        histogramme.enregistrer(duree);
+        histogramme.enregistrer(Long.MAX_VALUE);
+        return histogramme.getCentile(0.5);
+    }
+}
@@ -0,0 +1,473 @@
+// Fichier TestJournalBinaire.java
+// Auteur : Dragons Vicieux
+// Date de création : 2026-10-18
+
+package test.collegeahuntsic.bibliotheque.commande;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import ca.qc.collegeahuntsic.bibliotheque.commande.Commande;
+import ca.qc.collegeahuntsic.bibliotheque.commande.EcrivainJournal;
+import ca.qc.collegeahuntsic.bibliotheque.commande.LecteurJournal;
+import ca.qc.collegeahuntsic.bibliotheque.commande.TypeCommande;
+import ca.qc.collegeahuntsic.bibliotheque.exception.BibliothequeException;
+import junit.framework.TestCase;
+
+/**
+ * Test case for {@link EcrivainJournal} and {@link LecteurJournal}. <br/>
+ * Commands read from transaction lines are written to an in-memory journal, read back and compared field by field. No database is
+ * needed.
+ *
+ * @author Dragons Vicieux
+ */
+public class TestJournalBinaire extends TestCase {
+
+    private static final int TAILLE_ENTETE = 5;
+
+    private static final int TAILLE_MAXIMALE_TEXTE = 64 * 1024;
+
+    /**
+     * Default constructor.
+     */
+    public TestJournalBinaire() {
+        super();
+    }
+
+    /**
+     * Vérifie qu'une commande de chaque type transactionnel est relue telle qu'elle a été écrite.
+     *
+     * @throws BibliothequeException S'il y a une erreur
+     * @throws IOException S'il y a une erreur d'écriture ou de lecture
+     */
+    public void testToutesLesCommandes() throws BibliothequeException,
+        IOException {
+        final List<Commande> commandes = lire("acquerir Titre Auteur 2024-02-29",
+            "vendre 101",
+            "preter 101 201",
+            "renouveler 301",
+            "retourner 301",
+            "inscrire Tremblay 4505551234 5",
+            "desinscrire 201",
+            "reserver 201 101",
+            "utiliser 401",
+            "annuler 401");
+        final EnumSet<TypeCommande> types = EnumSet.noneOf(TypeCommande.class);
+        for(Commande commande : commandes) {
+            types.add(commande.getTypeCommande());
+        }
+        for(TypeCommande typeCommande : TypeCommande.values()) {
+            assertEquals(typeCommande.getNom(),
+                typeCommande.isTransactionnelle(),
+                types.contains(typeCommande));
+        }
+        assertRelues(commandes);
+    }
+
+    /**
+     * Vérifie les valeurs limites : IDs de zéro et de 18 chiffres, entiers signés extrêmes, dates autour de l'époque
+     * et textes de la taille maximale en UTF-8.
+     *
+     * @throws BibliothequeException S'il y a une erreur
+     * @throws IOException S'il y a une erreur d'écriture ou de lecture
+     */
+    public void testValeursLimites() throws BibliothequeException,
+        IOException {
+        assertRelues(lire("vendre 0",
+            "vendre 127",
+            "vendre 128",
+            "vendre 999999999999999999",
+            "inscrire a 0 0",
+            "inscrire a -1 -1",
+            "inscrire a "
+                + Long.MAX_VALUE
+                + " "
+                + Integer.MAX_VALUE,
+            "inscrire a "
+                + Long.MIN_VALUE
+                + " "
+                + Integer.MIN_VALUE,
+            "acquerir a b 1970-01-01",
+            "acquerir a b 1969-12-31",
+            "acquerir a b 1900-01-01",
+            "acquerir a b 9999-12-31",
+            "acquerir "
+                + TestJournalBinaire.repeter('a',
+                    TestJournalBinaire.TAILLE_MAXIMALE_TEXTE)
+                + " "
+                + TestJournalBinaire.repeter('\u00e9',
+                    TestJournalBinaire.TAILLE_MAXIMALE_TEXTE / 2)
+                + " 2000-01-01",
+            "inscrire "
+                + TestJournalBinaire.repeter('\u20ac',
+                    TestJournalBinaire.TAILLE_MAXIMALE_TEXTE / 3)
+                + " 1 1"));
+    }
+
+    /**
+     * Vérifie l'encodage des nombres : varint de 7 bits par octet pour les IDs, varint zigzag pour les entiers signés et les dates.
+     *
+     * @throws BibliothequeException S'il y a une erreur
+     * @throws IOException S'il y a une erreur d'écriture
+     */
+    public void testEncodage() throws BibliothequeException,
+        IOException {
+        assertOctets(new int[] {TypeCommande.VENDRE.getCode(),
+            0x00},
+            "vendre 0");
+        assertOctets(new int[] {TypeCommande.VENDRE.getCode(),
+            0x7F},
+            "vendre 127");
+        assertOctets(new int[] {TypeCommande.VENDRE.getCode(),
+            0x80,
+            0x01},
+            "vendre 128");
+        assertOctets(new int[] {TypeCommande.INSCRIRE.getCode(),
+            0x01,
+            'a',
+            0x01,
+            0x02},
+            "inscrire a -1 1");
+        assertOctets(new int[] {TypeCommande.ACQUERIR.getCode(),
+            0x01,
+            'a',
+            0x01,
+            'b',
+            0x01},
+            "acquerir a b 1969-12-31");
+        final int[] longMinimal = new int[14];
+        longMinimal[0] = TypeCommande.INSCRIRE.getCode();
+        longMinimal[1] = 0x01;
+        longMinimal[2] = 'a';
+        Arrays.fill(longMinimal,
+            3,
+            12,
+            0xFF);
+        longMinimal[12] = 0x01;
+        longMinimal[13] = 0x00;
+        assertOctets(longMinimal,
+            "inscrire a "
+                + Long.MIN_VALUE
+                + " 0");
+    }
+
+    /**
+     * Vérifie qu'un texte de plus de 64 Ko en UTF-8 est refusé sans rien laisser dans le journal, même s'il compte moins de 64 K
+     * caractères.
+     *
+     * @throws BibliothequeException S'il y a une erreur
+     * @throws IOException S'il y a une erreur d'écriture
+     */
+    public void testTexteTropLong() throws BibliothequeException,
+        IOException {
+        assertRefusee("acquerir "
+            + TestJournalBinaire.repeter('a',
+                TestJournalBinaire.TAILLE_MAXIMALE_TEXTE + 1)
+            + " b 2000-01-01");
+        assertRefusee("inscrire "
+            + TestJournalBinaire.repeter('\u00e9',
+                TestJournalBinaire.TAILLE_MAXIMALE_TEXTE / 2 + 1)
+            + " 1 1");
+        assertRefusee("aide");
+    }
+
+    /**
+     * Vérifie que les IDs qui ne sont pas sous leur forme canonique sont refusés à la lecture, et qu'un ID négatif ou une longueur de
+     * texte démesurée dans un journal corrompu sont refusés.
+     *
+     * @throws IOException S'il y a une erreur de lecture
+     */
+    public void testIdsNonCanoniques() throws IOException {
+        for(String id : new String[] {"01",
+            "00",
+            "+1",
+            "-1",
+            "1a",
+            "\u0663",
+            "1234567890123456789"}) {
+            try {
+                Commande.lire(1,
+                    "vendre "
+                        + id);
+                fail(id);
+            } catch(BibliothequeException bibliothequeException) {
+                // Attendu
+            }
+        }
+        assertCorrompu(TypeCommande.VENDRE.getCode(),
+            0x80,
+            0x80,
+            0x80,
+            0x80,
+            0x80,
+            0x80,
+            0x80,
+            0x80,
+            0x80,
+            0x01);
+        assertCorrompu(TypeCommande.INSCRIRE.getCode(),
+            0x81,
+            0x80,
+            0x04);
+        assertCorrompu(0x7F);
+    }
+
+    /**
+     * Vérifie qu'un journal coupé à n'importe quel octet redonne les commandes complètes qui précèdent la coupure, et qu'une commande
+     * coupée est signalée par une {@link EOFException}.
+     *
+     * @throws BibliothequeException S'il y a une erreur
+     * @throws IOException S'il y a une erreur d'écriture ou de lecture
+     */
+    public void testJournalTronque() throws BibliothequeException,
+        IOException {
+        final List<Commande> commandes = lire("acquerir Titre Auteur 2024-02-29",
+            "preter 101 201",
+            "inscrire Tremblay 4505551234 5",
+            "vendre 999999999999999999");
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        final List<Integer> fins = new ArrayList<>();
+        try(
+            EcrivainJournal ecrivainJournal = new EcrivainJournal(outputStream,
+                true)) {
+            fins.add(outputStream.size());
+            for(Commande commande : commandes) {
+                ecrivainJournal.ecrire(commande);
+                ecrivainJournal.flush();
+                fins.add(outputStream.size());
+            }
+        }
+        final byte[] journal = outputStream.toByteArray();
+        for(int taille = TestJournalBinaire.TAILLE_ENTETE; taille < journal.length; taille++) {
+            final List<Commande> relues = new ArrayList<>();
+            boolean tronque = false;
+            try(
+                LecteurJournal lecteur = new LecteurJournal(new ByteArrayInputStream(journal,
+                    0,
+                    taille))) {
+                Commande commande = Commande.lire(lecteur);
+                while(commande != null) {
+                    relues.add(commande);
+                    commande = Commande.lire(lecteur);
+                }
+            } catch(EOFException eofException) {
+                tronque = true;
+            }
+            assertEquals("coupure à "
+                + taille
+                + " octets",
+                !fins.contains(taille),
+                tronque);
+            for(int i = 0; i < relues.size(); i++) {
+                assertMemeCommande(commandes.get(i),
+                    relues.get(i));
+            }
+        }
+        try {
+            new LecteurJournal(new ByteArrayInputStream(journal,
+                0,
+                TestJournalBinaire.TAILLE_ENTETE - 1)).close();
+            fail("en-tête tronqué");
+        } catch(IOException ioException) {
+            // Attendu
+        }
+    }
+
+    /**
+     * Lit des lignes de transactions.
+     *
+     * @param lignes Les lignes
+     * @return Les commandes lues
+     * @throws BibliothequeException Si une ligne est invalide
+     */
+    private static List<Commande> lire(String... lignes) throws BibliothequeException {
+        final List<Commande> commandes = new ArrayList<>();
+        for(int i = 0; i < lignes.length; i++) {
+            commandes.add(Commande.lire(i + 1,
+                lignes[i]));
+        }
+        return commandes;
+    }
+
+    /**
+     * Écrit des commandes dans un journal en mémoire.
+     *
+     * @param commandes Les commandes
+     * @return Les octets du journal, en-tête compris
+     * @throws BibliothequeException Si une commande est refusée
+     * @throws IOException S'il y a une erreur d'écriture
+     */
+    private static byte[] ecrire(List<Commande> commandes) throws BibliothequeException,
+        IOException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try(
+            EcrivainJournal ecrivainJournal = new EcrivainJournal(outputStream,
+                true)) {
+            for(Commande commande : commandes) {
+                ecrivainJournal.ecrire(commande);
+            }
+        }
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * Écrit des commandes dans un journal, les relit et vérifie qu'elles sont identiques.
+     *
+     * @param commandes Les commandes
+     * @throws BibliothequeException Si une commande est refusée
+     * @throws IOException S'il y a une erreur d'écriture ou de lecture
+     */
+    private static void assertRelues(List<Commande> commandes) throws BibliothequeException,
+        IOException {
+        try(
+            LecteurJournal lecteur = new LecteurJournal(new ByteArrayInputStream(TestJournalBinaire.ecrire(commandes)))) {
+            for(Commande commande : commandes) {
+                final Commande relue = Commande.lire(lecteur);
+                assertNotNull(relue);
+                assertMemeCommande(commande,
+                    relue);
+            }
+            assertNull(Commande.lire(lecteur));
+        }
+    }
+
+    /**
+     * Vérifie que deux commandes ont le même type et les mêmes arguments.
+     *
+     * @param attendue La commande écrite
+     * @param relue La commande relue
+     */
+    private static void assertMemeCommande(Commande attendue,
+        Commande relue) {
+        final String message = attendue.getTypeCommande().getNom();
+        assertEquals(message,
+            attendue.getTypeCommande(),
+            relue.getTypeCommande());
+        assertEquals(message,
+            attendue.getIdLivre(),
+            relue.getIdLivre());
+        assertEquals(message,
+            attendue.getIdMembre(),
+            relue.getIdMembre());
+        assertEquals(message,
+            attendue.getIdPret(),
+            relue.getIdPret());
+        assertEquals(message,
+            attendue.getIdReservation(),
+            relue.getIdReservation());
+        assertEquals(message,
+            attendue.getTitre(),
+            relue.getTitre());
+        assertEquals(message,
+            attendue.getAuteur(),
+            relue.getAuteur());
+        assertEquals(message,
+            attendue.getDateAcquisition(),
+            relue.getDateAcquisition());
+        assertEquals(message,
+            attendue.getNom(),
+            relue.getNom());
+        assertEquals(message,
+            attendue.getTelephone(),
+            relue.getTelephone());
+        assertEquals(message,
+            attendue.getLimitePret(),
+            relue.getLimitePret());
+    }
+
+    /**
+     * Vérifie les octets écrits pour une ligne, après l'en-tête.
+     *
+     * @param attendus Les octets attendus
+     * @param ligne La ligne
+     * @throws BibliothequeException Si la ligne est invalide
+     * @throws IOException S'il y a une erreur d'écriture
+     */
+    private static void assertOctets(int[] attendus,
+        String ligne) throws BibliothequeException,
+        IOException {
+        final byte[] octets = TestJournalBinaire.ecrire(TestJournalBinaire.lire(ligne));
+        assertEquals(ligne,
+            TestJournalBinaire.TAILLE_ENTETE
+                + attendus.length,
+            octets.length);
+        for(int i = 0; i < attendus.length; i++) {
+            assertEquals(ligne,
+                (byte) attendus[i],
+                octets[TestJournalBinaire.TAILLE_ENTETE
+                    + i]);
+        }
+    }
+
+    /**
+     * Vérifie qu'une commande est refusée par l'écrivain sans laisser d'octet dans le journal.
+     *
+     * @param ligne La ligne de la commande
+     * @throws BibliothequeException Si la ligne est invalide
+     * @throws IOException S'il y a une erreur d'écriture
+     */
+    private static void assertRefusee(String ligne) throws BibliothequeException,
+        IOException {
+        final Commande commande = Commande.lire(1,
+            ligne);
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try(
+            EcrivainJournal ecrivainJournal = new EcrivainJournal(outputStream,
+                true)) {
+            try {
+                ecrivainJournal.ecrire(commande);
+                fail(commande.getTypeCommande().getNom());
+            } catch(BibliothequeException bibliothequeException) {
+                // Attendu
+            }
+        }
+        assertEquals(TestJournalBinaire.TAILLE_ENTETE,
+            outputStream.size());
+    }
+
+    /**
+     * Vérifie qu'un journal dont les octets suivent l'en-tête est refusé à la lecture sans être pris pour un journal tronqué.
+     *
+     * @param octets Les octets qui suivent l'en-tête
+     */
+    private static void assertCorrompu(int... octets) {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        outputStream.write('B');
+        outputStream.write('I');
+        outputStream.write('B');
+        outputStream.write('J');
+        outputStream.write(1);
+        for(int octet : octets) {
+            outputStream.write(octet);
+        }
+        try(
+            LecteurJournal lecteur = new LecteurJournal(new ByteArrayInputStream(outputStream.toByteArray()))) {
+            Commande.lire(lecteur);
+            fail("journal corrompu accepté");
+        } catch(EOFException eofException) {
+            fail("journal corrompu pris pour un journal tronqué");
+        } catch(IOException ioException) {
+            // Attendu
+        }
+    }
+
+    /**
+     * Crée un texte fait d'un même caractère.
+     *
+     * @param caractere Le caractère
+     * @param nombre Le nombre de caractères
+     * @return Le texte
+     */
+    private static String repeter(char caractere,
+        int nombre) {
+        final char[] caracteres = new char[nombre];
+        Arrays.fill(caracteres,
+            caractere);
+        return new String(caracteres);
+    }
+}
@@ -0,0 +1,193 @@
+// Fichier TestPointReprise.java
+// Auteur : Dragons Vicieux
+// Date de création : 2026-10-18
+
+package test.collegeahuntsic.bibliotheque.commande;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import ca.qc.collegeahuntsic.bibliotheque.commande.Commande;
+import ca.qc.collegeahuntsic.bibliotheque.commande.TokeniseurMappe;
+import ca.qc.collegeahuntsic.bibliotheque.util.BibliothequeCreateur;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.PointRepriseDTO;
+import junit.framework.TestCase;
+
+/**
+ * Test case for the restart point of a transaction file. <br/>
+ * Each committed command moves the restart point in its own transaction, as
+ * {@link ca.qc.collegeahuntsic.bibliotheque.commande.ExecuteurCommande} does; a crash is simulated by rolling back the transaction of
+ * the next command. The file is then reopened at the stored restart point. The test needs the MySQL database and removes the restart
+ * point it creates.
+ *
+ * @author Dragons Vicieux
+ */
+public class TestPointReprise extends TestCase {
+
+    private static final String[] LIGNES = new String[] {"vendre 1",
+        "preter 2 3",
+        "-- commentaire",
+        "",
+        "renouveler 4",
+        "retourner 5",
+        "inscrire Reprise 4505551234 2",
+        "reserver 6 7",
+        "utiliser 8",
+        "annuler 9"};
+
+    private static final int LIGNES_VALIDEES = 6;
+
+    private static final int TAILLE_FENETRE = 32;
+
+    private BibliothequeCreateur bibliothequeCreateur;
+
+    private Path fichier;
+
+    /**
+     * Default constructor.
+     */
+    public TestPointReprise() {
+        super();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        this.bibliothequeCreateur = new BibliothequeCreateur();
+        this.fichier = Files.createTempFile("reprise",
+            ".dat").toAbsolutePath().normalize();
+        final StringBuilder texte = new StringBuilder();
+        for(int i = 0; i < TestPointReprise.LIGNES.length; i++) {
+            texte.append(TestPointReprise.LIGNES[i]);
+            texte.append(i % 2 == 0
+                ? "\r\n"
+                : "\n");
+        }
+        Files.write(this.fichier,
+            texte.toString().getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void tearDown() throws Exception {
+        try {
+            this.bibliothequeCreateur.beginTransaction();
+            final PointRepriseDTO pointRepriseDTO = this.bibliothequeCreateur.getPointRepriseFacade().getPointReprise(this.bibliothequeCreateur.getSession(),
+                this.fichier.toString());
+            if(pointRepriseDTO != null) {
+                this.bibliothequeCreateur.getSession().delete(pointRepriseDTO);
+            }
+            this.bibliothequeCreateur.commitTransaction();
+        } finally {
+            Files.deleteIfExists(this.fichier);
+            super.tearDown();
+        }
+    }
+
+    /**
+     * Vérifie qu'après un arrêt au milieu d'une transaction, la reprise saute exactement les lignes dont la transaction a été validée :
+     * la ligne de la transaction annulée est relue, et aucune autre.
+     *
+     * @throws Exception S'il y a une erreur
+     */
+    public void testRepriseApresArret() throws Exception {
+        try(
+            TokeniseurMappe tokeniseur = new TokeniseurMappe(this.fichier,
+                TestPointReprise.TAILLE_FENETRE)) {
+            assertNull(lirePointReprise());
+            while(tokeniseur.avancer()) {
+                final Commande commande = Commande.lire(tokeniseur);
+                if(commande == null
+                    || !commande.getTypeCommande().isTransactionnelle()) {
+                    continue;
+                }
+                this.bibliothequeCreateur.beginTransaction();
+                this.bibliothequeCreateur.getPointRepriseFacade().enregistrerPointReprise(this.bibliothequeCreateur.getSession(),
+                    this.fichier.toString(),
+                    commande.getPositionSuivante(),
+                    commande.getNumero());
+                if(commande.getNumero() > TestPointReprise.LIGNES_VALIDEES) {
+                    // Arrêt avant la validation : le point de reprise de cette ligne est perdu
+                    this.bibliothequeCreateur.rollbackTransaction();
+                    break;
+                }
+                this.bibliothequeCreateur.commitTransaction();
+            }
+        }
+
+        final PointRepriseDTO pointRepriseDTO = lirePointReprise();
+        assertNotNull(pointRepriseDTO);
+        assertEquals(TestPointReprise.LIGNES_VALIDEES,
+            pointRepriseDTO.getNumeroLigne());
+        try(
+            TokeniseurMappe tokeniseur = new TokeniseurMappe(this.fichier,
+                TestPointReprise.TAILLE_FENETRE)) {
+            tokeniseur.positionner(pointRepriseDTO.getPositionFichier(),
+                pointRepriseDTO.getNumeroLigne());
+            int numero = TestPointReprise.LIGNES_VALIDEES;
+            while(tokeniseur.avancer()) {
+                numero++;
+                assertEquals(numero,
+                    tokeniseur.getNumero());
+                assertEquals(TestPointReprise.LIGNES[numero - 1],
+                    tokeniseur.getLigne());
+            }
+            assertEquals(TestPointReprise.LIGNES.length,
+                numero);
+        }
+    }
+
+    /**
+     * Vérifie qu'un point de reprise enregistré plusieurs fois garde la dernière position, et qu'une position hors du fichier est
+     * refusée à la reprise.
+     *
+     * @throws Exception S'il y a une erreur
+     */
+    public void testDernierePosition() throws Exception {
+        final long taille = Files.size(this.fichier);
+        for(int i = 1; i <= 3; i++) {
+            this.bibliothequeCreateur.beginTransaction();
+            this.bibliothequeCreateur.getPointRepriseFacade().enregistrerPointReprise(this.bibliothequeCreateur.getSession(),
+                this.fichier.toString(),
+                taille
+                    + i,
+                i);
+            this.bibliothequeCreateur.commitTransaction();
+        }
+        final PointRepriseDTO pointRepriseDTO = lirePointReprise();
+        assertEquals(taille + 3,
+            pointRepriseDTO.getPositionFichier());
+        assertEquals(3,
+            pointRepriseDTO.getNumeroLigne());
+        try(
+            TokeniseurMappe tokeniseur = new TokeniseurMappe(this.fichier)) {
+            tokeniseur.positionner(pointRepriseDTO.getPositionFichier(),
+                pointRepriseDTO.getNumeroLigne());
+            fail("position hors du fichier acceptée");
+        } catch(IOException ioException) {
+            // Attendu
+        }
+    }
+
+    /**
+     * Lit le point de reprise du fichier dans sa propre transaction.
+     *
+     * @return Le point de reprise ; <code>null</code> si le fichier n'en a pas
+     * @throws Exception S'il y a une erreur
+     */
+    private PointRepriseDTO lirePointReprise() throws Exception {
+        this.bibliothequeCreateur.beginTransaction(true);
+        try {
+            return this.bibliothequeCreateur.getPointRepriseFacade().getPointReprise(this.bibliothequeCreateur.getSession(),
+                this.fichier.toString());
+        } finally {
+            this.bibliothequeCreateur.commitTransaction();
+        }
+    }
+}
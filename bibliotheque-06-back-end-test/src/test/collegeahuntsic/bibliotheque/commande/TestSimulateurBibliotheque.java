@@ -0,0 +1,180 @@
+// Fichier TestSimulateurBibliotheque.java
+// Auteur : Dragons Vicieux
+// Date de création : 2026-10-18
+
+package test.collegeahuntsic.bibliotheque.commande;
+
+import java.util.ArrayList;
+import java.util.List;
+import ca.qc.collegeahuntsic.bibliotheque.commande.Commande;
+import ca.qc.collegeahuntsic.bibliotheque.commande.ExecuteurCommande;
+import ca.qc.collegeahuntsic.bibliotheque.commande.SimulateurBibliotheque;
+import ca.qc.collegeahuntsic.bibliotheque.exception.BibliothequeException;
+import ca.qc.collegeahuntsic.bibliotheque.util.BibliothequeCreateur;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.DTO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.LivreDTO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.MembreDTO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.PretDTO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.ReservationDTO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.util.StringHiLoGenerator;
+import junit.framework.TestCase;
+
+/**
+ * Test case for {@link SimulateurBibliotheque}. <br/>
+ * A short script is simulated and then run by {@link ExecuteurCommande} against the MySQL database: every predicted outcome must be the
+ * real one. The script creates the books, members, loans and reservations it uses and refers to them by the IDs the simulator predicts,
+ * so a wrong prediction makes the later commands fail. The script removes what it creates.
+ *
+ * @author Dragons Vicieux
+ */
+public class TestSimulateurBibliotheque extends TestCase {
+
+    /**
+     * Default constructor.
+     */
+    public TestSimulateurBibliotheque() {
+        super();
+    }
+
+    /**
+     * Vérifie que chaque commande du script réussit ou échoue comme le simulateur l'a prévu, et que les IDs prévus sont ceux des lignes
+     * créées.
+     *
+     * @throws BibliothequeException S'il y a une erreur
+     */
+    public void testPrevisionsCommeExecution() throws BibliothequeException {
+        final BibliothequeCreateur bibliothequeCreateur = new BibliothequeCreateur();
+        bibliothequeCreateur.beginTransaction(true);
+        final String livre1;
+        final String livre2;
+        final String membre1;
+        final String membre2;
+        final String pret1;
+        final String pret2;
+        final String reservation1;
+        try {
+            livre1 = TestSimulateurBibliotheque.prevoir(bibliothequeCreateur,
+                LivreDTO.class,
+                0);
+            livre2 = TestSimulateurBibliotheque.prevoir(bibliothequeCreateur,
+                LivreDTO.class,
+                1);
+            membre1 = TestSimulateurBibliotheque.prevoir(bibliothequeCreateur,
+                MembreDTO.class,
+                0);
+            membre2 = TestSimulateurBibliotheque.prevoir(bibliothequeCreateur,
+                MembreDTO.class,
+                1);
+            pret1 = TestSimulateurBibliotheque.prevoir(bibliothequeCreateur,
+                PretDTO.class,
+                0);
+            pret2 = TestSimulateurBibliotheque.prevoir(bibliothequeCreateur,
+                PretDTO.class,
+                1);
+            reservation1 = TestSimulateurBibliotheque.prevoir(bibliothequeCreateur,
+                ReservationDTO.class,
+                0);
+        } finally {
+            bibliothequeCreateur.commitTransaction();
+        }
+
+        final String[] lignes = new String[] {"acquerir TitreSimulation AuteurSimulation 2020-01-01",
+            "acquerir TitreSimulation AuteurSimulation 2020-01-01",
+            "inscrire Simulation 4505551234 1",
+            "inscrire Simulation 4505554321 2",
+            "preter "
+                + livre1
+                + " "
+                + membre1,
+            "preter "
+                + livre2
+                + " "
+                + membre1,
+            "reserver "
+                + membre1
+                + " "
+                + livre1,
+            "reserver "
+                + membre2
+                + " "
+                + livre1,
+            "vendre "
+                + livre1,
+            "retourner "
+                + pret1,
+            "utiliser "
+                + reservation1,
+            "renouveler "
+                + pret2,
+            "retourner "
+                + pret1,
+            "desinscrire "
+                + membre2,
+            "retourner "
+                + pret2,
+            "desinscrire "
+                + membre2,
+            "desinscrire "
+                + membre1,
+            "vendre "
+                + livre1,
+            "vendre "
+                + livre2};
+        final boolean[] attendus = new boolean[] {true,
+            true,
+            true,
+            true,
+            true,
+            false,
+            false,
+            true,
+            false,
+            true,
+            true,
+            true,
+            false,
+            false,
+            true,
+            true,
+            true,
+            true,
+            true};
+
+        final List<Commande> commandes = new ArrayList<>();
+        for(int i = 0; i < lignes.length; i++) {
+            commandes.add(Commande.lire(i + 1,
+                lignes[i]));
+        }
+        final SimulateurBibliotheque simulateur = SimulateurBibliotheque.charger(bibliothequeCreateur);
+        final ExecuteurCommande executeurCommande = new ExecuteurCommande(bibliothequeCreateur);
+        for(int i = 0; i < lignes.length; i++) {
+            final boolean prevu = simulateur.simuler(commandes.get(i)) == null;
+            final boolean reel = executeurCommande.executer(commandes.get(i));
+            assertEquals(lignes[i],
+                attendus[i],
+                reel);
+            assertEquals(lignes[i],
+                reel,
+                prevu);
+        }
+    }
+
+    /**
+     * Prévoit l'ID d'une création à venir.
+     *
+     * @param bibliothequeCreateur Le créateur, dans une transaction
+     * @param classe La classe du DTO créé
+     * @param rang Le nombre de créations de cette classe qui la précèdent
+     * @return L'ID prévu
+     */
+    private static String prevoir(BibliothequeCreateur bibliothequeCreateur,
+        Class<? extends DTO> classe,
+        int rang) {
+        final String prochainId = StringHiLoGenerator.prevoirProchainId(bibliothequeCreateur.getSession(),
+            classe);
+        assertNotNull(classe.getSimpleName(),
+            prochainId);
+        return Long.toString(Long.parseLong(prochainId)
+            + rang);
+    }
+}
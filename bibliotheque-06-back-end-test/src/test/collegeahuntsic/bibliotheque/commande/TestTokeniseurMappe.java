@@ -0,0 +1,233 @@
+// Fichier TestTokeniseurMappe.java
+// Auteur : Dragons Vicieux
+// Date de création : 2026-10-18
+
+package test.collegeahuntsic.bibliotheque.commande;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import ca.qc.collegeahuntsic.bibliotheque.commande.Commande;
+import ca.qc.collegeahuntsic.bibliotheque.commande.TokeniseurMappe;
+import ca.qc.collegeahuntsic.bibliotheque.exception.BibliothequeException;
+import junit.framework.TestCase;
+
+/**
+ * Test case for {@link TokeniseurMappe}. <br/>
+ * The lines it finds are compared with those of {@link BufferedReader#readLine()}, which the text readers use. Small windows force the
+ * file to be remapped in the middle of the lines. No database is needed.
+ *
+ * @author Dragons Vicieux
+ */
+public class TestTokeniseurMappe extends TestCase {
+
+    private Path fichier;
+
+    /**
+     * Default constructor.
+     */
+    public TestTokeniseurMappe() {
+        super();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        this.fichier = Files.createTempFile("transactions",
+            ".dat");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void tearDown() throws Exception {
+        Files.deleteIfExists(this.fichier);
+        super.tearDown();
+    }
+
+    /**
+     * Vérifie que les lignes sont les mêmes quelle que soit la taille de la fenêtre, y compris quand une ligne est coupée par la fin
+     * d'une fenêtre.
+     *
+     * @throws IOException S'il y a une erreur de lecture
+     * @throws BibliothequeException S'il y a une erreur
+     */
+    public void testFenetres() throws IOException,
+        BibliothequeException {
+        final StringBuilder texte = new StringBuilder();
+        for(int i = 1; i <= 50; i++) {
+            texte.append("preter ");
+            texte.append(i);
+            texte.append(' ');
+            texte.append(i * 7);
+            texte.append('\n');
+        }
+        verifierLignes(texte.toString(),
+            16,
+            texte.length());
+    }
+
+    /**
+     * Vérifie que les fins de ligne <code>\n</code>, <code>\r\n</code> et <code>\r</code> sont reconnues comme par
+     * {@link BufferedReader#readLine()}, y compris quand un <code>\r\n</code> est coupé par la fin d'une fenêtre.
+     *
+     * @throws IOException S'il y a une erreur de lecture
+     * @throws BibliothequeException S'il y a une erreur
+     */
+    public void testFinsDeLigne() throws IOException,
+        BibliothequeException {
+        final String texte = "vendre 1\r\nvendre 22\rvendre 333\n\r\n  \r\nretourner 4444\r\rannuler 5\n";
+        verifierLignes(texte,
+            20,
+            texte.length());
+    }
+
+    /**
+     * Vérifie que la dernière ligne est lue même sans retour de ligne, et qu'un <code>\r</code> qui termine le fichier n'est pas gardé
+     * dans le dernier jeton.
+     *
+     * @throws IOException S'il y a une erreur de lecture
+     * @throws BibliothequeException S'il y a une erreur
+     */
+    public void testDerniereLigneSansRetour() throws IOException,
+        BibliothequeException {
+        verifierLignes("vendre 1\nvendre 22",
+            12,
+            32);
+        verifierLignes("vendre 1\nvendre 22\r",
+            12,
+            32);
+    }
+
+    /**
+     * Vérifie que les deux lecteurs de commandes acceptent et refusent les mêmes IDs.
+     *
+     * @throws IOException S'il y a une erreur de lecture
+     * @throws BibliothequeException S'il y a une erreur
+     */
+    public void testIds() throws IOException,
+        BibliothequeException {
+        final String[] ids = new String[] {"0",
+            "7",
+            "123456789012345678",
+            "1234567890123456789",
+            "99999999999999999999",
+            "01",
+            "00",
+            "+1",
+            "-1",
+            "1a",
+            "\u0663",
+            "1\u0663"};
+        for(String id : ids) {
+            final String ligne = "vendre "
+                + id;
+            Files.write(this.fichier,
+                ligne.getBytes(StandardCharsets.UTF_8));
+            final String idTexte = lireId(ligne);
+            try(
+                TokeniseurMappe tokeniseur = new TokeniseurMappe(this.fichier)) {
+                assertTrue(tokeniseur.avancer());
+                String idMappe;
+                try {
+                    idMappe = Commande.lire(tokeniseur).getIdLivre();
+                } catch(BibliothequeException bibliothequeException) {
+                    idMappe = null;
+                }
+                assertEquals(id,
+                    idTexte,
+                    idMappe);
+            }
+        }
+        assertEquals("123456789012345678",
+            lireId("vendre 123456789012345678"));
+        assertNull(lireId("vendre 01"));
+        assertNull(lireId("vendre \u0663"));
+        assertNull(lireId("vendre 1234567890123456789"));
+    }
+
+    /**
+     * Lit une ligne avec le lecteur de texte et donne l'ID du livre.
+     *
+     * @param ligne La ligne
+     * @return L'ID du livre ; <code>null</code> si la ligne est refusée
+     */
+    private static String lireId(String ligne) {
+        try {
+            return Commande.lire(1,
+                ligne).getIdLivre();
+        } catch(BibliothequeException bibliothequeException) {
+            return null;
+        }
+    }
+
+    /**
+     * Écrit un texte dans le fichier, puis vérifie pour chaque taille de fenêtre que le tokeniseur trouve les lignes, les jetons et
+     * les positions de {@link BufferedReader#readLine()}.
+     *
+     * @param texte Le texte du fichier
+     * @param tailleMinimale La plus petite taille de fenêtre à essayer
+     * @param tailleMaximale La plus grande taille de fenêtre à essayer
+     * @throws IOException S'il y a une erreur de lecture
+     * @throws BibliothequeException S'il y a une erreur
+     */
+    private void verifierLignes(String texte,
+        int tailleMinimale,
+        int tailleMaximale) throws IOException,
+        BibliothequeException {
+        Files.write(this.fichier,
+            texte.getBytes(StandardCharsets.US_ASCII));
+        final List<String> lignes = new ArrayList<>();
+        try(
+            BufferedReader reader = new BufferedReader(new StringReader(texte))) {
+            String ligne = reader.readLine();
+            while(ligne != null) {
+                lignes.add(ligne);
+                ligne = reader.readLine();
+            }
+        }
+        for(int tailleFenetre = tailleMinimale; tailleFenetre <= tailleMaximale; tailleFenetre++) {
+            try(
+                TokeniseurMappe tokeniseur = new TokeniseurMappe(this.fichier,
+                    tailleFenetre)) {
+                for(int i = 0; i < lignes.size(); i++) {
+                    final String message = "fenêtre de "
+                        + tailleFenetre
+                        + " octets, ligne "
+                        + (i + 1);
+                    assertTrue(message,
+                        tokeniseur.avancer());
+                    assertEquals(message,
+                        i + 1,
+                        tokeniseur.getNumero());
+                    assertEquals(message,
+                        lignes.get(i),
+                        tokeniseur.getLigne());
+                    final String[] jetons = lignes.get(i).trim().isEmpty()
+                        ? new String[0]
+                        : lignes.get(i).trim().split(" +");
+                    assertEquals(message,
+                        jetons.length,
+                        tokeniseur.getNombreJetons());
+                    for(int j = 0; j < jetons.length; j++) {
+                        assertEquals(message,
+                            jetons[j],
+                            tokeniseur.lireString(j));
+                    }
+                }
+                assertFalse(tokeniseur.avancer());
+                assertEquals(texte.length(),
+                    tokeniseur.getPositionSuivante());
+            }
+        }
+    }
+}
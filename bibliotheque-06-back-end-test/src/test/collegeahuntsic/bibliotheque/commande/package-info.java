@@ -0,0 +1,10 @@
+// Fichier package-info.java
+// Auteur : Dragons Vicieux
+// Date de création : 2026-10-18
+/**
+ * Tests unitaires des commandes du fichier de transactions. Ils n'ont pas besoin de base de données.
+ *
+ * @author Dragons Vicieux
+ */
+
+package test.collegeahuntsic.bibliotheque.commande;
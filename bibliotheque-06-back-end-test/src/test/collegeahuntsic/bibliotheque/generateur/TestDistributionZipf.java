@@ -0,0 +1,114 @@
+// Fichier TestDistributionZipf.java
+// Auteur : Dragons Vicieux
+// Date de création : 2026-10-18
+
+package test.collegeahuntsic.bibliotheque.generateur;
+
+import java.util.SplittableRandom;
+import ca.qc.collegeahuntsic.bibliotheque.generateur.DistributionZipf;
+import junit.framework.TestCase;
+
+/**
+ * Test case for {@link DistributionZipf}. <br/>
+ * Observed frequencies are compared with the theoretical ones over a large number of draws. No database is needed.
+ *
+ * @author Dragons Vicieux
+ */
+public class TestDistributionZipf extends TestCase {
+
+    private static final int TIRAGES = 200_000;
+
+    /**
+     * Default constructor.
+     */
+    public TestDistributionZipf() {
+        super();
+    }
+
+    /**
+     * Vérifie que la même graine donne les mêmes rangs, même quand le nombre de rangs change d'un tirage à l'autre.
+     */
+    public void testMemeGraineMemesRangs() {
+        final DistributionZipf distribution1 = new DistributionZipf(1.0);
+        final DistributionZipf distribution2 = new DistributionZipf(1.0);
+        final SplittableRandom aleatoire1 = new SplittableRandom(42);
+        final SplittableRandom aleatoire2 = new SplittableRandom(42);
+        for(int i = 0; i < 10_000; i++) {
+            final int nombre = 1 + i % 97;
+            assertEquals(distribution1.tirer(aleatoire1,
+                nombre),
+                distribution2.tirer(aleatoire2,
+                    nombre));
+        }
+    }
+
+    /**
+     * Vérifie que les rangs restent entre 0 et <code>nombre - 1</code>.
+     */
+    public void testBornes() {
+        final SplittableRandom aleatoire = new SplittableRandom(1);
+        for(double exposant : new double[] {0.0,
+            0.5,
+            1.0,
+            2.0}) {
+            final DistributionZipf distribution = new DistributionZipf(exposant);
+            for(int nombre = 1; nombre <= 64; nombre++) {
+                for(int i = 0; i < 200; i++) {
+                    final int rang = distribution.tirer(aleatoire,
+                        nombre);
+                    assertTrue(rang >= 0
+                        && rang < nombre);
+                }
+            }
+        }
+    }
+
+    /**
+     * Vérifie que chaque rang est tiré avec une fréquence proche de <code>1 / k<sup>exposant</sup></code>, normalisée.
+     */
+    public void testFrequences() {
+        for(double exposant : new double[] {0.0,
+            1.0,
+            1.5}) {
+            final int nombre = 10;
+            final DistributionZipf distribution = new DistributionZipf(exposant);
+            final SplittableRandom aleatoire = new SplittableRandom(3);
+            final int[] compteurs = new int[nombre];
+            for(int i = 0; i < TestDistributionZipf.TIRAGES; i++) {
+                compteurs[distribution.tirer(aleatoire,
+                    nombre)]++;
+            }
+            double total = 0;
+            for(int k = 1; k <= nombre; k++) {
+                total += Math.pow(k,
+                    -exposant);
+            }
+            for(int k = 1; k <= nombre; k++) {
+                final double attendu = Math.pow(k,
+                    -exposant)
+                    / total;
+                final double observe = (double) compteurs[k - 1]
+                    / TestDistributionZipf.TIRAGES;
+                assertEquals("exposant "
+                    + exposant
+                    + ", rang "
+                    + k,
+                    attendu,
+                    observe,
+                    0.005);
+            }
+        }
+    }
+
+    /**
+     * Vérifie qu'un exposant négatif est refusé.
+     */
+    public void testExposantNegatif() {
+        try {
+            new DistributionZipf(-0.5);
+            fail("exposant négatif accepté");
+        } catch(IllegalArgumentException illegalArgumentException) {
+            // Attendu
+        }
+    }
+}
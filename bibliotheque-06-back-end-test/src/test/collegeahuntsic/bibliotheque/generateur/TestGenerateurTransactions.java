@@ -0,0 +1,107 @@
+// Fichier TestGenerateurTransactions.java
+// Auteur : Dragons Vicieux
+// Date de création : 2026-10-18
+
+package test.collegeahuntsic.bibliotheque.generateur;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.StringTokenizer;
+import ca.qc.collegeahuntsic.bibliotheque.commande.Commande;
+import ca.qc.collegeahuntsic.bibliotheque.exception.BibliothequeException;
+import ca.qc.collegeahuntsic.bibliotheque.generateur.GenerateurTransactions;
+import junit.framework.TestCase;
+
+/**
+ * Test case for {@link GenerateurTransactions}. <br/>
+ * Generated files are kept in memory and read back with {@link Commande#lire(int, String)}. No database is needed.
+ *
+ * @author Dragons Vicieux
+ */
+public class TestGenerateurTransactions extends TestCase {
+
+    private static final String MELANGE = "preter:30,retourner:20,renouveler:10,reserver:12,utiliser:8,annuler:4,inscrire:2,acquerir:2,vendre:1,desinscrire:1";
+
+    private static final int LIGNES = 20_000;
+
+    /**
+     * Default constructor.
+     */
+    public TestGenerateurTransactions() {
+        super();
+    }
+
+    /**
+     * Vérifie que la même graine produit le même fichier, et qu'une autre graine en produit un autre.
+     *
+     * @throws IOException S'il y a une erreur d'écriture
+     */
+    public void testMemeGraineMemeFichier() throws IOException {
+        final String fichier = TestGenerateurTransactions.generer(42,
+            1.0);
+        assertEquals(fichier,
+            TestGenerateurTransactions.generer(42,
+                1.0));
+        assertFalse(fichier.equals(TestGenerateurTransactions.generer(43,
+            1.0)));
+    }
+
+    /**
+     * Vérifie que chaque ligne générée est une commande transactionnelle valide, avec une popularité concentrée et uniforme.
+     *
+     * @throws IOException S'il y a une erreur d'écriture
+     * @throws BibliothequeException Si une ligne est refusée
+     */
+    public void testLignesValides() throws IOException,
+        BibliothequeException {
+        for(double exposantZipf : new double[] {0.0,
+            1.0,
+            1.5}) {
+            final String fichier = TestGenerateurTransactions.generer(7,
+                exposantZipf);
+            final StringTokenizer lignes = new StringTokenizer(fichier,
+                "\n");
+            int numero = 0;
+            while(lignes.hasMoreTokens()) {
+                final String ligne = lignes.nextToken();
+                numero++;
+                final Commande commande = Commande.lire(numero,
+                    ligne);
+                assertNotNull(ligne,
+                    commande);
+                assertNotNull(ligne,
+                    commande.getTypeCommande());
+                assertTrue(ligne,
+                    commande.getTypeCommande().isTransactionnelle());
+                assertTrue(ligne,
+                    ligne.startsWith(commande.getTypeCommande().getNom()
+                        + " "));
+            }
+            assertEquals(TestGenerateurTransactions.LIGNES,
+                numero);
+        }
+    }
+
+    /**
+     * Génère un fichier avec une petite population, pour que les membres atteignent leur limite de prêts et que les livres soient
+     * souvent réservés.
+     *
+     * @param graine La graine du générateur
+     * @param exposantZipf L'exposant de la loi de Zipf
+     * @return Le fichier généré
+     * @throws IOException S'il y a une erreur d'écriture
+     */
+    private static String generer(long graine,
+        double exposantZipf) throws IOException {
+        final GenerateurTransactions generateur = new GenerateurTransactions(graine,
+            exposantZipf,
+            3,
+            GenerateurTransactions.lireMelange(TestGenerateurTransactions.MELANGE));
+        final StringWriter sortie = new StringWriter();
+        generateur.generer(sortie,
+            TestGenerateurTransactions.LIGNES,
+            50,
+            20);
+        return sortie.toString();
+    }
+}
@@ -0,0 +1,80 @@
+// Fichier TestDTO.java
+// Auteur : Dragons Vicieux
+// Date de création : 2026-10-18
+
+package test.collegeahuntsic.bibliothequeBackEnd.dto;
+
+import java.util.HashSet;
+import java.util.Set;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.LivreDTO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.MembreDTO;
+
+/**
+ * Test case for {@link ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.DTO#equals(Object)} and
+ * {@link ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.DTO#hashCode()}. <br/>
+ * The assignment of the primary key by <code>session.save</code> is simulated with the setter of the ID.
+ *
+ * @author Dragons Vicieux
+ */
+public class TestDTO extends junit.framework.TestCase {
+
+    private static final String ID = "1"; //$NON-NLS-1$
+
+    /**
+     * Vérifie qu'un DTO transient n'est égal qu'à lui-même.
+     */
+    public void testTransient() {
+        final MembreDTO membreDTO = new MembreDTO();
+        final MembreDTO autreMembreDTO = new MembreDTO();
+        assertEquals(membreDTO,
+            membreDTO);
+        assertFalse(membreDTO.equals(autreMembreDTO));
+        assertEquals(membreDTO.hashCode(),
+            membreDTO.hashCode());
+    }
+
+    /**
+     * Vérifie qu'un DTO dont le hash code a été calculé avant la sauvegarde a, une fois sauvegardé, le même hash code qu'une copie lue de
+     * la base.
+     */
+    public void testTransientPuisPersistant() {
+        final MembreDTO membreDTO = new MembreDTO();
+        membreDTO.hashCode();
+        membreDTO.setIdMembre(TestDTO.ID);
+        final MembreDTO copieDTO = new MembreDTO();
+        copieDTO.setIdMembre(TestDTO.ID);
+        assertEquals(membreDTO,
+            copieDTO);
+        assertEquals(copieDTO,
+            membreDTO);
+        assertEquals(membreDTO.hashCode(),
+            copieDTO.hashCode());
+    }
+
+    /**
+     * Vérifie qu'une copie lue de la base retrouve dans un {@link java.util.Set} le DTO sauvegardé.
+     */
+    public void testSetApresSauvegarde() {
+        final MembreDTO membreDTO = new MembreDTO();
+        membreDTO.hashCode();
+        membreDTO.setIdMembre(TestDTO.ID);
+        final Set<MembreDTO> membres = new HashSet<>();
+        membres.add(membreDTO);
+        final MembreDTO copieDTO = new MembreDTO();
+        copieDTO.setIdMembre(TestDTO.ID);
+        assertTrue(membres.contains(copieDTO));
+        assertTrue(membres.remove(copieDTO));
+    }
+
+    /**
+     * Vérifie que deux DTOs de classes différentes ne sont pas égaux, même avec la même clef primaire.
+     */
+    public void testClassesDifferentes() {
+        final MembreDTO membreDTO = new MembreDTO();
+        membreDTO.setIdMembre(TestDTO.ID);
+        final LivreDTO livreDTO = new LivreDTO();
+        livreDTO.setIdLivre(TestDTO.ID);
+        assertFalse(membreDTO.equals(livreDTO));
+        assertFalse(livreDTO.equals(membreDTO));
+    }
+}
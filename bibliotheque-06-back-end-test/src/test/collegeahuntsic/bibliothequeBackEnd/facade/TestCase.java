@@ -198,7 +198,7 @@ public class TestCase extends junit.framework.TestCase {
      *
      * @return La variable d'instance <code>this.sessionFactory</code>
      */
-    private SessionFactory getSessionFactory() {
+    protected SessionFactory getSessionFactory() {
         return this.sessionFactory;
     }
 
@@ -0,0 +1,232 @@
+// Fichier TestFetchPlan.java
+// Auteur : Dragons Vicieux
+// Date de création : 2026-10-18
+
+package test.collegeahuntsic.bibliothequeBackEnd.facade;
+
+import java.sql.Timestamp;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.LivreDTO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.MembreDTO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.PretDTO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.ReservationDTO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidHibernateSessionException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidPrimaryKeyException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.facade.FacadeException;
+import org.hibernate.CacheMode;
+import org.hibernate.Hibernate;
+import org.hibernate.stat.Statistics;
+import test.collegeahuntsic.bibliothequeBackEnd.exception.TestCaseFailedException;
+
+/**
+ * Test case for the fetch plans of
+ * {@link ca.qc.collegeahuntsic.bibliothequeBackEnd.dao.interfaces.IDAO#get(org.hibernate.Session, java.io.Serializable, String)}. <br/>
+ * Each plan must load the graph needed by its business operation with a single SQL statement.
+ *
+ * @author Dragons Vicieux
+ */
+public class TestFetchPlan extends TestCase {
+
+    private static final String TITRE = "Titre plan"; //$NON-NLS-1$
+
+    private static final String AUTEUR = "Auteur plan"; //$NON-NLS-1$
+
+    private static final String NOM = "Nom plan "; //$NON-NLS-1$
+
+    private static final long TELEPHONE = 4505551234L;
+
+    private static final int LIMITE_PRET = 5;
+
+    private static final long NOMBRE_REQUETES = 1;
+
+    private LivreDTO livreDTO;
+
+    private MembreDTO emprunteurDTO;
+
+    private PretDTO pretDTO;
+
+    private ReservationDTO reservationDTO;
+
+    /**
+     * Default constructor.
+     *
+     * @throws TestCaseFailedException If an error occurs
+     */
+    public TestFetchPlan() throws TestCaseFailedException {
+        super();
+    }
+
+    /**
+     * Crée un livre prêté à un membre et réservé par un autre.
+     *
+     * @throws Exception S'il y a une erreur
+     */
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        beginTransaction();
+        this.livreDTO = new LivreDTO();
+        this.livreDTO.setTitre(TestFetchPlan.TITRE);
+        this.livreDTO.setAuteur(TestFetchPlan.AUTEUR);
+        this.livreDTO.setDateAcquisition(new Timestamp(System.currentTimeMillis()));
+        getLivreFacade().acquerirLivre(getSession(),
+            this.livreDTO);
+        this.emprunteurDTO = inscrireMembre(1);
+        final MembreDTO reserveurDTO = inscrireMembre(2);
+        this.pretDTO = new PretDTO();
+        this.pretDTO.setLivreDTO(this.livreDTO);
+        this.pretDTO.setMembreDTO(this.emprunteurDTO);
+        getPretFacade().commencerPret(getSession(),
+            this.pretDTO);
+        this.reservationDTO = new ReservationDTO();
+        this.reservationDTO.setLivreDTO(this.livreDTO);
+        this.reservationDTO.setMembreDTO(reserveurDTO);
+        getReservationFacade().placerReservation(getSession(),
+            this.reservationDTO);
+        commitTransaction();
+    }
+
+    /**
+     * Vérifie que le plan de vente charge le livre, ses prêts et ses réservations en une requête.
+     *
+     * @throws TestCaseFailedException S'il y a une erreur
+     */
+    public void testPlanVente() throws TestCaseFailedException {
+        final Statistics statistics = commencerMesure();
+        try {
+            final LivreDTO unLivreDTO = getLivreFacade().getLivre(getSession(),
+                this.livreDTO.getIdLivre(),
+                LivreDTO.FETCH_PLAN_VENTE);
+            assertTrue(Hibernate.isInitialized(unLivreDTO.getPrets()));
+            assertTrue(Hibernate.isInitialized(unLivreDTO.getReservations()));
+            assertEquals(1,
+                unLivreDTO.getPrets().size());
+            assertEquals(1,
+                unLivreDTO.getReservations().size());
+            assertEquals(TestFetchPlan.NOMBRE_REQUETES,
+                statistics.getPrepareStatementCount());
+        } catch(
+            InvalidHibernateSessionException
+            | InvalidPrimaryKeyException
+            | FacadeException exception) {
+            throw new TestCaseFailedException(exception);
+        } finally {
+            rollbackTransaction();
+        }
+    }
+
+    /**
+     * Vérifie que le plan de désinscription charge le membre, ses prêts et ses réservations en une requête.
+     *
+     * @throws TestCaseFailedException S'il y a une erreur
+     */
+    public void testPlanDesinscription() throws TestCaseFailedException {
+        final Statistics statistics = commencerMesure();
+        try {
+            final MembreDTO membreDTO = getMembreFacade().getMembre(getSession(),
+                this.emprunteurDTO.getIdMembre(),
+                MembreDTO.FETCH_PLAN_DESINSCRIPTION);
+            assertTrue(Hibernate.isInitialized(membreDTO.getPrets()));
+            assertTrue(Hibernate.isInitialized(membreDTO.getReservations()));
+            assertEquals(1,
+                membreDTO.getPrets().size());
+            assertTrue(membreDTO.getReservations().isEmpty());
+            assertEquals(TestFetchPlan.NOMBRE_REQUETES,
+                statistics.getPrepareStatementCount());
+        } catch(
+            InvalidHibernateSessionException
+            | InvalidPrimaryKeyException
+            | FacadeException exception) {
+            throw new TestCaseFailedException(exception);
+        } finally {
+            rollbackTransaction();
+        }
+    }
+
+    /**
+     * Vérifie que le plan de retour charge le prêt, son membre et son livre en une requête.
+     *
+     * @throws TestCaseFailedException S'il y a une erreur
+     */
+    public void testPlanRetour() throws TestCaseFailedException {
+        final Statistics statistics = commencerMesure();
+        try {
+            final PretDTO unPretDTO = getPretFacade().getPret(getSession(),
+                this.pretDTO.getIdPret(),
+                PretDTO.FETCH_PLAN_RETOUR);
+            assertTrue(Hibernate.isInitialized(unPretDTO.getMembreDTO()));
+            assertTrue(Hibernate.isInitialized(unPretDTO.getLivreDTO()));
+            assertEquals(this.emprunteurDTO.getNom(),
+                unPretDTO.getMembreDTO().getNom());
+            assertEquals(TestFetchPlan.TITRE,
+                unPretDTO.getLivreDTO().getTitre());
+            assertEquals(TestFetchPlan.NOMBRE_REQUETES,
+                statistics.getPrepareStatementCount());
+        } catch(
+            InvalidHibernateSessionException
+            | InvalidPrimaryKeyException
+            | FacadeException exception) {
+            throw new TestCaseFailedException(exception);
+        } finally {
+            rollbackTransaction();
+        }
+    }
+
+    /**
+     * Vérifie que le plan d'utilisation charge la réservation, son membre et son livre en une requête.
+     *
+     * @throws TestCaseFailedException S'il y a une erreur
+     */
+    public void testPlanUtilisation() throws TestCaseFailedException {
+        final Statistics statistics = commencerMesure();
+        try {
+            final ReservationDTO uneReservationDTO = getReservationFacade().getReservation(getSession(),
+                this.reservationDTO.getIdReservation(),
+                ReservationDTO.FETCH_PLAN_UTILISATION);
+            assertTrue(Hibernate.isInitialized(uneReservationDTO.getMembreDTO()));
+            assertTrue(Hibernate.isInitialized(uneReservationDTO.getLivreDTO()));
+            assertEquals(TestFetchPlan.TITRE,
+                uneReservationDTO.getLivreDTO().getTitre());
+            assertEquals(TestFetchPlan.NOMBRE_REQUETES,
+                statistics.getPrepareStatementCount());
+        } catch(
+            InvalidHibernateSessionException
+            | InvalidPrimaryKeyException
+            | FacadeException exception) {
+            throw new TestCaseFailedException(exception);
+        } finally {
+            rollbackTransaction();
+        }
+    }
+
+    /**
+     * Démarre une transaction qui ignore le cache de second niveau et remet les statistiques à zéro.
+     *
+     * @return Les statistiques de la fabrique de sessions
+     * @throws TestCaseFailedException S'il y a une erreur
+     */
+    private Statistics commencerMesure() throws TestCaseFailedException {
+        beginTransaction();
+        getSession().setCacheMode(CacheMode.IGNORE);
+        final Statistics statistics = getSessionFactory().getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+
+    /**
+     * Inscrit un membre de test.
+     *
+     * @param numero Le numéro du membre
+     * @return Le membre inscrit
+     * @throws Exception S'il y a une erreur
+     */
+    private MembreDTO inscrireMembre(int numero) throws Exception {
+        final MembreDTO membreDTO = new MembreDTO();
+        membreDTO.setNom(TestFetchPlan.NOM
+            + numero);
+        membreDTO.setTelephone(TestFetchPlan.TELEPHONE);
+        membreDTO.setLimitePret(TestFetchPlan.LIMITE_PRET);
+        getMembreFacade().inscrireMembre(getSession(),
+            membreDTO);
+        return membreDTO;
+    }
+}
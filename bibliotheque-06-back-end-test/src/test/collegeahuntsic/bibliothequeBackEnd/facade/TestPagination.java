@@ -0,0 +1,127 @@
+// Fichier TestPagination.java
+// Auteur : Dragons Vicieux
+// Date de création : 2026-10-18
+
+package test.collegeahuntsic.bibliothequeBackEnd.facade;
+
+import java.io.Serializable;
+import java.sql.Timestamp;
+import java.util.HashSet;
+import java.util.Set;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.LivreDTO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.MembreDTO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.PretDTO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.util.Page;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.util.PageRequest;
+import test.collegeahuntsic.bibliothequeBackEnd.exception.TestCaseFailedException;
+
+/**
+ * Test case for the keyset pagination of
+ * {@link ca.qc.collegeahuntsic.bibliothequeBackEnd.facade.interfaces.IPretFacade#getAllPrets(org.hibernate.Session, String, PageRequest)}.
+ * <br/>
+ * The pages are sorted on a property that can be <code>null</code>. Each test runs in its own transaction, which is rolled back at the
+ * end.
+ *
+ * @author Dragons Vicieux
+ */
+public class TestPagination extends TestCase {
+
+    private static final String TITRE = "Titre pagination "; //$NON-NLS-1$
+
+    private static final String AUTEUR = "Auteur pagination"; //$NON-NLS-1$
+
+    private static final String NOM = "Nom pagination"; //$NON-NLS-1$
+
+    private static final long TELEPHONE = 4505551234L;
+
+    private static final int LIMITE_PRET = 5;
+
+    private static final int NOMBRE_PRETS = 3;
+
+    private static final int TAILLE_PAGE = 1;
+
+    private Set<Serializable> idPrets;
+
+    /**
+     * Default constructor.
+     *
+     * @throws TestCaseFailedException If an error occurs
+     */
+    public TestPagination() throws TestCaseFailedException {
+        super();
+    }
+
+    /**
+     * Démarre la transaction du test et prête trois livres à un membre. Le premier prêt est terminé : sa date de retour est la seule qui
+     * n'est pas <code>null</code>.
+     *
+     * @throws Exception S'il y a une erreur
+     */
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        beginTransaction();
+        final MembreDTO membreDTO = new MembreDTO();
+        membreDTO.setNom(TestPagination.NOM);
+        membreDTO.setTelephone(TestPagination.TELEPHONE);
+        membreDTO.setLimitePret(TestPagination.LIMITE_PRET);
+        getMembreFacade().inscrireMembre(getSession(),
+            membreDTO);
+        this.idPrets = new HashSet<>();
+        for(int i = 0; i < TestPagination.NOMBRE_PRETS; i++) {
+            final LivreDTO livreDTO = new LivreDTO();
+            livreDTO.setTitre(TestPagination.TITRE
+                + i);
+            livreDTO.setAuteur(TestPagination.AUTEUR);
+            livreDTO.setDateAcquisition(new Timestamp(System.currentTimeMillis()));
+            getLivreFacade().acquerirLivre(getSession(),
+                livreDTO);
+            final PretDTO pretDTO = new PretDTO();
+            pretDTO.setLivreDTO(livreDTO);
+            pretDTO.setMembreDTO(membreDTO);
+            getPretFacade().commencerPret(getSession(),
+                pretDTO);
+            if(i == 0) {
+                getPretFacade().terminerPret(getSession(),
+                    pretDTO);
+            }
+            this.idPrets.add(pretDTO.getIdPret());
+        }
+        getSession().flush();
+    }
+
+    /**
+     * Annule la transaction du test.
+     *
+     * @throws Exception S'il y a une erreur
+     */
+    @Override
+    protected void tearDown() throws Exception {
+        rollbackTransaction();
+        super.tearDown();
+    }
+
+    /**
+     * Vérifie que le parcours par clef sur la date de retour lit chaque prêt exactement une fois, y compris après une page dont la dernière
+     * date de retour est <code>null</code>.
+     *
+     * @throws Exception S'il y a une erreur
+     */
+    public void testKeysetDateRetourNull() throws Exception {
+        final Set<Serializable> idPretsLus = new HashSet<>();
+        PageRequest pageRequest = PageRequest.keyset(TestPagination.TAILLE_PAGE);
+        while(pageRequest != null) {
+            final Page<PretDTO> page = getPretFacade().getAllPrets(getSession(),
+                PretDTO.DATE_RETOUR_COLUMN_NAME,
+                pageRequest);
+            for(PretDTO pretDTO : page.getElements()) {
+                assertTrue("Le prêt "
+                    + pretDTO.getIdPret()
+                    + " a été lu deux fois",
+                    idPretsLus.add(pretDTO.getIdPret()));
+            }
+            pageRequest = page.getNextPageRequest();
+        }
+        assertTrue(idPretsLus.containsAll(this.idPrets));
+    }
+}
@@ -0,0 +1,173 @@
+// Fichier TestReservationFacade.java
+// Auteur : Dragons Vicieux
+// Date de création : 2026-10-18
+
+package test.collegeahuntsic.bibliothequeBackEnd.facade;
+
+import java.sql.Timestamp;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.LivreDTO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.MembreDTO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.PretDTO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.ReservationDTO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.service.MissingLoanException;
+import test.collegeahuntsic.bibliothequeBackEnd.exception.TestCaseFailedException;
+
+/**
+ * Test case for {@link ca.qc.collegeahuntsic.bibliothequeBackEnd.facade.implementations.ReservationFacade}. <br/>
+ * Each test runs in its own transaction, which is rolled back at the end.
+ *
+ * @author Dragons Vicieux
+ */
+public class TestReservationFacade extends TestCase {
+
+    private static final String TITRE = "Titre reservation"; //$NON-NLS-1$
+
+    private static final String AUTEUR = "Auteur reservation"; //$NON-NLS-1$
+
+    private static final String NOM = "Nom reservation "; //$NON-NLS-1$
+
+    private static final long TELEPHONE = 4505551234L;
+
+    private static final int LIMITE_PRET = 5;
+
+    private LivreDTO livreDTO;
+
+    private MembreDTO emprunteurDTO;
+
+    private MembreDTO reserveurDTO;
+
+    /**
+     * Default constructor.
+     *
+     * @throws TestCaseFailedException If an error occurs
+     */
+    public TestReservationFacade() throws TestCaseFailedException {
+        super();
+    }
+
+    /**
+     * Démarre la transaction du test et crée un livre et deux membres.
+     *
+     * @throws Exception S'il y a une erreur
+     */
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        beginTransaction();
+        this.livreDTO = new LivreDTO();
+        this.livreDTO.setTitre(TestReservationFacade.TITRE);
+        this.livreDTO.setAuteur(TestReservationFacade.AUTEUR);
+        this.livreDTO.setDateAcquisition(new Timestamp(System.currentTimeMillis()));
+        getLivreFacade().acquerirLivre(getSession(),
+            this.livreDTO);
+        this.emprunteurDTO = inscrireMembre(1);
+        this.reserveurDTO = inscrireMembre(2);
+    }
+
+    /**
+     * Annule la transaction du test.
+     *
+     * @throws Exception S'il y a une erreur
+     */
+    @Override
+    protected void tearDown() throws Exception {
+        rollbackTransaction();
+        super.tearDown();
+    }
+
+    /**
+     * Vérifie qu'un livre qui n'a jamais été prêté ne peut être réservé.
+     *
+     * @throws Exception S'il y a une erreur
+     */
+    public void testPlacerReservationLivreJamaisPrete() throws Exception {
+        assertReservationRefusee();
+    }
+
+    /**
+     * Vérifie qu'un livre prêté puis retourné ne peut être réservé : seul un prêt en cours permet une réservation.
+     *
+     * @throws Exception S'il y a une erreur
+     */
+    public void testPlacerReservationLivreRetourne() throws Exception {
+        final PretDTO pretDTO = commencerPret();
+        getPretFacade().terminerPret(getSession(),
+            pretDTO);
+        assertReservationRefusee();
+    }
+
+    /**
+     * Vérifie qu'un livre prêté à un autre membre peut être réservé.
+     *
+     * @throws Exception S'il y a une erreur
+     */
+    public void testPlacerReservationLivrePrete() throws Exception {
+        commencerPret();
+        final ReservationDTO reservationDTO = nouvelleReservation();
+        getReservationFacade().placerReservation(getSession(),
+            reservationDTO);
+        assertNotNull(reservationDTO.getIdReservation());
+    }
+
+    /**
+     * Vérifie que la réservation du livre par le second membre lève une {@link MissingLoanException}.
+     *
+     * @throws Exception S'il y a une erreur
+     */
+    private void assertReservationRefusee() throws Exception {
+        try {
+            getReservationFacade().placerReservation(getSession(),
+                nouvelleReservation());
+            fail("Le livre "
+                + this.livreDTO.getIdLivre()
+                + " n'a pas de prêt en cours et ne devrait pas pouvoir être réservé");
+        } catch(MissingLoanException missingLoanException) {
+            assertNotNull(missingLoanException.getMessage());
+        }
+    }
+
+    /**
+     * Prête le livre au premier membre.
+     *
+     * @return Le prêt commencé
+     * @throws Exception S'il y a une erreur
+     */
+    private PretDTO commencerPret() throws Exception {
+        final PretDTO pretDTO = new PretDTO();
+        pretDTO.setLivreDTO(this.livreDTO);
+        pretDTO.setMembreDTO(this.emprunteurDTO);
+        getPretFacade().commencerPret(getSession(),
+            pretDTO);
+        return pretDTO;
+    }
+
+    /**
+     * Crée une réservation du livre pour le second membre.
+     *
+     * @return La réservation, qui n'est pas encore placée
+     */
+    private ReservationDTO nouvelleReservation() {
+        final ReservationDTO reservationDTO = new ReservationDTO();
+        reservationDTO.setLivreDTO(this.livreDTO);
+        reservationDTO.setMembreDTO(this.reserveurDTO);
+        return reservationDTO;
+    }
+
+    /**
+     * Inscrit un membre de test.
+     *
+     * @param numero Le numéro du membre
+     * @return Le membre inscrit
+     * @throws Exception S'il y a une erreur
+     */
+    private MembreDTO inscrireMembre(int numero) throws Exception {
+        final MembreDTO membreDTO = new MembreDTO();
+        membreDTO.setNom(TestReservationFacade.NOM
+            + numero);
+        membreDTO.setTelephone(TestReservationFacade.TELEPHONE);
+        membreDTO.setLimitePret(TestReservationFacade.LIMITE_PRET);
+        getMembreFacade().inscrireMembre(getSession(),
+            membreDTO);
+        return membreDTO;
+    }
+}
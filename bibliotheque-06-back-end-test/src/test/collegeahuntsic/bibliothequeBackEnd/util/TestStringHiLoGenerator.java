@@ -0,0 +1,135 @@
+// Fichier TestStringHiLoGenerator.java
+// Auteur : Dragons Vicieux
+// Date de création : 2026-10-18
+
+package test.collegeahuntsic.bibliothequeBackEnd.util;
+
+import java.sql.Timestamp;
+import java.util.Properties;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.LivreDTO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.util.StringHiLoGenerator;
+import org.hibernate.Hibernate;
+import org.hibernate.engine.SessionFactoryImplementor;
+import org.hibernate.engine.SessionImplementor;
+import org.hibernate.id.MultipleHiLoPerTableGenerator;
+import test.collegeahuntsic.bibliothequeBackEnd.exception.TestCaseFailedException;
+import test.collegeahuntsic.bibliothequeBackEnd.facade.TestCase;
+
+/**
+ * Test case for {@link ca.qc.collegeahuntsic.bibliothequeBackEnd.util.StringHiLoGenerator}. <br/>
+ * Checks the ID sequence that the transaction file generator and the simulator rely on: contiguous IDs within one generator, and a jump to
+ * the next block when a new generator (a new <code>SessionFactory</code>) starts. The test uses its own row of the <code>hilo</code>
+ * table.
+ *
+ * @author Dragons Vicieux
+ */
+public class TestStringHiLoGenerator extends TestCase {
+
+    private static final String NOM_TABLE = "TEST"; //$NON-NLS-1$
+
+    private static final int MAX_LO = 99;
+
+    private static final long TAILLE_BLOC = TestStringHiLoGenerator.MAX_LO + 1;
+
+    /**
+     * Default constructor.
+     *
+     * @throws TestCaseFailedException If an error occurs
+     */
+    public TestStringHiLoGenerator() throws TestCaseFailedException {
+        super();
+    }
+
+    /**
+     * Vérifie que les IDs d'un même générateur se suivent, y compris d'un bloc au suivant, et qu'un nouveau générateur reprend au
+     * multiple de la taille de bloc suivant.
+     *
+     * @throws TestCaseFailedException S'il y a une erreur
+     */
+    public void testIdsContigusPuisNouveauBloc() throws TestCaseFailedException {
+        beginTransaction();
+        try {
+            final SessionImplementor session = (SessionImplementor) getSession();
+            final StringHiLoGenerator generateur = creerGenerateur();
+            long precedent = generer(generateur,
+                session);
+            for(int i = 0; i < TestStringHiLoGenerator.TAILLE_BLOC; i++) {
+                final long id = generer(generateur,
+                    session);
+                assertEquals(precedent + 1,
+                    id);
+                precedent = id;
+            }
+
+            final long premier = generer(creerGenerateur(),
+                session);
+            assertTrue(premier > precedent);
+            assertEquals(0,
+                premier % TestStringHiLoGenerator.TAILLE_BLOC);
+        } finally {
+            rollbackTransaction();
+        }
+    }
+
+    /**
+     * Vérifie que le prochain ID prévu pour les livres est celui que reçoit le livre acquis ensuite, deux fois de suite.
+     *
+     * @throws Exception S'il y a une erreur
+     */
+    public void testPrevoirProchainId() throws Exception {
+        beginTransaction();
+        try {
+            for(int i = 0; i < 2; i++) {
+                final String prochainId = StringHiLoGenerator.prevoirProchainId(getSession(),
+                    LivreDTO.class);
+                final LivreDTO livreDTO = new LivreDTO();
+                livreDTO.setTitre("Titre prévision"); //$NON-NLS-1$
+                livreDTO.setAuteur("Auteur prévision"); //$NON-NLS-1$
+                livreDTO.setDateAcquisition(new Timestamp(System.currentTimeMillis()));
+                getLivreFacade().acquerirLivre(getSession(),
+                    livreDTO);
+                assertEquals(prochainId,
+                    livreDTO.getIdLivre());
+            }
+        } finally {
+            rollbackTransaction();
+        }
+    }
+
+    /**
+     * Crée un générateur configuré comme ceux des fichiers de mapping MySQL.
+     *
+     * @return Le générateur
+     */
+    private StringHiLoGenerator creerGenerateur() {
+        final Properties parametres = new Properties();
+        parametres.setProperty(MultipleHiLoPerTableGenerator.ID_TABLE,
+            "HILO");
+        parametres.setProperty(MultipleHiLoPerTableGenerator.PK_COLUMN_NAME,
+            "NOMTABLE");
+        parametres.setProperty(MultipleHiLoPerTableGenerator.VALUE_COLUMN_NAME,
+            "VALEURHAUTE");
+        parametres.setProperty(MultipleHiLoPerTableGenerator.PK_VALUE_NAME,
+            TestStringHiLoGenerator.NOM_TABLE);
+        parametres.setProperty(MultipleHiLoPerTableGenerator.MAX_LO,
+            String.valueOf(TestStringHiLoGenerator.MAX_LO));
+        final StringHiLoGenerator generateur = new StringHiLoGenerator();
+        generateur.configure(Hibernate.STRING,
+            parametres,
+            ((SessionFactoryImplementor) getSessionFactory()).getDialect());
+        return generateur;
+    }
+
+    /**
+     * Génère un ID.
+     *
+     * @param generateur Le générateur à utiliser
+     * @param session La session Hibernate à utiliser
+     * @return L'ID généré
+     */
+    private static long generer(StringHiLoGenerator generateur,
+        SessionImplementor session) {
+        return Long.parseLong((String) generateur.generate(session,
+            null));
+    }
+}
@@ -0,0 +1,10 @@
+// Fichier package-info.java
+// Auteur : Dragons Vicieux
+// Date de création : 2026-10-18
+/**
+ * Tests des utilitaires du back-end.
+ *
+ * @author Dragons Vicieux
+ */
+
+package test.collegeahuntsic.bibliothequeBackEnd.util;
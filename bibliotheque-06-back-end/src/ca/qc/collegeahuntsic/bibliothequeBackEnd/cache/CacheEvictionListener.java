@@ -0,0 +1,162 @@
+// Fichier CacheEvictionListener.java
+// Auteur : Dragons Vicieux
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliothequeBackEnd.cache;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import net.sf.ehcache.Ehcache;
+import net.sf.ehcache.Element;
+import net.sf.ehcache.event.CacheEventListener;
+
+/**
+ * Écouteur Ehcache qui compte les évictions et les expirations de chaque région.<br />
+ * <br />
+ * Les statistiques d'Hibernate donnent les succès, les échecs et les ajouts, mais pas les éléments retirés par Ehcache parce que la
+ * région est pleine ou que leur durée de vie est écoulée. Ehcache crée un écouteur par région ; les compteurs sont partagés pour être
+ * lus par le {@link CacheStatisticsReporter}, qui n'a pas accès aux caches créés par Hibernate.
+ *
+ * @author Dragons Vicieux
+ */
+public class CacheEvictionListener implements CacheEventListener {
+    private static final Map<String, AtomicLong> EVICTIONS = new ConcurrentHashMap<>();
+
+    private static final Map<String, AtomicLong> EXPIRATIONS = new ConcurrentHashMap<>();
+
+    /**
+     * Crée l'écouteur des évictions.
+     */
+    public CacheEvictionListener() {
+        super();
+    }
+
+    /**
+     * Retourne le nombre d'éléments retirés d'une région parce qu'elle était pleine.
+     *
+     * @param regionName Le nom de la région
+     * @return Le nombre d'évictions depuis le démarrage ou la dernière remise à zéro
+     */
+    public static long getEvictionCount(String regionName) {
+        return CacheEvictionListener.count(CacheEvictionListener.EVICTIONS,
+            regionName);
+    }
+
+    /**
+     * Retourne le nombre d'éléments retirés d'une région parce que leur durée de vie était écoulée.
+     *
+     * @param regionName Le nom de la région
+     * @return Le nombre d'expirations depuis le démarrage ou la dernière remise à zéro
+     */
+    public static long getExpirationCount(String regionName) {
+        return CacheEvictionListener.count(CacheEvictionListener.EXPIRATIONS,
+            regionName);
+    }
+
+    /**
+     * Remet les compteurs de toutes les régions à zéro.
+     */
+    public static void clear() {
+        CacheEvictionListener.EVICTIONS.clear();
+        CacheEvictionListener.EXPIRATIONS.clear();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void notifyElementEvicted(Ehcache ehcache,
+        Element element) {
+        CacheEvictionListener.increment(CacheEvictionListener.EVICTIONS,
+            ehcache.getName());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void notifyElementExpired(Ehcache ehcache,
+        Element element) {
+        CacheEvictionListener.increment(CacheEvictionListener.EXPIRATIONS,
+            ehcache.getName());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void notifyElementRemoved(Ehcache ehcache,
+        Element element) {
+        // Les retraits demandés par Hibernate ne sont pas des évictions
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void notifyElementPut(Ehcache ehcache,
+        Element element) {
+        // Les ajouts sont comptés par Hibernate
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void notifyElementUpdated(Ehcache ehcache,
+        Element element) {
+        // Les remplacements sont comptés par Hibernate
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void notifyRemoveAll(Ehcache ehcache) {
+        // Les vidages demandés par Hibernate ne sont pas des évictions
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void dispose() {
+        // Les compteurs restent disponibles après l'arrêt du cache
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        return super.clone();
+    }
+
+    /**
+     * Incrémente le compteur d'une région.
+     *
+     * @param counters Les compteurs par région
+     * @param regionName Le nom de la région
+     */
+    private static void increment(Map<String, AtomicLong> counters,
+        String regionName) {
+        counters.computeIfAbsent(regionName,
+            name -> new AtomicLong()).incrementAndGet();
+    }
+
+    /**
+     * Lit le compteur d'une région.
+     *
+     * @param counters Les compteurs par région
+     * @param regionName Le nom de la région
+     * @return La valeur du compteur ; 0 si la région n'a rien compté
+     */
+    private static long count(Map<String, AtomicLong> counters,
+        String regionName) {
+        final AtomicLong counter = counters.get(regionName);
+        return counter == null
+            ? 0
+            : counter.get();
+    }
+}
@@ -0,0 +1,31 @@
+// Fichier CacheEvictionListenerFactory.java
+// Auteur : Dragons Vicieux
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliothequeBackEnd.cache;
+
+import java.util.Properties;
+import net.sf.ehcache.event.CacheEventListener;
+import net.sf.ehcache.event.CacheEventListenerFactory;
+
+/**
+ * Fabrique du {@link CacheEvictionListener}, déclarée pour chaque région dans <code>ehcache.xml</code>.
+ *
+ * @author Dragons Vicieux
+ */
+public class CacheEvictionListenerFactory extends CacheEventListenerFactory {
+    /**
+     * Crée la fabrique.
+     */
+    public CacheEvictionListenerFactory() {
+        super();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CacheEventListener createCacheEventListener(Properties properties) {
+        return new CacheEvictionListener();
+    }
+}
@@ -0,0 +1,155 @@
+// Fichier CacheRegionStatistics.java
+// Auteur : Dragons Vicieux
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliothequeBackEnd.cache;
+
+import java.io.Serializable;
+import java.util.Locale;
+
+/**
+ * Statistiques d'une région du cache de second niveau à un instant donné.
+ *
+ * @author Dragons Vicieux
+ */
+public final class CacheRegionStatistics implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final String regionName;
+
+    private final long hitCount;
+
+    private final long missCount;
+
+    private final long putCount;
+
+    private final long evictionCount;
+
+    private final long expirationCount;
+
+    private final long elementCountInMemory;
+
+    /**
+     * Crée les statistiques d'une région.
+     *
+     * @param regionName Le nom de la région
+     * @param hitCount Le nombre de lectures trouvées dans la région
+     * @param missCount Le nombre de lectures absentes de la région
+     * @param putCount Le nombre d'éléments ajoutés à la région
+     * @param evictionCount Le nombre d'éléments retirés parce que la région était pleine
+     * @param expirationCount Le nombre d'éléments retirés parce que leur durée de vie était écoulée
+     * @param elementCountInMemory Le nombre d'éléments présents dans la région
+     */
+    public CacheRegionStatistics(String regionName,
+        long hitCount,
+        long missCount,
+        long putCount,
+        long evictionCount,
+        long expirationCount,
+        long elementCountInMemory) {
+        super();
+        this.regionName = regionName;
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.putCount = putCount;
+        this.evictionCount = evictionCount;
+        this.expirationCount = expirationCount;
+        this.elementCountInMemory = elementCountInMemory;
+    }
+
+    // Region Getters and Setters
+    /**
+     * Getter de la variable d'instance <code>this.regionName</code>.
+     *
+     * @return La variable d'instance <code>this.regionName</code>
+     */
+    public String getRegionName() {
+        return this.regionName;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.hitCount</code>.
+     *
+     * @return La variable d'instance <code>this.hitCount</code>
+     */
+    public long getHitCount() {
+        return this.hitCount;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.missCount</code>.
+     *
+     * @return La variable d'instance <code>this.missCount</code>
+     */
+    public long getMissCount() {
+        return this.missCount;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.putCount</code>.
+     *
+     * @return La variable d'instance <code>this.putCount</code>
+     */
+    public long getPutCount() {
+        return this.putCount;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.evictionCount</code>.
+     *
+     * @return La variable d'instance <code>this.evictionCount</code>
+     */
+    public long getEvictionCount() {
+        return this.evictionCount;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.expirationCount</code>.
+     *
+     * @return La variable d'instance <code>this.expirationCount</code>
+     */
+    public long getExpirationCount() {
+        return this.expirationCount;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.elementCountInMemory</code>.
+     *
+     * @return La variable d'instance <code>this.elementCountInMemory</code>
+     */
+    public long getElementCountInMemory() {
+        return this.elementCountInMemory;
+    }
+    // EndRegion Getters and Setters
+
+    /**
+     * Retourne la proportion des lectures trouvées dans la région.
+     *
+     * @return Le taux de succès, entre 0 et 1 ; 0 si la région n'a jamais été lue
+     */
+    public double getHitRatio() {
+        final long readCount = getHitCount()
+            + getMissCount();
+        return readCount == 0
+            ? 0
+            : (double) getHitCount()
+                / readCount;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT,
+            "%s : succès=%d, échecs=%d, taux=%.1f%%, ajouts=%d, évictions=%d, expirations=%d, éléments=%d",
+            getRegionName(),
+            getHitCount(),
+            getMissCount(),
+            getHitRatio() * 100,
+            getPutCount(),
+            getEvictionCount(),
+            getExpirationCount(),
+            getElementCountInMemory());
+    }
+}
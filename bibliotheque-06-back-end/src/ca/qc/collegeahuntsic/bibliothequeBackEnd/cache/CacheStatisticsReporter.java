@@ -0,0 +1,88 @@
+// Fichier CacheStatisticsReporter.java
+// Auteur : Dragons Vicieux
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliothequeBackEnd.cache;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.SecondLevelCacheStatistics;
+import org.hibernate.stat.Statistics;
+
+/**
+ * Rapport des succès, échecs et évictions de chaque région du cache de second niveau.<br />
+ * <br />
+ * Les compteurs d'Hibernate ne sont tenus que si <code>hibernate.generate_statistics</code> est activé. Les régions de requêtes
+ * n'apparaissent qu'après leur première utilisation.
+ *
+ * @author Dragons Vicieux
+ */
+public class CacheStatisticsReporter {
+    private final SessionFactory sessionFactory;
+
+    /**
+     * Crée le rapport des statistiques du cache.
+     *
+     * @param sessionFactory La fabrique de sessions Hibernate dont le cache est observé
+     */
+    public CacheStatisticsReporter(SessionFactory sessionFactory) {
+        super();
+        this.sessionFactory = sessionFactory;
+    }
+
+    /**
+     * Lit les statistiques de chaque région, classées par nom de région.
+     *
+     * @return La liste des statistiques par région
+     */
+    public List<CacheRegionStatistics> getRegionStatistics() {
+        final Statistics statistics = this.sessionFactory.getStatistics();
+        final String[] regionNames = statistics.getSecondLevelCacheRegionNames();
+        Arrays.sort(regionNames);
+        final List<CacheRegionStatistics> regionStatistics = new ArrayList<>(regionNames.length);
+        for(String regionName : regionNames) {
+            final SecondLevelCacheStatistics secondLevelCacheStatistics = statistics.getSecondLevelCacheStatistics(regionName);
+            regionStatistics.add(new CacheRegionStatistics(regionName,
+                secondLevelCacheStatistics.getHitCount(),
+                secondLevelCacheStatistics.getMissCount(),
+                secondLevelCacheStatistics.getPutCount(),
+                CacheEvictionListener.getEvictionCount(regionName),
+                CacheEvictionListener.getExpirationCount(regionName),
+                secondLevelCacheStatistics.getElementCountInMemory()));
+        }
+        return regionStatistics;
+    }
+
+    /**
+     * Construit le rapport des statistiques, une ligne par région.
+     *
+     * @return Le rapport
+     */
+    public String report() {
+        final Statistics statistics = this.sessionFactory.getStatistics();
+        final StringBuilder report = new StringBuilder("Cache de second niveau (succès=");
+        report.append(statistics.getSecondLevelCacheHitCount());
+        report.append(", échecs=");
+        report.append(statistics.getSecondLevelCacheMissCount());
+        report.append(") ; cache de requêtes (succès=");
+        report.append(statistics.getQueryCacheHitCount());
+        report.append(", échecs=");
+        report.append(statistics.getQueryCacheMissCount());
+        report.append(')');
+        for(CacheRegionStatistics regionStatistics : getRegionStatistics()) {
+            report.append(System.lineSeparator());
+            report.append(regionStatistics);
+        }
+        return report.toString();
+    }
+
+    /**
+     * Remet toutes les statistiques à zéro.
+     */
+    public void clear() {
+        this.sessionFactory.getStatistics().clear();
+        CacheEvictionListener.clear();
+    }
+}
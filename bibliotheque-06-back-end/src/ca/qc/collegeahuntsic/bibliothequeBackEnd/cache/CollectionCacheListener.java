@@ -0,0 +1,139 @@
+// Fichier CollectionCacheListener.java
+// Auteur : Dragons Vicieux
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliothequeBackEnd.cache;
+
+import javax.transaction.Synchronization;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.LivreDTO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.MembreDTO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.PretDTO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.ReservationDTO;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.hibernate.event.EventSource;
+import org.hibernate.event.PostDeleteEvent;
+import org.hibernate.event.PostDeleteEventListener;
+import org.hibernate.event.PostInsertEvent;
+import org.hibernate.event.PostInsertEventListener;
+import org.hibernate.event.PostUpdateEvent;
+import org.hibernate.event.PostUpdateEventListener;
+
+/**
+ * Écouteur Hibernate qui retire du cache les collections de prêts et de réservations devenues périmées.<br />
+ * <br />
+ * Les prêts et les réservations sont enregistrés directement, sans passer par les collections <code>prets</code> et
+ * <code>reservations</code> du livre et du membre. Hibernate ne sait donc pas que ces collections ont changé et continuerait de
+ * servir leur ancienne version depuis le cache. Les deux collections touchées sont retirées du cache au moment où le prêt ou la
+ * réservation est envoyé à la base de données, puis de nouveau à la fin de la transaction, au cas où une autre session les aurait
+ * relues entre-temps.
+ *
+ * @author Dragons Vicieux
+ */
+public class CollectionCacheListener implements PostInsertEventListener,
+    PostUpdateEventListener,
+    PostDeleteEventListener {
+    private static final long serialVersionUID = 1L;
+
+    private static final String PRETS_PROPERTY_NAME = "prets";
+
+    private static final String RESERVATIONS_PROPERTY_NAME = "reservations";
+
+    /**
+     * Crée l'écouteur des collections du cache.
+     */
+    public CollectionCacheListener() {
+        super();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onPostInsert(PostInsertEvent postInsertEvent) {
+        evictCollections(postInsertEvent.getSession(),
+            postInsertEvent.getEntity());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onPostUpdate(PostUpdateEvent postUpdateEvent) {
+        evictCollections(postUpdateEvent.getSession(),
+            postUpdateEvent.getEntity());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onPostDelete(PostDeleteEvent postDeleteEvent) {
+        evictCollections(postDeleteEvent.getSession(),
+            postDeleteEvent.getEntity());
+    }
+
+    /**
+     * Retire du cache la collection du livre et celle du membre qui contiennent un prêt ou une réservation. Les autres DTOs sont
+     * ignorés.
+     *
+     * @param eventSource La session Hibernate de l'événement
+     * @param entity Le DTO envoyé à la base de données
+     */
+    private static void evictCollections(EventSource eventSource,
+        Object entity) {
+        final String propertyName;
+        final LivreDTO livreDTO;
+        final MembreDTO membreDTO;
+        if(entity instanceof PretDTO) {
+            propertyName = CollectionCacheListener.PRETS_PROPERTY_NAME;
+            livreDTO = ((PretDTO) entity).getLivreDTO();
+            membreDTO = ((PretDTO) entity).getMembreDTO();
+        } else if(entity instanceof ReservationDTO) {
+            propertyName = CollectionCacheListener.RESERVATIONS_PROPERTY_NAME;
+            livreDTO = ((ReservationDTO) entity).getLivreDTO();
+            membreDTO = ((ReservationDTO) entity).getMembreDTO();
+        } else {
+            return;
+        }
+        final SessionFactory sessionFactory = eventSource.getFactory();
+        final String livreRole = LivreDTO.class.getName()
+            + '.'
+            + propertyName;
+        final String idLivre = livreDTO == null
+            ? null
+            : livreDTO.getIdLivre();
+        final String membreRole = MembreDTO.class.getName()
+            + '.'
+            + propertyName;
+        final String idMembre = membreDTO == null
+            ? null
+            : membreDTO.getIdMembre();
+        final Runnable eviction = () -> {
+            if(idLivre != null) {
+                sessionFactory.evictCollection(livreRole,
+                    idLivre);
+            }
+            if(idMembre != null) {
+                sessionFactory.evictCollection(membreRole,
+                    idMembre);
+            }
+        };
+        eviction.run();
+        final Transaction transaction = eventSource.getTransaction();
+        if(transaction != null
+            && transaction.isActive()) {
+            transaction.registerSynchronization(new Synchronization() {
+                @Override
+                public void beforeCompletion() {
+                    // Rien à faire avant la fin de la transaction
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    eviction.run();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,10 @@
+// Fichier package-info.java
+// Auteur : Dragons Vicieux
+// Date de création : 2026-10-18
+/**
+ * Cache de second niveau de la bibliothèque : invalidation des collections et statistiques par région.
+ *
+ * @author Dragons Vicieux
+ */
+
+package ca.qc.collegeahuntsic.bibliothequeBackEnd.cache;
@@ -0,0 +1,512 @@
+// Fichier Condition.java
+// Auteur : Dragons Vicieux
+// Date de création : 2026-10-17
+
+package ca.qc.collegeahuntsic.bibliothequeBackEnd.dao.criteria;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidCriterionException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidCriterionValueException;
+
+/**
+ * Condition immuable d'une recherche.<br />
+ * <br />
+ * Une condition porte soit sur une propriété du DTO (égalité, comparaison, intervalle, liste de valeurs, motif), soit combine d'autres
+ * conditions (et, ou, non). Les propriétés peuvent traverser les associations, par exemple <code>livreDTO.titre</code>.
+ *
+ * @author Dragons Vicieux
+ */
+public final class Condition implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Opérateurs des conditions.
+     */
+    private enum Operator {
+        EQ("="),
+        NE("<>"),
+        LT("<"),
+        LE("<="),
+        GT(">"),
+        GE(">="),
+        LIKE("like"),
+        ILIKE("like"),
+        BETWEEN("between"),
+        IN("in"),
+        IS_NULL("is null"),
+        IS_NOT_NULL("is not null"),
+        AND("and"),
+        OR("or"),
+        NOT("not");
+
+        private final String hql;
+
+        /**
+         * Crée un opérateur.
+         *
+         * @param hql L'opérateur HQL correspondant
+         */
+        Operator(String hql) {
+            this.hql = hql;
+        }
+    }
+
+    private final Operator operator;
+
+    private final String propertyName;
+
+    private final List<Object> values;
+
+    private final List<Condition> conditions;
+
+    /**
+     * Crée une condition.
+     *
+     * @param operator L'opérateur de la condition
+     * @param propertyName Le nom de la propriété ; <code>null</code> pour une combinaison de conditions
+     * @param values Les valeurs de la condition
+     * @param conditions Les conditions combinées
+     */
+    private Condition(Operator operator,
+        String propertyName,
+        List<Object> values,
+        List<Condition> conditions) {
+        super();
+        this.operator = operator;
+        this.propertyName = propertyName;
+        this.values = values;
+        this.conditions = conditions;
+    }
+
+    /**
+     * Crée une condition sur une propriété.
+     *
+     * @param operator L'opérateur de la condition
+     * @param propertyName Le nom de la propriété
+     * @param values Les valeurs de la condition
+     * @return La condition
+     */
+    private static Condition property(Operator operator,
+        String propertyName,
+        Object... values) {
+        return new Condition(operator,
+            propertyName,
+            Collections.unmodifiableList(Arrays.asList(values)),
+            Collections.<Condition> emptyList());
+    }
+
+    /**
+     * Crée une combinaison de conditions.
+     *
+     * @param operator L'opérateur de la combinaison
+     * @param conditions Les conditions à combiner
+     * @return La condition
+     */
+    private static Condition combine(Operator operator,
+        Condition... conditions) {
+        return new Condition(operator,
+            null,
+            Collections.emptyList(),
+            Collections.unmodifiableList(new ArrayList<>(Arrays.asList(conditions))));
+    }
+
+    /**
+     * La propriété est égale à la valeur.
+     *
+     * @param propertyName Le nom de la propriété
+     * @param value La valeur
+     * @return La condition
+     */
+    public static Condition eq(String propertyName,
+        Object value) {
+        return Condition.property(Operator.EQ,
+            propertyName,
+            value);
+    }
+
+    /**
+     * La propriété est différente de la valeur.
+     *
+     * @param propertyName Le nom de la propriété
+     * @param value La valeur
+     * @return La condition
+     */
+    public static Condition ne(String propertyName,
+        Object value) {
+        return Condition.property(Operator.NE,
+            propertyName,
+            value);
+    }
+
+    /**
+     * La propriété est strictement inférieure à la valeur.
+     *
+     * @param propertyName Le nom de la propriété
+     * @param value La valeur
+     * @return La condition
+     */
+    public static Condition lt(String propertyName,
+        Object value) {
+        return Condition.property(Operator.LT,
+            propertyName,
+            value);
+    }
+
+    /**
+     * La propriété est inférieure ou égale à la valeur.
+     *
+     * @param propertyName Le nom de la propriété
+     * @param value La valeur
+     * @return La condition
+     */
+    public static Condition le(String propertyName,
+        Object value) {
+        return Condition.property(Operator.LE,
+            propertyName,
+            value);
+    }
+
+    /**
+     * La propriété est strictement supérieure à la valeur.
+     *
+     * @param propertyName Le nom de la propriété
+     * @param value La valeur
+     * @return La condition
+     */
+    public static Condition gt(String propertyName,
+        Object value) {
+        return Condition.property(Operator.GT,
+            propertyName,
+            value);
+    }
+
+    /**
+     * La propriété est supérieure ou égale à la valeur.
+     *
+     * @param propertyName Le nom de la propriété
+     * @param value La valeur
+     * @return La condition
+     */
+    public static Condition ge(String propertyName,
+        Object value) {
+        return Condition.property(Operator.GE,
+            propertyName,
+            value);
+    }
+
+    /**
+     * La propriété correspond au motif SQL (<code>%</code> et <code>_</code>), en respectant la casse.
+     *
+     * @param propertyName Le nom de la propriété
+     * @param pattern Le motif
+     * @return La condition
+     */
+    public static Condition like(String propertyName,
+        String pattern) {
+        return Condition.property(Operator.LIKE,
+            propertyName,
+            pattern);
+    }
+
+    /**
+     * La propriété correspond au motif SQL (<code>%</code> et <code>_</code>), sans tenir compte de la casse.
+     *
+     * @param propertyName Le nom de la propriété
+     * @param pattern Le motif
+     * @return La condition
+     */
+    public static Condition ilike(String propertyName,
+        String pattern) {
+        return Condition.property(Operator.ILIKE,
+            propertyName,
+            pattern == null
+                ? null
+                : pattern.toLowerCase());
+    }
+
+    /**
+     * La propriété est comprise entre deux valeurs, bornes incluses.
+     *
+     * @param propertyName Le nom de la propriété
+     * @param low La borne inférieure
+     * @param high La borne supérieure
+     * @return La condition
+     */
+    public static Condition between(String propertyName,
+        Object low,
+        Object high) {
+        return Condition.property(Operator.BETWEEN,
+            propertyName,
+            low,
+            high);
+    }
+
+    /**
+     * La propriété est égale à l'une des valeurs.
+     *
+     * @param propertyName Le nom de la propriété
+     * @param values Les valeurs
+     * @return La condition
+     */
+    public static Condition in(String propertyName,
+        Collection<?> values) {
+        return Condition.property(Operator.IN,
+            propertyName,
+            values == null
+                ? null
+                : Collections.unmodifiableList(new ArrayList<>(values)));
+    }
+
+    /**
+     * La propriété est <code>null</code>.
+     *
+     * @param propertyName Le nom de la propriété
+     * @return La condition
+     */
+    public static Condition isNull(String propertyName) {
+        return Condition.property(Operator.IS_NULL,
+            propertyName);
+    }
+
+    /**
+     * La propriété n'est pas <code>null</code>.
+     *
+     * @param propertyName Le nom de la propriété
+     * @return La condition
+     */
+    public static Condition isNotNull(String propertyName) {
+        return Condition.property(Operator.IS_NOT_NULL,
+            propertyName);
+    }
+
+    /**
+     * Toutes les conditions sont vraies. Sans condition, la combinaison est toujours vraie.
+     *
+     * @param conditions Les conditions
+     * @return La condition
+     */
+    public static Condition and(Condition... conditions) {
+        return Condition.combine(Operator.AND,
+            conditions);
+    }
+
+    /**
+     * Au moins une des conditions est vraie. Sans condition, la combinaison est toujours fausse.
+     *
+     * @param conditions Les conditions
+     * @return La condition
+     */
+    public static Condition or(Condition... conditions) {
+        return Condition.combine(Operator.OR,
+            conditions);
+    }
+
+    /**
+     * La condition est fausse.
+     *
+     * @param condition La condition
+     * @return La condition
+     */
+    public static Condition not(Condition condition) {
+        return Condition.combine(Operator.NOT,
+            condition);
+    }
+
+    /**
+     * Vérifie que la condition est complète : une propriété pour chaque condition sur une propriété, aucune valeur <code>null</code> et
+     * aucune liste de valeurs vide.
+     *
+     * @throws InvalidCriterionException Si une condition est <code>null</code> ou si une propriété est <code>null</code>
+     * @throws InvalidCriterionValueException Si une valeur est <code>null</code> ou si une liste de valeurs est vide
+     */
+    void check() throws InvalidCriterionException,
+        InvalidCriterionValueException {
+        if(isCombination()) {
+            for(Condition condition : this.conditions) {
+                if(condition == null) {
+                    throw new InvalidCriterionException("La condition ne peut être null");
+                }
+                condition.check();
+            }
+            return;
+        }
+        if(this.propertyName == null) {
+            throw new InvalidCriterionException("La propriété à utiliser ne peut être null");
+        }
+        for(Object value : this.values) {
+            if(value == null) {
+                throw new InvalidCriterionValueException("La valeur à trouver ne peut être null pour la propriété "
+                    + this.propertyName);
+            }
+            if(value instanceof Collection<?>
+                && ((Collection<?>) value).isEmpty()) {
+                throw new InvalidCriterionValueException("La liste de valeurs ne peut être vide pour la propriété "
+                    + this.propertyName);
+            }
+        }
+    }
+
+    /**
+     * Ajoute les noms des propriétés utilisées par la condition.
+     *
+     * @param propertyNames L'ensemble des noms de propriétés à compléter
+     */
+    void collectPropertyNames(Set<String> propertyNames) {
+        if(isCombination()) {
+            for(Condition condition : this.conditions) {
+                condition.collectPropertyNames(propertyNames);
+            }
+        } else {
+            propertyNames.add(this.propertyName);
+        }
+    }
+
+    /**
+     * Ajoute la forme de la condition : ses opérateurs et ses propriétés, sans ses valeurs. Deux conditions de même forme produisent la
+     * même requête HQL.
+     *
+     * @param shape La forme à compléter
+     */
+    void appendShape(StringBuilder shape) {
+        shape.append(this.operator.name());
+        shape.append('(');
+        if(isCombination()) {
+            for(Condition condition : this.conditions) {
+                condition.appendShape(shape);
+                shape.append(',');
+            }
+        } else {
+            shape.append(this.propertyName);
+        }
+        shape.append(')');
+    }
+
+    /**
+     * Ajoute la condition HQL. Les valeurs sont remplacées par les paramètres nommés <code>p0</code>, <code>p1</code>, etc., dans l'ordre
+     * de {@link #collectParameters(List)}.
+     *
+     * @param hql La requête HQL à compléter
+     * @param alias L'alias du DTO dans la requête
+     * @param parameterCount Le nombre de paramètres déjà utilisés
+     * @return Le nombre de paramètres utilisés après cette condition
+     */
+    int appendHql(StringBuilder hql,
+        String alias,
+        int parameterCount) {
+        int count = parameterCount;
+        switch(this.operator) {
+            case AND:
+            case OR:
+                if(this.conditions.isEmpty()) {
+                    hql.append(this.operator == Operator.AND
+                        ? "1 = 1"
+                        : "1 = 0");
+                    break;
+                }
+                hql.append('(');
+                for(int i = 0; i < this.conditions.size(); i++) {
+                    if(i > 0) {
+                        hql.append(' ');
+                        hql.append(this.operator.hql);
+                        hql.append(' ');
+                    }
+                    count = this.conditions.get(i).appendHql(hql,
+                        alias,
+                        count);
+                }
+                hql.append(')');
+                break;
+            case NOT:
+                hql.append("not (");
+                count = this.conditions.get(0).appendHql(hql,
+                    alias,
+                    count);
+                hql.append(')');
+                break;
+            case ILIKE:
+                hql.append("lower(");
+                hql.append(alias);
+                hql.append('.');
+                hql.append(this.propertyName);
+                hql.append(") like :p");
+                hql.append(count++);
+                break;
+            case BETWEEN:
+                appendProperty(hql,
+                    alias);
+                hql.append(" between :p");
+                hql.append(count++);
+                hql.append(" and :p");
+                hql.append(count++);
+                break;
+            case IN:
+                appendProperty(hql,
+                    alias);
+                hql.append(" in (:p");
+                hql.append(count++);
+                hql.append(')');
+                break;
+            case IS_NULL:
+            case IS_NOT_NULL:
+                appendProperty(hql,
+                    alias);
+                hql.append(' ');
+                hql.append(this.operator.hql);
+                break;
+            default:
+                appendProperty(hql,
+                    alias);
+                hql.append(' ');
+                hql.append(this.operator.hql);
+                hql.append(" :p");
+                hql.append(count++);
+                break;
+        }
+        return count;
+    }
+
+    /**
+     * Ajoute les valeurs de la condition, dans l'ordre des paramètres de {@link #appendHql(StringBuilder, String, int)}.
+     *
+     * @param parameters La liste des valeurs à compléter
+     */
+    void collectParameters(List<Object> parameters) {
+        if(isCombination()) {
+            for(Condition condition : this.conditions) {
+                condition.collectParameters(parameters);
+            }
+        } else {
+            parameters.addAll(this.values);
+        }
+    }
+
+    /**
+     * Indique si la condition combine d'autres conditions.
+     *
+     * @return <code>true</code> si la condition combine d'autres conditions ; <code>false</code> si elle porte sur une propriété
+     */
+    private boolean isCombination() {
+        return this.operator == Operator.AND
+            || this.operator == Operator.OR
+            || this.operator == Operator.NOT;
+    }
+
+    /**
+     * Ajoute la propriété qualifiée par l'alias.
+     *
+     * @param hql La requête HQL à compléter
+     * @param alias L'alias du DTO dans la requête
+     */
+    private void appendProperty(StringBuilder hql,
+        String alias) {
+        hql.append(alias);
+        hql.append('.');
+        hql.append(this.propertyName);
+    }
+}
@@ -0,0 +1,64 @@
+// Fichier NullsFirstOrder.java
+// Auteur : Dragons Vicieux
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliothequeBackEnd.dao.criteria;
+
+import org.hibernate.Criteria;
+import org.hibernate.HibernateException;
+import org.hibernate.criterion.CriteriaQuery;
+import org.hibernate.criterion.Order;
+
+/**
+ * Classement croissant d'un {@link Criteria} qui place les valeurs <code>null</code> en premier.<br />
+ * <br />
+ * MySQL place les <code>null</code> en premier dans un classement croissant et Oracle les place en dernier. La pagination par clef a
+ * besoin d'une position fixe pour savoir quelles lignes suivent la dernière clef lue : chaque colonne est donc précédée d'une expression
+ * <code>case</code> qui vaut 0 pour <code>null</code> et 1 sinon, ce qui donne le même ordre sur les deux bases de données.
+ *
+ * @author Dragons Vicieux
+ */
+public final class NullsFirstOrder extends Order {
+    private static final long serialVersionUID = 1L;
+
+    private final String propertyName;
+
+    /**
+     * Crée un classement croissant, <code>null</code> en premier.
+     *
+     * @param propertyName Le nom de la propriété à utiliser pour classer
+     */
+    private NullsFirstOrder(String propertyName) {
+        super(propertyName,
+            true);
+        this.propertyName = propertyName;
+    }
+
+    /**
+     * Crée un classement croissant sur une propriété, <code>null</code> en premier.
+     *
+     * @param propertyName Le nom de la propriété à utiliser pour classer
+     * @return Le classement
+     */
+    public static Order ascNullsFirst(String propertyName) {
+        return new NullsFirstOrder(propertyName);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toSqlString(Criteria criteria,
+        CriteriaQuery criteriaQuery) throws HibernateException {
+        final String[] columns = criteriaQuery.getColumnsUsingProjection(criteria,
+            this.propertyName);
+        final StringBuilder sql = new StringBuilder();
+        for(String column : columns) {
+            sql.append("case when ")
+                .append(column)
+                .append(" is null then 0 else 1 end asc, ");
+        }
+        return sql.append(super.toSqlString(criteria,
+            criteriaQuery)).toString();
+    }
+}
@@ -0,0 +1,222 @@
+// Fichier SearchCriteria.java
+// Auteur : Dragons Vicieux
+// Date de création : 2026-10-17
+
+package ca.qc.collegeahuntsic.bibliothequeBackEnd.dao.criteria;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.DTO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidCriterionException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidCriterionValueException;
+
+/**
+ * Critères d'une recherche sur un type de DTO.<br />
+ * <br />
+ * Les conditions ajoutées par {@link #where(Condition)} doivent toutes être vraies. Les résultats sont classés dans l'ordre des appels à
+ * {@link #orderBy(String)} et {@link #orderByDescending(String)}, puis sur l'ID pour que l'ordre soit total.<br />
+ * <br />
+ * Les critères sont traduits par le DAO en une seule requête HQL paramétrée. Deux critères de même forme, c'est-à-dire avec les mêmes
+ * opérateurs sur les mêmes propriétés mais des valeurs différentes, produisent la même requête.
+ *
+ * @param <T> Le type de DTO recherché
+ * @author Dragons Vicieux
+ */
+public final class SearchCriteria<T extends DTO> implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final Class<T> dtoClass;
+
+    private final List<Condition> conditions;
+
+    private final List<String> sortByPropertyNames;
+
+    private final List<Boolean> ascendings;
+
+    /**
+     * Crée des critères de recherche.
+     *
+     * @param dtoClass La classe de DTO recherchée
+     */
+    private SearchCriteria(Class<T> dtoClass) {
+        super();
+        this.dtoClass = dtoClass;
+        this.conditions = new ArrayList<>();
+        this.sortByPropertyNames = new ArrayList<>();
+        this.ascendings = new ArrayList<>();
+    }
+
+    /**
+     * Crée des critères de recherche sans condition ni classement.
+     *
+     * @param <T> Le type de DTO recherché
+     * @param dtoClass La classe de DTO recherchée
+     * @return Les critères de recherche
+     */
+    public static <T extends DTO> SearchCriteria<T> forClass(Class<T> dtoClass) {
+        return new SearchCriteria<>(dtoClass);
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.dtoClass</code>.
+     *
+     * @return La variable d'instance <code>this.dtoClass</code>
+     */
+    public Class<T> getDtoClass() {
+        return this.dtoClass;
+    }
+
+    /**
+     * Ajoute une condition qui doit être vraie.
+     *
+     * @param condition La condition
+     * @return Ces critères de recherche
+     */
+    public SearchCriteria<T> where(Condition condition) {
+        this.conditions.add(condition);
+        return this;
+    }
+
+    /**
+     * Classe les résultats par ordre croissant sur une propriété.
+     *
+     * @param sortByPropertyName The nom de la propriété à utiliser pour classer
+     * @return Ces critères de recherche
+     */
+    public SearchCriteria<T> orderBy(String sortByPropertyName) {
+        this.sortByPropertyNames.add(sortByPropertyName);
+        this.ascendings.add(Boolean.TRUE);
+        return this;
+    }
+
+    /**
+     * Classe les résultats par ordre décroissant sur une propriété.
+     *
+     * @param sortByPropertyName The nom de la propriété à utiliser pour classer
+     * @return Ces critères de recherche
+     */
+    public SearchCriteria<T> orderByDescending(String sortByPropertyName) {
+        this.sortByPropertyNames.add(sortByPropertyName);
+        this.ascendings.add(Boolean.FALSE);
+        return this;
+    }
+
+    /**
+     * Vérifie que les critères sont complets.
+     *
+     * @throws InvalidCriterionException Si une condition, une propriété ou une propriété à utiliser pour classer est <code>null</code>
+     * @throws InvalidCriterionValueException Si une valeur est <code>null</code> ou si une liste de valeurs est vide
+     */
+    public void check() throws InvalidCriterionException,
+        InvalidCriterionValueException {
+        if(this.dtoClass == null) {
+            throw new InvalidCriterionException("La classe de DTO recherchée ne peut être null");
+        }
+        for(Condition condition : this.conditions) {
+            if(condition == null) {
+                throw new InvalidCriterionException("La condition ne peut être null");
+            }
+            condition.check();
+        }
+        if(this.sortByPropertyNames.contains(null)) {
+            throw new InvalidCriterionException("La propriété utilisée pour classer ne peut être null");
+        }
+    }
+
+    /**
+     * Retourne les noms de toutes les propriétés utilisées, dans les conditions comme dans le classement.
+     *
+     * @return Les noms des propriétés utilisées
+     */
+    public Set<String> getPropertyNames() {
+        final Set<String> propertyNames = new LinkedHashSet<>();
+        for(Condition condition : this.conditions) {
+            condition.collectPropertyNames(propertyNames);
+        }
+        propertyNames.addAll(this.sortByPropertyNames);
+        return propertyNames;
+    }
+
+    /**
+     * Retourne la forme des critères : leurs opérateurs, leurs propriétés et leur classement, sans leurs valeurs.
+     *
+     * @return La forme des critères
+     */
+    public String getShape() {
+        final StringBuilder shape = new StringBuilder(this.dtoClass.getName());
+        shape.append('|');
+        for(Condition condition : this.conditions) {
+            condition.appendShape(shape);
+            shape.append(',');
+        }
+        shape.append('|');
+        for(int i = 0; i < this.sortByPropertyNames.size(); i++) {
+            shape.append(this.sortByPropertyNames.get(i));
+            shape.append(this.ascendings.get(i).booleanValue()
+                ? '+'
+                : '-');
+            shape.append(',');
+        }
+        return shape.toString();
+    }
+
+    /**
+     * Traduit les critères en requête HQL. Les valeurs sont remplacées par les paramètres nommés <code>p0</code>, <code>p1</code>, etc.,
+     * dans l'ordre de {@link #getParameters()}.
+     *
+     * @param entityName Le nom de l'entité Hibernate recherchée
+     * @param idPropertyName Le nom de la propriété de l'ID
+     * @return La requête HQL
+     */
+    public String toHql(String entityName,
+        String idPropertyName) {
+        final String alias = "dto";
+        final StringBuilder hql = new StringBuilder("from ");
+        hql.append(entityName);
+        hql.append(' ');
+        hql.append(alias);
+        int parameterCount = 0;
+        for(int i = 0; i < this.conditions.size(); i++) {
+            hql.append(i == 0
+                ? " where "
+                : " and ");
+            parameterCount = this.conditions.get(i).appendHql(hql,
+                alias,
+                parameterCount);
+        }
+        hql.append(" order by ");
+        for(int i = 0; i < this.sortByPropertyNames.size(); i++) {
+            hql.append(alias);
+            hql.append('.');
+            hql.append(this.sortByPropertyNames.get(i));
+            hql.append(this.ascendings.get(i).booleanValue()
+                ? " asc, "
+                : " desc, ");
+        }
+        if(this.sortByPropertyNames.contains(idPropertyName)) {
+            hql.setLength(hql.length() - 2);
+        } else {
+            hql.append(alias);
+            hql.append('.');
+            hql.append(idPropertyName);
+            hql.append(" asc");
+        }
+        return hql.toString();
+    }
+
+    /**
+     * Retourne les valeurs des paramètres de la requête HQL, dans l'ordre des paramètres.
+     *
+     * @return Les valeurs des paramètres
+     */
+    public List<Object> getParameters() {
+        final List<Object> parameters = new ArrayList<>();
+        for(Condition condition : this.conditions) {
+            condition.collectParameters(parameters);
+        }
+        return parameters;
+    }
+}
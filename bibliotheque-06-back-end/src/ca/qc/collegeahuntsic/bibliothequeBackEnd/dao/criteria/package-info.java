@@ -0,0 +1,10 @@
+// Fichier package-info.java
+// Auteur : Dragons Vicieux
+// Date de création : 2026-10-17
+/**
+ * Critères de recherche composés, traduits en HQL par les DAOs.
+ *
+ * @author Dragons Vicieux
+ */
+
+package ca.qc.collegeahuntsic.bibliothequeBackEnd.dao.criteria;
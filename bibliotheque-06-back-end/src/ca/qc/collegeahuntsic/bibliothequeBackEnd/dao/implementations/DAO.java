@@ -5,25 +5,53 @@
 package ca.qc.collegeahuntsic.bibliothequeBackEnd.dao.implementations;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dao.criteria.NullsFirstOrder;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dao.criteria.SearchCriteria;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.dao.interfaces.IDAO;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.DTO;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.DAOException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidConsumerException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidCriterionException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidCriterionValueException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidHibernateSessionException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidPaginationException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidPrimaryKeyException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidSortByPropertyException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dto.InvalidDTOClassException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dto.InvalidDTOException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.util.BibliothequeDate;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.util.Page;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.util.PageRequest;
+import org.hibernate.CacheMode;
 import org.hibernate.Criteria;
+import org.hibernate.EntityMode;
+import org.hibernate.FlushMode;
 import org.hibernate.HibernateException;
+import org.hibernate.Query;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
 import org.hibernate.Session;
+import org.hibernate.SessionFactory;
 import org.hibernate.criterion.Order;
 import org.hibernate.criterion.Restrictions;
+import org.hibernate.engine.PersistenceContext;
+import org.hibernate.engine.SessionImplementor;
+import org.hibernate.metadata.ClassMetadata;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.proxy.LazyInitializer;
+import org.hibernate.type.EntityType;
+import org.hibernate.type.Type;
 
 /**
  * Classe de base pour tous les DAOs.<br />
@@ -32,8 +60,32 @@ import org.hibernate.criterion.Restrictions;
  * @author Dragons Vicieux
  */
 public class DAO implements IDAO {
+    /**
+     * Taille par défaut des lots d'écriture.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 50;
+
+    /**
+     * Nombre par défaut de lignes lues à la fois lors d'un parcours en continu.
+     */
+    public static final int DEFAULT_FETCH_SIZE = 100;
+
+    /**
+     * Préfixe des régions du cache de requêtes. Chaque DTO a sa propre région, nommée d'après sa classe, pour que la taille et la
+     * durée de vie des résultats soient réglées par DTO dans <code>ehcache.xml</code>.
+     */
+    public static final String QUERY_CACHE_REGION_PREFIX = "query.";
+
     private Class<? extends DTO> dtoClass;
 
+    private int batchSize;
+
+    private int fetchSize;
+
+    private String queryCacheRegion;
+
+    private final Map<String, String> searchQueries;
+
     /**
      * Crée un DAO.
      *
@@ -46,6 +98,11 @@ public class DAO implements IDAO {
             throw new InvalidDTOClassException("La classe de DTO ne peut être null");
         }
         setDtoClass(dtoClass);
+        setBatchSize(DAO.DEFAULT_BATCH_SIZE);
+        setFetchSize(DAO.DEFAULT_FETCH_SIZE);
+        setQueryCacheRegion(DAO.QUERY_CACHE_REGION_PREFIX
+            + dtoClass.getSimpleName());
+        this.searchQueries = new ConcurrentHashMap<>();
     }
 
     // Region Getters and Setters
@@ -67,6 +124,64 @@ public class DAO implements IDAO {
         this.dtoClass = dtoClass;
     }
 
+    /**
+     * Getter de la variable d'instance <code>this.batchSize</code>.
+     *
+     * @return La variable d'instance <code>this.batchSize</code>
+     */
+    public int getBatchSize() {
+        return this.batchSize;
+    }
+
+    /**
+     * Setter de la variable d'instance <code>this.batchSize</code>. Cette valeur devrait correspondre à
+     * <code>hibernate.jdbc.batch_size</code>. Une valeur inférieure à 1 est ramenée à 1.
+     *
+     * @param batchSize La valeur à utiliser pour la variable d'instance <code>this.batchSize</code>
+     */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = Math.max(1,
+            batchSize);
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.fetchSize</code>.
+     *
+     * @return La variable d'instance <code>this.fetchSize</code>
+     */
+    public int getFetchSize() {
+        return this.fetchSize;
+    }
+
+    /**
+     * Setter de la variable d'instance <code>this.fetchSize</code>. Cette valeur sert à la fois de taille de lecture JDBC et de
+     * fréquence de vidage de la session lors d'un parcours en continu. Une valeur inférieure à 1 est ramenée à 1.
+     *
+     * @param fetchSize La valeur à utiliser pour la variable d'instance <code>this.fetchSize</code>
+     */
+    public void setFetchSize(int fetchSize) {
+        this.fetchSize = Math.max(1,
+            fetchSize);
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.queryCacheRegion</code>.
+     *
+     * @return La variable d'instance <code>this.queryCacheRegion</code>
+     */
+    protected String getQueryCacheRegion() {
+        return this.queryCacheRegion;
+    }
+
+    /**
+     * Setter de la variable d'instance <code>this.queryCacheRegion</code>.
+     *
+     * @param queryCacheRegion La valeur à utiliser pour la variable d'instance <code>this.queryCacheRegion</code>
+     */
+    private void setQueryCacheRegion(String queryCacheRegion) {
+        this.queryCacheRegion = queryCacheRegion;
+    }
+
     // EndRegion Getters and Setters
 
     /**
@@ -107,12 +222,47 @@ public class DAO implements IDAO {
         try {
             final DTO dto = (DTO) session.get(getDtoClass(),
                 primaryKey);
+            setReadOnly(session,
+                dto);
             return dto;
         } catch(HibernateException hibernateException) {
             throw new DAOException(hibernateException);
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public DTO get(Session session,
+        Serializable primaryKey,
+        String fetchPlan) throws InvalidHibernateSessionException,
+        InvalidPrimaryKeyException,
+        DAOException {
+        if(fetchPlan == null) {
+            return get(session,
+                primaryKey);
+        }
+        if(session == null) {
+            throw new InvalidHibernateSessionException("La session Hibernate ne peut être null");
+        }
+        if(primaryKey == null) {
+            throw new InvalidPrimaryKeyException("La clef primaire ne peut être null");
+        }
+        try {
+            final Query query = readOnly(session,
+                session.getNamedQuery(getDtoClass().getSimpleName()
+                    + "."
+                    + fetchPlan));
+            query.setParameter("id",
+                primaryKey);
+            // Les jointures sur une collection répètent le DTO, mais toujours la même instance
+            return (DTO) query.uniqueResult();
+        } catch(HibernateException hibernateException) {
+            throw new DAOException(hibernateException);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -176,6 +326,139 @@ public class DAO implements IDAO {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addAll(Session session,
+        List<? extends DTO> dtos) throws InvalidHibernateSessionException,
+        InvalidDTOException,
+        DAOException {
+        checkAll(session,
+            dtos);
+        try {
+            final List<DTO> batch = new ArrayList<>(getBatchSize());
+            for(DTO dto : dtos) {
+                if(!session.contains(dto)) {
+                    batch.add(dto);
+                }
+                session.save(dto);
+                flushBatch(session,
+                    batch,
+                    false);
+            }
+            flushBatch(session,
+                batch,
+                true);
+        } catch(HibernateException hibernateException) {
+            throw new DAOException(hibernateException);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void updateAll(Session session,
+        List<? extends DTO> dtos) throws InvalidHibernateSessionException,
+        InvalidDTOException,
+        DAOException {
+        checkAll(session,
+            dtos);
+        try {
+            final List<DTO> batch = new ArrayList<>(getBatchSize());
+            for(DTO dto : dtos) {
+                if(!session.contains(dto)) {
+                    batch.add(dto);
+                }
+                session.update(dto);
+                flushBatch(session,
+                    batch,
+                    false);
+            }
+            flushBatch(session,
+                batch,
+                true);
+        } catch(HibernateException hibernateException) {
+            throw new DAOException(hibernateException);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void deleteAll(Session session,
+        List<? extends DTO> dtos) throws InvalidHibernateSessionException,
+        InvalidDTOException,
+        DAOException {
+        checkAll(session,
+            dtos);
+        try {
+            final List<DTO> batch = new ArrayList<>(getBatchSize());
+            for(DTO dto : dtos) {
+                if(!session.contains(dto)) {
+                    batch.add(dto);
+                }
+                session.delete(dto);
+                flushBatch(session,
+                    batch,
+                    false);
+            }
+            flushBatch(session,
+                batch,
+                true);
+        } catch(HibernateException hibernateException) {
+            throw new DAOException(hibernateException);
+        }
+    }
+
+    /**
+     * Valide les paramètres d'une écriture par lots.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param dtos Les DTOs à écrire
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidDTOException Si la liste de DTOs est <code>null</code> ou contient un DTO <code>null</code>
+     */
+    private static void checkAll(Session session,
+        List<? extends DTO> dtos) throws InvalidHibernateSessionException,
+        InvalidDTOException {
+        if(session == null) {
+            throw new InvalidHibernateSessionException("La session Hibernate ne peut être null");
+        }
+        if(dtos == null) {
+            throw new InvalidDTOException("La liste de DTOs ne peut être null");
+        }
+        for(DTO dto : dtos) {
+            if(dto == null) {
+                throw new InvalidDTOException("Le DTO ne peut être null");
+            }
+        }
+    }
+
+    /**
+     * Envoie un lot d'écritures à la base de données lorsqu'il est complet, ou à la fin de l'écriture, puis détache les DTOs du lot pour
+     * que la taille de la session reste bornée. Le lot ne contient que les DTOs que l'écriture a attachés à la session : les objets que
+     * l'appelant y avait déjà, et leurs modifications en attente, ne sont pas touchés.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param batch Les DTOs attachés depuis le dernier envoi
+     * @param last <code>true</code> si c'est la fin de l'écriture
+     */
+    private void flushBatch(Session session,
+        List<DTO> batch,
+        boolean last) {
+        if(last
+            || batch.size() >= getBatchSize()) {
+            session.flush();
+            for(DTO dto : batch) {
+                session.evict(dto);
+            }
+            batch.clear();
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -192,15 +475,449 @@ public class DAO implements IDAO {
         }
         try {
             List<? extends DTO> results = Collections.EMPTY_LIST;
-            final Criteria criteria = session.createCriteria(getDtoClass());
+            final Criteria criteria = cacheable(session.createCriteria(getDtoClass()));
             criteria.addOrder(Order.asc(sortByPropertyName));
             results = criteria.list();
+            setReadOnly(session,
+                results);
             return results;
         } catch(HibernateException hibernateException) {
             throw new DAOException(hibernateException);
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Page<? extends DTO> getAll(Session session,
+        String sortByPropertyName,
+        PageRequest pageRequest) throws InvalidHibernateSessionException,
+        InvalidSortByPropertyException,
+        InvalidPaginationException,
+        DAOException {
+        if(session == null) {
+            throw new InvalidHibernateSessionException("La session Hibernate ne peut être null");
+        }
+        if(sortByPropertyName == null) {
+            throw new InvalidSortByPropertyException("La propriété utilisée pour classer ne peut être null");
+        }
+        checkPageRequest(sortByPropertyName,
+            pageRequest);
+        try {
+            final Criteria criteria = session.createCriteria(getDtoClass());
+            return page(session,
+                criteria,
+                sortByPropertyName,
+                pageRequest);
+        } catch(HibernateException hibernateException) {
+            throw new DAOException(hibernateException);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T extends DTO> void stream(Session session,
+        String sortByPropertyName,
+        Consumer<? super T> consumer) throws InvalidHibernateSessionException,
+        InvalidSortByPropertyException,
+        InvalidConsumerException,
+        DAOException {
+        if(session == null) {
+            throw new InvalidHibernateSessionException("La session Hibernate ne peut être null");
+        }
+        if(sortByPropertyName == null) {
+            throw new InvalidSortByPropertyException("La propriété utilisée pour classer ne peut être null");
+        }
+        if(consumer == null) {
+            throw new InvalidConsumerException("Le consommateur ne peut être null");
+        }
+        try {
+            final Criteria criteria = session.createCriteria(getDtoClass());
+            criteria.addOrder(Order.asc(sortByPropertyName));
+            scroll(session,
+                criteria,
+                consumer);
+        } catch(HibernateException hibernateException) {
+            throw new DAOException(hibernateException);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T extends DTO> List<T> search(Session session,
+        SearchCriteria<T> searchCriteria) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidCriterionValueException,
+        DAOException {
+        if(session == null) {
+            throw new InvalidHibernateSessionException("La session Hibernate ne peut être null");
+        }
+        try {
+            final Query query = readOnly(session,
+                cacheable(createSearchQuery(session,
+                    searchCriteria)));
+            return query.list();
+        } catch(HibernateException hibernateException) {
+            throw new DAOException(hibernateException);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T extends DTO> Page<T> search(Session session,
+        SearchCriteria<T> searchCriteria,
+        PageRequest pageRequest) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidCriterionValueException,
+        InvalidPaginationException,
+        DAOException {
+        if(session == null) {
+            throw new InvalidHibernateSessionException("La session Hibernate ne peut être null");
+        }
+        checkPageRequest("",
+            pageRequest);
+        if(pageRequest.isKeyset()) {
+            throw new InvalidPaginationException("La pagination par clef n'est pas possible avec des critères de recherche");
+        }
+        try {
+            final Query query = readOnly(session,
+                cacheable(createSearchQuery(session,
+                    searchCriteria)));
+            query.setFirstResult(pageRequest.getPageNumber()
+                * pageRequest.getPageSize());
+            query.setMaxResults(pageRequest.getPageSize() + 1);
+            final List<T> results = query.list();
+            if(results.size() <= pageRequest.getPageSize()) {
+                return new Page<>(results,
+                    pageRequest,
+                    null);
+            }
+            return new Page<>(results.subList(0,
+                pageRequest.getPageSize()),
+                pageRequest,
+                PageRequest.page(pageRequest.getPageNumber() + 1,
+                    pageRequest.getPageSize()));
+        } catch(HibernateException hibernateException) {
+            throw new DAOException(hibernateException);
+        }
+    }
+
+    /**
+     * Crée la requête HQL d'une recherche et lie ses paramètres. La requête est mise en cache selon la forme des critères : les propriétés
+     * ne sont validées et la requête n'est construite que la première fois qu'une forme est rencontrée. Comme le texte de la requête ne
+     * dépend que de la forme, Hibernate réutilise aussi son plan de requête.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param searchCriteria Les critères de recherche
+     * @return La requête prête à être exécutée
+     * @throws InvalidCriterionException Si les critères sont <code>null</code>, s'ils portent sur une autre classe de DTO ou si une
+     *         propriété est <code>null</code> ou n'existe pas
+     * @throws InvalidCriterionValueException Si une valeur est <code>null</code> ou si une liste de valeurs est vide
+     */
+    private Query createSearchQuery(Session session,
+        SearchCriteria<?> searchCriteria) throws InvalidCriterionException,
+        InvalidCriterionValueException {
+        if(searchCriteria == null) {
+            throw new InvalidCriterionException("Les critères de recherche ne peuvent être null");
+        }
+        searchCriteria.check();
+        if(!getDtoClass().equals(searchCriteria.getDtoClass())) {
+            throw new InvalidCriterionException("Les critères de recherche portent sur "
+                + searchCriteria.getDtoClass().getName()
+                + " au lieu de "
+                + getDtoClass().getName());
+        }
+        final String shape = searchCriteria.getShape();
+        String hql = this.searchQueries.get(shape);
+        if(hql == null) {
+            final SessionFactory sessionFactory = session.getSessionFactory();
+            final ClassMetadata classMetadata = sessionFactory.getClassMetadata(getDtoClass());
+            for(String propertyName : searchCriteria.getPropertyNames()) {
+                checkPropertyPath(sessionFactory,
+                    classMetadata,
+                    propertyName);
+            }
+            hql = searchCriteria.toHql(classMetadata.getEntityName(),
+                classMetadata.getIdentifierPropertyName());
+            this.searchQueries.put(shape,
+                hql);
+        }
+        final Query query = session.createQuery(hql);
+        final List<Object> parameters = searchCriteria.getParameters();
+        for(int i = 0; i < parameters.size(); i++) {
+            final Object parameter = parameters.get(i);
+            if(parameter instanceof Collection<?>) {
+                query.setParameterList("p"
+                    + i,
+                    (Collection<?>) parameter);
+            } else {
+                query.setParameter("p"
+                    + i,
+                    parameter);
+            }
+        }
+        return query;
+    }
+
+    /**
+     * Vérifie qu'un chemin de propriétés, par exemple <code>livreDTO.titre</code>, existe à partir du DTO. Chaque étape intermédiaire doit
+     * être une association vers une autre entité ; aucune étape ne peut être une collection. Cette validation est nécessaire avant
+     * d'insérer le chemin dans une requête HQL.
+     *
+     * @param sessionFactory La fabrique de sessions Hibernate
+     * @param classMetadata Les métadonnées du DTO
+     * @param propertyPath Le chemin de propriétés à vérifier
+     * @throws InvalidCriterionException Si le chemin n'existe pas ou traverse une collection
+     */
+    private static void checkPropertyPath(SessionFactory sessionFactory,
+        ClassMetadata classMetadata,
+        String propertyPath) throws InvalidCriterionException {
+        ClassMetadata metadata = classMetadata;
+        for(String propertyName : propertyPath.split("\\.",
+            -1)) {
+            if(metadata == null) {
+                throw new InvalidCriterionException("La propriété n'existe pas : "
+                    + propertyPath);
+            }
+            if(propertyName.equals(metadata.getIdentifierPropertyName())) {
+                metadata = null;
+            } else if(Arrays.asList(metadata.getPropertyNames()).contains(propertyName)) {
+                final Type type = metadata.getPropertyType(propertyName);
+                if(type.isCollectionType()) {
+                    throw new InvalidCriterionException("La propriété ne peut être une collection : "
+                        + propertyPath);
+                }
+                metadata = type.isEntityType()
+                    ? sessionFactory.getClassMetadata(((EntityType) type).getAssociatedEntityName())
+                    : null;
+            } else {
+                throw new InvalidCriterionException("La propriété n'existe pas : "
+                    + propertyPath);
+            }
+        }
+    }
+
+    /**
+     * Parcourt en continu les DTOs dont la propriété <code>propertyName</code> est égale à la valeur <code>value</code>, en ordre croissant
+     * sur <code>sortByPropertyName</code>. C'est l'équivalent en continu de
+     * {@link #find(Session, String, Object, String) find}, sans le traitement particulier des dates.
+     *
+     * @param <T> Le type de DTO lu
+     * @param session La session Hibernate à utiliser
+     * @param propertyName Le nom de la propriété à utiliser
+     * @param value La valeur à trouver
+     * @param sortByPropertyName The nom de la propriété à utiliser pour classer
+     * @param consumer Le consommateur qui reçoit chaque DTO
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidCriterionException Si la propriété à utiliser est <code>null</code>
+     * @throws InvalidCriterionValueException Si la valeur à trouver est <code>null</code>
+     * @throws InvalidSortByPropertyException Si la propriété à utiliser pour classer est <code>null</code>
+     * @throws InvalidConsumerException Si le consommateur est <code>null</code>
+     * @throws DAOException S'il y a une erreur avec la base de données
+     */
+    protected <T extends DTO> void stream(Session session,
+        String propertyName,
+        Object value,
+        String sortByPropertyName,
+        Consumer<? super T> consumer) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidCriterionValueException,
+        InvalidSortByPropertyException,
+        InvalidConsumerException,
+        DAOException {
+        if(session == null) {
+            throw new InvalidHibernateSessionException("La session Hibernate ne peut être null");
+        }
+        if(propertyName == null) {
+            throw new InvalidCriterionException("La propriété à utiliser ne peut être null");
+        }
+        if(value == null) {
+            throw new InvalidCriterionValueException("La valeur à trouver ne peut être null");
+        }
+        if(sortByPropertyName == null) {
+            throw new InvalidSortByPropertyException("La propriété utilisée pour classer ne peut être null");
+        }
+        if(consumer == null) {
+            throw new InvalidConsumerException("Le consommateur ne peut être null");
+        }
+        try {
+            final Criteria criteria = session.createCriteria(getDtoClass());
+            criteria.add(Restrictions.eq(propertyName,
+                value));
+            criteria.addOrder(Order.asc(sortByPropertyName));
+            scroll(session,
+                criteria,
+                consumer);
+        } catch(HibernateException hibernateException) {
+            throw new DAOException(hibernateException);
+        }
+    }
+
+    /**
+     * Exécute un critère avec un curseur en avant seulement et passe chaque DTO au consommateur. Tous les objets que le parcours a chargés
+     * dans la session, les DTOs lus comme les associations que le consommateur a initialisées, sont détachés après chaque lecture de
+     * <code>fetchSize</code> lignes et à la fin, ce qui garde la mémoire utilisée constante. Les objets que la session contenait déjà
+     * restent attachés avec leurs modifications en attente, sauf s'ils sont atteints par la cascade d'un objet détaché. Le cache de
+     * second niveau est ignoré pour ne pas le remplir avec toute la table.
+     *
+     * @param <T> Le type de DTO lu
+     * @param session La session Hibernate à utiliser
+     * @param criteria Le critère à exécuter
+     * @param consumer Le consommateur qui reçoit chaque DTO
+     */
+    @SuppressWarnings("unchecked")
+    private <T extends DTO> void scroll(Session session,
+        Criteria criteria,
+        Consumer<? super T> consumer) {
+        criteria.setFetchSize(getFetchSize());
+        criteria.setCacheMode(CacheMode.IGNORE);
+        final PersistenceContext persistenceContext = ((SessionImplementor) session).getPersistenceContext();
+        final Set<Object> attached = new HashSet<>(persistenceContext.getEntitiesByKey().keySet());
+        final ScrollableResults results = criteria.scroll(ScrollMode.FORWARD_ONLY);
+        try {
+            int count = 0;
+            while(results.next()) {
+                consumer.accept((T) results.get(0));
+                count++;
+                if(count % getFetchSize() == 0) {
+                    evictLoaded(session,
+                        persistenceContext,
+                        attached);
+                }
+            }
+        } finally {
+            results.close();
+        }
+        evictLoaded(session,
+            persistenceContext,
+            attached);
+    }
+
+    /**
+     * Détache de la session tous les objets qui n'y étaient pas au début d'un parcours. La cascade <code>evict</code> des associations
+     * détache aussi leurs collections.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param persistenceContext Le contexte de persistance de la session
+     * @param attached Les clefs des objets que la session contenait au début du parcours
+     */
+    private static void evictLoaded(Session session,
+        PersistenceContext persistenceContext,
+        Set<Object> attached) {
+        final List<Object> loaded = new ArrayList<>();
+        for(Object object : persistenceContext.getEntitiesByKey().entrySet()) {
+            final Map.Entry<?, ?> entry = (Map.Entry<?, ?>) object;
+            if(!attached.contains(entry.getKey())) {
+                loaded.add(entry.getValue());
+            }
+        }
+        for(Object dto : loaded) {
+            session.evict(dto);
+        }
+    }
+
+    /**
+     * Met les résultats d'un critère dans la région de requêtes du DTO. Seuls les IDs sont conservés : les DTOs sont ensuite lus dans
+     * leur propre région. Hibernate écarte les résultats dès qu'une table interrogée est modifiée, si bien que seules les requêtes sur
+     * les tables touchées sont relues.
+     *
+     * @param criteria Le critère à mettre en cache
+     * @return Le critère
+     */
+    protected Criteria cacheable(Criteria criteria) {
+        return criteria.setCacheable(true).setCacheRegion(getQueryCacheRegion());
+    }
+
+    /**
+     * Met les résultats d'une requête HQL dans la région de requêtes du DTO.
+     *
+     * @param query La requête à mettre en cache
+     * @return La requête
+     * @see #cacheable(Criteria)
+     */
+    protected Query cacheable(Query query) {
+        return query.setCacheable(true).setCacheRegion(getQueryCacheRegion());
+    }
+
+    /**
+     * Indique si une session est en lecture seule, c'est-à-dire si elle n'est vidée que sur demande ({@link FlushMode#MANUAL}). C'est
+     * ainsi qu'une transaction en lecture seule est signalée aux DAOs : rien n'y sera écrit, si bien qu'Hibernate n'a pas à garder de
+     * copie des DTOs lus pour détecter leurs modifications.
+     *
+     * @param session La session Hibernate à utiliser
+     * @return <code>true</code> si la session est en lecture seule
+     */
+    protected static boolean isReadOnly(Session session) {
+        return FlushMode.isManualFlushMode(session.getFlushMode());
+    }
+
+    /**
+     * Marque un DTO en lecture seule si la session l'est. Hibernate libère alors la copie gardée pour la détection des modifications
+     * et ne vérifie plus le DTO au vidage de la session. Un proxy non initialisé est laissé tel quel.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param dto Le DTO lu ; peut être <code>null</code>
+     */
+    protected static void setReadOnly(Session session,
+        Object dto) {
+        if(dto == null
+            || !isReadOnly(session)) {
+            return;
+        }
+        Object entity = dto;
+        if(entity instanceof HibernateProxy) {
+            final LazyInitializer lazyInitializer = ((HibernateProxy) entity).getHibernateLazyInitializer();
+            if(lazyInitializer.isUninitialized()) {
+                return;
+            }
+            entity = lazyInitializer.getImplementation();
+        }
+        if(session.contains(entity)) {
+            session.setReadOnly(entity,
+                true);
+        }
+    }
+
+    /**
+     * Marque des DTOs en lecture seule si la session l'est.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param dtos Les DTOs lus
+     * @see #setReadOnly(Session, Object)
+     */
+    protected static void setReadOnly(Session session,
+        Collection<?> dtos) {
+        if(!isReadOnly(session)) {
+            return;
+        }
+        for(Object dto : dtos) {
+            setReadOnly(session,
+                dto);
+        }
+    }
+
+    /**
+     * Charge les DTOs d'une requête HQL en lecture seule si la session l'est. Contrairement à
+     * {@link #setReadOnly(Session, Collection)}, Hibernate ne fait alors aucune copie des DTOs lus.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param query La requête à exécuter
+     * @return La requête
+     */
+    protected static Query readOnly(Session session,
+        Query query) {
+        return query.setReadOnly(isReadOnly(session));
+    }
+
     /**
      * Trouve les DTOs à partir d'une propriété <code>propertyName</code> étant égale à une valeur <code>value</code>. La liste est classée par
      * ordre croissant sur <code>sortByPropertyName</code>. Si aucun DTO n'est trouvé, une {@link List} vide est retournée.
@@ -244,11 +961,13 @@ public class DAO implements IDAO {
                     (Date) value,
                     sortByPropertyName);
             } else {
-                final Criteria criteria = session.createCriteria(getDtoClass());
+                final Criteria criteria = cacheable(session.createCriteria(getDtoClass()));
                 criteria.add(Restrictions.eq(propertyName,
                     value));
                 criteria.addOrder(Order.asc(sortByPropertyName));
                 results = criteria.list();
+                setReadOnly(session,
+                    results);
             }
             return results;
         } catch(HibernateException hibernateException) {
@@ -256,6 +975,257 @@ public class DAO implements IDAO {
         }
     }
 
+    /**
+     * Trouve une page de DTOs à partir d'une propriété <code>propertyName</code> étant égale à une valeur <code>value</code> (ou comprise
+     * entre la veille et le lendemain si la valeur est une date). La page est classée par ordre croissant sur
+     * <code>sortByPropertyName</code> puis sur l'ID. Si aucun DTO n'est trouvé, une page vide est retournée.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param propertyName Le nom de la propriété à utiliser
+     * @param value La valeur à trouver
+     * @param sortByPropertyName The nom de la propriété à utiliser pour classer
+     * @param pageRequest La page à lire
+     * @return La page de DTOs demandée
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidCriterionException Si la propriété à utiliser est <code>null</code>
+     * @throws InvalidCriterionValueException Si la valeur à trouver est <code>null</code>
+     * @throws InvalidSortByPropertyException Si la propriété à utiliser pour classer est <code>null</code>
+     * @throws InvalidPaginationException Si la demande de page est <code>null</code> ou invalide
+     * @throws DAOException S'il y a une erreur avec la base de données
+     */
+    protected Page<? extends DTO> find(Session session,
+        String propertyName,
+        Object value,
+        String sortByPropertyName,
+        PageRequest pageRequest) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidCriterionValueException,
+        InvalidSortByPropertyException,
+        InvalidPaginationException,
+        DAOException {
+        if(session == null) {
+            throw new InvalidHibernateSessionException("La session Hibernate ne peut être null");
+        }
+        if(propertyName == null) {
+            throw new InvalidCriterionException("La propriété à utiliser ne peut être null");
+        }
+        if(value == null) {
+            throw new InvalidCriterionValueException("La valeur à trouver ne peut être null");
+        }
+        if(sortByPropertyName == null) {
+            throw new InvalidSortByPropertyException("La propriété utilisée pour classer ne peut être null");
+        }
+        checkPageRequest(sortByPropertyName,
+            pageRequest);
+        try {
+            final Criteria criteria = session.createCriteria(getDtoClass());
+            if(value instanceof Date) {
+                criteria.add(Restrictions.between(propertyName,
+                    BibliothequeDate.getStartDate((Date) value),
+                    BibliothequeDate.getEndDate((Date) value)));
+            } else {
+                criteria.add(Restrictions.eq(propertyName,
+                    value));
+            }
+            return page(session,
+                criteria,
+                sortByPropertyName,
+                pageRequest);
+        } catch(HibernateException hibernateException) {
+            throw new DAOException(hibernateException);
+        }
+    }
+
+    /**
+     * Valide une demande de page.
+     *
+     * @param sortByPropertyName The nom de la propriété à utiliser pour classer
+     * @param pageRequest La demande de page à valider
+     * @throws InvalidPaginationException Si la demande de page est <code>null</code>, si sa taille ou son numéro est invalide ou si une
+     *         pagination par clef est demandée sur une propriété imbriquée
+     */
+    private static void checkPageRequest(String sortByPropertyName,
+        PageRequest pageRequest) throws InvalidPaginationException {
+        if(pageRequest == null) {
+            throw new InvalidPaginationException("La demande de page ne peut être null");
+        }
+        if(pageRequest.getPageSize() < 1) {
+            throw new InvalidPaginationException("La taille de la page doit être positive");
+        }
+        if(pageRequest.getPageNumber() < 0) {
+            throw new InvalidPaginationException("Le numéro de la page ne peut être négatif");
+        }
+        if(pageRequest.isKeyset()
+            && sortByPropertyName.indexOf('.') >= 0) {
+            throw new InvalidPaginationException("La pagination par clef ne peut classer sur une propriété imbriquée : "
+                + sortByPropertyName);
+        }
+    }
+
+    /**
+     * Lit une page d'un critère. Le critère est classé sur <code>sortByPropertyName</code> puis sur l'ID pour que l'ordre soit total. En
+     * pagination par clef, seules les lignes situées après la dernière clef lue sont retenues, ce qui évite de parcourir les pages
+     * précédentes. Si la propriété peut être <code>null</code>, les <code>null</code> sont classés en premier sur toutes les bases de
+     * données et une dernière clef <code>null</code> est comparée avec <code>is null</code> et <code>is not null</code>, puisqu'une
+     * comparaison avec <code>null</code> ne retient aucune ligne. Une ligne de plus que la taille de la page est lue pour savoir s'il
+     * existe une page suivante.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param criteria Le critère à exécuter
+     * @param sortByPropertyName The nom de la propriété à utiliser pour classer
+     * @param pageRequest La page à lire
+     * @return La page de DTOs demandée
+     */
+    @SuppressWarnings("unchecked")
+    private Page<? extends DTO> page(Session session,
+        Criteria criteria,
+        String sortByPropertyName,
+        PageRequest pageRequest) {
+        final ClassMetadata classMetadata = session.getSessionFactory().getClassMetadata(getDtoClass());
+        final String idPropertyName = classMetadata.getIdentifierPropertyName();
+        final boolean sortById = idPropertyName.equals(sortByPropertyName);
+        final boolean nullsFirst = pageRequest.isKeyset()
+            && !sortById
+            && isNullable(classMetadata,
+                sortByPropertyName);
+        if(pageRequest.isKeyset()) {
+            if(pageRequest.hasAfter()) {
+                if(sortById) {
+                    criteria.add(Restrictions.gt(idPropertyName,
+                        pageRequest.getAfterId()));
+                } else if(pageRequest.getAfterSortValue() == null) {
+                    criteria.add(Restrictions.or(Restrictions.and(Restrictions.isNull(sortByPropertyName),
+                        Restrictions.gt(idPropertyName,
+                            pageRequest.getAfterId())),
+                        Restrictions.isNotNull(sortByPropertyName)));
+                } else {
+                    criteria.add(Restrictions.or(Restrictions.gt(sortByPropertyName,
+                        pageRequest.getAfterSortValue()),
+                        Restrictions.and(Restrictions.eq(sortByPropertyName,
+                            pageRequest.getAfterSortValue()),
+                            Restrictions.gt(idPropertyName,
+                                pageRequest.getAfterId()))));
+                }
+            }
+        } else {
+            criteria.setFirstResult(pageRequest.getPageNumber()
+                * pageRequest.getPageSize());
+        }
+        criteria.addOrder(nullsFirst
+            ? NullsFirstOrder.ascNullsFirst(sortByPropertyName)
+            : Order.asc(sortByPropertyName));
+        if(!sortById) {
+            criteria.addOrder(Order.asc(idPropertyName));
+        }
+        criteria.setMaxResults(pageRequest.getPageSize() + 1);
+        cacheable(criteria);
+        final List<DTO> results = criteria.list();
+        setReadOnly(session,
+            results);
+        if(results.size() <= pageRequest.getPageSize()) {
+            return new Page<>(results,
+                pageRequest,
+                null);
+        }
+        final List<DTO> elements = results.subList(0,
+            pageRequest.getPageSize());
+        final PageRequest nextPageRequest;
+        if(pageRequest.isKeyset()) {
+            final DTO last = elements.get(elements.size() - 1);
+            final Serializable lastId = classMetadata.getIdentifier(last,
+                EntityMode.POJO);
+            final Object lastSortValue = sortById
+                ? lastId
+                : classMetadata.getPropertyValue(last,
+                    sortByPropertyName,
+                    EntityMode.POJO);
+            nextPageRequest = PageRequest.after(lastSortValue,
+                lastId,
+                pageRequest.getPageSize());
+        } else {
+            nextPageRequest = PageRequest.page(pageRequest.getPageNumber() + 1,
+                pageRequest.getPageSize());
+        }
+        return new Page<>(elements,
+            pageRequest,
+            nextPageRequest);
+    }
+
+    /**
+     * Indique si une propriété simple d'un DTO peut être <code>null</code> d'après son mapping.
+     *
+     * @param classMetadata Les métadonnées de la classe du DTO
+     * @param propertyName Le nom de la propriété
+     * @return <code>true</code> si la propriété peut être <code>null</code> ou n'est pas trouvée ; <code>false</code> sinon
+     */
+    private static boolean isNullable(ClassMetadata classMetadata,
+        String propertyName) {
+        final String[] propertyNames = classMetadata.getPropertyNames();
+        final boolean[] propertyNullability = classMetadata.getPropertyNullability();
+        for(int i = 0; i < propertyNames.length; i++) {
+            if(propertyNames[i].equals(propertyName)) {
+                return propertyNullability[i];
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Exécute une projection HQL (<code>select new</code>) sur les DTOs. La requête est complétée par un classement croissant sur
+     * <code>sortByPropertyName</code> puis sur l'ID. Les résultats ne sont pas des entités : rien n'est ajouté à la session Hibernate et
+     * aucune copie n'est conservée pour la détection des modifications. Si aucun résultat n'est trouvé, une {@link List} vide est
+     * retournée.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param selectHql La requête HQL, sans clause <code>order by</code>
+     * @param alias L'alias du DTO dans la requête
+     * @param sortByPropertyName The nom de la propriété à utiliser pour classer
+     * @return La liste des résultats de la projection ; une liste vide sinon
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidSortByPropertyException Si la propriété à utiliser pour classer est <code>null</code> ou n'est pas une propriété
+     *         simple du DTO
+     * @throws DAOException S'il y a une erreur avec la base de données
+     */
+    protected List<?> project(Session session,
+        String selectHql,
+        String alias,
+        String sortByPropertyName) throws InvalidHibernateSessionException,
+        InvalidSortByPropertyException,
+        DAOException {
+        if(session == null) {
+            throw new InvalidHibernateSessionException("La session Hibernate ne peut être null");
+        }
+        if(sortByPropertyName == null) {
+            throw new InvalidSortByPropertyException("La propriété utilisée pour classer ne peut être null");
+        }
+        try {
+            final ClassMetadata classMetadata = session.getSessionFactory().getClassMetadata(getDtoClass());
+            final String idPropertyName = classMetadata.getIdentifierPropertyName();
+            final StringBuilder hql = new StringBuilder(selectHql);
+            hql.append(" order by ");
+            hql.append(alias);
+            hql.append('.');
+            hql.append(sortByPropertyName);
+            if(!idPropertyName.equals(sortByPropertyName)) {
+                // La propriété est insérée telle quelle dans la requête : elle doit être une propriété simple du DTO
+                if(!Arrays.asList(classMetadata.getPropertyNames()).contains(sortByPropertyName)
+                    || classMetadata.getPropertyType(sortByPropertyName).isCollectionType()) {
+                    throw new InvalidSortByPropertyException("La propriété utilisée pour classer n'existe pas : "
+                        + sortByPropertyName);
+                }
+                hql.append(", ");
+                hql.append(alias);
+                hql.append('.');
+                hql.append(idPropertyName);
+            }
+            final Query query = session.createQuery(hql.toString());
+            query.setReadOnly(true);
+            return query.list();
+        } catch(HibernateException hibernateException) {
+            throw new DAOException(hibernateException);
+        }
+    }
+
     /**
      * Trouve les DTOs à partir d'une propriété <code>propertyName</code> étant comprise entre la veille et le lendemain de la date
      * <code>date</code>. La liste est classée par ordre croissant sur <code>sortByPropertyName</code>. Si aucun DTO n'est trouvé, une
@@ -294,12 +1264,14 @@ public class DAO implements IDAO {
         }
         try {
             List<? extends DTO> results = Collections.EMPTY_LIST;
-            final Criteria criteria = session.createCriteria(getDtoClass());
+            final Criteria criteria = cacheable(session.createCriteria(getDtoClass()));
             criteria.add(Restrictions.between(propertyName,
                 BibliothequeDate.getStartDate(date),
                 BibliothequeDate.getEndDate(date)));
             criteria.addOrder(Order.asc(sortByPropertyName));
             results = criteria.list();
+            setReadOnly(session,
+                results);
             return results;
         } catch(HibernateException hibernateException) {
             throw new DAOException(hibernateException);
@@ -7,12 +7,23 @@ package ca.qc.collegeahuntsic.bibliothequeBackEnd.dao.implementations;
 import java.util.List;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.dao.interfaces.ILivreDAO;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.LivreDTO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.LivreSummaryDTO;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.DAOException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidCriterionException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidCriterionValueException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidHibernateSessionException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidPaginationException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidSortByPropertyException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dto.InvalidDTOClassException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.index.LivreHit;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.index.LivreIndex;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.util.Page;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.util.PageRequest;
+import org.hibernate.CacheMode;
+import org.hibernate.HibernateException;
+import org.hibernate.Query;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
 import org.hibernate.Session;
 
 /**
@@ -21,6 +32,23 @@ import org.hibernate.Session;
  * @author Dragons Vicieux
  */
 public class LivreDAO extends DAO implements ILivreDAO {
+    /**
+     * Projection des résumés de livres. L'état du prêt est calculé par une sous-requête sur l'index
+     * <code>idxPretEnCours</code> plutôt qu'en chargeant les prêts du livre.
+     */
+    private static final String SUMMARY_HQL = "select new "
+        + LivreSummaryDTO.class.getName()
+        + "(livre.idLivre, livre.titre, livre.auteur, "
+        + "(select count(pret.idPret) from PretDTO pret where pret.livreDTO.idLivre = livre.idLivre and pret.dateRetour is null)) "
+        + "from LivreDTO livre";
+
+    /**
+     * Lecture du titre et de l'auteur de tous les livres pour reconstruire l'index.
+     */
+    private static final String INDEX_HQL = "select livre.idLivre, livre.titre, livre.auteur from LivreDTO livre";
+
+    private LivreIndex livreIndex;
+
     /**
      * Crée le DAO de la table <code>livre</code>.
      *
@@ -29,8 +57,31 @@ public class LivreDAO extends DAO implements ILivreDAO {
      */
     LivreDAO(Class<LivreDTO> livreDTOClass) throws InvalidDTOClassException {
         super(livreDTOClass);
+        setLivreIndex(new LivreIndex());
     }
 
+    // Region Getters and Setters
+    /**
+     * Getter de la variable d'instance <code>this.livreIndex</code>.
+     *
+     * @return La variable d'instance <code>this.livreIndex</code>
+     */
+    public LivreIndex getLivreIndex() {
+        return this.livreIndex;
+    }
+
+    /**
+     * Setter de la variable d'instance <code>this.livreIndex</code>. L'index doit être celui que l'écouteur Hibernate
+     * {@link ca.qc.collegeahuntsic.bibliothequeBackEnd.index.LivreIndexListener} garde à jour.
+     *
+     * @param livreIndex La valeur à utiliser pour la variable d'instance <code>this.livreIndex</code>
+     */
+    public void setLivreIndex(LivreIndex livreIndex) {
+        this.livreIndex = livreIndex;
+    }
+
+    // EndRegion Getters and Setters
+
     /**
      * {@inheritDoc}
      */
@@ -48,4 +99,106 @@ public class LivreDAO extends DAO implements ILivreDAO {
             titre,
             sortByPropertyName);
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public Page<LivreDTO> findByTitre(Session session,
+        String titre,
+        String sortByPropertyName,
+        PageRequest pageRequest) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidCriterionValueException,
+        InvalidSortByPropertyException,
+        InvalidPaginationException,
+        DAOException {
+        return (Page<LivreDTO>) find(session,
+            LivreDTO.TITRE_COLUMN_NAME,
+            titre,
+            sortByPropertyName,
+            pageRequest);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public List<LivreSummaryDTO> getAllSummaries(Session session,
+        String sortByPropertyName) throws InvalidHibernateSessionException,
+        InvalidSortByPropertyException,
+        DAOException {
+        return (List<LivreSummaryDTO>) project(session,
+            LivreDAO.SUMMARY_HQL,
+            "livre",
+            sortByPropertyName);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<LivreHit> findByText(Session session,
+        String text,
+        int limit) throws InvalidHibernateSessionException,
+        InvalidCriterionValueException,
+        InvalidPaginationException,
+        DAOException {
+        if(session == null) {
+            throw new InvalidHibernateSessionException("La session Hibernate ne peut être null");
+        }
+        if(text == null) {
+            throw new InvalidCriterionValueException("Le texte à trouver ne peut être null");
+        }
+        if(limit < 1) {
+            throw new InvalidPaginationException("Le nombre maximal de résultats doit être positif");
+        }
+        if(!getLivreIndex().isBuilt()) {
+            synchronized(this) {
+                if(!getLivreIndex().isBuilt()) {
+                    reindex(session);
+                }
+            }
+        }
+        return getLivreIndex().search(text,
+            limit);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void reindex(Session session) throws InvalidHibernateSessionException,
+        DAOException {
+        if(session == null) {
+            throw new InvalidHibernateSessionException("La session Hibernate ne peut être null");
+        }
+        final LivreIndex index = getLivreIndex();
+        boolean complete = false;
+        index.beginRebuild();
+        try {
+            // Lecture de valeurs simples : aucun livre n'est chargé dans la session
+            final Query query = session.createQuery(LivreDAO.INDEX_HQL);
+            query.setReadOnly(true);
+            query.setFetchSize(getFetchSize());
+            query.setCacheMode(CacheMode.IGNORE);
+            final ScrollableResults results = query.scroll(ScrollMode.FORWARD_ONLY);
+            try {
+                while(results.next()) {
+                    index.load(results.getString(0),
+                        results.getString(1),
+                        results.getString(2));
+                }
+            } finally {
+                results.close();
+            }
+            complete = true;
+        } catch(HibernateException hibernateException) {
+            throw new DAOException(hibernateException);
+        } finally {
+            index.endRebuild(complete);
+        }
+    }
 }
@@ -7,12 +7,16 @@ package ca.qc.collegeahuntsic.bibliothequeBackEnd.dao.implementations;
 import java.util.List;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.dao.interfaces.IMembreDAO;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.MembreDTO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.MembreSummaryDTO;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.DAOException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidCriterionException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidCriterionValueException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidHibernateSessionException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidPaginationException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidSortByPropertyException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dto.InvalidDTOClassException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.util.Page;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.util.PageRequest;
 import org.hibernate.Session;
 
 /**
@@ -22,6 +26,13 @@ import org.hibernate.Session;
  */
 
 public class MembreDAO extends DAO implements IMembreDAO {
+    /**
+     * Projection des résumés de membres.
+     */
+    private static final String SUMMARY_HQL = "select new "
+        + MembreSummaryDTO.class.getName()
+        + "(membre.idMembre, membre.nom, membre.nbPret, membre.limitePret) "
+        + "from MembreDTO membre";
 
     /**
      * Crée le DAO de la table <code>membre</code>.
@@ -50,4 +61,40 @@ public class MembreDAO extends DAO implements IMembreDAO {
             nom,
             sortByPropertyName);
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public Page<MembreDTO> findByNom(Session session,
+        String nom,
+        String sortByPropertyName,
+        PageRequest pageRequest) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidCriterionValueException,
+        InvalidSortByPropertyException,
+        InvalidPaginationException,
+        DAOException {
+        return (Page<MembreDTO>) find(session,
+            MembreDTO.NOM_COLUMN_NAME,
+            nom,
+            sortByPropertyName,
+            pageRequest);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public List<MembreSummaryDTO> getAllSummaries(Session session,
+        String sortByPropertyName) throws InvalidHibernateSessionException,
+        InvalidSortByPropertyException,
+        DAOException {
+        return (List<MembreSummaryDTO>) project(session,
+            MembreDAO.SUMMARY_HQL,
+            "membre",
+            sortByPropertyName);
+    }
 }
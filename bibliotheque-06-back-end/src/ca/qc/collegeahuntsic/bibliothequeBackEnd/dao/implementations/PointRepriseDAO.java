@@ -0,0 +1,72 @@
+// Fichier PointRepriseDAO.java
+// Auteur : Dragons Vicieux
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliothequeBackEnd.dao.implementations;
+
+import java.sql.Timestamp;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dao.interfaces.IPointRepriseDAO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.PointRepriseDTO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.DAOException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidHibernateSessionException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidPrimaryKeyException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dto.InvalidDTOClassException;
+import org.hibernate.HibernateException;
+import org.hibernate.Session;
+
+/**
+ * DAO pour effectuer des CRUDs avec la table <code>pointReprise</code>.
+ *
+ * @author Dragons Vicieux
+ */
+
+public class PointRepriseDAO extends DAO implements IPointRepriseDAO {
+    /**
+     * Mise à jour d'un point de reprise sans lecture préalable.
+     */
+    private static final String UPDATE_POSITION_HQL = "update PointRepriseDTO "
+        + "set positionFichier = :positionFichier, numeroLigne = :numeroLigne, dateMiseAJour = :dateMiseAJour "
+        + "where fichier = :fichier";
+
+    /**
+     * Crée le DAO de la table <code>pointReprise</code>.
+     *
+     * @param pointRepriseDTOClass La classe de point de reprise DTO à utiliser
+     * @throws InvalidDTOClassException Si la classe de DTO est <code>null</code>
+     */
+    PointRepriseDAO(Class<PointRepriseDTO> pointRepriseDTOClass) throws InvalidDTOClassException {
+        super(pointRepriseDTOClass);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean updatePosition(Session session,
+        String fichier,
+        long positionFichier,
+        int numeroLigne) throws InvalidHibernateSessionException,
+        InvalidPrimaryKeyException,
+        DAOException {
+        if(session == null) {
+            throw new InvalidHibernateSessionException("La session Hibernate ne peut être null");
+        }
+        if(fichier == null) {
+            throw new InvalidPrimaryKeyException("Le fichier ne peut être null");
+        }
+        try {
+            return session.createQuery(PointRepriseDAO.UPDATE_POSITION_HQL)
+                .setLong(PointRepriseDTO.POSITION_FICHIER_COLUMN_NAME,
+                    positionFichier)
+                .setInteger(PointRepriseDTO.NUMERO_LIGNE_COLUMN_NAME,
+                    numeroLigne)
+                .setTimestamp(PointRepriseDTO.DATE_MISE_A_JOUR_COLUMN_NAME,
+                    new Timestamp(System.currentTimeMillis()))
+                .setString(PointRepriseDTO.FICHIER_COLUMN_NAME,
+                    fichier)
+                .executeUpdate() > 0;
+        } catch(HibernateException hibernateException) {
+            throw new DAOException(hibernateException);
+        }
+    }
+}
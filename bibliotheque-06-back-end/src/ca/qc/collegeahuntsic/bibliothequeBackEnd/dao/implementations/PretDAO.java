@@ -3,15 +3,25 @@ package ca.qc.collegeahuntsic.bibliothequeBackEnd.dao.implementations;
 
 import java.sql.Timestamp;
 import java.util.List;
+import java.util.function.Consumer;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.dao.interfaces.IPretDAO;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.PretDTO;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.DAOException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidConsumerException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidCriterionException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidCriterionValueException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidHibernateSessionException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidPaginationException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidSortByPropertyException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dto.InvalidDTOClassException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.util.Page;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.util.PageRequest;
+import org.hibernate.Criteria;
+import org.hibernate.FetchMode;
+import org.hibernate.HibernateException;
 import org.hibernate.Session;
+import org.hibernate.criterion.Projections;
+import org.hibernate.criterion.Restrictions;
 
 /**
  * DAO pour effectuer des CRUDs avec la table <code>pret</code>.
@@ -49,6 +59,27 @@ public class PretDAO extends DAO implements IPretDAO {
             sortByPropertyName);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public Page<PretDTO> findByMembre(Session session,
+        String idMembre,
+        String sortByPropertyName,
+        PageRequest pageRequest) throws DAOException,
+        InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidCriterionValueException,
+        InvalidSortByPropertyException,
+        InvalidPaginationException {
+        return (Page<PretDTO>) find(session,
+            PretDTO.ID_MEMBRE_COLUMN_NAME,
+            idMembre,
+            sortByPropertyName,
+            pageRequest);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -67,6 +98,27 @@ public class PretDAO extends DAO implements IPretDAO {
             sortByPropertyName);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public Page<PretDTO> findByLivre(Session session,
+        String idLivre,
+        String sortByPropertyName,
+        PageRequest pageRequest) throws DAOException,
+        InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidCriterionValueException,
+        InvalidSortByPropertyException,
+        InvalidPaginationException {
+        return (Page<PretDTO>) find(session,
+            PretDTO.ID_LIVRE_COLUMN_NAME,
+            idLivre,
+            sortByPropertyName,
+            pageRequest);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -85,6 +137,27 @@ public class PretDAO extends DAO implements IPretDAO {
             sortByPropertyName);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public Page<PretDTO> findByDatePret(Session session,
+        Timestamp datePret,
+        String sortByPropertyName,
+        PageRequest pageRequest) throws DAOException,
+        InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidCriterionValueException,
+        InvalidSortByPropertyException,
+        InvalidPaginationException {
+        return (Page<PretDTO>) find(session,
+            PretDTO.DATE_PRET_COLUMN_NAME,
+            datePret,
+            sortByPropertyName,
+            pageRequest);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -102,4 +175,133 @@ public class PretDAO extends DAO implements IPretDAO {
             dateRetour,
             sortByPropertyName);
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public Page<PretDTO> findByDateRetour(Session session,
+        Timestamp dateRetour,
+        String sortByPropertyName,
+        PageRequest pageRequest) throws DAOException,
+        InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidCriterionValueException,
+        InvalidSortByPropertyException,
+        InvalidPaginationException {
+        return (Page<PretDTO>) find(session,
+            PretDTO.DATE_RETOUR_COLUMN_NAME,
+            dateRetour,
+            sortByPropertyName,
+            pageRequest);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PretDTO findActiveByLivre(Session session,
+        String idLivre) throws InvalidHibernateSessionException,
+        InvalidCriterionValueException,
+        DAOException {
+        if(session == null) {
+            throw new InvalidHibernateSessionException("La session Hibernate ne peut être null");
+        }
+        if(idLivre == null) {
+            throw new InvalidCriterionValueException("L'ID du livre ne peut être null");
+        }
+        try {
+            final Criteria criteria = cacheable(session.createCriteria(getDtoClass()));
+            criteria.add(Restrictions.eq(PretDTO.ID_LIVRE_COLUMN_NAME,
+                idLivre));
+            criteria.add(Restrictions.isNull(PretDTO.DATE_RETOUR_COLUMN_NAME));
+            criteria.setFetchMode(PretDTO.MEMBRE_DTO_COLUMN_NAME,
+                FetchMode.JOIN);
+            criteria.setMaxResults(1);
+            final PretDTO pretDTO = (PretDTO) criteria.uniqueResult();
+            if(pretDTO != null) {
+                setReadOnly(session,
+                    pretDTO);
+                setReadOnly(session,
+                    pretDTO.getMembreDTO());
+            }
+            return pretDTO;
+        } catch(HibernateException hibernateException) {
+            throw new DAOException(hibernateException);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean existsActiveByLivre(Session session,
+        String idLivre) throws InvalidHibernateSessionException,
+        InvalidCriterionValueException,
+        DAOException {
+        if(session == null) {
+            throw new InvalidHibernateSessionException("La session Hibernate ne peut être null");
+        }
+        if(idLivre == null) {
+            throw new InvalidCriterionValueException("L'ID du livre ne peut être null");
+        }
+        try {
+            final Criteria criteria = cacheable(session.createCriteria(getDtoClass()));
+            criteria.add(Restrictions.eq(PretDTO.ID_LIVRE_COLUMN_NAME,
+                idLivre));
+            criteria.add(Restrictions.isNull(PretDTO.DATE_RETOUR_COLUMN_NAME));
+            criteria.setProjection(Projections.id());
+            criteria.setMaxResults(1);
+            return criteria.uniqueResult() != null;
+        } catch(HibernateException hibernateException) {
+            throw new DAOException(hibernateException);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int countActiveByMembre(Session session,
+        String idMembre) throws InvalidHibernateSessionException,
+        InvalidCriterionValueException,
+        DAOException {
+        if(session == null) {
+            throw new InvalidHibernateSessionException("La session Hibernate ne peut être null");
+        }
+        if(idMembre == null) {
+            throw new InvalidCriterionValueException("L'ID du membre ne peut être null");
+        }
+        try {
+            final Criteria criteria = cacheable(session.createCriteria(getDtoClass()));
+            criteria.add(Restrictions.eq(PretDTO.ID_MEMBRE_COLUMN_NAME,
+                idMembre));
+            criteria.add(Restrictions.isNull(PretDTO.DATE_RETOUR_COLUMN_NAME));
+            criteria.setProjection(Projections.rowCount());
+            return ((Number) criteria.uniqueResult()).intValue();
+        } catch(HibernateException hibernateException) {
+            throw new DAOException(hibernateException);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void streamByMembre(Session session,
+        String idMembre,
+        String sortByPropertyName,
+        Consumer<? super PretDTO> consumer) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidCriterionValueException,
+        InvalidSortByPropertyException,
+        InvalidConsumerException,
+        DAOException {
+        stream(session,
+            PretDTO.ID_MEMBRE_COLUMN_NAME,
+            idMembre,
+            sortByPropertyName,
+            consumer);
+    }
 }
@@ -11,9 +11,18 @@ import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.DAOException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidCriterionException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidCriterionValueException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidHibernateSessionException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidPaginationException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidSortByPropertyException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dto.InvalidDTOClassException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.util.Page;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.util.PageRequest;
+import org.hibernate.Criteria;
+import org.hibernate.FetchMode;
+import org.hibernate.HibernateException;
 import org.hibernate.Session;
+import org.hibernate.criterion.Order;
+import org.hibernate.criterion.Projections;
+import org.hibernate.criterion.Restrictions;
 
 /**
  *
@@ -52,6 +61,27 @@ public class ReservationDAO extends DAO implements IReservationDAO {
             sortByPropertyName);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public Page<ReservationDTO> findByLivre(Session session,
+        String idLivre,
+        String sortByPropertyName,
+        PageRequest pageRequest) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidCriterionValueException,
+        InvalidSortByPropertyException,
+        InvalidPaginationException,
+        DAOException {
+        return (Page<ReservationDTO>) find(session,
+            ReservationDTO.ID_LIVRE_COLUMN_NAME,
+            idLivre,
+            sortByPropertyName,
+            pageRequest);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -69,4 +99,170 @@ public class ReservationDAO extends DAO implements IReservationDAO {
             idMembre,
             sortByPropertyName);
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public Page<ReservationDTO> findByMembre(Session session,
+        String idMembre,
+        String sortByPropertyName,
+        PageRequest pageRequest) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidCriterionValueException,
+        InvalidSortByPropertyException,
+        InvalidPaginationException,
+        DAOException {
+        return (Page<ReservationDTO>) find(session,
+            ReservationDTO.ID_MEMBRE_COLUMN_NAME,
+            idMembre,
+            sortByPropertyName,
+            pageRequest);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ReservationDTO findFirstByLivre(Session session,
+        String idLivre) throws InvalidHibernateSessionException,
+        InvalidCriterionValueException,
+        DAOException {
+        if(session == null) {
+            throw new InvalidHibernateSessionException("La session Hibernate ne peut être null");
+        }
+        if(idLivre == null) {
+            throw new InvalidCriterionValueException("L'ID du livre ne peut être null");
+        }
+        try {
+            final Criteria criteria = cacheable(session.createCriteria(getDtoClass()));
+            criteria.add(Restrictions.eq(ReservationDTO.ID_LIVRE_COLUMN_NAME,
+                idLivre));
+            criteria.addOrder(Order.asc(ReservationDTO.DATE_RESERVATION_COLUMN_NAME));
+            criteria.addOrder(Order.asc(ReservationDTO.ID_RESERVATION_COLUMN_NAME));
+            criteria.setFetchMode(ReservationDTO.MEMBRE_DTO_COLUMN_NAME,
+                FetchMode.JOIN);
+            criteria.setMaxResults(1);
+            final ReservationDTO reservationDTO = (ReservationDTO) criteria.uniqueResult();
+            if(reservationDTO != null) {
+                setReadOnly(session,
+                    reservationDTO);
+                setReadOnly(session,
+                    reservationDTO.getMembreDTO());
+            }
+            return reservationDTO;
+        } catch(HibernateException hibernateException) {
+            throw new DAOException(hibernateException);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int countByLivre(Session session,
+        String idLivre) throws InvalidHibernateSessionException,
+        InvalidCriterionValueException,
+        DAOException {
+        if(session == null) {
+            throw new InvalidHibernateSessionException("La session Hibernate ne peut être null");
+        }
+        if(idLivre == null) {
+            throw new InvalidCriterionValueException("L'ID du livre ne peut être null");
+        }
+        try {
+            final Criteria criteria = cacheable(session.createCriteria(getDtoClass()));
+            criteria.add(Restrictions.eq(ReservationDTO.ID_LIVRE_COLUMN_NAME,
+                idLivre));
+            criteria.setProjection(Projections.rowCount());
+            return ((Number) criteria.uniqueResult()).intValue();
+        } catch(HibernateException hibernateException) {
+            throw new DAOException(hibernateException);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean existsByLivre(Session session,
+        String idLivre) throws InvalidHibernateSessionException,
+        InvalidCriterionValueException,
+        DAOException {
+        if(session == null) {
+            throw new InvalidHibernateSessionException("La session Hibernate ne peut être null");
+        }
+        if(idLivre == null) {
+            throw new InvalidCriterionValueException("L'ID du livre ne peut être null");
+        }
+        try {
+            final Criteria criteria = cacheable(session.createCriteria(getDtoClass()));
+            criteria.add(Restrictions.eq(ReservationDTO.ID_LIVRE_COLUMN_NAME,
+                idLivre));
+            criteria.setProjection(Projections.id());
+            criteria.setMaxResults(1);
+            return criteria.uniqueResult() != null;
+        } catch(HibernateException hibernateException) {
+            throw new DAOException(hibernateException);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean existsByMembre(Session session,
+        String idMembre) throws InvalidHibernateSessionException,
+        InvalidCriterionValueException,
+        DAOException {
+        if(session == null) {
+            throw new InvalidHibernateSessionException("La session Hibernate ne peut être null");
+        }
+        if(idMembre == null) {
+            throw new InvalidCriterionValueException("L'ID du membre ne peut être null");
+        }
+        try {
+            final Criteria criteria = cacheable(session.createCriteria(getDtoClass()));
+            criteria.add(Restrictions.eq(ReservationDTO.ID_MEMBRE_COLUMN_NAME,
+                idMembre));
+            criteria.setProjection(Projections.id());
+            criteria.setMaxResults(1);
+            return criteria.uniqueResult() != null;
+        } catch(HibernateException hibernateException) {
+            throw new DAOException(hibernateException);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean existsByMembreAndLivre(Session session,
+        String idMembre,
+        String idLivre) throws InvalidHibernateSessionException,
+        InvalidCriterionValueException,
+        DAOException {
+        if(session == null) {
+            throw new InvalidHibernateSessionException("La session Hibernate ne peut être null");
+        }
+        if(idMembre == null) {
+            throw new InvalidCriterionValueException("L'ID du membre ne peut être null");
+        }
+        if(idLivre == null) {
+            throw new InvalidCriterionValueException("L'ID du livre ne peut être null");
+        }
+        try {
+            final Criteria criteria = cacheable(session.createCriteria(getDtoClass()));
+            criteria.add(Restrictions.eq(ReservationDTO.ID_MEMBRE_COLUMN_NAME,
+                idMembre));
+            criteria.add(Restrictions.eq(ReservationDTO.ID_LIVRE_COLUMN_NAME,
+                idLivre));
+            criteria.setProjection(Projections.id());
+            criteria.setMaxResults(1);
+            return criteria.uniqueResult() != null;
+        } catch(HibernateException hibernateException) {
+            throw new DAOException(hibernateException);
+        }
+    }
 }
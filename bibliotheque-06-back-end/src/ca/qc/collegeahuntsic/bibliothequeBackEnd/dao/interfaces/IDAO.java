@@ -6,12 +6,20 @@ package ca.qc.collegeahuntsic.bibliothequeBackEnd.dao.interfaces;
 
 import java.io.Serializable;
 import java.util.List;
+import java.util.function.Consumer;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dao.criteria.SearchCriteria;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.DTO;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.DAOException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidConsumerException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidCriterionException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidCriterionValueException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidHibernateSessionException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidPaginationException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidPrimaryKeyException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidSortByPropertyException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dto.InvalidDTOException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.util.Page;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.util.PageRequest;
 import org.hibernate.Session;
 
 /**
@@ -50,6 +58,25 @@ public interface IDAO {
         InvalidPrimaryKeyException,
         DAOException;
 
+    /**
+     * Lit un DTO à partir de la base de données selon un plan de chargement. Le plan est une requête HQL nommée
+     * <code>&lt;DTO&gt;.&lt;plan&gt;</code> des fichiers de mapping qui charge, avec le DTO, les associations dont une opération aura
+     * besoin, en une seule requête au lieu d'un <code>SELECT</code> par association parcourue.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param primaryKey La clef primaire du DTO à lire
+     * @param fetchPlan Le nom du plan de chargement ; <code>null</code> pour lire le DTO seul
+     * @return Le DTO ; <code>null</code> s'il n'existe pas
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidPrimaryKeyException Si la clef primaire du DTO est <code>null</code>
+     * @throws DAOException S'il y a une erreur avec la base de données ou si le plan n'existe pas
+     */
+    DTO get(Session session,
+        Serializable primaryKey,
+        String fetchPlan) throws InvalidHibernateSessionException,
+        InvalidPrimaryKeyException,
+        DAOException;
+
     /**
      * Met à jour un DTO dans la base de données.
      *
@@ -92,6 +119,53 @@ public interface IDAO {
         InvalidDTOException,
         DAOException;
 
+    /**
+     * Ajoute plusieurs nouveaux DTOs dans la base de données. Les insertions sont envoyées par lots JDBC et la session Hibernate est
+     * vidée (<code>flush</code>) à la fin de chaque lot ; les DTOs ajoutés sont alors détachés. Les autres objets de la session, et
+     * leurs modifications en attente, restent attachés.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param dtos Les DTOs à ajouter
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidDTOException Si la liste de DTOs est <code>null</code> ou contient un DTO <code>null</code>
+     * @throws DAOException S'il y a une erreur avec la base de données
+     */
+    void addAll(Session session,
+        List<? extends DTO> dtos) throws InvalidHibernateSessionException,
+        InvalidDTOException,
+        DAOException;
+
+    /**
+     * Met à jour plusieurs DTOs dans la base de données. Les mises à jour sont envoyées par lots JDBC et la session Hibernate est
+     * vidée (<code>flush</code>) à la fin de chaque lot ; les DTOs que la mise à jour a attachés sont alors détachés. Ceux qui étaient
+     * déjà dans la session, comme les autres objets et leurs modifications en attente, y restent.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param dtos Les DTOs à mettre à jour
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidDTOException Si la liste de DTOs est <code>null</code> ou contient un DTO <code>null</code>
+     * @throws DAOException S'il y a une erreur avec la base de données
+     */
+    void updateAll(Session session,
+        List<? extends DTO> dtos) throws InvalidHibernateSessionException,
+        InvalidDTOException,
+        DAOException;
+
+    /**
+     * Supprime plusieurs DTOs de la base de données. Les suppressions sont envoyées par lots JDBC et la session Hibernate est vidée
+     * (<code>flush</code>) à la fin de chaque lot. Les autres objets de la session restent attachés.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param dtos Les DTOs à supprimer
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidDTOException Si la liste de DTOs est <code>null</code> ou contient un DTO <code>null</code>
+     * @throws DAOException S'il y a une erreur avec la base de données
+     */
+    void deleteAll(Session session,
+        List<? extends DTO> dtos) throws InvalidHibernateSessionException,
+        InvalidDTOException,
+        DAOException;
+
     /**
      * Trouve tous les DTOs de la base de données. La liste est classée par ordre croissant sur <code>sortByPropertyName</code>. Si aucun
      * DTO n'est trouvé, une {@link List} vide est retournée.
@@ -107,4 +181,92 @@ public interface IDAO {
         String sortByPropertyName) throws InvalidHibernateSessionException,
         InvalidSortByPropertyException,
         DAOException;
+
+    /**
+     * Trouve une page de DTOs de la base de données. La page est classée par ordre croissant sur <code>sortByPropertyName</code> puis sur
+     * l'ID. Seule la page demandée par <code>pageRequest</code> est lue, par numéro de page ou à la suite d'une clef de tri. Si aucun DTO
+     * n'est trouvé, une page vide est retournée.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param sortByPropertyName The nom de la propriété à utiliser pour classer
+     * @param pageRequest La page à lire
+     * @return La page de DTOs demandée
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidSortByPropertyException Si la propriété à utiliser pour classer est <code>null</code>
+     * @throws InvalidPaginationException Si la demande de page est <code>null</code> ou invalide
+     * @throws DAOException S'il y a une erreur avec la base de données
+     */
+    Page<? extends DTO> getAll(Session session,
+        String sortByPropertyName,
+        PageRequest pageRequest) throws InvalidHibernateSessionException,
+        InvalidSortByPropertyException,
+        InvalidPaginationException,
+        DAOException;
+
+    /**
+     * Parcourt tous les DTOs de la base de données en ordre croissant sur <code>sortByPropertyName</code> sans les charger en mémoire d'un
+     * coup. Chaque DTO est passé à <code>consumer</code> ; les DTOs lus et les associations que <code>consumer</code> a initialisées
+     * sont ensuite détachés de la session Hibernate par lots. Les objets que la session contenait déjà et leurs modifications en attente
+     * ne sont pas touchés.
+     *
+     * @param <T> Le type de DTO lu
+     * @param session La session Hibernate à utiliser
+     * @param sortByPropertyName The nom de la propriété à utiliser pour classer
+     * @param consumer Le consommateur qui reçoit chaque DTO
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidSortByPropertyException Si la propriété à utiliser pour classer est <code>null</code>
+     * @throws InvalidConsumerException Si le consommateur est <code>null</code>
+     * @throws DAOException S'il y a une erreur avec la base de données
+     */
+    <T extends DTO> void stream(Session session,
+        String sortByPropertyName,
+        Consumer<? super T> consumer) throws InvalidHibernateSessionException,
+        InvalidSortByPropertyException,
+        InvalidConsumerException,
+        DAOException;
+
+    /**
+     * Trouve les DTOs qui satisfont les critères de recherche, en une seule requête. La liste est classée selon les critères puis sur
+     * l'ID. Si aucun DTO n'est trouvé, une {@link List} vide est retournée.
+     *
+     * @param <T> Le type de DTO recherché
+     * @param session La session Hibernate à utiliser
+     * @param searchCriteria Les critères de recherche
+     * @return La liste des DTOs correspondants ; une liste vide sinon
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidCriterionException Si les critères sont <code>null</code>, s'ils portent sur une autre classe de DTO ou si une
+     *         propriété est <code>null</code> ou n'existe pas
+     * @throws InvalidCriterionValueException Si une valeur est <code>null</code> ou si une liste de valeurs est vide
+     * @throws DAOException S'il y a une erreur avec la base de données
+     */
+    <T extends DTO> List<T> search(Session session,
+        SearchCriteria<T> searchCriteria) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidCriterionValueException,
+        DAOException;
+
+    /**
+     * Trouve une page de DTOs qui satisfont les critères de recherche, en une seule requête. La page est classée selon les critères puis
+     * sur l'ID. Seule la pagination par numéro de page est possible.
+     * Si aucun DTO n'est trouvé, une page vide est retournée.
+     *
+     * @param <T> Le type de DTO recherché
+     * @param session La session Hibernate à utiliser
+     * @param searchCriteria Les critères de recherche
+     * @param pageRequest La page à lire
+     * @return La page demandée ; une page vide sinon
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidCriterionException Si les critères sont <code>null</code>, s'ils portent sur une autre classe de DTO ou si une
+     *         propriété est <code>null</code> ou n'existe pas
+     * @throws InvalidCriterionValueException Si une valeur est <code>null</code> ou si une liste de valeurs est vide
+     * @throws InvalidPaginationException Si la demande de page est <code>null</code>, invalide ou par clef
+     * @throws DAOException S'il y a une erreur avec la base de données
+     */
+    <T extends DTO> Page<T> search(Session session,
+        SearchCriteria<T> searchCriteria,
+        PageRequest pageRequest) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidCriterionValueException,
+        InvalidPaginationException,
+        DAOException;
 }
@@ -6,11 +6,16 @@ package ca.qc.collegeahuntsic.bibliothequeBackEnd.dao.interfaces;
 
 import java.util.List;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.LivreDTO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.LivreSummaryDTO;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.DAOException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidCriterionException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidCriterionValueException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidHibernateSessionException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidPaginationException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidSortByPropertyException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.index.LivreHit;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.util.Page;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.util.PageRequest;
 import org.hibernate.Session;
 
 /**
@@ -40,4 +45,81 @@ public interface ILivreDAO extends IDAO {
         InvalidCriterionValueException,
         InvalidSortByPropertyException,
         DAOException;
+
+    /**
+     * Trouve les livres à partir d'un titre. La page est classée par ordre croissant sur <code>sortByPropertyName</code>. Si aucun livre
+     * n'est trouvé, une page vide est retournée.
+     * Seule la page demandée par <code>pageRequest</code> est lue, par numéro de page ou à la suite d'une clef de tri.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param titre Le titre à trouver
+     * @param sortByPropertyName The nom de la propriété à utiliser pour classer
+     * @param pageRequest La page à lire
+     * @return La page demandée ; une page vide sinon
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidCriterionException Si la propriété à utiliser est <code>null</code>
+     * @throws InvalidCriterionValueException Si la valeur à trouver est <code>null</code>
+     * @throws InvalidSortByPropertyException Si la propriété à utiliser pour classer est <code>null</code>
+     * @throws InvalidPaginationException Si la demande de page est <code>null</code> ou invalide
+     * @throws DAOException S'il y a une erreur avec la base de données
+     */
+    Page<LivreDTO> findByTitre(Session session,
+        String titre,
+        String sortByPropertyName,
+        PageRequest pageRequest) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidCriterionValueException,
+        InvalidSortByPropertyException,
+        InvalidPaginationException,
+        DAOException;
+
+    /**
+     * Trouve les résumés de tous les livres. La liste est classée par ordre croissant sur <code>sortByPropertyName</code>. Si aucun
+     * livre n'est trouvé, une {@link List} vide est retournée.
+     * Les résumés sont construits directement par la requête : aucun livre n'est chargé dans la session Hibernate.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param sortByPropertyName The nom de la propriété à utiliser pour classer
+     * @return La liste des résumés de tous les livres ; une liste vide sinon
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidSortByPropertyException Si la propriété à utiliser pour classer est <code>null</code> ou n'est pas une propriété
+     *         simple du livre
+     * @throws DAOException S'il y a une erreur avec la base de données
+     */
+    List<LivreSummaryDTO> getAllSummaries(Session session,
+        String sortByPropertyName) throws InvalidHibernateSessionException,
+        InvalidSortByPropertyException,
+        DAOException;
+
+    /**
+     * Recherche les livres dont le titre ou l'auteur contient les mots de <code>text</code>, dans l'index plein texte en mémoire. Les
+     * résultats sont classés du plus pertinent au moins pertinent. Si l'index n'a pas encore été construit, il l'est d'abord à partir de
+     * la table <code>livre</code>. Si aucun livre n'est trouvé, une {@link List} vide est retournée.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param text Le texte à trouver
+     * @param limit Le nombre maximal de résultats
+     * @return La liste des livres trouvés ; une liste vide sinon
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidCriterionValueException Si le texte à trouver est <code>null</code>
+     * @throws InvalidPaginationException Si le nombre maximal de résultats n'est pas positif
+     * @throws DAOException S'il y a une erreur avec la base de données
+     */
+    List<LivreHit> findByText(Session session,
+        String text,
+        int limit) throws InvalidHibernateSessionException,
+        InvalidCriterionValueException,
+        InvalidPaginationException,
+        DAOException;
+
+    /**
+     * Reconstruit l'index plein texte en mémoire à partir de la table <code>livre</code>. Les recherches continuent d'utiliser l'ancien
+     * index pendant la reconstruction.
+     *
+     * @param session La session Hibernate à utiliser
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws DAOException S'il y a une erreur avec la base de données
+     */
+    void reindex(Session session) throws InvalidHibernateSessionException,
+        DAOException;
 }
@@ -6,11 +6,15 @@ package ca.qc.collegeahuntsic.bibliothequeBackEnd.dao.interfaces;
 
 import java.util.List;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.MembreDTO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.MembreSummaryDTO;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.DAOException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidCriterionException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidCriterionValueException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidHibernateSessionException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidPaginationException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidSortByPropertyException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.util.Page;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.util.PageRequest;
 import org.hibernate.Session;
 
 /**
@@ -41,4 +45,48 @@ public interface IMembreDAO extends IDAO {
         InvalidCriterionValueException,
         DAOException;
 
+    /**
+     * Trouve les membres à partir d'un nom. La page est classée par ordre croissant sur <code>sortByPropertyName</code>. Si aucun membre n'est trouvé, une page vide est retournée.
+     * Seule la page demandée par <code>pageRequest</code> est lue, par numéro de page ou à la suite d'une clef de tri.
+     *
+     * @param session La session à utiliser
+     * @param nom Le nom à trouver
+     * @param sortByPropertyName Le nom de la propriété à utiliser pour classer
+     * @param pageRequest La page à lire
+     * @return La page demandée ; une page vide sinon
+     * @throws InvalidHibernateSessionException Si la connexion est <code>null</code>
+     * @throws InvalidCriterionException Si le nom est <code>null</code>
+     * @throws InvalidCriterionValueException Si la valeur est <code>null</code>
+     * @throws InvalidSortByPropertyException Si la propriété à utiliser pour classer est <code>null</code>
+     * @throws InvalidPaginationException Si la demande de page est <code>null</code> ou invalide
+     * @throws DAOException S'il y a une erreur avec la base de données
+     */
+    Page<MembreDTO> findByNom(Session session,
+        String nom,
+        String sortByPropertyName,
+        PageRequest pageRequest) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidSortByPropertyException,
+        InvalidCriterionValueException,
+        InvalidPaginationException,
+        DAOException;
+
+    /**
+     * Trouve les résumés de tous les membres. La liste est classée par ordre croissant sur <code>sortByPropertyName</code>. Si aucun
+     * membre n'est trouvé, une {@link List} vide est retournée.
+     * Les résumés sont construits directement par la requête : aucun membre n'est chargé dans la session Hibernate.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param sortByPropertyName The nom de la propriété à utiliser pour classer
+     * @return La liste des résumés de tous les membres ; une liste vide sinon
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidSortByPropertyException Si la propriété à utiliser pour classer est <code>null</code> ou n'est pas une propriété
+     *         simple du membre
+     * @throws DAOException S'il y a une erreur avec la base de données
+     */
+    List<MembreSummaryDTO> getAllSummaries(Session session,
+        String sortByPropertyName) throws InvalidHibernateSessionException,
+        InvalidSortByPropertyException,
+        DAOException;
+
 }
@@ -0,0 +1,36 @@
+// Fichier IPointRepriseDAO.java
+// Auteur : Dragons Vicieux
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliothequeBackEnd.dao.interfaces;
+
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.DAOException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidHibernateSessionException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidPrimaryKeyException;
+import org.hibernate.Session;
+
+/**
+ * Interface DAO pour manipuler les points de reprise dans la base de données.
+ *
+ * @author Dragons Vicieux
+ */
+public interface IPointRepriseDAO extends IDAO {
+    /**
+     * Déplace le point de reprise d'un fichier de transactions avec une seule requête, sans le lire.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param fichier Le fichier de transactions
+     * @param positionFichier La position, en octets, de la ligne qui suit la dernière commande validée
+     * @param numeroLigne Le numéro de la dernière ligne validée
+     * @return <code>true</code> si le point de reprise a été mis à jour ; <code>false</code> s'il n'existe pas encore
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidPrimaryKeyException Si le fichier est <code>null</code>
+     * @throws DAOException S'il y a une erreur avec la base de données
+     */
+    boolean updatePosition(Session session,
+        String fichier,
+        long positionFichier,
+        int numeroLigne) throws InvalidHibernateSessionException,
+        InvalidPrimaryKeyException,
+        DAOException;
+}
@@ -6,12 +6,17 @@ package ca.qc.collegeahuntsic.bibliothequeBackEnd.dao.interfaces;
 
 import java.sql.Timestamp;
 import java.util.List;
+import java.util.function.Consumer;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.PretDTO;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.DAOException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidConsumerException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidCriterionException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidCriterionValueException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidHibernateSessionException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidPaginationException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidSortByPropertyException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.util.Page;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.util.PageRequest;
 import org.hibernate.Session;
 
 /**
@@ -43,6 +48,33 @@ public interface IPretDAO extends IDAO {
         InvalidSortByPropertyException,
         DAOException;
 
+    /**
+     * Trouve les prêts non retournés d'un membre. La page est classée par ordre croissant sur <code>sortByPropertyName</code>. Si aucun prêt n'est trouvé, une page vide est retournée.
+     * Seule la page demandée par <code>pageRequest</code> est lue, par numéro de page ou à la suite d'une clef de tri.
+     *
+     * @param session La session à utiliser
+     * @param idMembre L'ID du membre à trouver
+     * @param sortByPropertyName Le nom de la propriété à utiliser pour classer
+     * @param pageRequest La page à lire
+     * @return La page demandée ; une page vide sinon
+     * @throws InvalidHibernateSessionException Si la connexion est <code>null</code>
+     * @throws InvalidCriterionException Si l'ID du membre est <code>null</code>
+     * @throws InvalidCriterionValueException Si la valeur du membre est <code>null</code>
+     * @throws InvalidSortByPropertyException Si la propriété à utiliser pour classer est <code>null</code>
+     * @throws InvalidPaginationException Si la demande de page est <code>null</code> ou invalide
+     * @throws DAOException S'il y a une erreur avec la base de données
+     */
+
+    Page<PretDTO> findByMembre(Session session,
+        String idMembre,
+        String sortByPropertyName,
+        PageRequest pageRequest) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidCriterionValueException,
+        InvalidSortByPropertyException,
+        InvalidPaginationException,
+        DAOException;
+
     /**
      * Trouve les livres en cours d'emprunt. La liste est classée par ordre croissant sur <code>sortByPropertyName</code>. Si aucun prêt n'est trouvé, une {@link List} vide est retournée.
      *
@@ -64,6 +96,32 @@ public interface IPretDAO extends IDAO {
         InvalidSortByPropertyException,
         DAOException;
 
+    /**
+     * Trouve les livres en cours d'emprunt. La page est classée par ordre croissant sur <code>sortByPropertyName</code>. Si aucun prêt n'est trouvé, une page vide est retournée.
+     * Seule la page demandée par <code>pageRequest</code> est lue, par numéro de page ou à la suite d'une clef de tri.
+     *
+     * @param session La session à utiliser
+     * @param idLivre L'ID du livre à trouver
+     * @param sortByPropertyName Le nom de la propriété à utiliser pour classer
+     * @param pageRequest La page à lire
+     * @return La page demandée ; une page vide sinon
+     * @throws InvalidHibernateSessionException Si la connexion est <code>null</code>
+     * @throws InvalidCriterionException Si l'ID du livre est <code>null</code>
+     * @throws InvalidCriterionValueException Si la valeur du livre est <code>null</code>
+     * @throws InvalidSortByPropertyException Si la propriété à utiliser pour classer est <code>null</code>
+     * @throws InvalidPaginationException Si la demande de page est <code>null</code> ou invalide
+     * @throws DAOException S'il y a une erreur avec la base de données
+     */
+    Page<PretDTO> findByLivre(Session session,
+        String idLivre,
+        String sortByPropertyName,
+        PageRequest pageRequest) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidCriterionValueException,
+        InvalidSortByPropertyException,
+        InvalidPaginationException,
+        DAOException;
+
     /**
      * Trouve les prêts à partir d'une date de prêt. La liste est classée par ordre croissant sur <code>sortByPropertyName</code>. Si aucun prêt n'est trouvé, une {@link List} vide est retournée.
      *
@@ -85,6 +143,32 @@ public interface IPretDAO extends IDAO {
         InvalidSortByPropertyException,
         DAOException;
 
+    /**
+     * Trouve les prêts à partir d'une date de prêt. La page est classée par ordre croissant sur <code>sortByPropertyName</code>. Si aucun prêt n'est trouvé, une page vide est retournée.
+     * Seule la page demandée par <code>pageRequest</code> est lue, par numéro de page ou à la suite d'une clef de tri.
+     *
+     * @param session La session à utiliser
+     * @param datePret La date de prêt à trouver
+     * @param sortByPropertyName Le nom de la propriété à utiliser pour classer
+     * @param pageRequest La page à lire
+     * @return La page demandée ; une page vide sinon
+     * @throws InvalidHibernateSessionException Si la connexion est <code>null</code>
+     * @throws InvalidCriterionException Si la date de prêt est <code>null</code>
+     * @throws InvalidCriterionValueException Si la valeur du prêt est <code>null</code>
+     * @throws InvalidSortByPropertyException Si la propriété à utiliser pour classer est <code>null</code>
+     * @throws InvalidPaginationException Si la demande de page est <code>null</code> ou invalide
+     * @throws DAOException S'il y a une erreur avec la base de données
+     */
+    Page<PretDTO> findByDatePret(Session session,
+        Timestamp datePret,
+        String sortByPropertyName,
+        PageRequest pageRequest) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidCriterionValueException,
+        InvalidSortByPropertyException,
+        InvalidPaginationException,
+        DAOException;
+
     /**
      * Trouve les prêts à partir d'une date de retour. La liste est classée par ordre croissant sur <code>sortByPropertyName</code>. Si aucun prêt n'est trouvé, une {@link List} vide est retournée.
      *
@@ -105,4 +189,101 @@ public interface IPretDAO extends IDAO {
         InvalidCriterionValueException,
         InvalidSortByPropertyException,
         DAOException;
+
+    /**
+     * Trouve les prêts à partir d'une date de retour. La page est classée par ordre croissant sur <code>sortByPropertyName</code>. Si aucun prêt n'est trouvé, une page vide est retournée.
+     * Seule la page demandée par <code>pageRequest</code> est lue, par numéro de page ou à la suite d'une clef de tri.
+     *
+     * @param session La session à utiliser
+     * @param dateRetour La date de retour à trouver
+     * @param sortByPropertyName Le nom de la propriété à utiliser pour classer
+     * @param pageRequest La page à lire
+     * @return La page demandée ; une page vide sinon
+     * @throws InvalidHibernateSessionException Si la connexion est <code>null</code>
+     * @throws InvalidCriterionException Si la date de retour est <code>null</code>
+     * @throws InvalidCriterionValueException Si la valeur de la date est <code>null</code>
+     * @throws InvalidSortByPropertyException Si la propriété à utiliser pour classer est <code>null</code>
+     * @throws InvalidPaginationException Si la demande de page est <code>null</code> ou invalide
+     * @throws DAOException S'il y a une erreur avec la base de données
+     */
+    Page<PretDTO> findByDateRetour(Session session,
+        Timestamp dateRetour,
+        String sortByPropertyName,
+        PageRequest pageRequest) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidCriterionValueException,
+        InvalidSortByPropertyException,
+        InvalidPaginationException,
+        DAOException;
+
+    /**
+     * Trouve le prêt en cours d'un livre, c'est-à-dire son prêt dont la date de retour est <code>null</code>. Le membre emprunteur est lu
+     * dans la même requête. Si le livre n'est pas prêté, <code>null</code> est retourné.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param idLivre L'ID du livre à trouver
+     * @return Le prêt en cours du livre ; <code>null</code> sinon
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidCriterionValueException Si l'ID du livre est <code>null</code>
+     * @throws DAOException S'il y a une erreur avec la base de données
+     */
+    PretDTO findActiveByLivre(Session session,
+        String idLivre) throws InvalidHibernateSessionException,
+        InvalidCriterionValueException,
+        DAOException;
+
+    /**
+     * Vérifie si un livre est prêté, c'est-à-dire s'il a un prêt dont la date de retour est <code>null</code>. Aucun prêt n'est lu.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param idLivre L'ID du livre
+     * @return <code>true</code> si le livre est prêté ; <code>false</code> sinon
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidCriterionValueException Si l'ID du livre est <code>null</code>
+     * @throws DAOException S'il y a une erreur avec la base de données
+     */
+    boolean existsActiveByLivre(Session session,
+        String idLivre) throws InvalidHibernateSessionException,
+        InvalidCriterionValueException,
+        DAOException;
+
+    /**
+     * Compte les prêts en cours d'un membre. Aucun prêt n'est lu.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param idMembre L'ID du membre
+     * @return Le nombre de prêts en cours du membre
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidCriterionValueException Si l'ID du membre est <code>null</code>
+     * @throws DAOException S'il y a une erreur avec la base de données
+     */
+    int countActiveByMembre(Session session,
+        String idMembre) throws InvalidHibernateSessionException,
+        InvalidCriterionValueException,
+        DAOException;
+
+    /**
+     * Parcourt en continu les prêts d'un membre en ordre croissant sur <code>sortByPropertyName</code>, sans charger la liste complète en
+     * mémoire.
+     *
+     * @param session La session à utiliser
+     * @param idMembre L'ID du membre à trouver
+     * @param sortByPropertyName Le nom de la propriété à utiliser pour classer
+     * @param consumer Le consommateur qui reçoit chaque prêt
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidCriterionException Si la propriété à utiliser est <code>null</code>
+     * @throws InvalidCriterionValueException Si l'ID du membre est <code>null</code>
+     * @throws InvalidSortByPropertyException Si la propriété à utiliser pour classer est <code>null</code>
+     * @throws InvalidConsumerException Si le consommateur est <code>null</code>
+     * @throws DAOException S'il y a une erreur avec la base de données
+     */
+    void streamByMembre(Session session,
+        String idMembre,
+        String sortByPropertyName,
+        Consumer<? super PretDTO> consumer) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidCriterionValueException,
+        InvalidSortByPropertyException,
+        InvalidConsumerException,
+        DAOException;
 }
@@ -10,7 +10,10 @@ import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.DAOException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidCriterionException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidCriterionValueException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidHibernateSessionException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidPaginationException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidSortByPropertyException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.util.Page;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.util.PageRequest;
 import org.hibernate.Session;
 
 /**
@@ -41,6 +44,32 @@ public interface IReservationDAO extends IDAO {
         InvalidSortByPropertyException,
         DAOException;
 
+    /**
+     * Trouve les réservations d'un livre. La page est classée par ordre croissant sur <code>sortByPropertyName</code>. Si aucune réservation n'est trouvée, une page vide est retournée.
+     * Seule la page demandée par <code>pageRequest</code> est lue, par numéro de page ou à la suite d'une clef de tri.
+     *
+     * @param session - La session Hibernate à utiliser
+     * @param idLivre - L'ID du livre à trouver
+     * @param sortByPropertyName - Le nom de la propriété à utiliser pour classer
+     * @param pageRequest - La page à lire
+     * @return La page demandée ; une page vide sinon
+     * @throws InvalidHibernateSessionException - Si la connexion est <code>null</code>
+     * @throws InvalidCriterionException - Si l'ID du livre est <code>null</code>
+     * @throws InvalidCriterionValueException - Si la valeur à trouver est <code>null</code>
+     * @throws InvalidSortByPropertyException - Si la propriété à utiliser pour classer est <code>null</code>
+     * @throws InvalidPaginationException - Si la demande de page est <code>null</code> ou invalide
+     * @throws DAOException - S'il y a une erreur avec la base de données
+     */
+    Page<ReservationDTO> findByLivre(Session session,
+        String idLivre,
+        String sortByPropertyName,
+        PageRequest pageRequest) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidCriterionValueException,
+        InvalidSortByPropertyException,
+        InvalidPaginationException,
+        DAOException;
+
     /**
      * Trouve les réservations d'un membre. La liste est classée par ordre croissant sur <code>sortByPropertyName</code>. Si aucune réservation n'est trouvée, une {@link List} vide est retournée.
      *
@@ -61,4 +90,108 @@ public interface IReservationDAO extends IDAO {
         InvalidCriterionValueException,
         InvalidSortByPropertyException,
         DAOException;
+
+    /**
+     * Trouve les réservations d'un membre. La page est classée par ordre croissant sur <code>sortByPropertyName</code>. Si aucune réservation n'est trouvée, une page vide est retournée.
+     * Seule la page demandée par <code>pageRequest</code> est lue, par numéro de page ou à la suite d'une clef de tri.
+     *
+     * @param session - La session Hibernate à utiliser
+     * @param idMembre - Le membre à utiliser
+     * @param sortByPropertyName - Le nom de la propriété à utiliser pour classer
+     * @param pageRequest - La page à lire
+     * @return La page demandée ; une page vide sinon
+     * @throws InvalidHibernateSessionException - Si la connexion est <code>null</code>
+     * @throws InvalidCriterionException - Si l'ID du livre est <code>null</code>
+     * @throws InvalidCriterionValueException - Si la valeur à trouver est <code>null</code>
+     * @throws InvalidSortByPropertyException - Si la propriété à utiliser pour classer est <code>null</code>
+     * @throws InvalidPaginationException - Si la demande de page est <code>null</code> ou invalide
+     * @throws DAOException - S'il y a une erreur avec la base de données
+     */
+    Page<ReservationDTO> findByMembre(Session session,
+        String idMembre,
+        String sortByPropertyName,
+        PageRequest pageRequest) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidCriterionValueException,
+        InvalidSortByPropertyException,
+        InvalidPaginationException,
+        DAOException;
+
+    /**
+     * Trouve la réservation en tête de la file d'attente d'un livre. La file est ordonnée par date de réservation puis par ID de
+     * réservation pour départager les réservations faites au même moment.
+     *
+     * @param session - La session Hibernate à utiliser
+     * @param idLivre - L'ID du livre
+     * @return La première réservation du livre ; <code>null</code> si le livre n'est pas réservé
+     * @throws InvalidHibernateSessionException - Si la session Hibernate est <code>null</code>
+     * @throws InvalidCriterionValueException - Si l'ID du livre est <code>null</code>
+     * @throws DAOException - S'il y a une erreur avec la base de données
+     */
+    ReservationDTO findFirstByLivre(Session session,
+        String idLivre) throws InvalidHibernateSessionException,
+        InvalidCriterionValueException,
+        DAOException;
+
+    /**
+     * Compte les réservations d'un livre, c'est-à-dire la longueur de sa file d'attente.
+     *
+     * @param session - La session Hibernate à utiliser
+     * @param idLivre - L'ID du livre
+     * @return Le nombre de réservations du livre
+     * @throws InvalidHibernateSessionException - Si la session Hibernate est <code>null</code>
+     * @throws InvalidCriterionValueException - Si l'ID du livre est <code>null</code>
+     * @throws DAOException - S'il y a une erreur avec la base de données
+     */
+    int countByLivre(Session session,
+        String idLivre) throws InvalidHibernateSessionException,
+        InvalidCriterionValueException,
+        DAOException;
+
+    /**
+     * Vérifie si un livre a au moins une réservation.
+     *
+     * @param session - La session Hibernate à utiliser
+     * @param idLivre - L'ID du livre
+     * @return <code>true</code> si le livre est réservé ; <code>false</code> sinon
+     * @throws InvalidHibernateSessionException - Si la session Hibernate est <code>null</code>
+     * @throws InvalidCriterionValueException - Si l'ID du livre est <code>null</code>
+     * @throws DAOException - S'il y a une erreur avec la base de données
+     */
+    boolean existsByLivre(Session session,
+        String idLivre) throws InvalidHibernateSessionException,
+        InvalidCriterionValueException,
+        DAOException;
+
+    /**
+     * Vérifie si un membre a au moins une réservation.
+     *
+     * @param session - La session Hibernate à utiliser
+     * @param idMembre - L'ID du membre
+     * @return <code>true</code> si le membre a une réservation ; <code>false</code> sinon
+     * @throws InvalidHibernateSessionException - Si la session Hibernate est <code>null</code>
+     * @throws InvalidCriterionValueException - Si l'ID du membre est <code>null</code>
+     * @throws DAOException - S'il y a une erreur avec la base de données
+     */
+    boolean existsByMembre(Session session,
+        String idMembre) throws InvalidHibernateSessionException,
+        InvalidCriterionValueException,
+        DAOException;
+
+    /**
+     * Vérifie si un membre a déjà réservé un livre.
+     *
+     * @param session - La session Hibernate à utiliser
+     * @param idMembre - L'ID du membre
+     * @param idLivre - L'ID du livre
+     * @return <code>true</code> si le membre a réservé le livre ; <code>false</code> sinon
+     * @throws InvalidHibernateSessionException - Si la session Hibernate est <code>null</code>
+     * @throws InvalidCriterionValueException - Si l'ID du membre ou l'ID du livre est <code>null</code>
+     * @throws DAOException - S'il y a une erreur avec la base de données
+     */
+    boolean existsByMembreAndLivre(Session session,
+        String idMembre,
+        String idLivre) throws InvalidHibernateSessionException,
+        InvalidCriterionValueException,
+        DAOException;
 }
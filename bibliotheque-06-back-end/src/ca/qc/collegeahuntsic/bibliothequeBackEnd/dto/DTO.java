@@ -16,16 +16,22 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.Constants;
-import org.apache.commons.lang3.builder.HashCodeBuilder;
 
 /**
- * Classe de base pour tous les DTOs.
+ * Classe de base pour tous les DTOs.<br />
+ * <br />
+ * L'identité d'un DTO est celle de sa clef primaire. Tant que la clef primaire n'est pas assignée (DTO transient, avant le
+ * <code>session.save</code>), un DTO n'est égal qu'à lui-même et son hash code est son hash code d'identité. Le hash code n'est mis en
+ * cache qu'une fois la clef primaire assignée : un DTO égal à une copie lue de la base a toujours le même hash code qu'elle. Un DTO ne doit
+ * donc être ajouté à un {@link java.util.Set} qu'après le <code>session.save</code>, qui lui assigne sa clef primaire.
  *
  * @author Dragons Vicieux
  */
-public class DTO implements Serializable {
+public abstract class DTO implements Serializable {
     private static final long serialVersionUID = 1L;
 
+    private transient int hashCode;
+
     /**
      * Crée un DTO.
      */
@@ -33,6 +39,13 @@ public class DTO implements Serializable {
         super();
     }
 
+    /**
+     * Retourne la clef primaire du DTO.
+     *
+     * @return La clef primaire ; <code>null</code> si le DTO n'a pas encore été sauvegardé
+     */
+    protected abstract Serializable getPrimaryKey();
+
     /**
      * Indicates whether some other object is "equal to" this one. <br />
      * The equals method implements an equivalence relation on non-<code>null</code> object references: <br />
@@ -63,9 +76,11 @@ public class DTO implements Serializable {
     @Override
     public boolean equals(Object obj) {
         boolean equals = this == obj;
-        if(!equals) {
-            equals = obj != null
-                && obj instanceof DTO;
+        if(!equals
+            && obj instanceof DTO) {
+            final Serializable primaryKey = getPrimaryKey();
+            equals = primaryKey != null
+                && primaryKey.equals(((DTO) obj).getPrimaryKey());
         }
         return equals;
     }
@@ -95,9 +110,14 @@ public class DTO implements Serializable {
      */
     @Override
     public int hashCode() {
-        final HashCodeBuilder hashCodeBuilder = new HashCodeBuilder(15,
-            5);
-        return hashCodeBuilder.toHashCode();
+        if(this.hashCode == 0) {
+            final Serializable primaryKey = getPrimaryKey();
+            if(primaryKey == null) {
+                return System.identityHashCode(this);
+            }
+            this.hashCode = primaryKey.hashCode();
+        }
+        return this.hashCode;
     }
 
     /**
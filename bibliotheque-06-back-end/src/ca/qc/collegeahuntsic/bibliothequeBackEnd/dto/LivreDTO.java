@@ -7,8 +7,6 @@ package ca.qc.collegeahuntsic.bibliothequeBackEnd.dto;
 import java.sql.Timestamp;
 import java.util.Collections;
 import java.util.Set;
-import org.apache.commons.lang3.builder.EqualsBuilder;
-import org.apache.commons.lang3.builder.HashCodeBuilder;
 
 /**
  * DTO de la table <code>livre</code>.
@@ -24,6 +22,11 @@ public final class LivreDTO extends DTO {
 
     public static final String DATE_ACQUISITION_COLUMN_NAME = "dateAcquisition";
 
+    /**
+     * Plan de chargement de la vente : requête nommée <code>LivreDTO.vente</code> des fichiers de mapping.
+     */
+    public static final String FETCH_PLAN_VENTE = "vente";
+
     private static final long serialVersionUID = 1L;
 
     private String idLivre;
@@ -158,25 +161,21 @@ public final class LivreDTO extends DTO {
 
     // EndRegion Getters and Setters
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected String getPrimaryKey() {
+        return getIdLivre();
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public boolean equals(Object obj) {
-        boolean equals = this == obj;
-        if(!equals) {
-            equals = obj != null
-                && obj instanceof LivreDTO;
-            if(equals) {
-                final LivreDTO livreDTO = (LivreDTO) obj;
-                final EqualsBuilder equalsBuilder = new EqualsBuilder();
-                equalsBuilder.appendSuper(super.equals(livreDTO));
-                equalsBuilder.append(getIdLivre(),
-                    livreDTO.getIdLivre());
-                equals = equalsBuilder.isEquals();
-            }
-        }
-        return equals;
+        return obj instanceof LivreDTO
+            && super.equals(obj);
     }
 
     /**
@@ -184,10 +183,6 @@ public final class LivreDTO extends DTO {
      */
     @Override
     public int hashCode() {
-        final HashCodeBuilder hashCodeBuilder = new HashCodeBuilder(459,
-            449);
-        hashCodeBuilder.appendSuper(super.hashCode());
-        hashCodeBuilder.append(getIdLivre());
-        return hashCodeBuilder.toHashCode();
+        return super.hashCode();
     }
 }
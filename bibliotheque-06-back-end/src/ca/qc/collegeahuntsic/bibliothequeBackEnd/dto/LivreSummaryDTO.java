@@ -0,0 +1,82 @@
+// Fichier LivreSummaryDTO.java
+// Auteur : Dragons Vicieux
+// Date de création : 2026-10-17
+
+package ca.qc.collegeahuntsic.bibliothequeBackEnd.dto;
+
+import java.io.Serializable;
+
+/**
+ * Résumé immuable d'un livre destiné aux listes.<br />
+ * <br />
+ * Un résumé n'est pas une entité : il est construit directement par la requête (<code>select new</code>), n'est jamais attaché à la
+ * session Hibernate et n'expose ni les prêts ni les réservations du livre.
+ *
+ * @author Dragons Vicieux
+ */
+public final class LivreSummaryDTO implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final String idLivre;
+
+    private final String titre;
+
+    private final String auteur;
+
+    private final boolean enPret;
+
+    /**
+     * Crée le résumé d'un livre.
+     *
+     * @param idLivre L'ID du livre
+     * @param titre Le titre du livre
+     * @param auteur L'auteur du livre
+     * @param nbPretsEnCours Le nombre de prêts en cours du livre
+     */
+    public LivreSummaryDTO(String idLivre,
+        String titre,
+        String auteur,
+        long nbPretsEnCours) {
+        super();
+        this.idLivre = idLivre;
+        this.titre = titre;
+        this.auteur = auteur;
+        this.enPret = nbPretsEnCours > 0;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.idLivre</code>.
+     *
+     * @return La variable d'instance <code>this.idLivre</code>
+     */
+    public String getIdLivre() {
+        return this.idLivre;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.titre</code>.
+     *
+     * @return La variable d'instance <code>this.titre</code>
+     */
+    public String getTitre() {
+        return this.titre;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.auteur</code>.
+     *
+     * @return La variable d'instance <code>this.auteur</code>
+     */
+    public String getAuteur() {
+        return this.auteur;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.enPret</code>.
+     *
+     * @return <code>true</code> si le livre a un prêt en cours ; <code>false</code> sinon
+     */
+    public boolean isEnPret() {
+        return this.enPret;
+    }
+}
@@ -6,8 +6,6 @@ package ca.qc.collegeahuntsic.bibliothequeBackEnd.dto;
 
 import java.util.Collections;
 import java.util.Set;
-import org.apache.commons.lang3.builder.EqualsBuilder;
-import org.apache.commons.lang3.builder.HashCodeBuilder;
 
 /**
  * DTO de la table <code>membre</code>.
@@ -30,6 +28,11 @@ public class MembreDTO extends DTO {
 
     public static final String NB_PRET_COLUMN_NAME = "nbPret";
 
+    /**
+     * Plan de chargement de la désinscription : requête nommée <code>MembreDTO.desinscription</code> des fichiers de mapping.
+     */
+    public static final String FETCH_PLAN_DESINSCRIPTION = "desinscription";
+
     private String idMembre;
 
     private String nom;
@@ -183,25 +186,21 @@ public class MembreDTO extends DTO {
     }
 
     // EndRegion Getters and Setters
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected String getPrimaryKey() {
+        return getIdMembre();
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public boolean equals(Object obj) {
-        boolean equals = this == obj;
-        if(!equals) {
-            equals = obj != null
-                && obj instanceof MembreDTO;
-            if(equals) {
-                final MembreDTO membreDTO = (MembreDTO) obj;
-                final EqualsBuilder equalsBuilder = new EqualsBuilder();
-                equalsBuilder.appendSuper(super.equals(membreDTO));
-                equalsBuilder.append(getIdMembre(),
-                    membreDTO.getIdMembre());
-                equals = equalsBuilder.isEquals();
-            }
-        }
-        return equals;
+        return obj instanceof MembreDTO
+            && super.equals(obj);
     }
 
     /**
@@ -209,10 +208,6 @@ public class MembreDTO extends DTO {
      */
     @Override
     public int hashCode() {
-        final HashCodeBuilder hashCodeBuilder = new HashCodeBuilder(461,
-            451);
-        hashCodeBuilder.appendSuper(super.hashCode());
-        hashCodeBuilder.append(getIdMembre());
-        return hashCodeBuilder.toHashCode();
+        return super.hashCode();
     }
 }
@@ -0,0 +1,82 @@
+// Fichier MembreSummaryDTO.java
+// Auteur : Dragons Vicieux
+// Date de création : 2026-10-17
+
+package ca.qc.collegeahuntsic.bibliothequeBackEnd.dto;
+
+import java.io.Serializable;
+
+/**
+ * Résumé immuable d'un membre destiné aux listes.<br />
+ * <br />
+ * Un résumé n'est pas une entité : il est construit directement par la requête (<code>select new</code>), n'est jamais attaché à la
+ * session Hibernate et n'expose ni les prêts ni les réservations du membre.
+ *
+ * @author Dragons Vicieux
+ */
+public final class MembreSummaryDTO implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final String idMembre;
+
+    private final String nom;
+
+    private final int nbPret;
+
+    private final int limitePret;
+
+    /**
+     * Crée le résumé d'un membre.
+     *
+     * @param idMembre L'ID du membre
+     * @param nom Le nom du membre
+     * @param nbPret Le nombre de prêts en cours du membre
+     * @param limitePret La limite de prêts du membre
+     */
+    public MembreSummaryDTO(String idMembre,
+        String nom,
+        int nbPret,
+        int limitePret) {
+        super();
+        this.idMembre = idMembre;
+        this.nom = nom;
+        this.nbPret = nbPret;
+        this.limitePret = limitePret;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.idMembre</code>.
+     *
+     * @return La variable d'instance <code>this.idMembre</code>
+     */
+    public String getIdMembre() {
+        return this.idMembre;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.nom</code>.
+     *
+     * @return La variable d'instance <code>this.nom</code>
+     */
+    public String getNom() {
+        return this.nom;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.nbPret</code>.
+     *
+     * @return La variable d'instance <code>this.nbPret</code>
+     */
+    public int getNbPret() {
+        return this.nbPret;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.limitePret</code>.
+     *
+     * @return La variable d'instance <code>this.limitePret</code>
+     */
+    public int getLimitePret() {
+        return this.limitePret;
+    }
+}
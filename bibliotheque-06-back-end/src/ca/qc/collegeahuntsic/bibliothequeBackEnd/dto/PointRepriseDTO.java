@@ -0,0 +1,143 @@
+// Fichier PointRepriseDTO.java
+// Auteur : Dragons Vicieux
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliothequeBackEnd.dto;
+
+import java.sql.Timestamp;
+
+/**
+ * DTO de la table <code>pointReprise</code>.<br />
+ * <br />
+ * Un point de reprise retient, pour un fichier de transactions, la position de la ligne qui suit la dernière commande validée. Il est
+ * mis à jour dans la même transaction que la commande : après un arrêt, le traitement reprend à cette position sans rejouer les
+ * commandes déjà validées.
+ *
+ * @author Dragons Vicieux
+ */
+public final class PointRepriseDTO extends DTO {
+    public static final String FICHIER_COLUMN_NAME = "fichier";
+
+    public static final String POSITION_FICHIER_COLUMN_NAME = "positionFichier";
+
+    public static final String NUMERO_LIGNE_COLUMN_NAME = "numeroLigne";
+
+    public static final String DATE_MISE_A_JOUR_COLUMN_NAME = "dateMiseAJour";
+
+    private static final long serialVersionUID = 1L;
+
+    private String fichier;
+
+    private long positionFichier;
+
+    private int numeroLigne;
+
+    private Timestamp dateMiseAJour;
+
+    /**
+     * Crée un DTO de la table <code>pointReprise</code>.
+     */
+    public PointRepriseDTO() {
+        super();
+    }
+
+    // Region Getters and Setters
+    /**
+     * Getter de la variable d'instance <code>this.fichier</code>.
+     *
+     * @return La variable d'instance <code>this.fichier</code>
+     */
+    public String getFichier() {
+        return this.fichier;
+    }
+
+    /**
+     * Setter de la variable d'instance <code>this.fichier</code>.
+     *
+     * @param fichier La valeur à utiliser pour la variable d'instance <code>this.fichier</code>
+     */
+    public void setFichier(String fichier) {
+        this.fichier = fichier;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.positionFichier</code>.
+     *
+     * @return La variable d'instance <code>this.positionFichier</code>
+     */
+    public long getPositionFichier() {
+        return this.positionFichier;
+    }
+
+    /**
+     * Setter de la variable d'instance <code>this.positionFichier</code>.
+     *
+     * @param positionFichier La valeur à utiliser pour la variable d'instance <code>this.positionFichier</code>
+     */
+    public void setPositionFichier(long positionFichier) {
+        this.positionFichier = positionFichier;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.numeroLigne</code>.
+     *
+     * @return La variable d'instance <code>this.numeroLigne</code>
+     */
+    public int getNumeroLigne() {
+        return this.numeroLigne;
+    }
+
+    /**
+     * Setter de la variable d'instance <code>this.numeroLigne</code>.
+     *
+     * @param numeroLigne La valeur à utiliser pour la variable d'instance <code>this.numeroLigne</code>
+     */
+    public void setNumeroLigne(int numeroLigne) {
+        this.numeroLigne = numeroLigne;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.dateMiseAJour</code>.
+     *
+     * @return La variable d'instance <code>this.dateMiseAJour</code>
+     */
+    public Timestamp getDateMiseAJour() {
+        return this.dateMiseAJour;
+    }
+
+    /**
+     * Setter de la variable d'instance <code>this.dateMiseAJour</code>.
+     *
+     * @param dateMiseAJour La valeur à utiliser pour la variable d'instance <code>this.dateMiseAJour</code>
+     */
+    public void setDateMiseAJour(Timestamp dateMiseAJour) {
+        this.dateMiseAJour = dateMiseAJour;
+    }
+
+    // EndRegion Getters and Setters
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected String getPrimaryKey() {
+        return getFichier();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof PointRepriseDTO
+            && super.equals(obj);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+}
@@ -5,8 +5,6 @@
 package ca.qc.collegeahuntsic.bibliothequeBackEnd.dto;
 
 import java.sql.Timestamp;
-import org.apache.commons.lang3.builder.EqualsBuilder;
-import org.apache.commons.lang3.builder.HashCodeBuilder;
 
 /**
  * DTO de la table <code>pret</code>.
@@ -18,14 +16,23 @@ public class PretDTO extends DTO {
 
     public static final String ID_PRET_COLUMN_NAME = "idPret";
 
-    public static final String ID_MEMBRE_COLUMN_NAME = "idMembre";
+    public static final String MEMBRE_DTO_COLUMN_NAME = "membreDTO";
 
-    public static final String ID_LIVRE_COLUMN_NAME = "idLivre";
+    public static final String LIVRE_DTO_COLUMN_NAME = "livreDTO";
+
+    public static final String ID_MEMBRE_COLUMN_NAME = "membreDTO.idMembre";
+
+    public static final String ID_LIVRE_COLUMN_NAME = "livreDTO.idLivre";
 
     public static final String DATE_PRET_COLUMN_NAME = "datePret";
 
     public static final String DATE_RETOUR_COLUMN_NAME = "dateRetour";
 
+    /**
+     * Plan de chargement de le retour : requête nommée <code>PretDTO.retour</code> des fichiers de mapping.
+     */
+    public static final String FETCH_PLAN_RETOUR = "retour";
+
     private static final long serialVersionUID = 1L;
 
     private String idPret;
@@ -140,25 +147,21 @@ public class PretDTO extends DTO {
     }
 
     // EndRegion Getters and Setters
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected String getPrimaryKey() {
+        return getIdPret();
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public boolean equals(Object obj) {
-        boolean equals = this == obj;
-        if(!equals) {
-            equals = obj != null
-                && obj instanceof PretDTO;
-            if(equals) {
-                final PretDTO pretDTO = (PretDTO) obj;
-                final EqualsBuilder equalsBuilder = new EqualsBuilder();
-                equalsBuilder.appendSuper(super.equals(pretDTO));
-                equalsBuilder.append(getIdPret(),
-                    pretDTO.getIdPret());
-                equals = equalsBuilder.isEquals();
-            }
-        }
-        return equals;
+        return obj instanceof PretDTO
+            && super.equals(obj);
     }
 
     /**
@@ -166,11 +169,6 @@ public class PretDTO extends DTO {
      */
     @Override
     public int hashCode() {
-        final HashCodeBuilder hashCodeBuilder = new HashCodeBuilder(23,
-            13);
-        hashCodeBuilder.appendSuper(super.hashCode());
-        hashCodeBuilder.append(getIdPret());
-        return hashCodeBuilder.toHashCode();
+        return super.hashCode();
     }
-
 }
@@ -5,8 +5,6 @@
 package ca.qc.collegeahuntsic.bibliothequeBackEnd.dto;
 
 import java.sql.Timestamp;
-import org.apache.commons.lang3.builder.EqualsBuilder;
-import org.apache.commons.lang3.builder.HashCodeBuilder;
 
 /**
  *
@@ -19,12 +17,21 @@ public class ReservationDTO extends DTO {
 
     public static final String ID_RESERVATION_COLUMN_NAME = "idReservation";
 
-    public static final String ID_MEMBRE_COLUMN_NAME = "idMembre";
+    public static final String MEMBRE_DTO_COLUMN_NAME = "membreDTO";
 
-    public static final String ID_LIVRE_COLUMN_NAME = "idLivre";
+    public static final String LIVRE_DTO_COLUMN_NAME = "livreDTO";
+
+    public static final String ID_MEMBRE_COLUMN_NAME = "membreDTO.idMembre";
+
+    public static final String ID_LIVRE_COLUMN_NAME = "livreDTO.idLivre";
 
     public static final String DATE_RESERVATION_COLUMN_NAME = "dateReservation";
 
+    /**
+     * Plan de chargement de l'utilisation : requête nommée <code>ReservationDTO.utilisation</code> des fichiers de mapping.
+     */
+    public static final String FETCH_PLAN_UTILISATION = "utilisation";
+
     private static final long serialVersionUID = 1L;
 
     private String idReservation;
@@ -116,25 +123,21 @@ public class ReservationDTO extends DTO {
     }
 
     //EndRegion Getters and Setters
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected String getPrimaryKey() {
+        return getIdReservation();
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public boolean equals(Object obj) {
-        boolean equals = this == obj;
-        if(!equals) {
-            equals = obj != null
-                && obj instanceof ReservationDTO;
-            if(equals) {
-                final ReservationDTO reservationDTO = (ReservationDTO) obj;
-                final EqualsBuilder equalsBuilder = new EqualsBuilder();
-                equalsBuilder.appendSuper(super.equals(reservationDTO));
-                equalsBuilder.append(getIdReservation(),
-                    reservationDTO.getIdReservation());
-                equals = equalsBuilder.isEquals();
-            }
-        }
-        return equals;
+        return obj instanceof ReservationDTO
+            && super.equals(obj);
     }
 
     /**
@@ -142,11 +145,6 @@ public class ReservationDTO extends DTO {
      */
     @Override
     public int hashCode() {
-        final HashCodeBuilder hashCodeBuilder = new HashCodeBuilder(25,
-            15);
-        hashCodeBuilder.appendSuper(super.hashCode());
-        hashCodeBuilder.append(getIdReservation());
-        return hashCodeBuilder.toHashCode();
+        return super.hashCode();
     }
-
 }
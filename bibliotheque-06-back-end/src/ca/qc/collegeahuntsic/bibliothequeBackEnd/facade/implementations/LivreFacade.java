@@ -5,8 +5,15 @@
 package ca.qc.collegeahuntsic.bibliothequeBackEnd.facade.implementations;
 
 import java.util.List;
+import java.util.function.Consumer;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dao.criteria.SearchCriteria;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.LivreDTO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.LivreSummaryDTO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidConsumerException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidCriterionException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidCriterionValueException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidHibernateSessionException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidPaginationException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidPrimaryKeyException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidSortByPropertyException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dto.InvalidDTOException;
@@ -16,7 +23,10 @@ import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.service.ExistingLoanE
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.service.ExistingReservationException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.service.ServiceException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.facade.interfaces.ILivreFacade;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.index.LivreHit;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.service.interfaces.ILivreService;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.util.Page;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.util.PageRequest;
 import org.hibernate.Session;
 
 /**
@@ -78,6 +88,24 @@ public class LivreFacade extends Facade implements ILivreFacade {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public LivreDTO getLivre(Session session,
+        String idLivre,
+        String fetchPlan) throws InvalidHibernateSessionException,
+        InvalidPrimaryKeyException,
+        FacadeException {
+        try {
+            return getLivreService().getLivre(session,
+                idLivre,
+                fetchPlan);
+        } catch(ServiceException serviceException) {
+            throw new FacadeException(serviceException);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -110,6 +138,110 @@ public class LivreFacade extends Facade implements ILivreFacade {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Page<LivreDTO> getAllLivres(Session session,
+        String sortByPropertyName,
+        PageRequest pageRequest) throws InvalidHibernateSessionException,
+        InvalidSortByPropertyException,
+        InvalidPaginationException,
+        FacadeException {
+        try {
+            return getLivreService().getAllLivres(session,
+                sortByPropertyName,
+                pageRequest);
+        } catch(ServiceException serviceException) {
+            throw new FacadeException(serviceException);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<LivreDTO> searchLivres(Session session,
+        SearchCriteria<LivreDTO> searchCriteria) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidCriterionValueException,
+        FacadeException {
+        try {
+            return getLivreService().searchLivres(session,
+                searchCriteria);
+        } catch(ServiceException serviceException) {
+            throw new FacadeException(serviceException);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Page<LivreDTO> searchLivres(Session session,
+        SearchCriteria<LivreDTO> searchCriteria,
+        PageRequest pageRequest) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidCriterionValueException,
+        InvalidPaginationException,
+        FacadeException {
+        try {
+            return getLivreService().searchLivres(session,
+                searchCriteria,
+                pageRequest);
+        } catch(ServiceException serviceException) {
+            throw new FacadeException(serviceException);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<LivreHit> searchLivres(Session session,
+        String text,
+        int limit) throws InvalidHibernateSessionException,
+        InvalidCriterionValueException,
+        InvalidPaginationException,
+        FacadeException {
+        try {
+            return getLivreService().searchLivres(session,
+                text,
+                limit);
+        } catch(ServiceException serviceException) {
+            throw new FacadeException(serviceException);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void indexerLivres(Session session) throws InvalidHibernateSessionException,
+        FacadeException {
+        try {
+            getLivreService().indexerLivres(session);
+        } catch(ServiceException serviceException) {
+            throw new FacadeException(serviceException);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<LivreSummaryDTO> getAllLivreSummaries(Session session,
+        String sortByPropertyName) throws InvalidHibernateSessionException,
+        InvalidSortByPropertyException,
+        FacadeException {
+        try {
+            return getLivreService().getAllLivreSummaries(session,
+                sortByPropertyName);
+        } catch(ServiceException serviceException) {
+            throw new FacadeException(serviceException);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -143,4 +275,39 @@ public class LivreFacade extends Facade implements ILivreFacade {
             throw new FacadeException(serviceException);
         }
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void acquerirLivres(Session session,
+        List<LivreDTO> livreDTOs) throws InvalidHibernateSessionException,
+        InvalidDTOException,
+        FacadeException {
+        try {
+            getLivreService().acquerirLivres(session,
+                livreDTOs);
+        } catch(ServiceException serviceException) {
+            throw new FacadeException(serviceException);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void streamLivres(Session session,
+        String sortByPropertyName,
+        Consumer<? super LivreDTO> consumer) throws InvalidHibernateSessionException,
+        InvalidSortByPropertyException,
+        InvalidConsumerException,
+        FacadeException {
+        try {
+            getLivreService().streamLivres(session,
+                sortByPropertyName,
+                consumer);
+        } catch(ServiceException serviceException) {
+            throw new FacadeException(serviceException);
+        }
+    }
 }
@@ -5,8 +5,13 @@
 package ca.qc.collegeahuntsic.bibliothequeBackEnd.facade.implementations;
 
 import java.util.List;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dao.criteria.SearchCriteria;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.MembreDTO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.MembreSummaryDTO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidCriterionException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidCriterionValueException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidHibernateSessionException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidPaginationException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidPrimaryKeyException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidSortByPropertyException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dto.InvalidDTOException;
@@ -17,6 +22,8 @@ import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.service.ExistingReser
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.service.ServiceException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.facade.interfaces.IMembreFacade;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.service.interfaces.IMembreService;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.util.Page;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.util.PageRequest;
 import org.hibernate.Session;
 
 /**
@@ -76,6 +83,24 @@ public class MembreFacade extends Facade implements IMembreFacade {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public MembreDTO getMembre(Session session,
+        String idMembre,
+        String fetchPlan) throws InvalidHibernateSessionException,
+        InvalidPrimaryKeyException,
+        FacadeException {
+        try {
+            return getMembreService().getMembre(session,
+                idMembre,
+                fetchPlan);
+        } catch(ServiceException serviceException) {
+            throw new FacadeException(serviceException);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -108,6 +133,78 @@ public class MembreFacade extends Facade implements IMembreFacade {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Page<MembreDTO> getAllMembres(Session session,
+        String sortByPropertyName,
+        PageRequest pageRequest) throws InvalidHibernateSessionException,
+        InvalidSortByPropertyException,
+        InvalidPaginationException,
+        FacadeException {
+        try {
+            return getMembreService().getAllMembres(session,
+                sortByPropertyName,
+                pageRequest);
+        } catch(ServiceException serviceException) {
+            throw new FacadeException(serviceException);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<MembreDTO> searchMembres(Session session,
+        SearchCriteria<MembreDTO> searchCriteria) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidCriterionValueException,
+        FacadeException {
+        try {
+            return getMembreService().searchMembres(session,
+                searchCriteria);
+        } catch(ServiceException serviceException) {
+            throw new FacadeException(serviceException);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Page<MembreDTO> searchMembres(Session session,
+        SearchCriteria<MembreDTO> searchCriteria,
+        PageRequest pageRequest) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidCriterionValueException,
+        InvalidPaginationException,
+        FacadeException {
+        try {
+            return getMembreService().searchMembres(session,
+                searchCriteria,
+                pageRequest);
+        } catch(ServiceException serviceException) {
+            throw new FacadeException(serviceException);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<MembreSummaryDTO> getAllMembreSummaries(Session session,
+        String sortByPropertyName) throws InvalidHibernateSessionException,
+        InvalidSortByPropertyException,
+        FacadeException {
+        try {
+            return getMembreService().getAllMembreSummaries(session,
+                sortByPropertyName);
+        } catch(ServiceException serviceException) {
+            throw new FacadeException(serviceException);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -141,4 +238,20 @@ public class MembreFacade extends Facade implements IMembreFacade {
             throw new FacadeException(serviceException);
         }
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void inscrireMembres(Session session,
+        List<MembreDTO> membreDTOs) throws InvalidHibernateSessionException,
+        InvalidDTOException,
+        FacadeException {
+        try {
+            getMembreService().inscrireMembres(session,
+                membreDTOs);
+        } catch(ServiceException serviceException) {
+            throw new FacadeException(serviceException);
+        }
+    }
 }
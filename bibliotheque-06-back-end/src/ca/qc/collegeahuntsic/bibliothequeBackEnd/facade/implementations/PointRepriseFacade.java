@@ -0,0 +1,93 @@
+// Fichier PointRepriseFacade.java
+// Auteur : Dragons Vicieux
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliothequeBackEnd.facade.implementations;
+
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.PointRepriseDTO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidHibernateSessionException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidPrimaryKeyException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.facade.FacadeException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.facade.InvalidServiceException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.service.ServiceException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.facade.interfaces.IPointRepriseFacade;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.service.interfaces.IPointRepriseService;
+import org.hibernate.Session;
+
+/**
+ * Facade pour interagir avec le service de point de reprise.
+ *
+ * @author Dragons Vicieux
+ */
+public class PointRepriseFacade extends Facade implements IPointRepriseFacade {
+
+    private IPointRepriseService pointRepriseService;
+
+    /**
+     * Crée la Facade de la table <code>pointReprise</code>.
+     *
+     * @param pointRepriseService Le service de la table <code>pointReprise</code>
+     * @throws InvalidServiceException Si le service de points de reprise est <code>null</code>
+     */
+    PointRepriseFacade(IPointRepriseService pointRepriseService) throws InvalidServiceException {
+        super();
+        if(pointRepriseService == null) {
+            throw new InvalidServiceException("Le service de points de reprise ne peut être null");
+        }
+        setPointRepriseService(pointRepriseService);
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.pointRepriseService</code>.
+     *
+     * @return La variable d'instance <code>this.pointRepriseService</code>
+     */
+    public IPointRepriseService getPointRepriseService() {
+        return this.pointRepriseService;
+    }
+
+    /**
+     * Setter de la variable d'instance <code>this.pointRepriseService</code>.
+     *
+     * @param pointRepriseService La valeur à utiliser pour la variable d'instance <code>this.pointRepriseService</code>
+     */
+    public void setPointRepriseService(IPointRepriseService pointRepriseService) {
+        this.pointRepriseService = pointRepriseService;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PointRepriseDTO getPointReprise(Session session,
+        String fichier) throws InvalidHibernateSessionException,
+        InvalidPrimaryKeyException,
+        FacadeException {
+        try {
+            return getPointRepriseService().getPointReprise(session,
+                fichier);
+        } catch(ServiceException serviceException) {
+            throw new FacadeException(serviceException);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void enregistrerPointReprise(Session session,
+        String fichier,
+        long positionFichier,
+        int numeroLigne) throws InvalidHibernateSessionException,
+        InvalidPrimaryKeyException,
+        FacadeException {
+        try {
+            getPointRepriseService().enregistrerPointReprise(session,
+                fichier,
+                positionFichier,
+                numeroLigne);
+        } catch(ServiceException serviceException) {
+            throw new FacadeException(serviceException);
+        }
+    }
+}
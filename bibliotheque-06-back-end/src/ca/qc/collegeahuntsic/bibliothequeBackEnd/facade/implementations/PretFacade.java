@@ -4,9 +4,17 @@
 
 package ca.qc.collegeahuntsic.bibliothequeBackEnd.facade.implementations;
 
+import java.util.List;
+import java.util.function.Consumer;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dao.criteria.SearchCriteria;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.PretDTO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidConsumerException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidCriterionException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidCriterionValueException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidHibernateSessionException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidPaginationException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidPrimaryKeyException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidSortByPropertyException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dto.InvalidDTOException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.facade.FacadeException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.facade.InvalidServiceException;
@@ -17,6 +25,8 @@ import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.service.MissingLoanEx
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.service.ServiceException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.facade.interfaces.IPretFacade;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.service.interfaces.IPretService;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.util.Page;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.util.PageRequest;
 import org.hibernate.Session;
 
 /**
@@ -78,6 +88,24 @@ public class PretFacade extends Facade implements IPretFacade {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PretDTO getPret(Session session,
+        String idPret,
+        String fetchPlan) throws InvalidHibernateSessionException,
+        InvalidPrimaryKeyException,
+        FacadeException {
+        try {
+            return getPretService().getPret(session,
+                idPret,
+                fetchPlan);
+        } catch(ServiceException serviceException) {
+            throw new FacadeException(serviceException);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -132,4 +160,95 @@ public class PretFacade extends Facade implements IPretFacade {
             throw new FacadeException(serviceException);
         }
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addPrets(Session session,
+        List<PretDTO> pretDTOs) throws InvalidHibernateSessionException,
+        InvalidDTOException,
+        FacadeException {
+        try {
+            getPretService().addPrets(session,
+                pretDTOs);
+        } catch(ServiceException serviceException) {
+            throw new FacadeException(serviceException);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void streamPrets(Session session,
+        String sortByPropertyName,
+        Consumer<? super PretDTO> consumer) throws InvalidHibernateSessionException,
+        InvalidSortByPropertyException,
+        InvalidConsumerException,
+        FacadeException {
+        try {
+            getPretService().streamPrets(session,
+                sortByPropertyName,
+                consumer);
+        } catch(ServiceException serviceException) {
+            throw new FacadeException(serviceException);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Page<PretDTO> getAllPrets(Session session,
+        String sortByPropertyName,
+        PageRequest pageRequest) throws InvalidHibernateSessionException,
+        InvalidSortByPropertyException,
+        InvalidPaginationException,
+        FacadeException {
+        try {
+            return getPretService().getAllPrets(session,
+                sortByPropertyName,
+                pageRequest);
+        } catch(ServiceException serviceException) {
+            throw new FacadeException(serviceException);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<PretDTO> searchPrets(Session session,
+        SearchCriteria<PretDTO> searchCriteria) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidCriterionValueException,
+        FacadeException {
+        try {
+            return getPretService().searchPrets(session,
+                searchCriteria);
+        } catch(ServiceException serviceException) {
+            throw new FacadeException(serviceException);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Page<PretDTO> searchPrets(Session session,
+        SearchCriteria<PretDTO> searchCriteria,
+        PageRequest pageRequest) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidCriterionValueException,
+        InvalidPaginationException,
+        FacadeException {
+        try {
+            return getPretService().searchPrets(session,
+                searchCriteria,
+                pageRequest);
+        } catch(ServiceException serviceException) {
+            throw new FacadeException(serviceException);
+        }
+    }
 }
@@ -0,0 +1,52 @@
+// Fichier IPointRepriseFacade.java
+// Auteur : Dragons Vicieux
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliothequeBackEnd.facade.interfaces;
+
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.PointRepriseDTO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidHibernateSessionException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidPrimaryKeyException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.facade.FacadeException;
+import org.hibernate.Session;
+
+/**
+ * Interface de façade pour manipuler les points de reprise dans la base de données.
+ *
+ * @author Dragons Vicieux
+ */
+public interface IPointRepriseFacade extends IFacade {
+    /**
+     * Lit le point de reprise d'un fichier de transactions. Si le fichier n'a pas de point de reprise, <code>null</code> est retourné.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param fichier Le fichier de transactions
+     * @return Le point de reprise ; <code>null</code> sinon
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidPrimaryKeyException Si le fichier est <code>null</code>
+     * @throws FacadeException S'il y a une erreur avec la base de données
+     */
+    PointRepriseDTO getPointReprise(Session session,
+        String fichier) throws InvalidHibernateSessionException,
+        InvalidPrimaryKeyException,
+        FacadeException;
+
+    /**
+     * Enregistre le point de reprise d'un fichier de transactions dans la transaction en cours. Le point de reprise est créé s'il
+     * n'existe pas. Il doit être enregistré avant de valider la transaction des commandes qu'il couvre.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param fichier Le fichier de transactions
+     * @param positionFichier La position, en octets, de la ligne qui suit la dernière commande validée
+     * @param numeroLigne Le numéro de la dernière ligne validée
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidPrimaryKeyException Si le fichier est <code>null</code>
+     * @throws FacadeException S'il y a une erreur avec la base de données
+     */
+    void enregistrerPointReprise(Session session,
+        String fichier,
+        long positionFichier,
+        int numeroLigne) throws InvalidHibernateSessionException,
+        InvalidPrimaryKeyException,
+        FacadeException;
+}
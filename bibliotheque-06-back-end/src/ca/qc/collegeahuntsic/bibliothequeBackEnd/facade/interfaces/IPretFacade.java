@@ -4,15 +4,25 @@
 
 package ca.qc.collegeahuntsic.bibliothequeBackEnd.facade.interfaces;
 
+import java.util.List;
+import java.util.function.Consumer;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dao.criteria.SearchCriteria;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.PretDTO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidConsumerException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidCriterionException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidCriterionValueException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidHibernateSessionException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidPaginationException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidPrimaryKeyException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidSortByPropertyException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dto.InvalidDTOException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.facade.FacadeException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.service.ExistingLoanException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.service.ExistingReservationException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.service.InvalidLoanLimitException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.service.MissingLoanException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.util.Page;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.util.PageRequest;
 import org.hibernate.Session;
 
 /**
@@ -36,6 +46,23 @@ public interface IPretFacade extends IFacade {
         InvalidPrimaryKeyException,
         FacadeException;
 
+    /**
+     * Lit un prêt à partir de la base de données selon un plan de chargement, avec les associations dont une opération aura besoin.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param idPret L'ID du prêt à lire
+     * @param fetchPlan Le plan de chargement, par exemple {@link PretDTO#FETCH_PLAN_RETOUR} ; <code>null</code> pour lire le prêt seul
+     * @return Le prêt
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidPrimaryKeyException Si la clef primaire du prêt est <code>null</code>
+     * @throws FacadeException S'il y a une erreur avec la base de données
+     */
+    PretDTO getPret(Session session,
+        String idPret,
+        String fetchPlan) throws InvalidHibernateSessionException,
+        InvalidPrimaryKeyException,
+        FacadeException;
+
     /**
      * Commence un prêt.
      *
@@ -90,4 +117,98 @@ public interface IPretFacade extends IFacade {
         InvalidDTOException,
         MissingLoanException,
         FacadeException;
+
+    /**
+     * Ajoute plusieurs prêts déjà constitués (historique importé) par lots.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param pretDTOs Les prêts
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidDTOException Si la liste est <code>null</code> ou contient un élément <code>null</code>
+     * @throws FacadeException S'il y a une erreur avec la base de données
+     */
+    void addPrets(Session session,
+        List<PretDTO> pretDTOs) throws InvalidHibernateSessionException,
+        InvalidDTOException,
+        FacadeException;
+
+    /**
+     * Parcourt en continu tous les prêts de la base de données en ordre croissant sur <code>sortByPropertyName</code>, sans les
+     * charger tous en mémoire. Convient aux rapports et exportations de grande taille.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param sortByPropertyName Le nom de la propriété à utiliser pour classer
+     * @param consumer Le consommateur qui reçoit chaque élément
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidSortByPropertyException Si la propriété à utiliser pour classer est <code>null</code>
+     * @throws InvalidConsumerException Si le consommateur est <code>null</code>
+     * @throws FacadeException S'il y a une erreur avec la base de données
+     */
+    void streamPrets(Session session,
+        String sortByPropertyName,
+        Consumer<? super PretDTO> consumer) throws InvalidHibernateSessionException,
+        InvalidSortByPropertyException,
+        InvalidConsumerException,
+        FacadeException;
+
+    /**
+     * Trouve une page de tous les prêts de la base de données. La page est classée par ordre croissant sur <code>sortByPropertyName</code>
+     * puis sur l'ID. Seule la page demandée par <code>pageRequest</code> est lue, par numéro de page ou à la suite d'une clef de tri.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param sortByPropertyName Le nom de la propriété à utiliser pour classer
+     * @param pageRequest La page à lire
+     * @return La page demandée ; une page vide sinon
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidSortByPropertyException Si la propriété à utiliser pour classer est <code>null</code>
+     * @throws InvalidPaginationException Si la demande de page est <code>null</code> ou invalide
+     * @throws FacadeException S'il y a une erreur avec la base de données
+     */
+    Page<PretDTO> getAllPrets(Session session,
+        String sortByPropertyName,
+        PageRequest pageRequest) throws InvalidHibernateSessionException,
+        InvalidSortByPropertyException,
+        InvalidPaginationException,
+        FacadeException;
+
+    /**
+     * Trouve les prêts qui satisfont les critères de recherche, en une seule requête. La liste est classée selon les critères puis sur
+     * l'ID. Si aucun prêt n'est trouvé, une {@link List} vide est retournée.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param searchCriteria Les critères de recherche
+     * @return La liste des prêts correspondants ; une liste vide sinon
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidCriterionException Si les critères sont <code>null</code> ou si une propriété est <code>null</code> ou n'existe pas
+     * @throws InvalidCriterionValueException Si une valeur est <code>null</code> ou si une liste de valeurs est vide
+     * @throws FacadeException S'il y a une erreur avec la base de données
+     */
+    List<PretDTO> searchPrets(Session session,
+        SearchCriteria<PretDTO> searchCriteria) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidCriterionValueException,
+        FacadeException;
+
+    /**
+     * Trouve une page de prêts qui satisfont les critères de recherche, en une seule requête. La page est classée selon les critères puis
+     * sur l'ID. Seule la pagination par numéro de page est possible.
+     * Si aucun prêt n'est trouvé, une page vide est retournée.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param searchCriteria Les critères de recherche
+     * @param pageRequest La page à lire
+     * @return La page demandée ; une page vide sinon
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidCriterionException Si les critères sont <code>null</code> ou si une propriété est <code>null</code> ou n'existe pas
+     * @throws InvalidCriterionValueException Si une valeur est <code>null</code> ou si une liste de valeurs est vide
+     * @throws InvalidPaginationException Si la demande de page est <code>null</code>, invalide ou par clef
+     * @throws FacadeException S'il y a une erreur avec la base de données
+     */
+    Page<PretDTO> searchPrets(Session session,
+        SearchCriteria<PretDTO> searchCriteria,
+        PageRequest pageRequest) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidCriterionValueException,
+        InvalidPaginationException,
+        FacadeException;
 }
@@ -0,0 +1,79 @@
+// Fichier LivreHit.java
+// Auteur : Dragons Vicieux
+// Date de création : 2026-10-17
+
+package ca.qc.collegeahuntsic.bibliothequeBackEnd.index;
+
+import java.io.Serializable;
+
+/**
+ * Résultat immuable d'une recherche plein texte sur les livres.
+ *
+ * @author Dragons Vicieux
+ */
+public final class LivreHit implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final String idLivre;
+
+    private final String titre;
+
+    private final String auteur;
+
+    private final double score;
+
+    /**
+     * Crée un résultat de recherche.
+     *
+     * @param idLivre L'ID du livre
+     * @param titre Le titre du livre
+     * @param auteur L'auteur du livre
+     * @param score La pertinence du livre pour la recherche
+     */
+    public LivreHit(String idLivre,
+        String titre,
+        String auteur,
+        double score) {
+        super();
+        this.idLivre = idLivre;
+        this.titre = titre;
+        this.auteur = auteur;
+        this.score = score;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.idLivre</code>.
+     *
+     * @return La variable d'instance <code>this.idLivre</code>
+     */
+    public String getIdLivre() {
+        return this.idLivre;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.titre</code>.
+     *
+     * @return La variable d'instance <code>this.titre</code>
+     */
+    public String getTitre() {
+        return this.titre;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.auteur</code>.
+     *
+     * @return La variable d'instance <code>this.auteur</code>
+     */
+    public String getAuteur() {
+        return this.auteur;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.score</code>.
+     *
+     * @return La variable d'instance <code>this.score</code> ; plus elle est élevée, plus le livre est pertinent
+     */
+    public double getScore() {
+        return this.score;
+    }
+}
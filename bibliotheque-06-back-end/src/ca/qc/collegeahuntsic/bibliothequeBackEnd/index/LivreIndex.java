@@ -0,0 +1,680 @@
+// Fichier LivreIndex.java
+// Auteur : Dragons Vicieux
+// Date de création : 2026-10-17
+
+package ca.qc.collegeahuntsic.bibliothequeBackEnd.index;
+
+import java.text.Normalizer;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * Index inversé en mémoire sur le titre et l'auteur des livres.<br />
+ * <br />
+ * Le titre et l'auteur sont découpés en mots, sans accents ni majuscules. Chaque mot pointe vers les livres qui le contiennent et chaque
+ * trigramme pointe vers les mots qui le contiennent. Un mot recherché qui n'est pas dans l'index trouve ainsi les mots qu'il commence et
+ * les mots proches (fautes de frappe) sans parcourir tout le vocabulaire.<br />
+ * <br />
+ * Les livres qui contiennent tous les mots recherchés passent avant les autres ; à égalité, un mot trouvé dans le titre compte double par
+ * rapport à un mot trouvé dans l'auteur.<br />
+ * <br />
+ * L'index est sûr entre plusieurs threads. Pendant une reconstruction, les modifications reçues sont notées puis rejouées sur le nouvel
+ * index, pour qu'aucune ne soit perdue.
+ *
+ * @author Dragons Vicieux
+ */
+public class LivreIndex {
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+
+    private static final double TITRE_WEIGHT = 2.0;
+
+    private static final double AUTEUR_WEIGHT = 1.0;
+
+    private static final double PREFIX_SIMILARITY = 0.8;
+
+    private static final double MIN_SIMILARITY = 0.4;
+
+    private static final int MAX_EXPANSIONS = 32;
+
+    /**
+     * Ordre des résultats : le nombre de mots trouvés, puis la pertinence, puis le titre et l'ID.
+     */
+    private static final Comparator<Score> RANKING = Comparator.<Score> comparingInt(score -> score.matched)
+        .thenComparingDouble(score -> score.total)
+        .reversed()
+        .thenComparing(score -> score.document.titre,
+            Comparator.nullsLast(Comparator.<String> naturalOrder()))
+        .thenComparing(score -> score.document.idLivre,
+            Comparator.nullsLast(Comparator.<String> naturalOrder()));
+
+    private final ReadWriteLock lock;
+
+    private final Lock rebuildLock;
+
+    private Postings postings;
+
+    private Postings rebuiltPostings;
+
+    private List<Change> journal;
+
+    private volatile boolean built;
+
+    /**
+     * Crée un index vide.
+     */
+    public LivreIndex() {
+        super();
+        this.lock = new ReentrantReadWriteLock();
+        this.rebuildLock = new ReentrantLock();
+        this.postings = new Postings();
+    }
+
+    /**
+     * Indique si l'index a été construit à partir de la base de données.
+     *
+     * @return <code>true</code> si l'index a été construit ; <code>false</code> sinon
+     */
+    public boolean isBuilt() {
+        return this.built;
+    }
+
+    /**
+     * Retourne le nombre de livres indexés.
+     *
+     * @return Le nombre de livres indexés
+     */
+    public int size() {
+        this.lock.readLock().lock();
+        try {
+            return this.postings.documents.size();
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Ajoute un livre à l'index ou le remplace s'il y est déjà.
+     *
+     * @param idLivre L'ID du livre
+     * @param titre Le titre du livre
+     * @param auteur L'auteur du livre
+     */
+    public void put(String idLivre,
+        String titre,
+        String auteur) {
+        this.lock.writeLock().lock();
+        try {
+            this.postings.put(idLivre,
+                titre,
+                auteur);
+            if(this.journal != null) {
+                this.journal.add(new Change(idLivre,
+                    titre,
+                    auteur,
+                    false));
+            }
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Retire un livre de l'index.
+     *
+     * @param idLivre L'ID du livre
+     */
+    public void remove(String idLivre) {
+        this.lock.writeLock().lock();
+        try {
+            this.postings.remove(idLivre);
+            if(this.journal != null) {
+                this.journal.add(new Change(idLivre,
+                    null,
+                    null,
+                    true));
+            }
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Commence une reconstruction de l'index. Les livres sont ensuite chargés par {@link #load(String, String, String)} puis la
+     * reconstruction est terminée par {@link #endRebuild(boolean)}, qui doit toujours être appelé. Une seule reconstruction a lieu à la
+     * fois ; les recherches continuent d'utiliser l'index courant jusqu'à la fin de la reconstruction.
+     */
+    public void beginRebuild() {
+        this.rebuildLock.lock();
+        this.lock.writeLock().lock();
+        try {
+            this.rebuiltPostings = new Postings();
+            this.journal = new ArrayList<>();
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Charge un livre dans l'index en reconstruction.
+     *
+     * @param idLivre L'ID du livre
+     * @param titre Le titre du livre
+     * @param auteur L'auteur du livre
+     */
+    public void load(String idLivre,
+        String titre,
+        String auteur) {
+        this.rebuiltPostings.put(idLivre,
+            titre,
+            auteur);
+    }
+
+    /**
+     * Termine une reconstruction de l'index. Si elle est complète, les modifications reçues depuis son début sont rejouées sur le nouvel
+     * index, qui remplace l'index courant ; sinon le nouvel index est abandonné.
+     *
+     * @param complete <code>true</code> si tous les livres ont été chargés ; <code>false</code> sinon
+     */
+    public void endRebuild(boolean complete) {
+        try {
+            this.lock.writeLock().lock();
+            try {
+                if(complete) {
+                    for(Change change : this.journal) {
+                        if(change.removed) {
+                            this.rebuiltPostings.remove(change.idLivre);
+                        } else {
+                            this.rebuiltPostings.put(change.idLivre,
+                                change.titre,
+                                change.auteur);
+                        }
+                    }
+                    this.postings = this.rebuiltPostings;
+                    this.built = true;
+                }
+                this.rebuiltPostings = null;
+                this.journal = null;
+            } finally {
+                this.lock.writeLock().unlock();
+            }
+        } finally {
+            this.rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * Recherche les livres dont le titre ou l'auteur contient les mots de <code>text</code>. Les résultats sont classés du plus pertinent
+     * au moins pertinent. Si aucun livre n'est trouvé, une {@link List} vide est retournée.
+     *
+     * @param text Le texte à trouver
+     * @param limit Le nombre maximal de résultats
+     * @return La liste des livres trouvés ; une liste vide sinon
+     */
+    public List<LivreHit> search(String text,
+        int limit) {
+        this.lock.readLock().lock();
+        try {
+            return this.postings.search(text,
+                limit);
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Découpe un texte en mots, sans accents ni majuscules.
+     *
+     * @param text Le texte à découper
+     * @return Les mots du texte, sans doublons
+     */
+    static Set<String> tokenize(String text) {
+        final Set<String> tokens = new LinkedHashSet<>();
+        if(text != null) {
+            final String normalized = LivreIndex.MARKS.matcher(Normalizer.normalize(text,
+                Normalizer.Form.NFD)).replaceAll("").toLowerCase(Locale.ROOT);
+            for(String token : LivreIndex.SEPARATORS.split(normalized)) {
+                if(!token.isEmpty()) {
+                    tokens.add(token);
+                }
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Découpe un mot en trigrammes. Le mot est encadré de <code>$</code> pour que ses premières et dernières lettres aient leurs propres
+     * trigrammes.
+     *
+     * @param token Le mot à découper
+     * @return Les trigrammes du mot
+     */
+    static Set<String> trigrams(String token) {
+        final String padded = "$"
+            + token
+            + "$";
+        final Set<String> trigrams = new HashSet<>();
+        for(int i = 0; i + 3 <= padded.length(); i++) {
+            trigrams.add(padded.substring(i,
+                i + 3));
+        }
+        return trigrams;
+    }
+
+    /**
+     * Livre indexé.
+     */
+    private static final class Document {
+        private final String idLivre;
+
+        private final String titre;
+
+        private final String auteur;
+
+        private final Set<String> titreTokens;
+
+        private final Set<String> auteurTokens;
+
+        /**
+         * Crée un livre indexé.
+         *
+         * @param idLivre L'ID du livre
+         * @param titre Le titre du livre
+         * @param auteur L'auteur du livre
+         */
+        Document(String idLivre,
+            String titre,
+            String auteur) {
+            this.idLivre = idLivre;
+            this.titre = titre;
+            this.auteur = auteur;
+            this.titreTokens = LivreIndex.tokenize(titre);
+            this.auteurTokens = LivreIndex.tokenize(auteur);
+        }
+    }
+
+    /**
+     * Modification reçue pendant une reconstruction.
+     */
+    private static final class Change {
+        private final String idLivre;
+
+        private final String titre;
+
+        private final String auteur;
+
+        private final boolean removed;
+
+        /**
+         * Crée une modification.
+         *
+         * @param idLivre L'ID du livre
+         * @param titre Le titre du livre
+         * @param auteur L'auteur du livre
+         * @param removed <code>true</code> si le livre a été retiré ; <code>false</code> sinon
+         */
+        Change(String idLivre,
+            String titre,
+            String auteur,
+            boolean removed) {
+            this.idLivre = idLivre;
+            this.titre = titre;
+            this.auteur = auteur;
+            this.removed = removed;
+        }
+    }
+
+    /**
+     * Pertinence d'un livre pour une recherche.
+     */
+    private static final class Score {
+        private final Document document;
+
+        private int matched;
+
+        private double total;
+
+        /**
+         * Crée la pertinence d'un livre.
+         *
+         * @param document Le livre
+         */
+        Score(Document document) {
+            this.document = document;
+        }
+    }
+
+    /**
+     * Structures de l'index. Elles ne sont pas synchronisées : l'accès est protégé par {@link LivreIndex}.
+     */
+    private static final class Postings {
+        private final Map<String, Document> documents;
+
+        private final Map<String, Set<String>> titrePostings;
+
+        private final Map<String, Set<String>> auteurPostings;
+
+        private final Map<String, Set<String>> trigramTokens;
+
+        /**
+         * Crée des structures vides.
+         */
+        Postings() {
+            this.documents = new HashMap<>();
+            this.titrePostings = new HashMap<>();
+            this.auteurPostings = new HashMap<>();
+            this.trigramTokens = new HashMap<>();
+        }
+
+        /**
+         * Ajoute ou remplace un livre.
+         *
+         * @param idLivre L'ID du livre
+         * @param titre Le titre du livre
+         * @param auteur L'auteur du livre
+         */
+        void put(String idLivre,
+            String titre,
+            String auteur) {
+            remove(idLivre);
+            final Document document = new Document(idLivre,
+                titre,
+                auteur);
+            this.documents.put(idLivre,
+                document);
+            for(String token : document.titreTokens) {
+                addPosting(this.titrePostings,
+                    token,
+                    idLivre);
+            }
+            for(String token : document.auteurTokens) {
+                addPosting(this.auteurPostings,
+                    token,
+                    idLivre);
+            }
+        }
+
+        /**
+         * Retire un livre.
+         *
+         * @param idLivre L'ID du livre
+         */
+        void remove(String idLivre) {
+            final Document document = this.documents.remove(idLivre);
+            if(document == null) {
+                return;
+            }
+            for(String token : document.titreTokens) {
+                removePosting(this.titrePostings,
+                    token,
+                    idLivre);
+            }
+            for(String token : document.auteurTokens) {
+                removePosting(this.auteurPostings,
+                    token,
+                    idLivre);
+            }
+        }
+
+        /**
+         * Indique si un mot fait partie du vocabulaire de l'index.
+         *
+         * @param token Le mot
+         * @return <code>true</code> si au moins un livre contient le mot ; <code>false</code> sinon
+         */
+        private boolean isIndexed(String token) {
+            return this.titrePostings.containsKey(token)
+                || this.auteurPostings.containsKey(token);
+        }
+
+        /**
+         * Ajoute un livre à la liste d'un mot. Un mot nouveau est ajouté à l'index des trigrammes.
+         *
+         * @param tokenPostings Les listes de livres par mot
+         * @param token Le mot
+         * @param idLivre L'ID du livre
+         */
+        private void addPosting(Map<String, Set<String>> tokenPostings,
+            String token,
+            String idLivre) {
+            if(!isIndexed(token)) {
+                for(String trigram : LivreIndex.trigrams(token)) {
+                    this.trigramTokens.computeIfAbsent(trigram,
+                        key -> new HashSet<>()).add(token);
+                }
+            }
+            tokenPostings.computeIfAbsent(token,
+                key -> new HashSet<>()).add(idLivre);
+        }
+
+        /**
+         * Retire un livre de la liste d'un mot. Un mot qui n'est plus utilisé est retiré de l'index des trigrammes.
+         *
+         * @param tokenPostings Les listes de livres par mot
+         * @param token Le mot
+         * @param idLivre L'ID du livre
+         */
+        private void removePosting(Map<String, Set<String>> tokenPostings,
+            String token,
+            String idLivre) {
+            final Set<String> ids = tokenPostings.get(token);
+            if(ids == null) {
+                return;
+            }
+            ids.remove(idLivre);
+            if(ids.isEmpty()) {
+                tokenPostings.remove(token);
+                if(!isIndexed(token)) {
+                    for(String trigram : LivreIndex.trigrams(token)) {
+                        final Set<String> tokens = this.trigramTokens.get(trigram);
+                        if(tokens != null) {
+                            tokens.remove(token);
+                            if(tokens.isEmpty()) {
+                                this.trigramTokens.remove(trigram);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        /**
+         * Recherche les livres. Si assez de livres contiennent tous les mots, seuls ceux-ci sont classés ; sinon tous les livres qui
+         * contiennent au moins un mot le sont.
+         *
+         * @param text Le texte à trouver
+         * @param limit Le nombre maximal de résultats
+         * @return La liste des livres trouvés ; une liste vide sinon
+         */
+        List<LivreHit> search(String text,
+            int limit) {
+            final Set<String> terms = LivreIndex.tokenize(text);
+            if(terms.isEmpty()
+                || limit < 1) {
+                return Collections.emptyList();
+            }
+            final List<Map<String, Double>> termScores = new ArrayList<>(terms.size());
+            for(String term : terms) {
+                termScores.add(score(term));
+            }
+            termScores.sort(Comparator.comparingInt(Map::size));
+            Map<String, Score> scores = collect(termScores,
+                true);
+            if(scores.size() < limit) {
+                scores = collect(termScores,
+                    false);
+            }
+            final PriorityQueue<Score> best = new PriorityQueue<>(limit + 1,
+                LivreIndex.RANKING.reversed());
+            for(Score score : scores.values()) {
+                best.add(score);
+                if(best.size() > limit) {
+                    best.poll();
+                }
+            }
+            final List<Score> ranked = new ArrayList<>(best);
+            ranked.sort(LivreIndex.RANKING);
+            final List<LivreHit> hits = new ArrayList<>(ranked.size());
+            for(Score score : ranked) {
+                hits.add(new LivreHit(score.document.idLivre,
+                    score.document.titre,
+                    score.document.auteur,
+                    score.total));
+            }
+            return hits;
+        }
+
+        /**
+         * Additionne la pertinence des mots pour chaque livre.
+         *
+         * @param termScores La pertinence de chaque livre pour chaque mot, du mot le plus rare au plus fréquent
+         * @param all <code>true</code> pour ne retenir que les livres qui contiennent tous les mots ; <code>false</code> sinon
+         * @return La pertinence de chaque livre retenu
+         */
+        private Map<String, Score> collect(List<Map<String, Double>> termScores,
+            boolean all) {
+            final Map<String, Score> scores = new HashMap<>();
+            if(all) {
+                for(String idLivre : termScores.get(0).keySet()) {
+                    final Score score = new Score(this.documents.get(idLivre));
+                    for(Map<String, Double> termScore : termScores) {
+                        final Double value = termScore.get(idLivre);
+                        if(value == null) {
+                            break;
+                        }
+                        score.matched++;
+                        score.total += value.doubleValue();
+                    }
+                    if(score.matched == termScores.size()) {
+                        scores.put(idLivre,
+                            score);
+                    }
+                }
+            } else {
+                for(Map<String, Double> termScore : termScores) {
+                    for(Map.Entry<String, Double> entry : termScore.entrySet()) {
+                        final Score score = scores.computeIfAbsent(entry.getKey(),
+                            idLivre -> new Score(this.documents.get(idLivre)));
+                        score.matched++;
+                        score.total += entry.getValue().doubleValue();
+                    }
+                }
+            }
+            return scores;
+        }
+
+        /**
+         * Calcule la pertinence de chaque livre pour un mot recherché. Un livre reçoit la meilleure pertinence parmi les mots qui
+         * correspondent au mot recherché, pondérée selon qu'ils sont dans le titre ou dans l'auteur.
+         *
+         * @param term Le mot recherché
+         * @return La pertinence de chaque livre qui contient un mot correspondant
+         */
+        private Map<String, Double> score(String term) {
+            final Map<String, Double> scores = new HashMap<>();
+            for(Map.Entry<String, Double> expansion : expand(term).entrySet()) {
+                final double similarity = expansion.getValue().doubleValue();
+                addScores(scores,
+                    this.titrePostings.get(expansion.getKey()),
+                    similarity
+                        * LivreIndex.TITRE_WEIGHT);
+                addScores(scores,
+                    this.auteurPostings.get(expansion.getKey()),
+                    similarity
+                        * LivreIndex.AUTEUR_WEIGHT);
+            }
+            return scores;
+        }
+
+        /**
+         * Trouve les mots du vocabulaire qui correspondent à un mot recherché. Un mot présent dans l'index ne correspond qu'à lui-même ;
+         * sinon il correspond aux mots qu'il commence et aux mots qui partagent assez de trigrammes avec lui. Seuls les mots les plus
+         * semblables sont retenus.
+         *
+         * @param term Le mot recherché
+         * @return La similarité, entre 0 et 1, de chaque mot retenu
+         */
+        private Map<String, Double> expand(String term) {
+            if(isIndexed(term)) {
+                return Collections.singletonMap(term,
+                    Double.valueOf(1.0));
+            }
+            final Set<String> termTrigrams = LivreIndex.trigrams(term);
+            final Map<String, Integer> shared = new HashMap<>();
+            for(String trigram : termTrigrams) {
+                final Set<String> tokens = this.trigramTokens.get(trigram);
+                if(tokens != null) {
+                    for(String token : tokens) {
+                        shared.merge(token,
+                            Integer.valueOf(1),
+                            Integer::sum);
+                    }
+                }
+            }
+            final List<Map.Entry<String, Double>> candidates = new ArrayList<>();
+            for(Map.Entry<String, Integer> entry : shared.entrySet()) {
+                final String token = entry.getKey();
+                final int count = entry.getValue().intValue();
+                // Un mot de n lettres a n trigrammes une fois encadré
+                double similarity = (double) count
+                    / (termTrigrams.size()
+                        + token.length()
+                        - count);
+                if(token.startsWith(term)) {
+                    similarity = Math.max(similarity,
+                        LivreIndex.PREFIX_SIMILARITY);
+                }
+                if(similarity >= LivreIndex.MIN_SIMILARITY) {
+                    candidates.add(new AbstractMap.SimpleImmutableEntry<>(token,
+                        Double.valueOf(similarity)));
+                }
+            }
+            candidates.sort(Map.Entry.<String, Double> comparingByValue().reversed());
+            final Map<String, Double> expansions = new HashMap<>();
+            for(Map.Entry<String, Double> candidate : candidates.subList(0,
+                Math.min(candidates.size(),
+                    LivreIndex.MAX_EXPANSIONS))) {
+                expansions.put(candidate.getKey(),
+                    candidate.getValue());
+            }
+            return expansions;
+        }
+
+        /**
+         * Donne une pertinence aux livres d'une liste, en gardant la meilleure pertinence de chaque livre.
+         *
+         * @param scores La pertinence de chaque livre
+         * @param ids Les IDs des livres ; <code>null</code> si aucun
+         * @param score La pertinence à donner
+         */
+        private static void addScores(Map<String, Double> scores,
+            Set<String> ids,
+            double score) {
+            if(ids == null) {
+                return;
+            }
+            for(String idLivre : ids) {
+                scores.merge(idLivre,
+                    Double.valueOf(score),
+                    (a, b) -> Double.valueOf(Math.max(a.doubleValue(),
+                        b.doubleValue())));
+            }
+        }
+    }
+}
@@ -0,0 +1,125 @@
+// Fichier LivreIndexListener.java
+// Auteur : Dragons Vicieux
+// Date de création : 2026-10-17
+
+package ca.qc.collegeahuntsic.bibliothequeBackEnd.index;
+
+import javax.transaction.Status;
+import javax.transaction.Synchronization;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.LivreDTO;
+import org.hibernate.Transaction;
+import org.hibernate.event.EventSource;
+import org.hibernate.event.PostDeleteEvent;
+import org.hibernate.event.PostDeleteEventListener;
+import org.hibernate.event.PostInsertEvent;
+import org.hibernate.event.PostInsertEventListener;
+import org.hibernate.event.PostUpdateEvent;
+import org.hibernate.event.PostUpdateEventListener;
+
+/**
+ * Écouteur Hibernate qui garde l'index des livres à jour.<br />
+ * <br />
+ * Les ajouts, modifications et suppressions de livres sont reçus au moment où ils sont envoyés à la base de données, mais ne sont
+ * appliqués à l'index qu'une fois la transaction validée : un rollback laisse l'index intact. Hors transaction, ils sont appliqués
+ * immédiatement.
+ *
+ * @author Dragons Vicieux
+ */
+public class LivreIndexListener implements PostInsertEventListener,
+    PostUpdateEventListener,
+    PostDeleteEventListener {
+    private static final long serialVersionUID = 1L;
+
+    private final LivreIndex livreIndex;
+
+    /**
+     * Crée l'écouteur de l'index des livres.
+     *
+     * @param livreIndex L'index des livres à garder à jour
+     */
+    public LivreIndexListener(LivreIndex livreIndex) {
+        super();
+        this.livreIndex = livreIndex;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onPostInsert(PostInsertEvent postInsertEvent) {
+        if(postInsertEvent.getEntity() instanceof LivreDTO) {
+            put(postInsertEvent.getSession(),
+                (LivreDTO) postInsertEvent.getEntity());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onPostUpdate(PostUpdateEvent postUpdateEvent) {
+        if(postUpdateEvent.getEntity() instanceof LivreDTO) {
+            put(postUpdateEvent.getSession(),
+                (LivreDTO) postUpdateEvent.getEntity());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onPostDelete(PostDeleteEvent postDeleteEvent) {
+        if(postDeleteEvent.getEntity() instanceof LivreDTO) {
+            final String idLivre = ((LivreDTO) postDeleteEvent.getEntity()).getIdLivre();
+            afterCommit(postDeleteEvent.getSession(),
+                () -> this.livreIndex.remove(idLivre));
+        }
+    }
+
+    /**
+     * Ajoute ou remplace un livre dans l'index après la validation de la transaction. Le titre et l'auteur sont lus tout de suite, pour
+     * indexer l'état envoyé à la base de données.
+     *
+     * @param eventSource La session Hibernate de l'événement
+     * @param livreDTO Le livre
+     */
+    private void put(EventSource eventSource,
+        LivreDTO livreDTO) {
+        final String idLivre = livreDTO.getIdLivre();
+        final String titre = livreDTO.getTitre();
+        final String auteur = livreDTO.getAuteur();
+        afterCommit(eventSource,
+            () -> this.livreIndex.put(idLivre,
+                titre,
+                auteur));
+    }
+
+    /**
+     * Exécute une modification de l'index après la validation de la transaction en cours, ou tout de suite s'il n'y en a pas.
+     *
+     * @param eventSource La session Hibernate de l'événement
+     * @param change La modification de l'index
+     */
+    private static void afterCommit(EventSource eventSource,
+        Runnable change) {
+        final Transaction transaction = eventSource.getTransaction();
+        if(transaction == null
+            || !transaction.isActive()) {
+            change.run();
+            return;
+        }
+        transaction.registerSynchronization(new Synchronization() {
+            @Override
+            public void beforeCompletion() {
+                // Rien à faire avant la fin de la transaction
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if(status == Status.STATUS_COMMITTED) {
+                    change.run();
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,10 @@
+// Fichier package-info.java
+// Auteur : Dragons Vicieux
+// Date de création : 2026-10-17
+/**
+ * Index de recherche plein texte en mémoire de la bibliothèque.
+ *
+ * @author Dragons Vicieux
+ */
+
+package ca.qc.collegeahuntsic.bibliothequeBackEnd.index;
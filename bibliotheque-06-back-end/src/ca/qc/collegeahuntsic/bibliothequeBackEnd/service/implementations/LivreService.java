@@ -4,16 +4,22 @@
 
 package ca.qc.collegeahuntsic.bibliothequeBackEnd.service.implementations;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dao.criteria.SearchCriteria;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.dao.interfaces.ILivreDAO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dao.interfaces.IPretDAO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dao.interfaces.IReservationDAO;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.LivreDTO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.LivreSummaryDTO;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.PretDTO;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.ReservationDTO;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.DAOException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidConsumerException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidCriterionException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidCriterionValueException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidHibernateSessionException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidPaginationException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidPrimaryKeyException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidSortByPropertyException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dto.InvalidDTOException;
@@ -21,7 +27,10 @@ import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.service.ExistingLoanE
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.service.ExistingReservationException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.service.InvalidDAOException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.service.ServiceException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.index.LivreHit;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.service.interfaces.ILivreService;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.util.Page;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.util.PageRequest;
 import org.hibernate.Session;
 
 /**
@@ -32,18 +41,35 @@ import org.hibernate.Session;
 public class LivreService extends Service implements ILivreService {
     private ILivreDAO livreDAO;
 
+    private IPretDAO pretDAO;
+
+    private IReservationDAO reservationDAO;
+
     /**
      * Crée le service de la table <code>livre</code>.
      *
      * @param livreDAO Le DAO de la table <code>livre</code>
-     * @throws InvalidDAOException Si le DAO de livre est <code>null</code>
+     * @param pretDAO Le DAO de la table <code>pret</code>
+     * @param reservationDAO Le DAO de la table <code>reservation</code>
+     * @throws InvalidDAOException Si le DAO de livre est <code>null</code>, si le DAO de prêt est <code>null</code> ou si le DAO de
+     *         réservation est <code>null</code>
      */
-    LivreService(ILivreDAO livreDAO) throws InvalidDAOException {
+    LivreService(ILivreDAO livreDAO,
+        IPretDAO pretDAO,
+        IReservationDAO reservationDAO) throws InvalidDAOException {
         super();
         if(livreDAO == null) {
             throw new InvalidDAOException("Le DAO de livre ne peut être null");
         }
+        if(pretDAO == null) {
+            throw new InvalidDAOException("Le DAO de prêt ne peut être null");
+        }
+        if(reservationDAO == null) {
+            throw new InvalidDAOException("Le DAO de réservation ne peut être null");
+        }
         setLivreDAO(livreDAO);
+        setPretDAO(pretDAO);
+        setReservationDAO(reservationDAO);
     }
 
     // Region Getters and Setters
@@ -65,6 +91,42 @@ public class LivreService extends Service implements ILivreService {
         this.livreDAO = livreDAO;
     }
 
+    /**
+     * Getter de la variable d'instance <code>this.pretDAO</code>.
+     *
+     * @return La variable d'instance <code>this.pretDAO</code>
+     */
+    private IPretDAO getPretDAO() {
+        return this.pretDAO;
+    }
+
+    /**
+     * Setter de la variable d'instance <code>this.pretDAO</code>.
+     *
+     * @param pretDAO La valeur à utiliser pour la variable d'instance <code>this.pretDAO</code>
+     */
+    private void setPretDAO(IPretDAO pretDAO) {
+        this.pretDAO = pretDAO;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.reservationDAO</code>.
+     *
+     * @return La variable d'instance <code>this.reservationDAO</code>
+     */
+    private IReservationDAO getReservationDAO() {
+        return this.reservationDAO;
+    }
+
+    /**
+     * Setter de la variable d'instance <code>this.reservationDAO</code>.
+     *
+     * @param reservationDAO La valeur à utiliser pour la variable d'instance <code>this.reservationDAO</code>
+     */
+    private void setReservationDAO(IReservationDAO reservationDAO) {
+        this.reservationDAO = reservationDAO;
+    }
+
     // EndRegion Getters and Setters
 
     /**
@@ -99,6 +161,24 @@ public class LivreService extends Service implements ILivreService {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public LivreDTO getLivre(Session session,
+        String idLivre,
+        String fetchPlan) throws InvalidHibernateSessionException,
+        InvalidPrimaryKeyException,
+        ServiceException {
+        try {
+            return (LivreDTO) getLivreDAO().get(session,
+                idLivre,
+                fetchPlan);
+        } catch(DAOException daoException) {
+            throw new ServiceException(daoException);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -148,6 +228,111 @@ public class LivreService extends Service implements ILivreService {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public Page<LivreDTO> getAllLivres(Session session,
+        String sortByPropertyName,
+        PageRequest pageRequest) throws InvalidHibernateSessionException,
+        InvalidSortByPropertyException,
+        InvalidPaginationException,
+        ServiceException {
+        try {
+            return (Page<LivreDTO>) getLivreDAO().getAll(session,
+                sortByPropertyName,
+                pageRequest);
+        } catch(DAOException daoException) {
+            throw new ServiceException(daoException);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<LivreDTO> searchLivres(Session session,
+        SearchCriteria<LivreDTO> searchCriteria) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidCriterionValueException,
+        ServiceException {
+        try {
+            return getLivreDAO().search(session,
+                searchCriteria);
+        } catch(DAOException daoException) {
+            throw new ServiceException(daoException);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Page<LivreDTO> searchLivres(Session session,
+        SearchCriteria<LivreDTO> searchCriteria,
+        PageRequest pageRequest) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidCriterionValueException,
+        InvalidPaginationException,
+        ServiceException {
+        try {
+            return getLivreDAO().search(session,
+                searchCriteria,
+                pageRequest);
+        } catch(DAOException daoException) {
+            throw new ServiceException(daoException);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<LivreHit> searchLivres(Session session,
+        String text,
+        int limit) throws InvalidHibernateSessionException,
+        InvalidCriterionValueException,
+        InvalidPaginationException,
+        ServiceException {
+        try {
+            return getLivreDAO().findByText(session,
+                text,
+                limit);
+        } catch(DAOException daoException) {
+            throw new ServiceException(daoException);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void indexerLivres(Session session) throws InvalidHibernateSessionException,
+        ServiceException {
+        try {
+            getLivreDAO().reindex(session);
+        } catch(DAOException daoException) {
+            throw new ServiceException(daoException);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<LivreSummaryDTO> getAllLivreSummaries(Session session,
+        String sortByPropertyName) throws InvalidHibernateSessionException,
+        InvalidSortByPropertyException,
+        ServiceException {
+        try {
+            return getLivreDAO().getAllSummaries(session,
+                sortByPropertyName);
+        } catch(DAOException daoException) {
+            throw new ServiceException(daoException);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -168,6 +353,29 @@ public class LivreService extends Service implements ILivreService {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Page<LivreDTO> findLivresByTitre(Session session,
+        String titre,
+        String sortByPropertyName,
+        PageRequest pageRequest) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidCriterionValueException,
+        InvalidSortByPropertyException,
+        InvalidPaginationException,
+        ServiceException {
+        try {
+            return getLivreDAO().findByTitre(session,
+                titre,
+                sortByPropertyName,
+                pageRequest);
+        } catch(DAOException daoException) {
+            throw new ServiceException(daoException);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -204,27 +412,30 @@ public class LivreService extends Service implements ILivreService {
         }
 
         // vérifie si le livre est prêté
-        final List<PretDTO> prets = new ArrayList<>(livreDTO.getPrets());
-        if(!prets.isEmpty()) {
-            for(PretDTO pretDTO : prets) {
-                if(pretDTO.getDateRetour() == null) {
-                    throw new ExistingLoanException("Le livre "
-                        + livreDTO.getTitre()
-                        + " (ID de livre : "
-                        + livreDTO.getIdLivre()
-                        + ") a été prêté à "
-                        + pretDTO.getMembreDTO().getNom()
-                        + " (ID de membre : "
-                        + pretDTO.getMembreDTO().getIdMembre()
-                        + ")");
-                }
-            }
+        if(isLivrePrete(getPretDAO(),
+            session,
+            livreDTO)) {
+            final PretDTO pretDTO = findPretEnCours(getPretDAO(),
+                session,
+                livreDTO);
+            throw new ExistingLoanException("Le livre "
+                + livreDTO.getTitre()
+                + " (ID de livre : "
+                + livreDTO.getIdLivre()
+                + ") a été prêté à "
+                + pretDTO.getMembreDTO().getNom()
+                + " (ID de membre : "
+                + pretDTO.getMembreDTO().getIdMembre()
+                + ")");
         }
 
         // vérifie si le livre est réservé
-        final List<ReservationDTO> reservations = new ArrayList<>(livreDTO.getReservations());
-        if(!reservations.isEmpty()) {
-            final ReservationDTO reservationDTO = reservations.get(0);
+        if(isLivreReserve(getReservationDAO(),
+            session,
+            livreDTO)) {
+            final ReservationDTO reservationDTO = findPremiereReservation(getReservationDAO(),
+                session,
+                livreDTO);
             throw new ExistingReservationException("Le livre "
                 + livreDTO.getTitre()
                 + " (ID de livre : "
@@ -238,4 +449,57 @@ public class LivreService extends Service implements ILivreService {
         deleteLivre(session,
             livreDTO);
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addLivres(Session session,
+        List<LivreDTO> livreDTOs) throws InvalidHibernateSessionException,
+        InvalidDTOException,
+        ServiceException {
+        try {
+            getLivreDAO().addAll(session,
+                livreDTOs);
+        } catch(DAOException daoException) {
+            throw new ServiceException(daoException);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void acquerirLivres(Session session,
+        List<LivreDTO> livreDTOs) throws InvalidHibernateSessionException,
+        InvalidDTOException,
+        ServiceException {
+        if(session == null) {
+            throw new InvalidHibernateSessionException("La session Hibernate ne peut être null");
+        }
+        if(livreDTOs == null) {
+            throw new InvalidDTOException("La liste de livres ne peut être null");
+        }
+        addLivres(session,
+            livreDTOs);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void streamLivres(Session session,
+        String sortByPropertyName,
+        Consumer<? super LivreDTO> consumer) throws InvalidHibernateSessionException,
+        InvalidSortByPropertyException,
+        InvalidConsumerException,
+        ServiceException {
+        try {
+            getLivreDAO().stream(session,
+                sortByPropertyName,
+                consumer);
+        } catch(DAOException dAOException) {
+            throw new ServiceException(dAOException);
+        }
+    }
 }
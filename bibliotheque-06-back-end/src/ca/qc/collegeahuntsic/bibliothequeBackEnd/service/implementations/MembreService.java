@@ -4,16 +4,18 @@
 
 package ca.qc.collegeahuntsic.bibliothequeBackEnd.service.implementations;
 
-import java.util.ArrayList;
 import java.util.List;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dao.criteria.SearchCriteria;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.dao.interfaces.IMembreDAO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dao.interfaces.IPretDAO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dao.interfaces.IReservationDAO;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.MembreDTO;
-import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.PretDTO;
-import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.ReservationDTO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.MembreSummaryDTO;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.DAOException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidCriterionException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidCriterionValueException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidHibernateSessionException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidPaginationException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidPrimaryKeyException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidSortByPropertyException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dto.InvalidDTOException;
@@ -22,6 +24,8 @@ import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.service.ExistingReser
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.service.InvalidDAOException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.service.ServiceException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.service.interfaces.IMembreService;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.util.Page;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.util.PageRequest;
 import org.hibernate.Session;
 
 /**
@@ -33,18 +37,35 @@ public class MembreService extends Service implements IMembreService {
 
     private IMembreDAO membreDAO;
 
+    private IPretDAO pretDAO;
+
+    private IReservationDAO reservationDAO;
+
     /**
      * Crée le service de la table <code>membre</code>.
      *
      * @param membreDAO Le DAO de la table <code>membre</code>
-     * @throws InvalidDAOException Si le DAO de membre est <code>null</code> ou si le DAO de réservation est <code>null</code>
+     * @param pretDAO Le DAO de la table <code>pret</code>
+     * @param reservationDAO Le DAO de la table <code>reservation</code>
+     * @throws InvalidDAOException Si le DAO de membre est <code>null</code>, si le DAO de prêt est <code>null</code> ou si le DAO de
+     *         réservation est <code>null</code>
      */
-    public MembreService(IMembreDAO membreDAO) throws InvalidDAOException {
+    public MembreService(IMembreDAO membreDAO,
+        IPretDAO pretDAO,
+        IReservationDAO reservationDAO) throws InvalidDAOException {
         super();
         if(membreDAO == null) {
             throw new InvalidDAOException("Le DAO de membre ne peut être null");
         }
+        if(pretDAO == null) {
+            throw new InvalidDAOException("Le DAO de prêt ne peut être null");
+        }
+        if(reservationDAO == null) {
+            throw new InvalidDAOException("Le DAO de réservation ne peut être null");
+        }
         setMembreDAO(membreDAO);
+        setPretDAO(pretDAO);
+        setReservationDAO(reservationDAO);
     }
 
     // Opérations CRUD
@@ -81,6 +102,24 @@ public class MembreService extends Service implements IMembreService {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public MembreDTO getMembre(Session session,
+        String idMembre,
+        String fetchPlan) throws InvalidHibernateSessionException,
+        InvalidPrimaryKeyException,
+        ServiceException {
+        try {
+            return (MembreDTO) getMembreDAO().get(session,
+                idMembre,
+                fetchPlan);
+        } catch(DAOException daoException) {
+            throw new ServiceException(daoException);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -132,6 +171,79 @@ public class MembreService extends Service implements IMembreService {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public Page<MembreDTO> getAllMembres(Session session,
+        String sortByPropertyName,
+        PageRequest pageRequest) throws InvalidHibernateSessionException,
+        InvalidSortByPropertyException,
+        InvalidPaginationException,
+        ServiceException {
+        try {
+            return (Page<MembreDTO>) getMembreDAO().getAll(session,
+                sortByPropertyName,
+                pageRequest);
+        } catch(DAOException daoException) {
+            throw new ServiceException(daoException);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<MembreDTO> searchMembres(Session session,
+        SearchCriteria<MembreDTO> searchCriteria) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidCriterionValueException,
+        ServiceException {
+        try {
+            return getMembreDAO().search(session,
+                searchCriteria);
+        } catch(DAOException daoException) {
+            throw new ServiceException(daoException);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Page<MembreDTO> searchMembres(Session session,
+        SearchCriteria<MembreDTO> searchCriteria,
+        PageRequest pageRequest) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidCriterionValueException,
+        InvalidPaginationException,
+        ServiceException {
+        try {
+            return getMembreDAO().search(session,
+                searchCriteria,
+                pageRequest);
+        } catch(DAOException daoException) {
+            throw new ServiceException(daoException);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<MembreSummaryDTO> getAllMembreSummaries(Session session,
+        String sortByPropertyName) throws InvalidHibernateSessionException,
+        InvalidSortByPropertyException,
+        ServiceException {
+        try {
+            return getMembreDAO().getAllSummaries(session,
+                sortByPropertyName);
+        } catch(DAOException daoException) {
+            throw new ServiceException(daoException);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -152,6 +264,29 @@ public class MembreService extends Service implements IMembreService {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Page<MembreDTO> findMembresByNom(Session session,
+        String nom,
+        String sortByPropertyName,
+        PageRequest pageRequest) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidCriterionValueException,
+        InvalidSortByPropertyException,
+        InvalidPaginationException,
+        ServiceException {
+        try {
+            return getMembreDAO().findByNom(session,
+                nom,
+                sortByPropertyName,
+                pageRequest);
+        } catch(DAOException daoException) {
+            throw new ServiceException(daoException);
+        }
+    }
+
     // Méthodes métiers
 
     /**
@@ -173,6 +308,40 @@ public class MembreService extends Service implements IMembreService {
             membreDTO);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addMembres(Session session,
+        List<MembreDTO> membreDTOs) throws InvalidHibernateSessionException,
+        InvalidDTOException,
+        ServiceException {
+        try {
+            getMembreDAO().addAll(session,
+                membreDTOs);
+        } catch(DAOException daoException) {
+            throw new ServiceException(daoException);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void inscrireMembres(Session session,
+        List<MembreDTO> membreDTOs) throws InvalidHibernateSessionException,
+        InvalidDTOException,
+        ServiceException {
+        if(session == null) {
+            throw new InvalidHibernateSessionException("La session Hibernate ne peut être null");
+        }
+        if(membreDTOs == null) {
+            throw new InvalidDTOException("La liste de membres ne peut être null");
+        }
+        addMembres(session,
+            membreDTOs);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -190,40 +359,39 @@ public class MembreService extends Service implements IMembreService {
             throw new InvalidDTOException("Le membre ne peut être null");
         }
 
+        final int nombrePrets;
+        final boolean reservations;
         try {
+            nombrePrets = getPretDAO().countActiveByMembre(session,
+                membreDTO.getIdMembre());
+            reservations = getReservationDAO().existsByMembre(session,
+                membreDTO.getIdMembre());
+        } catch(
+            InvalidCriterionValueException
+            | DAOException exception) {
+            throw new ServiceException(exception);
+        }
 
-            final List<PretDTO> prets = new ArrayList<>(membreDTO.getPrets());
-            if(!prets.isEmpty()) {
-                for(PretDTO pretDTO : prets) {
-                    if(pretDTO.getDateRetour() == null) {
-                        throw new ExistingLoanException("Le membre "
-                            + membreDTO.getNom()
-                            + " (ID du membre : "
-                            + membreDTO.getIdMembre()
-                            + ") a encore le livre "
-                            + pretDTO.getLivreDTO().getTitre()
-                            + " (ID du livre : "
-                            + pretDTO.getLivreDTO().getIdLivre()
-                            + ") en sa possesion");
-                    }
-                }
-            }
-
-            final List<ReservationDTO> reservations = new ArrayList<>(membreDTO.getReservations());
-            if(!reservations.isEmpty()) {
-                throw new ExistingReservationException("Le membre "
-                    + membreDTO.getNom()
-                    + " (ID du membre : "
-                    + membreDTO.getIdMembre()
-                    + ") a encore des réservations");
-            }
-
-            deleteMembre(session,
-                membreDTO);
+        if(nombrePrets > 0) {
+            throw new ExistingLoanException("Le membre "
+                + membreDTO.getNom()
+                + " (ID du membre : "
+                + membreDTO.getIdMembre()
+                + ") a encore "
+                + nombrePrets
+                + " livre(s) en sa possession");
+        }
 
-        } catch(Exception exception) {
-            throw new ServiceException(exception);
+        if(reservations) {
+            throw new ExistingReservationException("Le membre "
+                + membreDTO.getNom()
+                + " (ID du membre : "
+                + membreDTO.getIdMembre()
+                + ") a encore des réservations");
         }
+
+        deleteMembre(session,
+            membreDTO);
     }
 
     // Getters & setters
@@ -248,4 +416,44 @@ public class MembreService extends Service implements IMembreService {
         this.membreDAO = membreDAO;
     }
 
+    /**
+     * Getter de la variable d'instance <code>this.pretDAO</code>.
+     *
+     * @return La variable d'instance <code>this.pretDAO</code>
+     */
+    private IPretDAO getPretDAO() {
+        return this.pretDAO;
+    }
+
+    /**
+     * Setter de la variable d'instance <code>this.pretDAO</code>.
+     *
+     * @param pretDAO
+     *            La valeur à utiliser pour la variable d'instance
+     *            <code>this.pretDAO</code>
+     */
+    private void setPretDAO(IPretDAO pretDAO) {
+        this.pretDAO = pretDAO;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.reservationDAO</code>.
+     *
+     * @return La variable d'instance <code>this.reservationDAO</code>
+     */
+    private IReservationDAO getReservationDAO() {
+        return this.reservationDAO;
+    }
+
+    /**
+     * Setter de la variable d'instance <code>this.reservationDAO</code>.
+     *
+     * @param reservationDAO
+     *            La valeur à utiliser pour la variable d'instance
+     *            <code>this.reservationDAO</code>
+     */
+    private void setReservationDAO(IReservationDAO reservationDAO) {
+        this.reservationDAO = reservationDAO;
+    }
+
 }
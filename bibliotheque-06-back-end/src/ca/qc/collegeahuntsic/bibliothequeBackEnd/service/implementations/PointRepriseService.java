@@ -0,0 +1,108 @@
+// Fichier PointRepriseService.java
+// Auteur : Dragons Vicieux
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliothequeBackEnd.service.implementations;
+
+import java.sql.Timestamp;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dao.interfaces.IPointRepriseDAO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.PointRepriseDTO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.DAOException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidHibernateSessionException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidPrimaryKeyException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dto.InvalidDTOException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.service.InvalidDAOException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.service.ServiceException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.service.interfaces.IPointRepriseService;
+import org.hibernate.Session;
+
+/**
+ * Service de la table <code>pointReprise</code>.
+ *
+ * @author Dragons Vicieux
+ */
+public class PointRepriseService extends Service implements IPointRepriseService {
+
+    private IPointRepriseDAO pointRepriseDAO;
+
+    /**
+     * Crée le service de la table <code>pointReprise</code>.
+     *
+     * @param pointRepriseDAO Le DAO de la table <code>pointReprise</code>
+     * @throws InvalidDAOException Si le DAO de point de reprise est <code>null</code>
+     */
+    public PointRepriseService(IPointRepriseDAO pointRepriseDAO) throws InvalidDAOException {
+        super();
+        if(pointRepriseDAO == null) {
+            throw new InvalidDAOException("Le DAO de point de reprise ne peut être null");
+        }
+        setPointRepriseDAO(pointRepriseDAO);
+    }
+
+    // Region Getters and Setters
+    /**
+     * Getter de la variable d'instance <code>this.pointRepriseDAO</code>.
+     *
+     * @return La variable d'instance <code>this.pointRepriseDAO</code>
+     */
+    public IPointRepriseDAO getPointRepriseDAO() {
+        return this.pointRepriseDAO;
+    }
+
+    /**
+     * Setter de la variable d'instance <code>this.pointRepriseDAO</code>.
+     *
+     * @param pointRepriseDAO La valeur à utiliser pour la variable d'instance <code>this.pointRepriseDAO</code>
+     */
+    public void setPointRepriseDAO(IPointRepriseDAO pointRepriseDAO) {
+        this.pointRepriseDAO = pointRepriseDAO;
+    }
+
+    // EndRegion Getters and Setters
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PointRepriseDTO getPointReprise(Session session,
+        String fichier) throws InvalidHibernateSessionException,
+        InvalidPrimaryKeyException,
+        ServiceException {
+        try {
+            return (PointRepriseDTO) getPointRepriseDAO().get(session,
+                fichier);
+        } catch(DAOException daoException) {
+            throw new ServiceException(daoException);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void enregistrerPointReprise(Session session,
+        String fichier,
+        long positionFichier,
+        int numeroLigne) throws InvalidHibernateSessionException,
+        InvalidPrimaryKeyException,
+        ServiceException {
+        try {
+            if(!getPointRepriseDAO().updatePosition(session,
+                fichier,
+                positionFichier,
+                numeroLigne)) {
+                final PointRepriseDTO pointRepriseDTO = new PointRepriseDTO();
+                pointRepriseDTO.setFichier(fichier);
+                pointRepriseDTO.setPositionFichier(positionFichier);
+                pointRepriseDTO.setNumeroLigne(numeroLigne);
+                pointRepriseDTO.setDateMiseAJour(new Timestamp(System.currentTimeMillis()));
+                getPointRepriseDAO().add(session,
+                    pointRepriseDTO);
+            }
+        } catch(
+            InvalidDTOException
+            | DAOException exception) {
+            throw new ServiceException(exception);
+        }
+    }
+}
@@ -5,16 +5,19 @@
 package ca.qc.collegeahuntsic.bibliothequeBackEnd.service.implementations;
 
 import java.sql.Timestamp;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dao.criteria.SearchCriteria;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.dao.interfaces.IPretDAO;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.dao.interfaces.IReservationDAO;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.PretDTO;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.ReservationDTO;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.DAOException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidConsumerException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidCriterionException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidCriterionValueException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidHibernateSessionException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidPaginationException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidPrimaryKeyException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidSortByPropertyException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dto.InvalidDTOException;
@@ -25,6 +28,8 @@ import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.service.InvalidLoanLi
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.service.MissingLoanException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.service.ServiceException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.service.interfaces.IPretService;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.util.Page;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.util.PageRequest;
 import org.hibernate.Session;
 
 /**
@@ -91,6 +96,25 @@ public class PretService extends Service implements IPretService {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PretDTO getPret(Session session,
+        String idPret,
+        String fetchPlan) throws InvalidHibernateSessionException,
+        InvalidPrimaryKeyException,
+        ServiceException {
+        try {
+            return (PretDTO) getPretDAO().get(session,
+                idPret,
+                fetchPlan);
+        } catch(DAOException daoException) {
+            throw new ServiceException(daoException.getMessage(),
+                daoException);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -146,6 +170,63 @@ public class PretService extends Service implements IPretService {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Page<PretDTO> getAllPrets(Session session,
+        String sortByPropertyName,
+        PageRequest pageRequest) throws InvalidHibernateSessionException,
+        InvalidSortByPropertyException,
+        InvalidPaginationException,
+        ServiceException {
+        try {
+            return (Page<PretDTO>) getPretDAO().getAll(session,
+                sortByPropertyName,
+                pageRequest);
+        } catch(DAOException daoException) {
+            throw new ServiceException(daoException);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<PretDTO> searchPrets(Session session,
+        SearchCriteria<PretDTO> searchCriteria) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidCriterionValueException,
+        ServiceException {
+        try {
+            return getPretDAO().search(session,
+                searchCriteria);
+        } catch(DAOException daoException) {
+            throw new ServiceException(daoException);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Page<PretDTO> searchPrets(Session session,
+        SearchCriteria<PretDTO> searchCriteria,
+        PageRequest pageRequest) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidCriterionValueException,
+        InvalidPaginationException,
+        ServiceException {
+        try {
+            return getPretDAO().search(session,
+                searchCriteria,
+                pageRequest);
+        } catch(DAOException daoException) {
+            throw new ServiceException(daoException);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -166,6 +247,29 @@ public class PretService extends Service implements IPretService {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Page<PretDTO> findPretByMembre(Session session,
+        String idMembre,
+        String sortByPropertyName,
+        PageRequest pageRequest) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidCriterionValueException,
+        InvalidSortByPropertyException,
+        InvalidPaginationException,
+        ServiceException {
+        try {
+            return getPretDAO().findByMembre(session,
+                idMembre,
+                sortByPropertyName,
+                pageRequest);
+        } catch(DAOException daoException) {
+            throw new ServiceException(daoException);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -186,6 +290,29 @@ public class PretService extends Service implements IPretService {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Page<PretDTO> findPretByLivre(Session session,
+        String idLivre,
+        String sortByPropertyName,
+        PageRequest pageRequest) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidCriterionValueException,
+        InvalidSortByPropertyException,
+        InvalidPaginationException,
+        ServiceException {
+        try {
+            return getPretDAO().findByLivre(session,
+                idLivre,
+                sortByPropertyName,
+                pageRequest);
+        } catch(DAOException daoException) {
+            throw new ServiceException(daoException);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -206,6 +333,29 @@ public class PretService extends Service implements IPretService {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Page<PretDTO> findPretByDatePret(Session session,
+        Timestamp datePret,
+        String sortByPropertyName,
+        PageRequest pageRequest) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidCriterionValueException,
+        InvalidSortByPropertyException,
+        InvalidPaginationException,
+        ServiceException {
+        try {
+            return getPretDAO().findByDatePret(session,
+                datePret,
+                sortByPropertyName,
+                pageRequest);
+        } catch(DAOException daoException) {
+            throw new ServiceException(daoException);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -226,6 +376,29 @@ public class PretService extends Service implements IPretService {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Page<PretDTO> findPretByDateRetour(Session session,
+        Timestamp dateRetour,
+        String sortByPropertyName,
+        PageRequest pageRequest) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidCriterionValueException,
+        InvalidSortByPropertyException,
+        InvalidPaginationException,
+        ServiceException {
+        try {
+            return getPretDAO().findByDateRetour(session,
+                dateRetour,
+                sortByPropertyName,
+                pageRequest);
+        } catch(DAOException daoException) {
+            throw new ServiceException(daoException);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -245,24 +418,22 @@ public class PretService extends Service implements IPretService {
             throw new InvalidDTOException("Le DTO du prêt ne peut pas être null");
         }
 
-        // Si le livre n'est pas prêté
-        final List<PretDTO> prets = new ArrayList<>(pretDTO.getLivreDTO().getPrets());
-        if(!prets.isEmpty()) {
-            for(PretDTO unpretDTO : prets) {
-                if(unpretDTO.getDateRetour() != null) {
-                    throw new MissingLoanException("Le livre "
-                        + pretDTO.getLivreDTO().getTitre()
-                        + " (ID de livre : "
-                        + pretDTO.getLivreDTO().getIdLivre()
-                        + ") n'a pas été prêté encore");
-                }
-            }
+        // Si le prêt est terminé
+        if(pretDTO.getDateRetour() != null) {
+            throw new MissingLoanException("Le livre "
+                + pretDTO.getLivreDTO().getTitre()
+                + " (ID de livre : "
+                + pretDTO.getLivreDTO().getIdLivre()
+                + ") n'a pas été prêté encore");
         }
 
         // vérifie si le livre est réservé
-        final List<ReservationDTO> reservations = new ArrayList<>(pretDTO.getLivreDTO().getReservations());
-        if(!reservations.isEmpty()) {
-            final ReservationDTO reservationDTO = reservations.get(0);
+        if(isLivreReserve(getReservationDAO(),
+            session,
+            pretDTO.getLivreDTO())) {
+            final ReservationDTO reservationDTO = findPremiereReservation(getReservationDAO(),
+                session,
+                pretDTO.getLivreDTO());
             throw new ExistingReservationException("Le livre "
                 + pretDTO.getLivreDTO().getTitre()
                 + " (ID de livre : "
@@ -301,32 +472,38 @@ public class PretService extends Service implements IPretService {
         }
 
         // Si le livre a été prêté
-        final List<PretDTO> listeDesPrets = new ArrayList<>(pretDTO.getLivreDTO().getPrets());
-        for(PretDTO unPretDTO : listeDesPrets) {
-            if(unPretDTO.getDateRetour() == null) {
-                throw new ExistingLoanException("Le livre "
-                    + pretDTO.getLivreDTO().getTitre()
-                    + " (ID du livre: "
-                    + pretDTO.getLivreDTO().getIdLivre()
-                    + " ) a été prêté au membre "
-                    + pretDTO.getMembreDTO().getNom()
-                    + " (ID du membre: "
-                    + pretDTO.getMembreDTO().getIdMembre()
-                    + " ).");
-            }
+        if(isLivrePrete(getPretDAO(),
+            session,
+            pretDTO.getLivreDTO())) {
+            final PretDTO pretEnCours = findPretEnCours(getPretDAO(),
+                session,
+                pretDTO.getLivreDTO());
+            throw new ExistingLoanException("Le livre "
+                + pretDTO.getLivreDTO().getTitre()
+                + " (ID du livre: "
+                + pretDTO.getLivreDTO().getIdLivre()
+                + " ) a été prêté au membre "
+                + pretEnCours.getMembreDTO().getNom()
+                + " (ID du membre: "
+                + pretEnCours.getMembreDTO().getIdMembre()
+                + " ).");
         }
 
         // Si le livre a été réservé
-        final List<ReservationDTO> listeDesReservations = new ArrayList<>(pretDTO.getLivreDTO().getReservations());
-        if(!listeDesReservations.isEmpty()) {
+        if(isLivreReserve(getReservationDAO(),
+            session,
+            pretDTO.getLivreDTO())) {
+            final ReservationDTO reservationDTO = findPremiereReservation(getReservationDAO(),
+                session,
+                pretDTO.getLivreDTO());
             throw new ExistingReservationException("Le livre "
                 + pretDTO.getLivreDTO().getTitre()
                 + " (ID du livre: "
                 + pretDTO.getLivreDTO().getIdLivre()
                 + " ) a été réservé par le membre membre "
-                + pretDTO.getMembreDTO().getNom()
+                + reservationDTO.getMembreDTO().getNom()
                 + " (ID du membre: "
-                + pretDTO.getMembreDTO().getIdMembre()
+                + reservationDTO.getMembreDTO().getIdMembre()
                 + " ).");
         }
 
@@ -360,20 +537,17 @@ public class PretService extends Service implements IPretService {
             throw new InvalidDTOException("Le pret  ne peut être null.");
         }
 
-        // Si le livre a été prêté
-        final List<PretDTO> listeDesPrets = new ArrayList<>(pretDTO.getLivreDTO().getPrets());
-        for(PretDTO unPretDTO : listeDesPrets) {
-            if(unPretDTO.getDateRetour() == null) {
-                throw new MissingLoanException("Le livre "
-                    + pretDTO.getLivreDTO().getTitre()
-                    + " (ID du livre: "
-                    + pretDTO.getLivreDTO().getIdLivre()
-                    + " ) a été prêté au membre "
-                    + pretDTO.getMembreDTO().getNom()
-                    + " (ID du membre: "
-                    + pretDTO.getMembreDTO().getIdMembre()
-                    + " ).");
-            }
+        // Si le prêt est déjà terminé
+        if(pretDTO.getDateRetour() != null) {
+            throw new MissingLoanException("Le livre "
+                + pretDTO.getLivreDTO().getTitre()
+                + " (ID du livre: "
+                + pretDTO.getLivreDTO().getIdLivre()
+                + " ) n'est pas prêté au membre "
+                + pretDTO.getMembreDTO().getNom()
+                + " (ID du membre: "
+                + pretDTO.getMembreDTO().getIdMembre()
+                + " ).");
         }
 
         pretDTO.getMembreDTO().setNbPret(pretDTO.getMembreDTO().getNbPret() - 1);
@@ -383,6 +557,80 @@ public class PretService extends Service implements IPretService {
 
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addPrets(Session session,
+        List<PretDTO> pretDTOs) throws InvalidHibernateSessionException,
+        InvalidDTOException,
+        ServiceException {
+        try {
+            getPretDAO().addAll(session,
+                pretDTOs);
+        } catch(DAOException daoException) {
+            throw new ServiceException(daoException);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void updatePrets(Session session,
+        List<PretDTO> pretDTOs) throws InvalidHibernateSessionException,
+        InvalidDTOException,
+        ServiceException {
+        try {
+            getPretDAO().updateAll(session,
+                pretDTOs);
+        } catch(DAOException daoException) {
+            throw new ServiceException(daoException);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void streamPrets(Session session,
+        String sortByPropertyName,
+        Consumer<? super PretDTO> consumer) throws InvalidHibernateSessionException,
+        InvalidSortByPropertyException,
+        InvalidConsumerException,
+        ServiceException {
+        try {
+            getPretDAO().stream(session,
+                sortByPropertyName,
+                consumer);
+        } catch(DAOException dAOException) {
+            throw new ServiceException(dAOException);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void streamPretsByMembre(Session session,
+        String idMembre,
+        String sortByPropertyName,
+        Consumer<? super PretDTO> consumer) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidCriterionValueException,
+        InvalidSortByPropertyException,
+        InvalidConsumerException,
+        ServiceException {
+        try {
+            getPretDAO().streamByMembre(session,
+                idMembre,
+                sortByPropertyName,
+                consumer);
+        } catch(DAOException daoException) {
+            throw new ServiceException(daoException);
+        }
+    }
+
     /**
      * Getter de la variable d'instance <code>this.pretDAO</code>.
      *
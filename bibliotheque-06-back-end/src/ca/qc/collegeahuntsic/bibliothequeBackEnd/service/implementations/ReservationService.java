@@ -5,8 +5,8 @@
 package ca.qc.collegeahuntsic.bibliothequeBackEnd.service.implementations;
 
 import java.sql.Timestamp;
-import java.util.ArrayList;
 import java.util.List;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dao.criteria.SearchCriteria;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.dao.interfaces.IPretDAO;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.dao.interfaces.IReservationDAO;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.PretDTO;
@@ -15,6 +15,7 @@ import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.DAOException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidCriterionException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidCriterionValueException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidHibernateSessionException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidPaginationException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidPrimaryKeyException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidSortByPropertyException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dto.InvalidDTOClassException;
@@ -26,6 +27,9 @@ import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.service.InvalidLoanLi
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.service.MissingLoanException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.service.ServiceException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.service.interfaces.IReservationService;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.util.Page;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.util.PageRequest;
+import org.hibernate.Hibernate;
 import org.hibernate.Session;
 
 /**
@@ -95,6 +99,24 @@ public class ReservationService extends Service implements IReservationService {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ReservationDTO getReservation(Session session,
+        String idReservation,
+        String fetchPlan) throws InvalidHibernateSessionException,
+        InvalidPrimaryKeyException,
+        ServiceException {
+        try {
+            return (ReservationDTO) getReservationDAO().get(session,
+                idReservation,
+                fetchPlan);
+        } catch(DAOException daoException) {
+            throw new ServiceException(daoException);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -148,6 +170,63 @@ public class ReservationService extends Service implements IReservationService {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public Page<ReservationDTO> getAllReservations(Session session,
+        String sortByPropertyName,
+        PageRequest pageRequest) throws InvalidHibernateSessionException,
+        InvalidSortByPropertyException,
+        InvalidPaginationException,
+        ServiceException {
+        try {
+            return (Page<ReservationDTO>) getReservationDAO().getAll(session,
+                sortByPropertyName,
+                pageRequest);
+        } catch(DAOException daoException) {
+            throw new ServiceException(daoException);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<ReservationDTO> searchReservations(Session session,
+        SearchCriteria<ReservationDTO> searchCriteria) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidCriterionValueException,
+        ServiceException {
+        try {
+            return getReservationDAO().search(session,
+                searchCriteria);
+        } catch(DAOException daoException) {
+            throw new ServiceException(daoException);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Page<ReservationDTO> searchReservations(Session session,
+        SearchCriteria<ReservationDTO> searchCriteria,
+        PageRequest pageRequest) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidCriterionValueException,
+        InvalidPaginationException,
+        ServiceException {
+        try {
+            return getReservationDAO().search(session,
+                searchCriteria,
+                pageRequest);
+        } catch(DAOException daoException) {
+            throw new ServiceException(daoException);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -168,6 +247,29 @@ public class ReservationService extends Service implements IReservationService {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Page<ReservationDTO> findReservationByMembre(Session session,
+        String idMembre,
+        String sortByPropertyName,
+        PageRequest pageRequest) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidCriterionValueException,
+        InvalidSortByPropertyException,
+        InvalidPaginationException,
+        ServiceException {
+        try {
+            return getReservationDAO().findByMembre(session,
+                idMembre,
+                sortByPropertyName,
+                pageRequest);
+        } catch(DAOException daoException) {
+            throw new ServiceException(daoException);
+        }
+    }
+
     /**
      * {@inheritDoc}
      * @throws
@@ -189,6 +291,29 @@ public class ReservationService extends Service implements IReservationService {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Page<ReservationDTO> findReservationByLivre(Session session,
+        String idLivre,
+        String sortByPropertyName,
+        PageRequest pageRequest) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidCriterionValueException,
+        InvalidSortByPropertyException,
+        InvalidPaginationException,
+        ServiceException {
+        try {
+            return getReservationDAO().findByLivre(session,
+                idLivre,
+                sortByPropertyName,
+                pageRequest);
+        } catch(DAOException daoException) {
+            throw new ServiceException(daoException);
+        }
+    }
+
     // End Opérations de recherche
 
     // Region Méthodes métier
@@ -212,46 +337,49 @@ public class ReservationService extends Service implements IReservationService {
         }
 
         // Si le livre n'a pas encore été prêté,
-        final List<PretDTO> prets = new ArrayList<>(reservationDTO.getLivreDTO().getPrets());
-        if(!prets.isEmpty()) {
-            for(PretDTO pretDTO : prets) {
-                if(pretDTO.getDateRetour() != null) {
-                    throw new MissingLoanException("Le livre : "
-                        + reservationDTO.getLivreDTO().getTitre()
-                        + "(ID du livre : "
-                        + reservationDTO.getLivreDTO().getIdLivre()
-                        + ") n'a pas été prêté encore. Faire un emprunt au lieu d'un réservation");
-                }
-            }
-
-            // Si le livre est déjà prêté au membre
-            for(PretDTO unPretDTO : prets) {
-                if(reservationDTO.getMembreDTO().equals(unPretDTO.getMembreDTO())) {
-                    throw new ExistingLoanException("Le livre : "
-                        + reservationDTO.getLivreDTO().getTitre()
-                        + "(ID du livre : "
-                        + reservationDTO.getLivreDTO().getIdLivre()
-                        + " est déjà prêté ce membre ("
-                        + unPretDTO.getMembreDTO().getNom()
-                        + ")");
-                }
-            }
-
-            // Si le membre a déjà réservé ce livre
-            final List<ReservationDTO> listeReservation = new ArrayList<>(reservationDTO.getMembreDTO().getReservations());
-            for(ReservationDTO reservation : listeReservation) {
-                if(reservationDTO.getLivreDTO().equals(reservation.getLivreDTO())) {
-                    throw new ExistingReservationException("Le livre : "
-                        + reservationDTO.getLivreDTO().getTitre()
-                        + "(ID du livre : "
-                        + reservationDTO.getLivreDTO().getIdLivre()
-                        + ") a déjà été réservé par le membre : "
-                        + reservation.getMembreDTO().getNom()
-                        + "(ID du membre : "
-                        + reservation.getMembreDTO().getIdMembre()
-                        + ")");
-                }
-            }
+        final PretDTO pretEnCours = findPretEnCours(getPretDAO(),
+            session,
+            reservationDTO.getLivreDTO());
+        if(pretEnCours == null) {
+            throw new MissingLoanException("Le livre : "
+                + reservationDTO.getLivreDTO().getTitre()
+                + "(ID du livre : "
+                + reservationDTO.getLivreDTO().getIdLivre()
+                + ") n'a pas été prêté encore. Faire un emprunt au lieu d'un réservation");
+        }
+
+        // Si le livre est déjà prêté au membre
+        if(reservationDTO.getMembreDTO().equals(pretEnCours.getMembreDTO())) {
+            throw new ExistingLoanException("Le livre : "
+                + reservationDTO.getLivreDTO().getTitre()
+                + "(ID du livre : "
+                + reservationDTO.getLivreDTO().getIdLivre()
+                + " est déjà prêté ce membre ("
+                + pretEnCours.getMembreDTO().getNom()
+                + ")");
+        }
+
+        // Si le membre a déjà réservé ce livre
+        final boolean dejaReserve;
+        try {
+            dejaReserve = getReservationDAO().existsByMembreAndLivre(session,
+                reservationDTO.getMembreDTO().getIdMembre(),
+                reservationDTO.getLivreDTO().getIdLivre());
+        } catch(
+            InvalidCriterionValueException
+            | DAOException exception) {
+            throw new ServiceException(exception);
+        }
+        if(dejaReserve) {
+            throw new ExistingReservationException("Le livre : "
+                + reservationDTO.getLivreDTO().getTitre()
+                + "(ID du livre : "
+                + reservationDTO.getLivreDTO().getIdLivre()
+                + ") a déjà été réservé par le membre : "
+                + reservationDTO.getMembreDTO().getNom()
+                + "(ID du membre : "
+                + reservationDTO.getMembreDTO().getIdMembre()
+                + ")");
         }
 
         //Création de la réservation
@@ -280,33 +408,32 @@ public class ReservationService extends Service implements IReservationService {
         }
 
         // Si la réservation n'est pas la première de la liste
-        final List<ReservationDTO> listeReservations = new ArrayList<>(reservationDTO.getLivreDTO().getReservations());
-
-        if(!listeReservations.isEmpty()) {
-            final ReservationDTO firstReservationDTO = listeReservations.get(0);
-            if(!reservationDTO.getMembreDTO().equals(firstReservationDTO.getMembreDTO())) {
-                throw new ExistingReservationException("La réservation n'est pas la première de la liste "
-                    + "pour ce livre; la première est "
-                    + firstReservationDTO.getIdReservation());
-            }
+        final ReservationDTO firstReservationDTO = findPremiereReservation(getReservationDAO(),
+            session,
+            reservationDTO.getLivreDTO());
+        if(firstReservationDTO != null
+            && !reservationDTO.getMembreDTO().equals(firstReservationDTO.getMembreDTO())) {
+            throw new ExistingReservationException("La réservation n'est pas la première de la liste "
+                + "pour ce livre; la première est "
+                + firstReservationDTO.getIdReservation());
         }
 
         // Si le livre est déjà prété
-        final List<PretDTO> listeDesPret = new ArrayList<>(reservationDTO.getLivreDTO().getPrets());
-        if(!listeDesPret.isEmpty()) {
-            for(PretDTO pretDTO : listeDesPret) {
-                if(pretDTO.getDateRetour() == null) {
-                    throw new ExistingLoanException("Le livre "
-                        + reservationDTO.getLivreDTO().getTitre()
-                        + " (ID de livre : "
-                        + reservationDTO.getLivreDTO().getIdLivre()
-                        + ") a été prêté à "
-                        + pretDTO.getMembreDTO().getNom()
-                        + " (ID de membre : "
-                        + pretDTO.getMembreDTO().getIdMembre()
-                        + ")");
-                }
-            }
+        if(isLivrePrete(getPretDAO(),
+            session,
+            reservationDTO.getLivreDTO())) {
+            final PretDTO pretEnCours = findPretEnCours(getPretDAO(),
+                session,
+                reservationDTO.getLivreDTO());
+            throw new ExistingLoanException("Le livre "
+                + reservationDTO.getLivreDTO().getTitre()
+                + " (ID de livre : "
+                + reservationDTO.getLivreDTO().getIdLivre()
+                + ") a été prêté à "
+                + pretEnCours.getMembreDTO().getNom()
+                + " (ID de membre : "
+                + pretEnCours.getMembreDTO().getIdMembre()
+                + ")");
         }
 
         // Si le membre a atteint sa limite de prêt
@@ -327,7 +454,10 @@ public class ReservationService extends Service implements IReservationService {
         unPretDTO.setDatePret(new Timestamp(System.currentTimeMillis()));
         unPretDTO.setDateRetour(null);
 
-        reservationDTO.getLivreDTO().getReservations().remove(reservationDTO);
+        // Ne retire la réservation de la collection du livre que si elle a déjà été chargée
+        if(Hibernate.isInitialized(reservationDTO.getLivreDTO().getReservations())) {
+            reservationDTO.getLivreDTO().getReservations().remove(reservationDTO);
+        }
         try {
             getPretDAO().add(session,
                 unPretDTO);
@@ -358,6 +488,40 @@ public class ReservationService extends Service implements IReservationService {
             reservationDTO);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void deleteReservations(Session session,
+        List<ReservationDTO> reservationDTOs) throws InvalidHibernateSessionException,
+        InvalidDTOException,
+        ServiceException {
+        try {
+            getReservationDAO().deleteAll(session,
+                reservationDTOs);
+        } catch(DAOException daoException) {
+            throw new ServiceException(daoException);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void annulerReservations(Session session,
+        List<ReservationDTO> reservationDTOs) throws InvalidHibernateSessionException,
+        InvalidDTOException,
+        ServiceException {
+        if(session == null) {
+            throw new InvalidHibernateSessionException("La session Hibernate ne peut être null");
+        }
+        if(reservationDTOs == null) {
+            throw new InvalidDTOException("La liste de réservations ne peut être null");
+        }
+        deleteReservations(session,
+            reservationDTOs);
+    }
+
     // End Méthodes métier
 
     // Region Getter et Setter
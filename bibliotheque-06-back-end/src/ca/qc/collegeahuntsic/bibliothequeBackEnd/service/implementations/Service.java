@@ -4,6 +4,17 @@
 
 package ca.qc.collegeahuntsic.bibliothequeBackEnd.service.implementations;
 
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dao.interfaces.IPretDAO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dao.interfaces.IReservationDAO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.LivreDTO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.PretDTO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.ReservationDTO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.DAOException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidCriterionValueException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidHibernateSessionException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.service.ServiceException;
+import org.hibernate.Session;
+
 /**
  * Classe de base pour tous les services.
  *
@@ -16,4 +27,100 @@ public class Service {
     protected Service() {
         super();
     }
+
+    /**
+     * Vérifie si un livre est prêté sans lire son prêt en cours.
+     *
+     * @param pretDAO Le DAO de la table <code>pret</code>
+     * @param session La session Hibernate à utiliser
+     * @param livreDTO Le livre
+     * @return <code>true</code> si le livre est prêté ; <code>false</code> sinon
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws ServiceException S'il y a une erreur avec la base de données
+     */
+    protected boolean isLivrePrete(IPretDAO pretDAO,
+        Session session,
+        LivreDTO livreDTO) throws InvalidHibernateSessionException,
+        ServiceException {
+        try {
+            return pretDAO.existsActiveByLivre(session,
+                livreDTO.getIdLivre());
+        } catch(
+            InvalidCriterionValueException
+            | DAOException exception) {
+            throw new ServiceException(exception);
+        }
+    }
+
+    /**
+     * Vérifie si un livre est réservé sans lire sa file d'attente.
+     *
+     * @param reservationDAO Le DAO de la table <code>reservation</code>
+     * @param session La session Hibernate à utiliser
+     * @param livreDTO Le livre
+     * @return <code>true</code> si le livre est réservé ; <code>false</code> sinon
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws ServiceException S'il y a une erreur avec la base de données
+     */
+    protected boolean isLivreReserve(IReservationDAO reservationDAO,
+        Session session,
+        LivreDTO livreDTO) throws InvalidHibernateSessionException,
+        ServiceException {
+        try {
+            return reservationDAO.existsByLivre(session,
+                livreDTO.getIdLivre());
+        } catch(
+            InvalidCriterionValueException
+            | DAOException exception) {
+            throw new ServiceException(exception);
+        }
+    }
+
+    /**
+     * Trouve le prêt en cours d'un livre sans parcourir l'historique de ses prêts.
+     *
+     * @param pretDAO Le DAO de la table <code>pret</code>
+     * @param session La session Hibernate à utiliser
+     * @param livreDTO Le livre
+     * @return Le prêt en cours du livre ; <code>null</code> si le livre n'est pas prêté
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws ServiceException S'il y a une erreur avec la base de données
+     */
+    protected PretDTO findPretEnCours(IPretDAO pretDAO,
+        Session session,
+        LivreDTO livreDTO) throws InvalidHibernateSessionException,
+        ServiceException {
+        try {
+            return pretDAO.findActiveByLivre(session,
+                livreDTO.getIdLivre());
+        } catch(
+            InvalidCriterionValueException
+            | DAOException exception) {
+            throw new ServiceException(exception);
+        }
+    }
+
+    /**
+     * Trouve la réservation en tête de la file d'attente d'un livre sans charger toutes ses réservations.
+     *
+     * @param reservationDAO Le DAO de la table <code>reservation</code>
+     * @param session La session Hibernate à utiliser
+     * @param livreDTO Le livre
+     * @return La première réservation du livre ; <code>null</code> si le livre n'est pas réservé
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws ServiceException S'il y a une erreur avec la base de données
+     */
+    protected ReservationDTO findPremiereReservation(IReservationDAO reservationDAO,
+        Session session,
+        LivreDTO livreDTO) throws InvalidHibernateSessionException,
+        ServiceException {
+        try {
+            return reservationDAO.findFirstByLivre(session,
+                livreDTO.getIdLivre());
+        } catch(
+            InvalidCriterionValueException
+            | DAOException exception) {
+            throw new ServiceException(exception);
+        }
+    }
 }
@@ -5,16 +5,24 @@
 package ca.qc.collegeahuntsic.bibliothequeBackEnd.service.interfaces;
 
 import java.util.List;
+import java.util.function.Consumer;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dao.criteria.SearchCriteria;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.LivreDTO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.LivreSummaryDTO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidConsumerException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidCriterionException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidCriterionValueException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidHibernateSessionException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidPaginationException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidPrimaryKeyException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidSortByPropertyException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dto.InvalidDTOException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.service.ExistingLoanException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.service.ExistingReservationException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.service.ServiceException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.index.LivreHit;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.util.Page;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.util.PageRequest;
 import org.hibernate.Session;
 
 /**
@@ -53,6 +61,23 @@ public interface ILivreService extends IService {
         InvalidPrimaryKeyException,
         ServiceException;
 
+    /**
+     * Lit un livre à partir de la base de données selon un plan de chargement, avec les associations dont une opération aura besoin.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param idLivre L'ID du livre à lire
+     * @param fetchPlan Le plan de chargement, par exemple {@link LivreDTO#FETCH_PLAN_VENTE} ; <code>null</code> pour lire le livre seul
+     * @return Le livre
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidPrimaryKeyException Si la clef primaire du livre est <code>null</code>
+     * @throws ServiceException S'il y a une erreur avec la base de données
+     */
+    LivreDTO getLivre(Session session,
+        String idLivre,
+        String fetchPlan) throws InvalidHibernateSessionException,
+        InvalidPrimaryKeyException,
+        ServiceException;
+
     /**
      * Met à jour un livre dans la base de données.
      *
@@ -97,6 +122,118 @@ public interface ILivreService extends IService {
         InvalidSortByPropertyException,
         ServiceException;
 
+    /**
+     * Trouve tous les livres de la base de données. La page est classée par ordre croissant sur <code>sortByPropertyName</code>. Si aucun
+     * livre n'est trouvé, une page vide est retournée.
+     * Seule la page demandée par <code>pageRequest</code> est lue, par numéro de page ou à la suite d'une clef de tri.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param sortByPropertyName The nom de la propriété à utiliser pour classer
+     * @param pageRequest La page à lire
+     * @return La page demandée ; une page vide sinon
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidSortByPropertyException Si la propriété à utiliser pour classer est <code>null</code>
+     * @throws InvalidPaginationException Si la demande de page est <code>null</code> ou invalide
+     * @throws ServiceException S'il y a une erreur avec la base de données
+     */
+    Page<LivreDTO> getAllLivres(Session session,
+        String sortByPropertyName,
+        PageRequest pageRequest) throws InvalidHibernateSessionException,
+        InvalidSortByPropertyException,
+        InvalidPaginationException,
+        ServiceException;
+
+    /**
+     * Trouve les livres qui satisfont les critères de recherche, en une seule requête. La liste est classée selon les critères puis sur
+     * l'ID. Si aucun livre n'est trouvé, une {@link List} vide est retournée.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param searchCriteria Les critères de recherche
+     * @return La liste des livres correspondants ; une liste vide sinon
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidCriterionException Si les critères sont <code>null</code> ou si une propriété est <code>null</code> ou n'existe pas
+     * @throws InvalidCriterionValueException Si une valeur est <code>null</code> ou si une liste de valeurs est vide
+     * @throws ServiceException S'il y a une erreur avec la base de données
+     */
+    List<LivreDTO> searchLivres(Session session,
+        SearchCriteria<LivreDTO> searchCriteria) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidCriterionValueException,
+        ServiceException;
+
+    /**
+     * Trouve une page de livres qui satisfont les critères de recherche, en une seule requête. La page est classée selon les critères puis
+     * sur l'ID. Seule la pagination par numéro de page est possible.
+     * Si aucun livre n'est trouvé, une page vide est retournée.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param searchCriteria Les critères de recherche
+     * @param pageRequest La page à lire
+     * @return La page demandée ; une page vide sinon
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidCriterionException Si les critères sont <code>null</code> ou si une propriété est <code>null</code> ou n'existe pas
+     * @throws InvalidCriterionValueException Si une valeur est <code>null</code> ou si une liste de valeurs est vide
+     * @throws InvalidPaginationException Si la demande de page est <code>null</code>, invalide ou par clef
+     * @throws ServiceException S'il y a une erreur avec la base de données
+     */
+    Page<LivreDTO> searchLivres(Session session,
+        SearchCriteria<LivreDTO> searchCriteria,
+        PageRequest pageRequest) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidCriterionValueException,
+        InvalidPaginationException,
+        ServiceException;
+
+    /**
+     * Recherche les livres dont le titre ou l'auteur contient les mots de <code>text</code>, dans l'index plein texte en mémoire. Les mots
+     * sont comparés sans accents ni majuscules ; un mot incomplet ou mal orthographié trouve aussi les mots proches. Les résultats sont
+     * classés du plus pertinent au moins pertinent. Si aucun livre n'est trouvé, une {@link List} vide est retournée.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param text Le texte à trouver
+     * @param limit Le nombre maximal de résultats
+     * @return La liste des livres trouvés ; une liste vide sinon
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidCriterionValueException Si le texte à trouver est <code>null</code>
+     * @throws InvalidPaginationException Si le nombre maximal de résultats n'est pas positif
+     * @throws ServiceException S'il y a une erreur avec la base de données
+     */
+    List<LivreHit> searchLivres(Session session,
+        String text,
+        int limit) throws InvalidHibernateSessionException,
+        InvalidCriterionValueException,
+        InvalidPaginationException,
+        ServiceException;
+
+    /**
+     * Reconstruit l'index plein texte des livres à partir de la base de données. L'index est aussi construit automatiquement à la
+     * première recherche ; cette méthode permet de le construire au démarrage ou de le resynchroniser.
+     *
+     * @param session La session Hibernate à utiliser
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws ServiceException S'il y a une erreur avec la base de données
+     */
+    void indexerLivres(Session session) throws InvalidHibernateSessionException,
+        ServiceException;
+
+    /**
+     * Trouve les résumés de tous les livres de la base de données. La liste est classée par ordre croissant sur
+     * <code>sortByPropertyName</code>. Si aucun livre n'est trouvé, une {@link List} vide est retournée.
+     * Contrairement à <code>getAllLivres</code>, aucun livre n'est chargé dans la session Hibernate.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param sortByPropertyName The nom de la propriété à utiliser pour classer
+     * @return La liste des résumés de tous les livres ; une liste vide sinon
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidSortByPropertyException Si la propriété à utiliser pour classer est <code>null</code> ou n'est pas une propriété
+     *         simple du livre
+     * @throws ServiceException S'il y a une erreur avec la base de données
+     */
+    List<LivreSummaryDTO> getAllLivreSummaries(Session session,
+        String sortByPropertyName) throws InvalidHibernateSessionException,
+        InvalidSortByPropertyException,
+        ServiceException;
+
     /**
      * Trouve les livres à partir d'un titre. La liste est classée par ordre croissant sur <code>sortByPropertyName</code>. Si aucun livre
      * n'est trouvé, une {@link List} vide est retournée.
@@ -119,6 +256,33 @@ public interface ILivreService extends IService {
         InvalidSortByPropertyException,
         ServiceException;
 
+    /**
+     * Trouve les livres à partir d'un titre. La page est classée par ordre croissant sur <code>sortByPropertyName</code>. Si aucun livre
+     * n'est trouvé, une page vide est retournée.
+     * Seule la page demandée par <code>pageRequest</code> est lue, par numéro de page ou à la suite d'une clef de tri.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param titre Le titre à trouver
+     * @param sortByPropertyName The nom de la propriété à utiliser pour classer
+     * @param pageRequest La page à lire
+     * @return La page demandée ; une page vide sinon
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidCriterionException Si la propriété à utiliser est <code>null</code>
+     * @throws InvalidCriterionValueException Si la valeur à trouver est <code>null</code>
+     * @throws InvalidSortByPropertyException Si la propriété à utiliser pour classer est <code>null</code>
+     * @throws InvalidPaginationException Si la demande de page est <code>null</code> ou invalide
+     * @throws ServiceException S'il y a une erreur avec la base de données
+     */
+    Page<LivreDTO> findLivresByTitre(Session session,
+        String titre,
+        String sortByPropertyName,
+        PageRequest pageRequest) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidCriterionValueException,
+        InvalidSortByPropertyException,
+        InvalidPaginationException,
+        ServiceException;
+
     /**
      * Acquiert un livre.
      *
@@ -150,4 +314,51 @@ public interface ILivreService extends IService {
         ExistingLoanException,
         ExistingReservationException,
         ServiceException;
+
+    /**
+     * Ajoute plusieurs nouveaux livres dans la base de données par lots.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param livreDTOs Les livres
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidDTOException Si la liste est <code>null</code> ou contient un élément <code>null</code>
+     * @throws ServiceException S'il y a une erreur avec la base de données
+     */
+    void addLivres(Session session,
+        List<LivreDTO> livreDTOs) throws InvalidHibernateSessionException,
+        InvalidDTOException,
+        ServiceException;
+
+    /**
+     * Acquiert plusieurs livres en une seule opération par lots.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param livreDTOs Les livres
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidDTOException Si la liste est <code>null</code> ou contient un élément <code>null</code>
+     * @throws ServiceException S'il y a une erreur avec la base de données
+     */
+    void acquerirLivres(Session session,
+        List<LivreDTO> livreDTOs) throws InvalidHibernateSessionException,
+        InvalidDTOException,
+        ServiceException;
+
+    /**
+     * Parcourt en continu tous les livres de la base de données en ordre croissant sur <code>sortByPropertyName</code>, sans les
+     * charger tous en mémoire. Convient aux rapports et exportations de grande taille.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param sortByPropertyName Le nom de la propriété à utiliser pour classer
+     * @param consumer Le consommateur qui reçoit chaque élément
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidSortByPropertyException Si la propriété à utiliser pour classer est <code>null</code>
+     * @throws InvalidConsumerException Si le consommateur est <code>null</code>
+     * @throws ServiceException S'il y a une erreur avec la base de données
+     */
+    void streamLivres(Session session,
+        String sortByPropertyName,
+        Consumer<? super LivreDTO> consumer) throws InvalidHibernateSessionException,
+        InvalidSortByPropertyException,
+        InvalidConsumerException,
+        ServiceException;
 }
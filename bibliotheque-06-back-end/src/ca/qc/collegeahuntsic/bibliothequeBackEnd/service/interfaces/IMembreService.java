@@ -5,16 +5,21 @@
 package ca.qc.collegeahuntsic.bibliothequeBackEnd.service.interfaces;
 
 import java.util.List;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dao.criteria.SearchCriteria;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.MembreDTO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.MembreSummaryDTO;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidCriterionException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidCriterionValueException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidHibernateSessionException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidPaginationException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidPrimaryKeyException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidSortByPropertyException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dto.InvalidDTOException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.service.ExistingLoanException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.service.ExistingReservationException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.service.ServiceException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.util.Page;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.util.PageRequest;
 import org.hibernate.Session;
 
 /**
@@ -54,6 +59,24 @@ public interface IMembreService extends IService {
         InvalidPrimaryKeyException,
         ServiceException;
 
+    /**
+     * Lit un membre à partir de la base de données selon un plan de chargement, avec les associations dont une opération aura besoin.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param idMembre L'ID du membre à lire
+     * @param fetchPlan Le plan de chargement, par exemple {@link MembreDTO#FETCH_PLAN_DESINSCRIPTION} ;
+     *        <code>null</code> pour lire le membre seul
+     * @return Le membre
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidPrimaryKeyException Si la clef primaire du membre est <code>null</code>
+     * @throws ServiceException S'il y a une erreur avec la base de données
+     */
+    MembreDTO getMembre(Session session,
+        String idMembre,
+        String fetchPlan) throws InvalidHibernateSessionException,
+        InvalidPrimaryKeyException,
+        ServiceException;
+
     /**
      * Met à jour un membre dans la base de données.
      *
@@ -98,6 +121,86 @@ public interface IMembreService extends IService {
         InvalidSortByPropertyException,
         ServiceException;
 
+    /**
+     * Trouve tous les membres de la base de données. La page est classée par ordre croissant sur <code>sortByPropertyName</code>. Si aucun membre
+     * n'est trouvé, une page vide est retournée.
+     * Seule la page demandée par <code>pageRequest</code> est lue, par numéro de page ou à la suite d'une clef de tri.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param sortByPropertyName Le nom de la propriété à utiliser pour classer
+     * @param pageRequest La page à lire
+     * @return La page demandée ; une page vide sinon
+     * @throws InvalidHibernateSessionException Si la connexion est <code>null</code>
+     * @throws InvalidSortByPropertyException Si la propriété à utiliser pour classer est <code>null</code>
+     * @throws InvalidPaginationException Si la demande de page est <code>null</code> ou invalide
+     * @throws ServiceException S'il y a une erreur avec la base de données
+     */
+    Page<MembreDTO> getAllMembres(Session session,
+        String sortByPropertyName,
+        PageRequest pageRequest) throws InvalidHibernateSessionException,
+        InvalidSortByPropertyException,
+        InvalidPaginationException,
+        ServiceException;
+
+    /**
+     * Trouve les membres qui satisfont les critères de recherche, en une seule requête. La liste est classée selon les critères puis sur
+     * l'ID. Si aucun membre n'est trouvé, une {@link List} vide est retournée.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param searchCriteria Les critères de recherche
+     * @return La liste des membres correspondants ; une liste vide sinon
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidCriterionException Si les critères sont <code>null</code> ou si une propriété est <code>null</code> ou n'existe pas
+     * @throws InvalidCriterionValueException Si une valeur est <code>null</code> ou si une liste de valeurs est vide
+     * @throws ServiceException S'il y a une erreur avec la base de données
+     */
+    List<MembreDTO> searchMembres(Session session,
+        SearchCriteria<MembreDTO> searchCriteria) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidCriterionValueException,
+        ServiceException;
+
+    /**
+     * Trouve une page de membres qui satisfont les critères de recherche, en une seule requête. La page est classée selon les critères puis
+     * sur l'ID. Seule la pagination par numéro de page est possible.
+     * Si aucun membre n'est trouvé, une page vide est retournée.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param searchCriteria Les critères de recherche
+     * @param pageRequest La page à lire
+     * @return La page demandée ; une page vide sinon
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidCriterionException Si les critères sont <code>null</code> ou si une propriété est <code>null</code> ou n'existe pas
+     * @throws InvalidCriterionValueException Si une valeur est <code>null</code> ou si une liste de valeurs est vide
+     * @throws InvalidPaginationException Si la demande de page est <code>null</code>, invalide ou par clef
+     * @throws ServiceException S'il y a une erreur avec la base de données
+     */
+    Page<MembreDTO> searchMembres(Session session,
+        SearchCriteria<MembreDTO> searchCriteria,
+        PageRequest pageRequest) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidCriterionValueException,
+        InvalidPaginationException,
+        ServiceException;
+
+    /**
+     * Trouve les résumés de tous les membres de la base de données. La liste est classée par ordre croissant sur
+     * <code>sortByPropertyName</code>. Si aucun membre n'est trouvé, une {@link List} vide est retournée.
+     * Contrairement à <code>getAllMembres</code>, aucun membre n'est chargé dans la session Hibernate.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param sortByPropertyName The nom de la propriété à utiliser pour classer
+     * @return La liste des résumés de tous les membres ; une liste vide sinon
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidSortByPropertyException Si la propriété à utiliser pour classer est <code>null</code> ou n'est pas une propriété
+     *         simple du membre
+     * @throws ServiceException S'il y a une erreur avec la base de données
+     */
+    List<MembreSummaryDTO> getAllMembreSummaries(Session session,
+        String sortByPropertyName) throws InvalidHibernateSessionException,
+        InvalidSortByPropertyException,
+        ServiceException;
+
     /**
      * Trouve les membres à partir d'un nom. La liste est classée par ordre croissant sur <code>sortByPropertyName</code>. Si aucun membre
      *  n'est trouvé, une {@link List} vide est retournée.
@@ -120,6 +223,33 @@ public interface IMembreService extends IService {
         InvalidSortByPropertyException,
         ServiceException;
 
+    /**
+     * Trouve les membres à partir d'un nom. La page est classée par ordre croissant sur <code>sortByPropertyName</code>. Si aucun membre
+     *  n'est trouvé, une page vide est retournée.
+     * Seule la page demandée par <code>pageRequest</code> est lue, par numéro de page ou à la suite d'une clef de tri.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param nom Le nom à trouver
+     * @param sortByPropertyName Le nom de la propriété à utiliser pour classer
+     * @param pageRequest La page à lire
+     * @return La page demandée ; une page vide sinon
+     * @throws InvalidHibernateSessionException Si la connexion est <code>null</code>
+     * @throws InvalidCriterionException Si le membre est <code>null</code>
+     * @throws InvalidCriterionValueException Si la valeur à trouver est <code>null</code>
+     * @throws InvalidSortByPropertyException Si la propriété à utiliser pour classer est <code>null</code>
+     * @throws InvalidPaginationException Si la demande de page est <code>null</code> ou invalide
+     * @throws ServiceException S'il y a une erreur avec la base de données
+     */
+    Page<MembreDTO> findMembresByNom(Session session,
+        String nom,
+        String sortByPropertyName,
+        PageRequest pageRequest) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidCriterionValueException,
+        InvalidSortByPropertyException,
+        InvalidPaginationException,
+        ServiceException;
+
     /**
      * Inscrit un membre.
      *
@@ -151,4 +281,32 @@ public interface IMembreService extends IService {
         ServiceException,
         ExistingLoanException,
         ExistingReservationException;
+
+    /**
+     * Ajoute plusieurs nouveaux membres dans la base de données par lots.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param membreDTOs Les membres
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidDTOException Si la liste est <code>null</code> ou contient un élément <code>null</code>
+     * @throws ServiceException S'il y a une erreur avec la base de données
+     */
+    void addMembres(Session session,
+        List<MembreDTO> membreDTOs) throws InvalidHibernateSessionException,
+        InvalidDTOException,
+        ServiceException;
+
+    /**
+     * Inscrit plusieurs membres en une seule opération par lots.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param membreDTOs Les membres
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidDTOException Si la liste est <code>null</code> ou contient un élément <code>null</code>
+     * @throws ServiceException S'il y a une erreur avec la base de données
+     */
+    void inscrireMembres(Session session,
+        List<MembreDTO> membreDTOs) throws InvalidHibernateSessionException,
+        InvalidDTOException,
+        ServiceException;
 }
@@ -6,10 +6,14 @@ package ca.qc.collegeahuntsic.bibliothequeBackEnd.service.interfaces;
 
 import java.sql.Timestamp;
 import java.util.List;
+import java.util.function.Consumer;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dao.criteria.SearchCriteria;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.PretDTO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidConsumerException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidCriterionException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidCriterionValueException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidHibernateSessionException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidPaginationException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidPrimaryKeyException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidSortByPropertyException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dto.InvalidDTOException;
@@ -18,6 +22,8 @@ import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.service.ExistingReser
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.service.InvalidLoanLimitException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.service.MissingLoanException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.service.ServiceException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.util.Page;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.util.PageRequest;
 import org.hibernate.Session;
 
 /**
@@ -57,6 +63,23 @@ public interface IPretService extends IService {
         InvalidPrimaryKeyException,
         ServiceException;
 
+    /**
+     * Lit un prêt à partir de la base de données selon un plan de chargement, avec les associations dont une opération aura besoin.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param idPret L'ID du prêt à lire
+     * @param fetchPlan Le plan de chargement, par exemple {@link PretDTO#FETCH_PLAN_RETOUR} ; <code>null</code> pour lire le prêt seul
+     * @return Le prêt
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidPrimaryKeyException Si la clef primaire du prêt est <code>null</code>
+     * @throws ServiceException S'il y a une erreur avec la base de données
+     */
+    PretDTO getPret(Session session,
+        String idPret,
+        String fetchPlan) throws InvalidHibernateSessionException,
+        InvalidPrimaryKeyException,
+        ServiceException;
+
     /**
      * Met à jour un prêt dans la base de données.
      *
@@ -101,6 +124,68 @@ public interface IPretService extends IService {
         InvalidSortByPropertyException,
         ServiceException;
 
+    /**
+     * Trouve tous les prêts de la base de données. La page est classée par ordre croissant sur <code>sortByPropertyName</code>. Si aucun prêt
+     * n'est trouvé, une page vide est retournée.
+     * Seule la page demandée par <code>pageRequest</code> est lue, par numéro de page ou à la suite d'une clef de tri.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param sortByPropertyName Le nom de la propriété à utiliser pour classer
+     * @param pageRequest La page à lire
+     * @return La page demandée ; une page vide sinon
+     * @throws InvalidHibernateSessionException Si la connexion est <code>null</code>
+     * @throws InvalidSortByPropertyException Si la propriété à utiliser pour classer est <code>null</code>
+     * @throws InvalidPaginationException Si la demande de page est <code>null</code> ou invalide
+     * @throws ServiceException S'il y a une erreur avec la base de données
+     */
+    Page<PretDTO> getAllPrets(Session session,
+        String sortByPropertyName,
+        PageRequest pageRequest) throws InvalidHibernateSessionException,
+        InvalidSortByPropertyException,
+        InvalidPaginationException,
+        ServiceException;
+
+    /**
+     * Trouve les prêts qui satisfont les critères de recherche, en une seule requête. La liste est classée selon les critères puis sur
+     * l'ID. Si aucun prêt n'est trouvé, une {@link List} vide est retournée.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param searchCriteria Les critères de recherche
+     * @return La liste des prêts correspondants ; une liste vide sinon
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidCriterionException Si les critères sont <code>null</code> ou si une propriété est <code>null</code> ou n'existe pas
+     * @throws InvalidCriterionValueException Si une valeur est <code>null</code> ou si une liste de valeurs est vide
+     * @throws ServiceException S'il y a une erreur avec la base de données
+     */
+    List<PretDTO> searchPrets(Session session,
+        SearchCriteria<PretDTO> searchCriteria) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidCriterionValueException,
+        ServiceException;
+
+    /**
+     * Trouve une page de prêts qui satisfont les critères de recherche, en une seule requête. La page est classée selon les critères puis
+     * sur l'ID. Seule la pagination par numéro de page est possible.
+     * Si aucun prêt n'est trouvé, une page vide est retournée.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param searchCriteria Les critères de recherche
+     * @param pageRequest La page à lire
+     * @return La page demandée ; une page vide sinon
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidCriterionException Si les critères sont <code>null</code> ou si une propriété est <code>null</code> ou n'existe pas
+     * @throws InvalidCriterionValueException Si une valeur est <code>null</code> ou si une liste de valeurs est vide
+     * @throws InvalidPaginationException Si la demande de page est <code>null</code>, invalide ou par clef
+     * @throws ServiceException S'il y a une erreur avec la base de données
+     */
+    Page<PretDTO> searchPrets(Session session,
+        SearchCriteria<PretDTO> searchCriteria,
+        PageRequest pageRequest) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidCriterionValueException,
+        InvalidPaginationException,
+        ServiceException;
+
     /**
      * Trouve les prêts à partir d'un membre. La liste est classée par ordre croissant sur <code>sortByPropertyName</code>. Si aucun prêt
      * n'est trouvé, une {@link List} vide est retournée.
@@ -123,6 +208,33 @@ public interface IPretService extends IService {
         InvalidSortByPropertyException,
         ServiceException;
 
+    /**
+     * Trouve les prêts à partir d'un membre. La page est classée par ordre croissant sur <code>sortByPropertyName</code>. Si aucun prêt
+     * n'est trouvé, une page vide est retournée.
+     * Seule la page demandée par <code>pageRequest</code> est lue, par numéro de page ou à la suite d'une clef de tri.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param idMembre L'ID du membre à trouver
+     * @param sortByPropertyName Le nom de la propriété à utiliser pour classer
+     * @param pageRequest La page à lire
+     * @return La page demandée ; une page vide sinon
+     * @throws InvalidHibernateSessionException Si la connexion est <code>null</code>
+     * @throws InvalidCriterionException Si l'ID du membre est <code>null</code>
+     * @throws InvalidCriterionValueException Si la valeur à trouver est <code>null</code>
+     * @throws InvalidSortByPropertyException Si la propriété à utiliser pour classer est <code>null</code>
+     * @throws InvalidPaginationException Si la demande de page est <code>null</code> ou invalide
+     * @throws ServiceException S'il y a une erreur avec la base de données
+     */
+    Page<PretDTO> findPretByMembre(Session session,
+        String idMembre,
+        String sortByPropertyName,
+        PageRequest pageRequest) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidCriterionValueException,
+        InvalidSortByPropertyException,
+        InvalidPaginationException,
+        ServiceException;
+
     /**
      * Trouve les prêts à partir d'un livre. La liste est classée par ordre croissant sur <code>sortByPropertyName</code>. Si aucun prêt
      * n'est trouvé, une {@link List} vide est retournée.
@@ -145,6 +257,33 @@ public interface IPretService extends IService {
         InvalidSortByPropertyException,
         ServiceException;
 
+    /**
+     * Trouve les prêts à partir d'un livre. La page est classée par ordre croissant sur <code>sortByPropertyName</code>. Si aucun prêt
+     * n'est trouvé, une page vide est retournée.
+     * Seule la page demandée par <code>pageRequest</code> est lue, par numéro de page ou à la suite d'une clef de tri.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param idLivre L'ID du livre à trouver
+     * @param sortByPropertyName Le nom de la propriété à utiliser pour classer
+     * @param pageRequest La page à lire
+     * @return La page demandée ; une page vide sinon
+     * @throws InvalidHibernateSessionException Si la connexion est <code>null</code>
+     * @throws InvalidCriterionException Si l'ID du livre est <code>null</code>
+     * @throws InvalidCriterionValueException Si la valeur à trouver est <code>null</code>
+     * @throws InvalidSortByPropertyException Si la propriété à utiliser pour classer est <code>null</code>
+     * @throws InvalidPaginationException Si la demande de page est <code>null</code> ou invalide
+     * @throws ServiceException S'il y a une erreur avec la base de données
+     */
+    Page<PretDTO> findPretByLivre(Session session,
+        String idLivre,
+        String sortByPropertyName,
+        PageRequest pageRequest) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidCriterionValueException,
+        InvalidSortByPropertyException,
+        InvalidPaginationException,
+        ServiceException;
+
     /**
      * Trouve les prêts à partir d'une date de prêt. La liste est classée par ordre croissant sur <code>sortByPropertyName</code>. Si aucun prêt
      * n'est trouvé, une {@link List} vide est retournée.
@@ -167,6 +306,33 @@ public interface IPretService extends IService {
         InvalidSortByPropertyException,
         ServiceException;
 
+    /**
+     * Trouve les prêts à partir d'une date de prêt. La page est classée par ordre croissant sur <code>sortByPropertyName</code>. Si aucun prêt
+     * n'est trouvé, une page vide est retournée.
+     * Seule la page demandée par <code>pageRequest</code> est lue, par numéro de page ou à la suite d'une clef de tri.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param datePret La date de prêt à trouver
+     * @param sortByPropertyName Le nom de la propriété à utiliser pour classer
+     * @param pageRequest La page à lire
+     * @return La page demandée ; une page vide sinon
+     * @throws InvalidHibernateSessionException Si la connexion est <code>null</code>
+     * @throws InvalidCriterionException Si la date de prêt est <code>null</code>
+     * @throws InvalidCriterionValueException Si la valeur à trouver est <code>null</code>
+     * @throws InvalidSortByPropertyException Si la propriété à utiliser pour classer est <code>null</code>
+     * @throws InvalidPaginationException Si la demande de page est <code>null</code> ou invalide
+     * @throws ServiceException S'il y a une erreur avec la base de données
+     */
+    Page<PretDTO> findPretByDatePret(Session session,
+        Timestamp datePret,
+        String sortByPropertyName,
+        PageRequest pageRequest) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidCriterionValueException,
+        InvalidSortByPropertyException,
+        InvalidPaginationException,
+        ServiceException;
+
     /**
      * Trouve les prêts à partir d'une date de retour. La liste est classée par ordre croissant sur <code>sortByPropertyName</code>. Si aucun prêt
      * n'est trouvé, une {@link List} vide est retournée.
@@ -189,6 +355,33 @@ public interface IPretService extends IService {
         InvalidSortByPropertyException,
         ServiceException;
 
+    /**
+     * Trouve les prêts à partir d'une date de retour. La page est classée par ordre croissant sur <code>sortByPropertyName</code>. Si aucun prêt
+     * n'est trouvé, une page vide est retournée.
+     * Seule la page demandée par <code>pageRequest</code> est lue, par numéro de page ou à la suite d'une clef de tri.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param dateRetour La date de retour à trouver
+     * @param sortByPropertyName Le nom de la propriété à utiliser pour classer
+     * @param pageRequest La page à lire
+     * @return La page demandée ; une page vide sinon
+     * @throws InvalidHibernateSessionException Si la connexion est <code>null</code>
+     * @throws InvalidCriterionException Si la date de retour est <code>null</code>
+     * @throws InvalidCriterionValueException Si la valeur à trouver est <code>null</code>
+     * @throws InvalidSortByPropertyException Si la propriété à utiliser pour classer est <code>null</code>
+     * @throws InvalidPaginationException Si la demande de page est <code>null</code> ou invalide
+     * @throws ServiceException S'il y a une erreur avec la base de données
+     */
+    Page<PretDTO> findPretByDateRetour(Session session,
+        Timestamp dateRetour,
+        String sortByPropertyName,
+        PageRequest pageRequest) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidCriterionValueException,
+        InvalidSortByPropertyException,
+        InvalidPaginationException,
+        ServiceException;
+
     /**
      * Commence un prêt.
      *
@@ -242,4 +435,75 @@ public interface IPretService extends IService {
         InvalidDTOException,
         MissingLoanException,
         ServiceException;
+
+    /**
+     * Met à jour plusieurs prêts dans la base de données par lots.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param pretDTOs Les prêts
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidDTOException Si la liste est <code>null</code> ou contient un élément <code>null</code>
+     * @throws ServiceException S'il y a une erreur avec la base de données
+     */
+    void updatePrets(Session session,
+        List<PretDTO> pretDTOs) throws InvalidHibernateSessionException,
+        InvalidDTOException,
+        ServiceException;
+
+    /**
+     * Ajoute plusieurs prêts déjà constitués (historique importé) par lots, sans les validations de <code>commencerPret</code>.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param pretDTOs Les prêts
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidDTOException Si la liste est <code>null</code> ou contient un élément <code>null</code>
+     * @throws ServiceException S'il y a une erreur avec la base de données
+     */
+    void addPrets(Session session,
+        List<PretDTO> pretDTOs) throws InvalidHibernateSessionException,
+        InvalidDTOException,
+        ServiceException;
+
+    /**
+     * Parcourt en continu tous les prêts de la base de données en ordre croissant sur <code>sortByPropertyName</code>, sans les
+     * charger tous en mémoire. Convient aux rapports et exportations de grande taille.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param sortByPropertyName Le nom de la propriété à utiliser pour classer
+     * @param consumer Le consommateur qui reçoit chaque élément
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidSortByPropertyException Si la propriété à utiliser pour classer est <code>null</code>
+     * @throws InvalidConsumerException Si le consommateur est <code>null</code>
+     * @throws ServiceException S'il y a une erreur avec la base de données
+     */
+    void streamPrets(Session session,
+        String sortByPropertyName,
+        Consumer<? super PretDTO> consumer) throws InvalidHibernateSessionException,
+        InvalidSortByPropertyException,
+        InvalidConsumerException,
+        ServiceException;
+
+    /**
+     * Parcourt en continu les prêts d'un membre en ordre croissant sur <code>sortByPropertyName</code>, sans les charger tous en mémoire.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param idMembre L'ID du membre
+     * @param sortByPropertyName Le nom de la propriété à utiliser pour classer
+     * @param consumer Le consommateur qui reçoit chaque prêt
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidCriterionException Si la propriété à utiliser est <code>null</code>
+     * @throws InvalidCriterionValueException Si l'ID du membre est <code>null</code>
+     * @throws InvalidSortByPropertyException Si la propriété à utiliser pour classer est <code>null</code>
+     * @throws InvalidConsumerException Si le consommateur est <code>null</code>
+     * @throws ServiceException S'il y a une erreur avec la base de données
+     */
+    void streamPretsByMembre(Session session,
+        String idMembre,
+        String sortByPropertyName,
+        Consumer<? super PretDTO> consumer) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidCriterionValueException,
+        InvalidSortByPropertyException,
+        InvalidConsumerException,
+        ServiceException;
 }
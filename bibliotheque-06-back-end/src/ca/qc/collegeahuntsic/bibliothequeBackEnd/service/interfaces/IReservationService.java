@@ -5,10 +5,12 @@
 package ca.qc.collegeahuntsic.bibliothequeBackEnd.service.interfaces;
 
 import java.util.List;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dao.criteria.SearchCriteria;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.ReservationDTO;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidCriterionException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidCriterionValueException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidHibernateSessionException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidPaginationException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidPrimaryKeyException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidSortByPropertyException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dto.InvalidDTOClassException;
@@ -19,6 +21,8 @@ import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.service.ExistingReser
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.service.InvalidLoanLimitException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.service.MissingLoanException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.service.ServiceException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.util.Page;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.util.PageRequest;
 import org.hibernate.Session;
 
 /**
@@ -59,6 +63,24 @@ public interface IReservationService extends IService {
         InvalidPrimaryKeyException,
         ServiceException;
 
+    /**
+     * Lit une réservation à partir de la base de données selon un plan de chargement, avec les associations dont une opération aura besoin.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param idReservation L'ID de la réservation à lire
+     * @param fetchPlan Le plan de chargement, par exemple {@link ReservationDTO#FETCH_PLAN_UTILISATION} ;
+     *        <code>null</code> pour lire la réservation seule
+     * @return La réservation
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidPrimaryKeyException Si la clef primaire de la réservation est <code>null</code>
+     * @throws ServiceException S'il y a une erreur avec la base de données
+     */
+    ReservationDTO getReservation(Session session,
+        String idReservation,
+        String fetchPlan) throws InvalidHibernateSessionException,
+        InvalidPrimaryKeyException,
+        ServiceException;
+
     /**
      * Met à jour une réservation dans la base de données.
      *
@@ -103,6 +125,68 @@ public interface IReservationService extends IService {
         InvalidSortByPropertyException,
         ServiceException;
 
+    /**
+     * Trouve toutes les réservations de la base de données. La page est classée par ordre croissant sur <code>sortByPropertyName</code>. Si aucune
+     * réservation n'est trouvée, une page vide est retournée.
+     * Seule la page demandée par <code>pageRequest</code> est lue, par numéro de page ou à la suite d'une clef de tri.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param sortByPropertyName Le nom de la propriété à utiliser pour classer
+     * @param pageRequest La page à lire
+     * @return La page demandée ; une page vide sinon
+     * @throws InvalidHibernateSessionException Si la connexion est <code>null</code>
+     * @throws InvalidSortByPropertyException Si la propriété à utiliser pour classer est <code>null</code>
+     * @throws InvalidPaginationException Si la demande de page est <code>null</code> ou invalide
+     * @throws ServiceException S'il y a une erreur avec la base de données
+     */
+    Page<ReservationDTO> getAllReservations(Session session,
+        String sortByPropertyName,
+        PageRequest pageRequest) throws InvalidHibernateSessionException,
+        InvalidSortByPropertyException,
+        InvalidPaginationException,
+        ServiceException;
+
+    /**
+     * Trouve les réservations qui satisfont les critères de recherche, en une seule requête. La liste est classée selon les critères puis sur
+     * l'ID. Si aucune réservation n'est trouvée, une {@link List} vide est retournée.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param searchCriteria Les critères de recherche
+     * @return La liste des réservations correspondantes ; une liste vide sinon
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidCriterionException Si les critères sont <code>null</code> ou si une propriété est <code>null</code> ou n'existe pas
+     * @throws InvalidCriterionValueException Si une valeur est <code>null</code> ou si une liste de valeurs est vide
+     * @throws ServiceException S'il y a une erreur avec la base de données
+     */
+    List<ReservationDTO> searchReservations(Session session,
+        SearchCriteria<ReservationDTO> searchCriteria) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidCriterionValueException,
+        ServiceException;
+
+    /**
+     * Trouve une page de réservations qui satisfont les critères de recherche, en une seule requête. La page est classée selon les critères puis
+     * sur l'ID. Seule la pagination par numéro de page est possible.
+     * Si aucune réservation n'est trouvée, une page vide est retournée.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param searchCriteria Les critères de recherche
+     * @param pageRequest La page à lire
+     * @return La page demandée ; une page vide sinon
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidCriterionException Si les critères sont <code>null</code> ou si une propriété est <code>null</code> ou n'existe pas
+     * @throws InvalidCriterionValueException Si une valeur est <code>null</code> ou si une liste de valeurs est vide
+     * @throws InvalidPaginationException Si la demande de page est <code>null</code>, invalide ou par clef
+     * @throws ServiceException S'il y a une erreur avec la base de données
+     */
+    Page<ReservationDTO> searchReservations(Session session,
+        SearchCriteria<ReservationDTO> searchCriteria,
+        PageRequest pageRequest) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidCriterionValueException,
+        InvalidPaginationException,
+        ServiceException;
+
     /**
      * Trouve les réservations à partir d'un membre. La liste est classée par ordre croissant sur <code>sortByPropertyName</code>. Si aucune
      * réservation n'est trouvée, une {@link List} vide est retournée.
@@ -125,6 +209,33 @@ public interface IReservationService extends IService {
         InvalidSortByPropertyException,
         ServiceException;
 
+    /**
+     * Trouve les réservations à partir d'un membre. La page est classée par ordre croissant sur <code>sortByPropertyName</code>. Si aucune
+     * réservation n'est trouvée, une page vide est retournée.
+     * Seule la page demandée par <code>pageRequest</code> est lue, par numéro de page ou à la suite d'une clef de tri.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param idMembre L'ID du membre à trouver
+     * @param sortByPropertyName Le nom de la propriété à utiliser pour classer
+     * @param pageRequest La page à lire
+     * @return La page demandée ; une page vide sinon
+     * @throws InvalidHibernateSessionException Si la connexion est <code>null</code>
+     * @throws InvalidCriterionException Si l'ID du membre est <code>null</code>
+     * @throws InvalidCriterionValueException Si la valeur à trouver est <code>null</code>
+     * @throws InvalidSortByPropertyException Si la propriété à utiliser pour classer est <code>null</code>
+     * @throws InvalidPaginationException Si la demande de page est <code>null</code> ou invalide
+     * @throws ServiceException S'il y a une erreur avec la base de données
+     */
+    Page<ReservationDTO> findReservationByMembre(Session session,
+        String idMembre,
+        String sortByPropertyName,
+        PageRequest pageRequest) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidCriterionValueException,
+        InvalidSortByPropertyException,
+        InvalidPaginationException,
+        ServiceException;
+
     /**
      * Trouve les réservations à partir d'un livre. La liste est classée par ordre croissant sur <code>sortByPropertyName</code>. Si aucune
      * réservation n'est trouvée, une {@link List}> vide est retournée.
@@ -147,6 +258,33 @@ public interface IReservationService extends IService {
         InvalidSortByPropertyException,
         ServiceException;
 
+    /**
+     * Trouve les réservations à partir d'un livre. La page est classée par ordre croissant sur <code>sortByPropertyName</code>. Si aucune
+     * réservation n'est trouvée, une {@link List}> vide est retournée.
+     * Seule la page demandée par <code>pageRequest</code> est lue, par numéro de page ou à la suite d'une clef de tri.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param idLivre L'ID du livre à trouver
+     * @param sortByPropertyName Le nom de la propriété à utiliser pour classer
+     * @param pageRequest La page à lire
+     * @return La page demandée ; une page vide sinon
+     * @throws InvalidHibernateSessionException Si la connexion est <code>null</code>
+     * @throws InvalidCriterionException Si l'ID du livre est <code>null</code>
+     * @throws InvalidCriterionValueException Si la valeur à trouver est <code>null</code>
+     * @throws InvalidSortByPropertyException Si la propriété à utiliser pour classer est <code>null</code>
+     * @throws InvalidPaginationException Si la demande de page est <code>null</code> ou invalide
+     * @throws ServiceException S'il y a une erreur avec la base de données
+     */
+    Page<ReservationDTO> findReservationByLivre(Session session,
+        String idLivre,
+        String sortByPropertyName,
+        PageRequest pageRequest) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidCriterionValueException,
+        InvalidSortByPropertyException,
+        InvalidPaginationException,
+        ServiceException;
+
     /**
      * Place une réservation.
      *
@@ -154,7 +292,7 @@ public interface IReservationService extends IService {
      * @param reservationDTO  La réservation à placer
      * @throws InvalidHibernateSessionException Si la connexion est <code>null</code>
      * @throws InvalidDTOException Si la réservation est <code>null</code>
-     * @throws MissingLoanException Si le livre n'a pas encore été prêté
+     * @throws MissingLoanException Si le livre n'a pas de prêt en cours, même s'il a déjà été prêté et retourné
      * @throws ExistingLoanException Si le livre est déjà prêté au membre
      * @throws ExistingReservationException Si le membre a déjà réservé ce livre
      * @throws ServiceException S'il y a une erreur avec la base de données
@@ -207,4 +345,31 @@ public interface IReservationService extends IService {
         InvalidDTOClassException,
         ServiceException;
 
+    /**
+     * Supprime plusieurs réservations de la base de données par lots.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param reservationDTOs Les réservations
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidDTOException Si la liste est <code>null</code> ou contient un élément <code>null</code>
+     * @throws ServiceException S'il y a une erreur avec la base de données
+     */
+    void deleteReservations(Session session,
+        List<ReservationDTO> reservationDTOs) throws InvalidHibernateSessionException,
+        InvalidDTOException,
+        ServiceException;
+
+    /**
+     * Annule plusieurs réservations en une seule opération par lots.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param reservationDTOs Les réservations
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidDTOException Si la liste est <code>null</code> ou contient un élément <code>null</code>
+     * @throws ServiceException S'il y a une erreur avec la base de données
+     */
+    void annulerReservations(Session session,
+        List<ReservationDTO> reservationDTOs) throws InvalidHibernateSessionException,
+        InvalidDTOException,
+        ServiceException;
 }
@@ -0,0 +1,96 @@
+// Fichier FacadeTransactionAttributeSource.java
+// Auteur : Dragons Vicieux
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliothequeBackEnd.util;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.transaction.interceptor.NameMatchTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionAttribute;
+import org.springframework.transaction.interceptor.TransactionAttributeSource;
+
+/**
+ * Source d'attributs transactionnels précalculés pour les interfaces des façades.<br />
+ * <br />
+ * Les transactions ne sont démarquées qu'à la frontière des façades : les services et les DAOs sont des beans ordinaires, appelés
+ * sans intercepteur. Les attributs de chaque méthode des interfaces déclarées sont résolus une seule fois au démarrage, à partir
+ * des mêmes motifs de noms qu'une {@link NameMatchTransactionAttributeSource}, puis servis par une simple table. Une méthode absente
+ * de la table est résolue par les motifs à chaque appel.
+ *
+ * @author Dragons Vicieux
+ */
+public class FacadeTransactionAttributeSource implements TransactionAttributeSource,
+    InitializingBean {
+    private final NameMatchTransactionAttributeSource nameMatchTransactionAttributeSource;
+
+    private Class<?>[] interfaces;
+
+    private Map<Method, TransactionAttribute> transactionAttributes;
+
+    /**
+     * Crée une source sans interface ni motif.
+     */
+    public FacadeTransactionAttributeSource() {
+        super();
+        this.nameMatchTransactionAttributeSource = new NameMatchTransactionAttributeSource();
+        this.interfaces = new Class<?>[0];
+        this.transactionAttributes = Collections.emptyMap();
+    }
+
+    /**
+     * Setter de la variable d'instance <code>this.interfaces</code>.
+     *
+     * @param interfaces Les interfaces des façades dont les méthodes sont précalculées
+     */
+    public void setInterfaces(Class<?>[] interfaces) {
+        this.interfaces = interfaces.clone();
+    }
+
+    /**
+     * Fixe les motifs de noms de méthodes et leurs attributs, dans le format de
+     * {@link NameMatchTransactionAttributeSource#setProperties(Properties)}.
+     *
+     * @param transactionAttributes Les motifs et leurs attributs
+     */
+    public void setTransactionAttributes(Properties transactionAttributes) {
+        this.nameMatchTransactionAttributeSource.setProperties(transactionAttributes);
+    }
+
+    /**
+     * Précalcule les attributs de toutes les méthodes des interfaces déclarées.
+     */
+    @Override
+    public void afterPropertiesSet() {
+        final Map<Method, TransactionAttribute> attributes = new HashMap<>();
+        for(Class<?> facadeInterface : this.interfaces) {
+            for(Method method : facadeInterface.getMethods()) {
+                final TransactionAttribute transactionAttribute = this.nameMatchTransactionAttributeSource.getTransactionAttribute(method,
+                    facadeInterface);
+                if(transactionAttribute != null) {
+                    attributes.put(method,
+                        transactionAttribute);
+                }
+            }
+        }
+        this.transactionAttributes = attributes;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public TransactionAttribute getTransactionAttribute(Method method,
+        @SuppressWarnings("rawtypes") Class targetClass) {
+        final TransactionAttribute transactionAttribute = this.transactionAttributes.get(method);
+        if(transactionAttribute != null) {
+            return transactionAttribute;
+        }
+        return this.nameMatchTransactionAttributeSource.getTransactionAttribute(method,
+            targetClass);
+    }
+}
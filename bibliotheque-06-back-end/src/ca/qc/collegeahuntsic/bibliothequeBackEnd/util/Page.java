@@ -0,0 +1,75 @@
+// Fichier Page.java
+// Auteur : Dragons Vicieux
+// Date de création : 2026-10-17
+
+package ca.qc.collegeahuntsic.bibliothequeBackEnd.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Page immuable de résultats retournée par les recherches paginées.
+ *
+ * @param <T> Le type des éléments de la page
+ * @author Dragons Vicieux
+ */
+public final class Page<T> {
+    private final List<T> elements;
+
+    private final PageRequest pageRequest;
+
+    private final PageRequest nextPageRequest;
+
+    /**
+     * Crée une page.
+     *
+     * @param elements Les éléments de la page
+     * @param pageRequest La demande qui a produit la page
+     * @param nextPageRequest La demande de la page suivante ; <code>null</code> s'il s'agit de la dernière page
+     */
+    public Page(List<? extends T> elements,
+        PageRequest pageRequest,
+        PageRequest nextPageRequest) {
+        super();
+        this.elements = Collections.unmodifiableList(new ArrayList<T>(elements));
+        this.pageRequest = pageRequest;
+        this.nextPageRequest = nextPageRequest;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.elements</code>.
+     *
+     * @return La variable d'instance <code>this.elements</code>, non modifiable
+     */
+    public List<T> getElements() {
+        return this.elements;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.pageRequest</code>.
+     *
+     * @return La variable d'instance <code>this.pageRequest</code>
+     */
+    public PageRequest getPageRequest() {
+        return this.pageRequest;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.nextPageRequest</code>.
+     *
+     * @return La variable d'instance <code>this.nextPageRequest</code> ; <code>null</code> s'il s'agit de la dernière page
+     */
+    public PageRequest getNextPageRequest() {
+        return this.nextPageRequest;
+    }
+
+    /**
+     * Indique s'il existe une page suivante.
+     *
+     * @return <code>true</code> s'il existe une page suivante ; <code>false</code> sinon
+     */
+    public boolean hasNext() {
+        return this.nextPageRequest != null;
+    }
+}
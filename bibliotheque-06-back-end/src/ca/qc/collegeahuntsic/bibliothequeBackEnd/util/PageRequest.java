@@ -0,0 +1,157 @@
+// Fichier PageRequest.java
+// Auteur : Dragons Vicieux
+// Date de création : 2026-10-17
+
+package ca.qc.collegeahuntsic.bibliothequeBackEnd.util;
+
+import java.io.Serializable;
+
+/**
+ * Demande de page immuable pour la pagination des DTOs.<br />
+ * Deux modes sont offerts :
+ * <ul>
+ * <li>par numéro de page ({@link #page(int, int)}), simple mais dont le coût augmente avec le numéro de page ;</li>
+ * <li>par clef ({@link #keyset(int)} puis {@link #after(Object, Serializable, int)}), qui reprend la lecture juste après la dernière clef
+ * de tri et le dernier ID lus, à coût constant quelle que soit la taille de la table.</li>
+ * </ul>
+ * La page suivante s'obtient normalement avec {@link Page#getNextPageRequest()}.
+ *
+ * @author Dragons Vicieux
+ */
+public final class PageRequest implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final boolean keyset;
+
+    private final int pageNumber;
+
+    private final int pageSize;
+
+    private final Object afterSortValue;
+
+    private final Serializable afterId;
+
+    /**
+     * Crée une demande de page.
+     *
+     * @param keyset <code>true</code> pour la pagination par clef
+     * @param pageNumber Le numéro de la page, à partir de 0
+     * @param pageSize Le nombre maximal de DTOs de la page
+     * @param afterSortValue La dernière clef de tri lue
+     * @param afterId Le dernier ID lu
+     */
+    private PageRequest(boolean keyset,
+        int pageNumber,
+        int pageSize,
+        Object afterSortValue,
+        Serializable afterId) {
+        super();
+        this.keyset = keyset;
+        this.pageNumber = pageNumber;
+        this.pageSize = pageSize;
+        this.afterSortValue = afterSortValue;
+        this.afterId = afterId;
+    }
+
+    /**
+     * Crée une demande de page par numéro de page.
+     *
+     * @param pageNumber Le numéro de la page, à partir de 0
+     * @param pageSize Le nombre maximal de DTOs de la page
+     * @return La demande de page
+     */
+    public static PageRequest page(int pageNumber,
+        int pageSize) {
+        return new PageRequest(false,
+            pageNumber,
+            pageSize,
+            null,
+            null);
+    }
+
+    /**
+     * Crée une demande pour la première page d'une pagination par clef.
+     *
+     * @param pageSize Le nombre maximal de DTOs de la page
+     * @return La demande de page
+     */
+    public static PageRequest keyset(int pageSize) {
+        return new PageRequest(true,
+            0,
+            pageSize,
+            null,
+            null);
+    }
+
+    /**
+     * Crée une demande de page par clef qui reprend après la clef de tri <code>afterSortValue</code> et l'ID <code>afterId</code>.
+     *
+     * @param afterSortValue La dernière clef de tri lue ; <code>null</code> si la dernière ligne lue n'avait pas de valeur
+     * @param afterId Le dernier ID lu
+     * @param pageSize Le nombre maximal de DTOs de la page
+     * @return La demande de page
+     */
+    public static PageRequest after(Object afterSortValue,
+        Serializable afterId,
+        int pageSize) {
+        return new PageRequest(true,
+            0,
+            pageSize,
+            afterSortValue,
+            afterId);
+    }
+
+    /**
+     * Indique si la demande utilise la pagination par clef.
+     *
+     * @return <code>true</code> si la demande utilise la pagination par clef ; <code>false</code> sinon
+     */
+    public boolean isKeyset() {
+        return this.keyset;
+    }
+
+    /**
+     * Indique si la demande reprend après une clef déjà lue.
+     *
+     * @return <code>true</code> si la demande reprend après une clef ; <code>false</code> s'il s'agit de la première page
+     */
+    public boolean hasAfter() {
+        return this.afterId != null;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.pageNumber</code>.
+     *
+     * @return La variable d'instance <code>this.pageNumber</code>
+     */
+    public int getPageNumber() {
+        return this.pageNumber;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.pageSize</code>.
+     *
+     * @return La variable d'instance <code>this.pageSize</code>
+     */
+    public int getPageSize() {
+        return this.pageSize;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.afterSortValue</code>.
+     *
+     * @return La variable d'instance <code>this.afterSortValue</code>
+     */
+    public Object getAfterSortValue() {
+        return this.afterSortValue;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.afterId</code>.
+     *
+     * @return La variable d'instance <code>this.afterId</code>
+     */
+    public Serializable getAfterId() {
+        return this.afterId;
+    }
+}
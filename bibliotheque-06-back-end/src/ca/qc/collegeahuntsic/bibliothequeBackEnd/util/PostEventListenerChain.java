@@ -0,0 +1,87 @@
+// Fichier PostEventListenerChain.java
+// Auteur : Dragons Vicieux
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliothequeBackEnd.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.event.PostDeleteEvent;
+import org.hibernate.event.PostDeleteEventListener;
+import org.hibernate.event.PostInsertEvent;
+import org.hibernate.event.PostInsertEventListener;
+import org.hibernate.event.PostUpdateEvent;
+import org.hibernate.event.PostUpdateEventListener;
+
+/**
+ * Chaîne d'écouteurs Hibernate post-insert, post-update et post-delete.<br />
+ * <br />
+ * Le <code>LocalSessionFactoryBean</code> de Spring n'accepte qu'un écouteur par type d'événement. Cette chaîne est enregistrée à
+ * leur place et transmet chaque événement, dans l'ordre, aux écouteurs qui le traitent.
+ *
+ * @author Dragons Vicieux
+ */
+public class PostEventListenerChain implements PostInsertEventListener,
+    PostUpdateEventListener,
+    PostDeleteEventListener {
+    private static final long serialVersionUID = 1L;
+
+    private final List<PostInsertEventListener> postInsertEventListeners;
+
+    private final List<PostUpdateEventListener> postUpdateEventListeners;
+
+    private final List<PostDeleteEventListener> postDeleteEventListeners;
+
+    /**
+     * Crée la chaîne d'écouteurs.
+     *
+     * @param listeners Les écouteurs, dans l'ordre où ils reçoivent les événements
+     */
+    public PostEventListenerChain(List<?> listeners) {
+        super();
+        this.postInsertEventListeners = new ArrayList<>();
+        this.postUpdateEventListeners = new ArrayList<>();
+        this.postDeleteEventListeners = new ArrayList<>();
+        for(Object listener : listeners) {
+            if(listener instanceof PostInsertEventListener) {
+                this.postInsertEventListeners.add((PostInsertEventListener) listener);
+            }
+            if(listener instanceof PostUpdateEventListener) {
+                this.postUpdateEventListeners.add((PostUpdateEventListener) listener);
+            }
+            if(listener instanceof PostDeleteEventListener) {
+                this.postDeleteEventListeners.add((PostDeleteEventListener) listener);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onPostInsert(PostInsertEvent postInsertEvent) {
+        for(PostInsertEventListener postInsertEventListener : this.postInsertEventListeners) {
+            postInsertEventListener.onPostInsert(postInsertEvent);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onPostUpdate(PostUpdateEvent postUpdateEvent) {
+        for(PostUpdateEventListener postUpdateEventListener : this.postUpdateEventListeners) {
+            postUpdateEventListener.onPostUpdate(postUpdateEvent);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onPostDelete(PostDeleteEvent postDeleteEvent) {
+        for(PostDeleteEventListener postDeleteEventListener : this.postDeleteEventListeners) {
+            postDeleteEventListener.onPostDelete(postDeleteEvent);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+// Fichier StringHiLoGenerator.java
+// Auteur : Dragons Vicieux
+// Date de création : 2026-10-17
+
+package ca.qc.collegeahuntsic.bibliothequeBackEnd.util;
+
+import java.io.Serializable;
+import java.util.Properties;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.DTO;
+import org.hibernate.Hibernate;
+import org.hibernate.HibernateException;
+import org.hibernate.MappingException;
+import org.hibernate.Session;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.SessionFactoryImplementor;
+import org.hibernate.engine.SessionImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.id.MultipleHiLoPerTableGenerator;
+import org.hibernate.id.PersistentIdentifierGenerator;
+import org.hibernate.mapping.Table;
+import org.hibernate.type.Type;
+import org.hibernate.util.PropertiesHelper;
+
+/**
+ * Générateur d'ID hi/lo pour les clefs primaires de type {@link String}.<br />
+ * Contrairement à <code>identity</code>, les IDs sont réservés par blocs avant l'insertion, ce qui permet à Hibernate d'envoyer les
+ * insertions par lots JDBC. Les valeurs hautes sont conservées dans une table partagée, une ligne par table de la base de données.<br />
+ * <br />
+ * Avec une valeur haute <code>h</code> et <code>max_lo</code> valant 99, un bloc couvre les IDs <code>h * 100</code> à
+ * <code>h * 100 + 99</code> ; le premier bloc (<code>h</code> = 0) commence à 1. Les IDs générés par une même instance du générateur,
+ * c'est-à-dire par une même <code>SessionFactory</code>, se suivent sans trou. Une nouvelle <code>SessionFactory</code> lit une nouvelle
+ * valeur haute : ses IDs reprennent au multiple de 100 suivant et le reste du bloc précédent est perdu. Les IDs ne partent donc de 1 et
+ * ne se suivent d'une exécution à l'autre que sur une table <code>hilo</code> vide, pendant une seule exécution.<br />
+ * <br />
+ * {@link #prevoirProchainId(Session, Class)} donne le prochain ID d'une table sans le consommer : il se déduit du dernier ID généré par
+ * le générateur ou, au début d'un bloc, de la valeur haute lue dans la table <code>hilo</code>.
+ *
+ * @author Dragons Vicieux
+ */
+public class StringHiLoGenerator extends MultipleHiLoPerTableGenerator {
+    private String requeteValeurHaute;
+
+    private String nomTable;
+
+    private int maxLo;
+
+    private Long dernierId;
+
+    /**
+     * Crée le générateur.
+     */
+    public StringHiLoGenerator() {
+        super();
+    }
+
+    /**
+     * {@inheritDoc}<br />
+     * Le générateur parent est configuré pour produire des {@link Long}, qui sont ensuite convertis en {@link String}.
+     */
+    @Override
+    public void configure(Type type,
+        Properties params,
+        Dialect dialect) throws MappingException {
+        super.configure(Hibernate.LONG,
+            params,
+            dialect);
+        this.requeteValeurHaute = "select "
+            + PropertiesHelper.getString(MultipleHiLoPerTableGenerator.VALUE_COLUMN_NAME,
+                params,
+                "sequence_next_hi_value")
+            + " from "
+            + Table.qualify(params.getProperty(PersistentIdentifierGenerator.CATALOG),
+                params.getProperty(PersistentIdentifierGenerator.SCHEMA),
+                PropertiesHelper.getString(MultipleHiLoPerTableGenerator.ID_TABLE,
+                    params,
+                    MultipleHiLoPerTableGenerator.DEFAULT_TABLE))
+            + " where "
+            + PropertiesHelper.getString(MultipleHiLoPerTableGenerator.PK_COLUMN_NAME,
+                params,
+                "sequence_name")
+            + " = ?";
+        this.nomTable = PropertiesHelper.getString(MultipleHiLoPerTableGenerator.PK_VALUE_NAME,
+            params,
+            params.getProperty(PersistentIdentifierGenerator.TABLE));
+        this.maxLo = PropertiesHelper.getInt(MultipleHiLoPerTableGenerator.MAX_LO,
+            params,
+            Short.MAX_VALUE);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized Serializable generate(SessionImplementor session,
+        Object obj) throws HibernateException {
+        this.dernierId = (Long) super.generate(session,
+            obj);
+        return String.valueOf(this.dernierId);
+    }
+
+    /**
+     * Prévoit le prochain ID qui sera généré pour une classe de DTOs, sans le consommer. La prévision suppose qu'aucun autre programme
+     * ne réserve de bloc dans la table <code>hilo</code> d'ici là.
+     *
+     * @param session La session Hibernate à utiliser pour lire la table <code>hilo</code>
+     * @param dtoClass La classe des DTOs
+     * @return Le prochain ID ; <code>null</code> si la classe n'utilise pas ce générateur, par exemple une séquence Oracle
+     * @throws HibernateException S'il y a une erreur avec la base de données
+     */
+    public static String prevoirProchainId(Session session,
+        Class<? extends DTO> dtoClass) throws HibernateException {
+        final IdentifierGenerator identifierGenerator = ((SessionFactoryImplementor) session.getSessionFactory())
+            .getIdentifierGenerator(dtoClass.getName());
+        if(!(identifierGenerator instanceof StringHiLoGenerator)) {
+            return null;
+        }
+        final Long prochainId = ((StringHiLoGenerator) identifierGenerator).prevoir(session);
+        return prochainId == null
+            ? null
+            : String.valueOf(prochainId);
+    }
+
+    /**
+     * Prévoit le prochain ID de ce générateur. Dans un bloc entamé, c'est l'ID qui suit le dernier ID généré ; sinon, c'est le premier
+     * ID du bloc de la valeur haute enregistrée dans la table <code>hilo</code>, ou 1 si la ligne de la table n'existe pas encore.
+     *
+     * @param session La session Hibernate à utiliser pour lire la table <code>hilo</code>
+     * @return Le prochain ID ; <code>null</code> si <code>max_lo</code> est inférieur à 1
+     * @throws HibernateException S'il y a une erreur avec la base de données
+     */
+    private synchronized Long prevoir(Session session) throws HibernateException {
+        if(this.maxLo < 1) {
+            return null;
+        }
+        final long tailleBloc = this.maxLo + 1L;
+        if(this.dernierId != null
+            && this.dernierId.longValue() % tailleBloc != this.maxLo) {
+            return Long.valueOf(this.dernierId.longValue() + 1);
+        }
+        final Number valeurHaute = (Number) session.createSQLQuery(this.requeteValeurHaute)
+            .setString(0,
+                this.nomTable)
+            .uniqueResult();
+        if(valeurHaute == null
+            || valeurHaute.longValue() == 0) {
+            return Long.valueOf(1);
+        }
+        return Long.valueOf(valeurHaute.longValue()
+            * tailleBloc);
+    }
+}
@@ -1,10 +1,18 @@
+DROP TABLE IF EXISTS pointReprise 	CASCADE;
 DROP TABLE IF EXISTS reservation 	CASCADE;
 DROP TABLE IF EXISTS pret 			CASCADE;
 DROP TABLE IF EXISTS livre 			CASCADE;
 DROP TABLE IF EXISTS membre 		CASCADE;
+DROP TABLE IF EXISTS hilo 			CASCADE;
+
+CREATE TABLE hilo (
+	nomTable 		VARCHAR(30) 	NOT NULL,
+	valeurHaute 	INTEGER 		NOT NULL,
+	CONSTRAINT 		cleHilo 		PRIMARY KEY (nomTable)
+);
 
 CREATE TABLE membre (
-	idMembre        INTEGER(3) 		AUTO_INCREMENT 			CHECK(idMembre > 0),
+	idMembre        INTEGER(3) 		NOT NULL 			CHECK(idMembre > 0),
 	nom             VARCHAR(10) 	NOT NULL,
 	telephone       bigint(10),
 	limitePret      INTEGER(2) 		CHECK(limitePret > 0 AND limitePret <= 10),
@@ -14,7 +22,7 @@ CREATE TABLE membre (
 );
 
 CREATE TABLE livre (
-	idLivre         INTEGER(3) 		AUTO_INCREMENT 			CHECK(idLivre > 0),
+	idLivre         INTEGER(3) 		NOT NULL 			CHECK(idLivre > 0),
 	titre           VARCHAR(100) 	NOT NULL,
 	auteur          VARCHAR(100) 	NOT NULL,
 	dateAcquisition TIMESTAMP	 	NOT NULL,
@@ -22,7 +30,7 @@ CREATE TABLE livre (
 );
 
 CREATE TABLE pret (
-	idPret 			INTEGER(3) 		AUTO_INCREMENT 			CHECK (idPret > 0),
+	idPret 			INTEGER(3) 		NOT NULL 			CHECK (idPret > 0),
 	idMembre 		INTEGER(3)  							CHECK (idMembre > 0),
 	idLivre 		INTEGER(3) 								CHECK (idLivre > 0),
 	datePret 		TIMESTAMP,
@@ -32,8 +40,11 @@ CREATE TABLE pret (
 	CONSTRAINT 		refPretLivre 	FOREIGN KEY (idLivre) 	REFERENCES livre (idLivre) ON DELETE CASCADE
 );
 
+CREATE INDEX 	idxPretEnCours 	ON pret (idLivre, dateRetour);
+CREATE INDEX 	idxPretMembreEnCours 	ON pret (idMembre, dateRetour);
+
 CREATE TABLE reservation (
-	idReservation   INTEGER(3)		AUTO_INCREMENT 			CHECK (idReservation > 0),
+	idReservation   INTEGER(3)		NOT NULL 			CHECK (idReservation > 0),
 	idMembre        INTEGER(3)								CHECK (idMembre > 0),
 	idLivre         INTEGER(3)								CHECK (idLivre > 0),
 	dateReservation TIMESTAMP,
@@ -44,3 +55,13 @@ CREATE TABLE reservation (
 	CONSTRAINT 		refReservationLivre 					FOREIGN KEY (idLivre) 	REFERENCES livre (idLivre)
 	  ON DELETE CASCADE
 );
+
+CREATE INDEX 	idxFileReservation 	ON reservation (idLivre, dateReservation, idReservation);
+
+CREATE TABLE pointReprise (
+	fichier         VARCHAR(255)							NOT NULL,
+	positionFichier BIGINT									NOT NULL	CHECK (positionFichier >= 0),
+	numeroLigne     INTEGER									NOT NULL,
+	dateMiseAJour   TIMESTAMP,
+	CONSTRAINT 		clePrimairePointReprise					PRIMARY KEY (fichier)
+);
@@ -8,25 +8,26 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.sql.Timestamp;
-import java.text.ParseException;
-import java.util.StringTokenizer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.BitSet;
+import ca.qc.collegeahuntsic.bibliotheque.commande.Commande;
+import ca.qc.collegeahuntsic.bibliotheque.commande.ExecuteurCommande;
+import ca.qc.collegeahuntsic.bibliotheque.commande.GroupeurCommandes;
+import ca.qc.collegeahuntsic.bibliotheque.commande.LecteurJournal;
+import ca.qc.collegeahuntsic.bibliotheque.commande.PipelineTransactions;
+import ca.qc.collegeahuntsic.bibliotheque.commande.RejoueurParallele;
+import ca.qc.collegeahuntsic.bibliotheque.commande.SimulateurBibliotheque;
+import ca.qc.collegeahuntsic.bibliotheque.commande.TokeniseurMappe;
 import ca.qc.collegeahuntsic.bibliotheque.exception.BibliothequeException;
+import ca.qc.collegeahuntsic.bibliotheque.util.AppendeurAnneau;
 import ca.qc.collegeahuntsic.bibliotheque.util.BibliothequeCreateur;
-import ca.qc.collegeahuntsic.bibliotheque.util.FormatteurDate;
-import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.LivreDTO;
-import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.MembreDTO;
-import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.PretDTO;
-import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.ReservationDTO;
+import ca.qc.collegeahuntsic.bibliotheque.util.MessageJournal;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.PointRepriseDTO;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidHibernateSessionException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidPrimaryKeyException;
-import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dto.InvalidDTOException;
-import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dto.MissingDTOException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.facade.FacadeException;
-import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.service.ExistingLoanException;
-import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.service.ExistingReservationException;
-import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.service.InvalidLoanLimitException;
-import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.service.MissingLoanException;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
@@ -37,10 +38,19 @@ import org.apache.commons.logging.LogFactory;
  * bibliothèque. Il gère des livres, des membres et des
  * réservations. Les données sont conservées dans une base de
  * données relationnelles accédée avec JDBC. Pour une liste des
- * transactions traitées, voir la méthode afficherAide().
+ * transactions traitées, voir la méthode ExecuteurCommande.afficherAide().
  *
  * Paramètres
  * 0 - Fichier de transaction
+ * 1 - Nombre de fils pour le rejeu parallèle, -g pour valider les transactions par groupes, -p pour lire, valider et exécuter
+ * les transactions en pipeline, -m pour projeter en mémoire le fichier de transactions, -r pour faire de même en reprenant au dernier
+ * point de reprise, -j pour rejouer un journal binaire, -s pour seulement simuler le fichier en mémoire ou -e pour simuler le
+ * fichier puis le traiter en sautant les transactions dont l'échec est prévu ; avec -m, -r, -j, -s et -e, le fichier est un chemin
+ * de fichier et non une ressource (optionnel ; sans ce paramètre, les transactions sont traitées une à une)
+ * 2 - Avec -g, nombre maximal de transactions par groupe ; avec -p, -m, -r, -j ou -e, idem (optionnel)
+ * 3 - Avec -g, délai maximal d'un groupe en millisecondes (optionnel)
+ *
+ * La session Hibernate de chaque fil est réutilisée d'une transaction à l'autre.
  *
  * Pré-condition : La base de données de la bibliothèque doit exister
  *
@@ -51,6 +61,24 @@ import org.apache.commons.logging.LogFactory;
  */
 public final class Bibliotheque {
 
+    private static final String OPTION_GROUPE = "-g";
+
+    private static final String OPTION_PIPELINE = "-p";
+
+    private static final String OPTION_MAPPE = "-m";
+
+    private static final String OPTION_JOURNAL = "-j";
+
+    private static final String OPTION_REPRISE = "-r";
+
+    private static final String OPTION_SIMULATION = "-s";
+
+    private static final String OPTION_PREVISION = "-e";
+
+    private static final long DELAI_GROUPE = 1000;
+
+    private static final int CAPACITE_PIPELINE = 1024;
+
     private static BibliothequeCreateur bibliothequeCreateur;
 
     private static Log logger = LogFactory.getLog(Bibliotheque.class);
@@ -63,14 +91,65 @@ public final class Bibliotheque {
     }
 
     /**
-     * Utilitaire de test de l'application bibliothèque.
+     * Utilitaire de test de l'application bibliothèque. Le journal est écrit par un {@link AppendeurAnneau} pendant le traitement.
      *
      * @param argv Les paramètres du main
      */
     public static void main(String[] argv) {
         // validation du nombre de paramètres
         if(argv.length < 1) {
-            Bibliotheque.logger.info("Usage: java Biblio <fichier-transactions>");
+            Bibliotheque.logger.info("Usage: java Biblio <fichier-transactions> [<nombre-fils> | -g <taille-groupe> [<delai-ms>] | -p [<taille-groupe>] | -m [<taille-groupe>] | -r [<taille-groupe>] | -j [<taille-groupe>] | -s | -e [<taille-groupe>]]");
+            return;
+        }
+
+        AppendeurAnneau.installer();
+        try {
+            traiter(argv);
+        } finally {
+            AppendeurAnneau.desinstaller();
+        }
+    }
+
+    /**
+     * Traite le fichier de transactions selon les paramètres du main.
+     *
+     * @param argv Les paramètres du main
+     */
+    private static void traiter(String[] argv) {
+        if(argv.length > 1
+            && (Bibliotheque.OPTION_MAPPE.equals(argv[1])
+                || Bibliotheque.OPTION_REPRISE.equals(argv[1])
+                || Bibliotheque.OPTION_JOURNAL.equals(argv[1])
+                || Bibliotheque.OPTION_SIMULATION.equals(argv[1])
+                || Bibliotheque.OPTION_PREVISION.equals(argv[1]))) {
+            try {
+                Bibliotheque.bibliothequeCreateur = new BibliothequeCreateur(true);
+                final int tailleGroupe = argv.length > 2
+                    ? Integer.parseInt(argv[2])
+                    : 1;
+                if(Bibliotheque.OPTION_JOURNAL.equals(argv[1])) {
+                    traiterJournal(argv[0],
+                        tailleGroupe);
+                } else if(Bibliotheque.OPTION_SIMULATION.equals(argv[1])) {
+                    simulerFichier(argv[0]);
+                } else if(Bibliotheque.OPTION_PREVISION.equals(argv[1])) {
+                    traiterFichierMappe(argv[0],
+                        tailleGroupe,
+                        false,
+                        simulerFichier(argv[0]));
+                } else {
+                    traiterFichierMappe(argv[0],
+                        tailleGroupe,
+                        Bibliotheque.OPTION_REPRISE.equals(argv[1]),
+                        null);
+                }
+                Bibliotheque.logger.info(Bibliotheque.bibliothequeCreateur.getCacheStatisticsReporter().report());
+                Bibliotheque.bibliothequeCreateur.fermerSession();
+                Bibliotheque.logger.info(Bibliotheque.bibliothequeCreateur.getStatistiquesSessions().rapport());
+            } catch(Exception exception) {
+                Bibliotheque.logger.info(" **** "
+                    + exception.getMessage());
+            }
             return;
         }
 
@@ -81,8 +160,31 @@ public final class Bibliotheque {
 
             try(
                 BufferedReader reader = new BufferedReader(new InputStreamReader(sourceTransaction))) {
-                Bibliotheque.bibliothequeCreateur = new BibliothequeCreateur();
-                traiterTransactions(reader);
+                Bibliotheque.bibliothequeCreateur = new BibliothequeCreateur(true);
+                if(argv.length > 2
+                    && Bibliotheque.OPTION_GROUPE.equals(argv[1])) {
+                    traiterTransactions(reader,
+                        Integer.parseInt(argv[2]),
+                        argv.length > 3
+                            ? Long.parseLong(argv[3])
+                            : Bibliotheque.DELAI_GROUPE);
+                } else if(argv.length > 1
+                    && Bibliotheque.OPTION_PIPELINE.equals(argv[1])) {
+                    traiterTransactionsEnPipeline(reader,
+                        argv.length > 2
+                            ? Integer.parseInt(argv[2])
+                            : 1);
+                } else if(argv.length > 1) {
+                    new RejoueurParallele(Integer.parseInt(argv[1])).rejouer(reader,
+                        Bibliotheque.bibliothequeCreateur);
+                } else {
+                    traiterTransactions(reader,
+                        1,
+                        Bibliotheque.DELAI_GROUPE);
+                }
+                Bibliotheque.logger.info(Bibliotheque.bibliothequeCreateur.getCacheStatisticsReporter().report());
+                Bibliotheque.bibliothequeCreateur.fermerSession();
+                Bibliotheque.logger.info(Bibliotheque.bibliothequeCreateur.getStatistiquesSessions().rapport());
             }
         } catch(Exception exception) {
             Bibliotheque.logger.info(" **** "
@@ -94,491 +196,216 @@ public final class Bibliotheque {
      * Traitement des transactions de la bibliothèque.
      *
      * @param reader Le reader à utiliser
+     * @param tailleGroupe Le nombre maximal de transactions validées ensemble ; 1 pour valider chaque transaction seule
+     * @param delaiMaximum Le délai maximal, en millisecondes, avant de valider un groupe incomplet
      * @throws BibliothequeException S'il y a une erreur d'exécution
      * @throws IOException S'il y a une erreur de lecture
      */
-    static void traiterTransactions(BufferedReader reader) throws BibliothequeException,
+    static void traiterTransactions(BufferedReader reader,
+        int tailleGroupe,
+        long delaiMaximum) throws BibliothequeException,
     IOException {
-        afficherAide();
-        String transaction;
-
-        transaction = lireTransaction(reader);
+        ExecuteurCommande.afficherAide();
+        final ExecuteurCommande executeurCommande = new ExecuteurCommande(Bibliotheque.bibliothequeCreateur);
+        final GroupeurCommandes groupeurCommandes = new GroupeurCommandes(executeurCommande,
+            tailleGroupe,
+            delaiMaximum);
+        int numero = 0;
+        String transaction = lireTransaction(reader);
 
         while(!finTransaction(transaction)) {
-
-            final StringTokenizer tokenizer = new StringTokenizer(transaction,
-                " ");
-            if(tokenizer.hasMoreTokens()) {
-                try {
-                    executerTransaction(tokenizer);
-                    transaction = lireTransaction(reader);
-                } catch(BibliothequeException bibliothequeException) {
-                    Bibliotheque.logger.error(bibliothequeException.getMessage());
-                    transaction = lireTransaction(reader);
+            numero++;
+            try {
+                final Commande commande = Commande.lire(numero,
+                    transaction);
+                if(commande != null) {
+                    groupeurCommandes.ajouter(commande);
                 }
+            } catch(BibliothequeException bibliothequeException) {
+                Bibliotheque.logger.error(MessageJournal.de("ligne {} : {}",
+                    numero,
+                    bibliothequeException.getMessage()));
             }
+            transaction = lireTransaction(reader);
         }
+        groupeurCommandes.vider();
+        Bibliotheque.logger.info(groupeurCommandes.rapport());
+        Bibliotheque.logger.info(executeurCommande.getStatistiques().rapport());
     }
 
     /**
-     * Lecture d'une transaction.
+     * Traitement des transactions de la bibliothèque en pipeline : la lecture et l'analyse des transactions se font pendant
+     * l'exécution des transactions précédentes.
      *
      * @param reader Le reader à utiliser
-     * @return lireTransactionString La transaction lue
+     * @param tailleGroupe Le nombre maximal de transactions validées ensemble ; 1 pour valider chaque transaction seule
+     * @throws BibliothequeException S'il y a une erreur d'exécution
      * @throws IOException S'il y a une erreur de lecture
      */
-    private static String lireTransaction(BufferedReader reader) throws IOException {
-
-        Bibliotheque.logger.info("> ");
-        final String transaction = reader.readLine();
-
-        if(transaction != null) {
-            Bibliotheque.logger.info(transaction);
-        }
-
-        return transaction;
+    static void traiterTransactionsEnPipeline(BufferedReader reader,
+        int tailleGroupe) throws BibliothequeException,
+    IOException {
+        ExecuteurCommande.afficherAide();
+        final ExecuteurCommande executeurCommande = new ExecuteurCommande(Bibliotheque.bibliothequeCreateur);
+        final GroupeurCommandes groupeurCommandes = new GroupeurCommandes(executeurCommande,
+            tailleGroupe,
+            Bibliotheque.DELAI_GROUPE);
+        new PipelineTransactions(groupeurCommandes,
+            Bibliotheque.CAPACITE_PIPELINE).traiter(reader);
+        Bibliotheque.logger.info(groupeurCommandes.rapport());
+        Bibliotheque.logger.info(executeurCommande.getStatistiques().rapport());
     }
 
     /**
-     * Décodage et traitement d'une transaction.
+     * Traitement des transactions d'un fichier projeté en mémoire. Les lignes ne sont pas journalisées ; une ligne invalide est
+     * journalisée avec son numéro.<br />
+     * <br />
+     * Avec reprise, le point de reprise du fichier est enregistré dans la transaction de chaque commande validée. Au démarrage, le
+     * traitement reprend directement à la ligne qui suit la dernière commande validée. Le point de reprise est identifié par le
+     * chemin absolu du fichier.<br />
+     * <br />
+     * Les lignes dont l'échec est prévu par une simulation préalable sont sautées sans ouvrir de transaction.
      *
-     * @param tokenizer Le tokenizer à utiliser
+     * @param fichier Le chemin du fichier de transactions
+     * @param tailleGroupe Le nombre maximal de transactions validées ensemble ; 1 pour valider chaque transaction seule
+     * @param reprise <code>true</code> pour enregistrer un point de reprise et reprendre au dernier ; <code>false</code> sinon
+     * @param echecsPrevus Les numéros des lignes dont l'échec est prévu ; <code>null</code> pour traiter toutes les lignes
      * @throws BibliothequeException S'il y a une erreur d'exécution
+     * @throws IOException S'il y a une erreur de lecture ou si le point de reprise est hors du fichier
      */
-    private static void executerTransaction(StringTokenizer tokenizer) throws BibliothequeException {
-
-        final String command = tokenizer.nextToken();
-
-        switch(command) {
-            case "aide":
-                Bibliotheque.afficherAide();
-                break;
-            case "acquerir":
-                Bibliotheque.acquerirLivre(tokenizer);
-                break;
-            case "vendre":
-                Bibliotheque.vendreLivre(tokenizer);
-                break;
-            case "preter":
-                Bibliotheque.commencerPret(tokenizer);
-                break;
-            case "renouveler":
-                Bibliotheque.renouvelerPret(tokenizer);
-                break;
-            case "retourner":
-                Bibliotheque.terminerPret(tokenizer);
-                break;
-            case "inscrire":
-                Bibliotheque.inscrireMembre(tokenizer);
-                break;
-            case "desinscrire":
-                Bibliotheque.desinscrireMembre(tokenizer);
-                break;
-            case "reserver":
-                Bibliotheque.placerReservation(tokenizer);
-                break;
-            case "utiliser":
-                Bibliotheque.utiliserReservation(tokenizer);
-                break;
-            case "annuler":
-                Bibliotheque.annulerReservation(tokenizer);
-                break;
-            case "--":
-                break;
-            default:
-                Bibliotheque.logger.info("  Transactions non reconnue.  Essayer \"aide\"");
-                break;
-        }
-
-    }
-
-    /**
-     * Affiche le menu des transactions acceptées par le système.
-     */
-    private static void afficherAide() {
-        Bibliotheque.logger.info("");
-        Bibliotheque.logger.info("Chaque transaction comporte un nom et une liste d'arguments");
-        Bibliotheque.logger.info("separes par des espaces. La liste peut etre vide.");
-        Bibliotheque.logger.info(" Les dates sont en format yyyy-mm-dd.");
-        Bibliotheque.logger.info("");
-        Bibliotheque.logger.info("Les transactions sont:");
-        Bibliotheque.logger.info("  aide");
-        Bibliotheque.logger.info("  exit");
-        Bibliotheque.logger.info("  acquerir <titre> <auteur>");
-        Bibliotheque.logger.info("  preter <idLivre> <idMembre>");
-        Bibliotheque.logger.info("  renouveler <idPret>");
-        Bibliotheque.logger.info("  retourner <idPret>");
-        Bibliotheque.logger.info("  vendre <idLivre>");
-        Bibliotheque.logger.info("  inscrire <nom> <telephone> <limitePret>");
-        Bibliotheque.logger.info("  desinscrire <idMembre>");
-        Bibliotheque.logger.info("  reserver <idMembre> <idLivre> ");
-        Bibliotheque.logger.info("  utiliser <idReservation>");
-        Bibliotheque.logger.info("  annuler <idReservation>");
-    }
-
-    /**
-     * Place une réservation.
-     *
-     * @param tokenizer Le tokenizer à utiliser
-     * @throws BibliothequeException S'il y a une erreur
-     */
-    private static void placerReservation(StringTokenizer tokenizer) throws BibliothequeException {
-
-        try {
-            Bibliotheque.bibliothequeCreateur.beginTransaction();
-            final ReservationDTO reservationDTO = new ReservationDTO();
-            final String idMembre = readString(tokenizer);
-            MembreDTO membreDTO;
-
-            membreDTO = Bibliotheque.bibliothequeCreateur.getMembreFacade().getMembre(Bibliotheque.bibliothequeCreateur.getSession(),
-                idMembre);
-
-            if(membreDTO == null) {
-                throw new MissingDTOException("Le membre "
-                    + idMembre
-                    + " n'existe pas");
-            }
-            final String idLivre = readString(tokenizer);
-            final LivreDTO livreDTO = Bibliotheque.bibliothequeCreateur.getLivreFacade().getLivre(Bibliotheque.bibliothequeCreateur.getSession(),
-                idLivre);
-            if(livreDTO == null) {
-                throw new MissingDTOException("Le livre "
-                    + idLivre
-                    + " n'existe pas");
+    static void traiterFichierMappe(String fichier,
+        int tailleGroupe,
+        boolean reprise,
+        BitSet echecsPrevus) throws BibliothequeException,
+    IOException {
+        ExecuteurCommande.afficherAide();
+        final Path chemin = Paths.get(fichier).toAbsolutePath().normalize();
+        final String fichierReprise = reprise
+            ? chemin.toString()
+            : null;
+        final ExecuteurCommande executeurCommande = new ExecuteurCommande(Bibliotheque.bibliothequeCreateur,
+            fichierReprise);
+        final GroupeurCommandes groupeurCommandes = new GroupeurCommandes(executeurCommande,
+            tailleGroupe,
+            Bibliotheque.DELAI_GROUPE);
+        try(
+            TokeniseurMappe tokeniseur = new TokeniseurMappe(chemin)) {
+            if(reprise) {
+                final PointRepriseDTO pointRepriseDTO = lirePointReprise(fichierReprise);
+                if(pointRepriseDTO != null) {
+                    tokeniseur.positionner(pointRepriseDTO.getPositionFichier(),
+                        pointRepriseDTO.getNumeroLigne());
+                    Bibliotheque.logger.info("Reprise après la ligne "
+                        + pointRepriseDTO.getNumeroLigne()
+                        + " (octet "
+                        + pointRepriseDTO.getPositionFichier()
+                        + ")");
+                }
             }
-            reservationDTO.setLivreDTO(livreDTO);
-            reservationDTO.setMembreDTO(membreDTO);
-
-            Bibliotheque.bibliothequeCreateur.getReservationFacade().placerReservation(Bibliotheque.bibliothequeCreateur.getSession(),
-                reservationDTO);
-            Bibliotheque.bibliothequeCreateur.commitTransaction();
-        } catch(
-            InvalidHibernateSessionException
-            | InvalidPrimaryKeyException
-            | FacadeException
-            | MissingDTOException
-            | InvalidDTOException
-            | MissingLoanException
-            | ExistingLoanException
-            | ExistingReservationException exception) {
-            Bibliotheque.logger.error(" **** "
-                + exception.getMessage());
-            Bibliotheque.bibliothequeCreateur.rollbackTransaction();
-        }
-    }
-
-    /**
-     * Utilise une réservation.
-     *
-     * @param tokenizer Le tokenizer à utiliser
-     * @throws BibliothequeException S'il y a une erreur
-     */
-    private static void utiliserReservation(StringTokenizer tokenizer) throws BibliothequeException {
-
-        try {
-            Bibliotheque.bibliothequeCreateur.beginTransaction();
-            final String idReservation = readString(tokenizer);
-            final ReservationDTO reservationDTO = Bibliotheque.bibliothequeCreateur.getReservationFacade()
-                .getReservation(Bibliotheque.bibliothequeCreateur.getSession(),
-                    idReservation);
-            if(reservationDTO == null) {
-                throw new MissingDTOException("La reservation "
-                    + idReservation
-                    + " n'existe pas");
+            while(tokeniseur.avancer()) {
+                if(echecsPrevus != null
+                    && echecsPrevus.get(tokeniseur.getNumero())) {
+                    continue;
+                }
+                try {
+                    final Commande commande = Commande.lire(tokeniseur);
+                    if(commande != null) {
+                        groupeurCommandes.ajouter(commande);
+                    }
+                } catch(BibliothequeException bibliothequeException) {
+                    Bibliotheque.logger.error(MessageJournal.de("ligne {} : {}",
+                        tokeniseur.getNumero(),
+                        bibliothequeException.getMessage()));
+                }
             }
-            Bibliotheque.bibliothequeCreateur.getReservationFacade().utiliserReservation(Bibliotheque.bibliothequeCreateur.getSession(),
-                reservationDTO);
-            Bibliotheque.bibliothequeCreateur.commitTransaction();
-        } catch(
-            InvalidHibernateSessionException
-            | InvalidPrimaryKeyException
-            | FacadeException
-            | MissingDTOException
-            | InvalidDTOException
-            | ExistingReservationException
-            | ExistingLoanException
-            | InvalidLoanLimitException exceptions) {
-            Bibliotheque.logger.error(" **** "
-                + exceptions.getMessage());
-            Bibliotheque.bibliothequeCreateur.rollbackTransaction();
         }
-    }
-
-    /**
-     * Annule une réservation.
-     *
-     * @param tokenizer Le tokenizer à utiliser
-     * @throws BibliothequeException S'il y a une erreur
-     */
-    private static void annulerReservation(StringTokenizer tokenizer) throws BibliothequeException {
-
-        try {
-            Bibliotheque.bibliothequeCreateur.beginTransaction();
-            final String idReservation = readString(tokenizer);
-            final ReservationDTO reservationDTO = Bibliotheque.bibliothequeCreateur.getReservationFacade()
-                .getReservation(Bibliotheque.bibliothequeCreateur.getSession(),
-                    idReservation);
-            if(reservationDTO == null) {
-                throw new MissingDTOException("La reservation "
-                    + idReservation
-                    + " n'existe pas");
-            }
-            Bibliotheque.bibliothequeCreateur.getReservationFacade().annulerReservation(Bibliotheque.bibliothequeCreateur.getSession(),
-                reservationDTO);
-            Bibliotheque.bibliothequeCreateur.commitTransaction();
-        } catch(
-            InvalidHibernateSessionException
-            | InvalidPrimaryKeyException
-            | FacadeException
-            | MissingDTOException
-            | InvalidDTOException exceptions) {
-            Bibliotheque.logger.error(" **** "
-                + exceptions.getMessage());
-            Bibliotheque.bibliothequeCreateur.rollbackTransaction();
+        groupeurCommandes.vider();
+        Bibliotheque.logger.info(groupeurCommandes.rapport());
+        Bibliotheque.logger.info(executeurCommande.getStatistiques().rapport());
+        if(echecsPrevus != null) {
+            Bibliotheque.logger.info(echecsPrevus.cardinality()
+                + " transactions sautées");
         }
     }
 
     /**
-     * Acquiert un livre.
+     * Simule en mémoire les transactions d'un fichier, à partir d'un instantané de la base de données, sans la modifier. Chaque
+     * échec prévu est journalisé avec son numéro de ligne.
      *
-     * @param tokenizer Le tokenizer à utiliser
-     * @throws BibliothequeException S'il y a une erreur
-     */
-    private static void acquerirLivre(StringTokenizer tokenizer) throws BibliothequeException {
-
-        try {
-            Bibliotheque.bibliothequeCreateur.beginTransaction();
-
-            final LivreDTO livreDTO = new LivreDTO();
-            livreDTO.setTitre(readString(tokenizer));
-            livreDTO.setAuteur(readString(tokenizer));
-            livreDTO.setDateAcquisition(readDate(tokenizer));
-            Bibliotheque.bibliothequeCreateur.getLivreFacade().acquerirLivre(Bibliotheque.bibliothequeCreateur.getSession(),
-                livreDTO);
-            Bibliotheque.bibliothequeCreateur.commitTransaction();
-        } catch(
-            InvalidHibernateSessionException
-            | InvalidDTOException
-            | FacadeException exceptions) {
-            Bibliotheque.logger.error(" **** "
-                + exceptions.getMessage());
-            Bibliotheque.bibliothequeCreateur.rollbackTransaction();
-        }
-
-    }
-
-    /**
-     * Vend un livre.
-     *
-     * @param tokenizer Le tokenizer à utiliser
-     * @throws BibliothequeException S'il y a une erreur
+     * @param fichier Le chemin du fichier de transactions
+     * @return Les numéros des lignes dont l'échec est prévu
+     * @throws BibliothequeException S'il y a une erreur avec la base de données
+     * @throws IOException S'il y a une erreur de lecture
      */
-    private static void vendreLivre(StringTokenizer tokenizer) throws BibliothequeException {
-        try {
-            Bibliotheque.bibliothequeCreateur.beginTransaction();
-            final String idLivre = readString(tokenizer);
-            final LivreDTO livreDTO = Bibliotheque.bibliothequeCreateur.getLivreFacade().getLivre(Bibliotheque.bibliothequeCreateur.getSession(),
-                idLivre);
-            if(livreDTO == null) {
-                throw new MissingDTOException("Le livre "
-                    + idLivre
-                    + " n'existe pas");
-            }
-            Bibliotheque.bibliothequeCreateur.getLivreFacade().vendreLivre(Bibliotheque.bibliothequeCreateur.getSession(),
-                livreDTO);
-            Bibliotheque.bibliothequeCreateur.commitTransaction();
-        } catch(
-            InvalidHibernateSessionException
-            | InvalidPrimaryKeyException
-            | FacadeException
-            | MissingDTOException
-            | InvalidDTOException
-            | ExistingLoanException
-            | ExistingReservationException exceptions) {
-            Bibliotheque.logger.error(" **** "
-                + exceptions.getMessage());
-            Bibliotheque.bibliothequeCreateur.rollbackTransaction();
-        }
+    static BitSet simulerFichier(String fichier) throws BibliothequeException,
+    IOException {
+        final SimulateurBibliotheque simulateur = SimulateurBibliotheque.charger(Bibliotheque.bibliothequeCreateur);
+        final BitSet echecsPrevus = simulateur.prevoir(Paths.get(fichier).toAbsolutePath().normalize());
+        Bibliotheque.logger.info(simulateur.rapport());
+        return echecsPrevus;
     }
 
     /**
-     * Commence un prêt.
+     * Lit le point de reprise d'un fichier de transactions dans sa propre transaction.
      *
-     * @param tokenizer Le tokenizer à utiliser
-     * @throws BibliothequeException S'il y a une erreur
+     * @param fichierReprise Le fichier de transactions du point de reprise
+     * @return Le point de reprise ; <code>null</code> si le fichier n'en a pas
+     * @throws BibliothequeException S'il y a une erreur avec la base de données
      */
-    private static void commencerPret(StringTokenizer tokenizer) throws BibliothequeException {
+    private static PointRepriseDTO lirePointReprise(String fichierReprise) throws BibliothequeException {
         try {
-            Bibliotheque.bibliothequeCreateur.beginTransaction();
-
-            final String idLivre = readString(tokenizer);
-            final LivreDTO livreDTO = Bibliotheque.bibliothequeCreateur.getLivreFacade().getLivre(Bibliotheque.bibliothequeCreateur.getSession(),
-                idLivre);
-            if(livreDTO == null) {
-                throw new MissingDTOException("Le livre "
-                    + idLivre
-                    + " n'existe pas");
-            }
-
-            final String idMembre = readString(tokenizer);
-            final MembreDTO membreDTO = Bibliotheque.bibliothequeCreateur.getMembreFacade().getMembre(Bibliotheque.bibliothequeCreateur.getSession(),
-                idMembre);
-            if(membreDTO == null) {
-                throw new MissingDTOException("Le membre "
-                    + idMembre
-                    + " n'existe pas");
-            }
-
-            final PretDTO pretDTO = new PretDTO();
-            pretDTO.setLivreDTO(livreDTO);
-            pretDTO.setMembreDTO(membreDTO);
-            Bibliotheque.bibliothequeCreateur.getPretFacade().commencerPret(Bibliotheque.bibliothequeCreateur.getSession(),
-                pretDTO);
+            Bibliotheque.bibliothequeCreateur.beginTransaction(true);
+            final PointRepriseDTO pointRepriseDTO = Bibliotheque.bibliothequeCreateur.getPointRepriseFacade().getPointReprise(Bibliotheque.bibliothequeCreateur.getSession(),
+                fichierReprise);
             Bibliotheque.bibliothequeCreateur.commitTransaction();
+            return pointRepriseDTO;
         } catch(
             InvalidHibernateSessionException
             | InvalidPrimaryKeyException
-            | FacadeException
-            | MissingDTOException
-            | InvalidDTOException
-            | ExistingLoanException
-            | InvalidLoanLimitException
-            | ExistingReservationException exceptions) {
-            Bibliotheque.logger.error(" **** "
-                + exceptions.getMessage());
+            | FacadeException exception) {
             Bibliotheque.bibliothequeCreateur.rollbackTransaction();
+            throw new BibliothequeException(exception);
         }
     }
 
     /**
-     * Renouvelle un prêt.
+     * Traitement des transactions d'un journal binaire. Les commandes ne sont ni découpées ni analysées : elles sont décodées
+     * directement du journal.
      *
-     * @param tokenizer Le tokenizer à utiliser
-     * @throws BibliothequeException S'il y a une erreur
+     * @param fichier Le chemin du journal binaire
+     * @param tailleGroupe Le nombre maximal de transactions validées ensemble ; 1 pour valider chaque transaction seule
+     * @throws BibliothequeException S'il y a une erreur d'exécution
+     * @throws IOException S'il y a une erreur de lecture ou si le journal est invalide
      */
-    private static void renouvelerPret(StringTokenizer tokenizer) throws BibliothequeException {
-        try {
-            Bibliotheque.bibliothequeCreateur.beginTransaction();
-            final String idPret = readString(tokenizer);
-            final PretDTO pretDTO = Bibliotheque.bibliothequeCreateur.getPretFacade().getPret(Bibliotheque.bibliothequeCreateur.getSession(),
-                idPret);
-            if(pretDTO == null) {
-                throw new MissingDTOException("Le pret "
-                    + idPret
-                    + " n'existe pas");
+    static void traiterJournal(String fichier,
+        int tailleGroupe) throws BibliothequeException,
+    IOException {
+        final ExecuteurCommande executeurCommande = new ExecuteurCommande(Bibliotheque.bibliothequeCreateur);
+        final GroupeurCommandes groupeurCommandes = new GroupeurCommandes(executeurCommande,
+            tailleGroupe,
+            Bibliotheque.DELAI_GROUPE);
+        try(
+            LecteurJournal lecteurJournal = new LecteurJournal(Files.newInputStream(Paths.get(fichier)))) {
+            Commande commande = Commande.lire(lecteurJournal);
+            while(commande != null) {
+                groupeurCommandes.ajouter(commande);
+                commande = Commande.lire(lecteurJournal);
             }
-            Bibliotheque.bibliothequeCreateur.getPretFacade().renouvelerPret(Bibliotheque.bibliothequeCreateur.getSession(),
-                pretDTO);
-            Bibliotheque.bibliothequeCreateur.commitTransaction();
-        } catch(
-            InvalidHibernateSessionException
-            | InvalidPrimaryKeyException
-            | FacadeException
-            | MissingDTOException
-            | InvalidDTOException
-            | MissingLoanException
-            | ExistingReservationException exceptions) {
-            Bibliotheque.logger.error(" **** "
-                + exceptions.getMessage());
-            Bibliotheque.bibliothequeCreateur.rollbackTransaction();
         }
+        groupeurCommandes.vider();
+        Bibliotheque.logger.info(groupeurCommandes.rapport());
+        Bibliotheque.logger.info(executeurCommande.getStatistiques().rapport());
     }
 
     /**
-     * Termine un prêt.
+     * Lecture d'une transaction. La transaction n'est pas journalisée : chaque commande exécutée produit un enregistrement d'audit.
      *
-     * @param tokenizer Le tokenizer à utiliser
-     * @throws BibliothequeException S'il y a une erreur
-     */
-    private static void terminerPret(StringTokenizer tokenizer) throws BibliothequeException {
-        try {
-            Bibliotheque.bibliothequeCreateur.beginTransaction();
-            final String idPret = readString(tokenizer);
-            final PretDTO pretDTO = Bibliotheque.bibliothequeCreateur.getPretFacade().getPret(Bibliotheque.bibliothequeCreateur.getSession(),
-                idPret);
-            if(pretDTO == null) {
-                throw new MissingDTOException("Le pret "
-                    + idPret
-                    + " n'existe pas");
-            }
-            Bibliotheque.bibliothequeCreateur.getPretFacade().terminerPret(Bibliotheque.bibliothequeCreateur.getSession(),
-                pretDTO);
-            Bibliotheque.bibliothequeCreateur.commitTransaction();
-        } catch(
-            InvalidHibernateSessionException
-            | InvalidPrimaryKeyException
-            | FacadeException
-            | MissingDTOException
-            | InvalidDTOException
-            | MissingLoanException exceptions) {
-            Bibliotheque.logger.error(" **** "
-                + exceptions.getMessage());
-            Bibliotheque.bibliothequeCreateur.rollbackTransaction();
-        }
-
-    }
-
-    /**
-     * Inscrit un membre.
-     *
-     * @param tokenizer Le tokenizer à utiliser
-     * @throws BibliothequeException S'il y a une erreur
-     */
-    private static void inscrireMembre(StringTokenizer tokenizer) throws BibliothequeException {
-        try {
-            Bibliotheque.bibliothequeCreateur.beginTransaction();
-            final MembreDTO membreDTO = new MembreDTO();
-            membreDTO.setNom(readString(tokenizer));
-            membreDTO.setTelephone(Long.valueOf(readString(tokenizer)).longValue());
-            membreDTO.setLimitePret(Integer.parseInt(readString(tokenizer)));
-            membreDTO.setNbPret(0);
-
-            Bibliotheque.bibliothequeCreateur.getMembreFacade().inscrireMembre(Bibliotheque.bibliothequeCreateur.getSession(),
-                membreDTO);
-            Bibliotheque.bibliothequeCreateur.commitTransaction();
-        } catch(
-            InvalidHibernateSessionException
-            | InvalidDTOException
-            | FacadeException exceptions) {
-            Bibliotheque.logger.error(" **** "
-                + exceptions.getMessage());
-            Bibliotheque.bibliothequeCreateur.rollbackTransaction();
-        }
-    }
-
-    /**
-     * Désinscrit un membre.
-     *
-     * @param tokenizer Le tokenizer à utiliser
-     * @throws BibliothequeException S'il y a une erreur
+     * @param reader Le reader à utiliser
+     * @return lireTransactionString La transaction lue
+     * @throws IOException S'il y a une erreur de lecture
      */
-    private static void desinscrireMembre(StringTokenizer tokenizer) throws BibliothequeException {
-
-        try {
-            Bibliotheque.bibliothequeCreateur.beginTransaction();
-            final String idMembre = readString(tokenizer);
-            final MembreDTO membreDTO = Bibliotheque.bibliothequeCreateur.getMembreFacade().getMembre(Bibliotheque.bibliothequeCreateur.getSession(),
-                idMembre);
-            if(membreDTO == null) {
-                throw new MissingDTOException("Le membre "
-                    + idMembre
-                    + " n'existe pas");
-            }
-            Bibliotheque.bibliothequeCreateur.getMembreFacade().desinscrireMembre(Bibliotheque.bibliothequeCreateur.getSession(),
-                membreDTO);
-            Bibliotheque.bibliothequeCreateur.commitTransaction();
-        } catch(
-            InvalidHibernateSessionException
-            | InvalidPrimaryKeyException
-            | FacadeException
-            | MissingDTOException
-            | InvalidDTOException
-            | ExistingLoanException
-            | ExistingReservationException exceptions) {
-            Bibliotheque.logger.error(" **** "
-                + exceptions.getMessage());
-            Bibliotheque.bibliothequeCreateur.rollbackTransaction();
-        }
+    private static String lireTransaction(BufferedReader reader) throws IOException {
+        return reader.readLine();
     }
 
     /**
@@ -588,56 +415,6 @@ public final class Bibliotheque {
      * @return boolean <code>true</code> si la fin du traitement des transactions est atteinte ; <code>false</code> sinon
      */
     private static boolean finTransaction(String transaction) {
-        boolean finTransaction = false;
-
-        if(transaction == null) {
-            finTransaction = true;
-        }
-
-        final StringTokenizer tokenizer = new StringTokenizer(transaction,
-            " ");
-        if(!tokenizer.hasMoreTokens()) {
-            finTransaction = false;
-        }
-
-        return finTransaction;
-
-    }
-
-    /**
-     *
-     * Lecture d'une chaîne de caractères de la transaction entrée à l'écran.
-     *
-     * @param tokenizer Le tokenizer à utiliser
-     * @return String readString La ligne
-     * @throws BibliothequeException S'il y a une erreur
-     */
-    private static String readString(StringTokenizer tokenizer) throws BibliothequeException {
-        if(tokenizer.hasMoreElements()) {
-            return tokenizer.nextToken();
-        }
-        throw new BibliothequeException("autre paramètre attendu");
-    }
-
-    /**
-     *
-     * Lecture d'une date en format YYYY-MM-DD.
-     *
-     * @param tokenizer Le tokenizer à utiliser
-     * @return String readDate La date en format YYYY-MM-DD
-     * @throws BibliothequeException S'il y a un problème de lecture
-     */
-    private static Timestamp readDate(StringTokenizer tokenizer) throws BibliothequeException {
-        if(tokenizer.hasMoreElements()) {
-            final String token = tokenizer.nextToken();
-            try {
-                return FormatteurDate.timestampValue(token);
-            } catch(ParseException e) {
-                throw new BibliothequeException("Date en format YYYY-MM-DD attendue à la place  de \""
-                    + token
-                    + "\"");
-            }
-        }
-        throw new BibliothequeException("autre paramètre attendu");
+        return transaction == null;
     }
 }
@@ -0,0 +1,125 @@
+// Fichier ClefsConflit.java
+// Auteur : Dragons Vicieux
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliotheque.commande;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Clefs de conflit d'une commande.<br />
+ * <br />
+ * Deux commandes sont en conflit si elles ont une clef en commun ; elles sont alors exécutées dans l'ordre du fichier. Une commande
+ * a trois sortes de clefs :
+ * <ul>
+ * <li>une clef par ID qu'elle lit ou modifie, au plus une par type ;</li>
+ * <li>une chaîne par type dont elle crée une ligne ou dont elle utilise un ID créé plus tôt dans le fichier : les commandes d'une même
+ * chaîne sont exécutées dans l'ordre pour que les IDs générés soient les mêmes qu'en exécution séquentielle ;</li>
+ * <li>une barrière par type dont elle touche des IDs inconnus à l'avance : elle est en conflit avec toutes les commandes de ce type.</li>
+ * </ul>
+ *
+ * @author Dragons Vicieux
+ */
+public final class ClefsConflit {
+    private final Map<TypeClef, String> clefs;
+
+    private final Set<TypeClef> chaines;
+
+    private final Set<TypeClef> barrieres;
+
+    /**
+     * Crée un ensemble de clefs vide.
+     */
+    public ClefsConflit() {
+        super();
+        this.clefs = new EnumMap<>(TypeClef.class);
+        this.chaines = EnumSet.noneOf(TypeClef.class);
+        this.barrieres = EnumSet.noneOf(TypeClef.class);
+    }
+
+    // Region Getters and Setters
+    /**
+     * Getter de la variable d'instance <code>this.clefs</code>.
+     *
+     * @return La variable d'instance <code>this.clefs</code>
+     */
+    public Map<TypeClef, String> getClefs() {
+        return this.clefs;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.chaines</code>.
+     *
+     * @return La variable d'instance <code>this.chaines</code>
+     */
+    public Set<TypeClef> getChaines() {
+        return this.chaines;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.barrieres</code>.
+     *
+     * @return La variable d'instance <code>this.barrieres</code>
+     */
+    public Set<TypeClef> getBarrieres() {
+        return this.barrieres;
+    }
+    // EndRegion Getters and Setters
+
+    /**
+     * Ajoute une clef sur un ID.
+     *
+     * @param typeClef Le type de l'ID
+     * @param id L'ID
+     */
+    public void ajouterClef(TypeClef typeClef,
+        String id) {
+        this.clefs.put(typeClef,
+            id);
+    }
+
+    /**
+     * Ajoute la chaîne d'un type.
+     *
+     * @param typeClef Le type
+     */
+    public void ajouterChaine(TypeClef typeClef) {
+        this.chaines.add(typeClef);
+    }
+
+    /**
+     * Ajoute une barrière sur un type.
+     *
+     * @param typeClef Le type
+     */
+    public void ajouterBarriere(TypeClef typeClef) {
+        this.barrieres.add(typeClef);
+    }
+
+    /**
+     * Indique si la commande n'a aucune clef et peut être exécutée n'importe quand.
+     *
+     * @return <code>true</code> si la commande n'a aucune clef ; <code>false</code> sinon
+     */
+    public boolean isVide() {
+        return this.clefs.isEmpty()
+            && this.chaines.isEmpty()
+            && this.barrieres.isEmpty();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "clefs="
+            + this.clefs
+            + ", chaines="
+            + this.chaines
+            + ", barrieres="
+            + this.barrieres;
+    }
+}
@@ -0,0 +1,697 @@
+// Fichier Commande.java
+// Auteur : Dragons Vicieux
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliotheque.commande;
+
+import java.io.IOException;
+import java.sql.Timestamp;
+import java.text.ParseException;
+import java.util.StringTokenizer;
+import ca.qc.collegeahuntsic.bibliotheque.exception.BibliothequeException;
+import ca.qc.collegeahuntsic.bibliotheque.util.FormatteurDate;
+
+/**
+ * Commande lue d'un fichier de transactions.<br />
+ * <br />
+ * Une commande est lue en entier avant d'être exécutée : ses arguments sont typés et les IDs qu'elle utilise sont connus sans
+ * toucher à la base de données. Seuls les arguments de son type sont renseignés.
+ *
+ * @author Dragons Vicieux
+ */
+public final class Commande {
+    /**
+     * Le nombre maximal de chiffres d'un ID. Tout ID de cette longueur tient dans un <code>long</code>, ce qui permet de l'écrire dans
+     * un journal.
+     */
+    static final int LONGUEUR_MAXIMALE_ID = 18;
+
+    private int numero;
+
+    private String ligne;
+
+    private TypeCommande typeCommande;
+
+    private String idLivre;
+
+    private String idMembre;
+
+    private String idPret;
+
+    private String idReservation;
+
+    private String titre;
+
+    private String auteur;
+
+    private Timestamp dateAcquisition;
+
+    private String nom;
+
+    private long telephone;
+
+    private int limitePret;
+
+    private long positionSuivante = -1;
+
+    private long dureeLecture;
+
+    /**
+     * Crée une commande.
+     *
+     * @param numero Le numéro de la ligne dans le fichier de transactions
+     * @param ligne La ligne lue
+     * @param typeCommande Le type de la commande
+     */
+    private Commande(int numero,
+        String ligne,
+        TypeCommande typeCommande) {
+        super();
+        setNumero(numero);
+        setLigne(ligne);
+        setTypeCommande(typeCommande);
+    }
+
+    // Region Getters and Setters
+    /**
+     * Getter de la variable d'instance <code>this.numero</code>.
+     *
+     * @return La variable d'instance <code>this.numero</code>
+     */
+    public int getNumero() {
+        return this.numero;
+    }
+
+    /**
+     * Setter de la variable d'instance <code>this.numero</code>.
+     *
+     * @param numero La valeur à utiliser pour la variable d'instance <code>this.numero</code>
+     */
+    private void setNumero(int numero) {
+        this.numero = numero;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.ligne</code>.
+     *
+     * @return La variable d'instance <code>this.ligne</code>
+     */
+    public String getLigne() {
+        return this.ligne;
+    }
+
+    /**
+     * Setter de la variable d'instance <code>this.ligne</code>.
+     *
+     * @param ligne La valeur à utiliser pour la variable d'instance <code>this.ligne</code>
+     */
+    private void setLigne(String ligne) {
+        this.ligne = ligne;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.typeCommande</code>.
+     *
+     * @return La variable d'instance <code>this.typeCommande</code>
+     */
+    public TypeCommande getTypeCommande() {
+        return this.typeCommande;
+    }
+
+    /**
+     * Setter de la variable d'instance <code>this.typeCommande</code>.
+     *
+     * @param typeCommande La valeur à utiliser pour la variable d'instance <code>this.typeCommande</code>
+     */
+    private void setTypeCommande(TypeCommande typeCommande) {
+        this.typeCommande = typeCommande;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.idLivre</code>.
+     *
+     * @return La variable d'instance <code>this.idLivre</code>
+     */
+    public String getIdLivre() {
+        return this.idLivre;
+    }
+
+    /**
+     * Setter de la variable d'instance <code>this.idLivre</code>.
+     *
+     * @param idLivre La valeur à utiliser pour la variable d'instance <code>this.idLivre</code>
+     */
+    private void setIdLivre(String idLivre) {
+        this.idLivre = idLivre;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.idMembre</code>.
+     *
+     * @return La variable d'instance <code>this.idMembre</code>
+     */
+    public String getIdMembre() {
+        return this.idMembre;
+    }
+
+    /**
+     * Setter de la variable d'instance <code>this.idMembre</code>.
+     *
+     * @param idMembre La valeur à utiliser pour la variable d'instance <code>this.idMembre</code>
+     */
+    private void setIdMembre(String idMembre) {
+        this.idMembre = idMembre;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.idPret</code>.
+     *
+     * @return La variable d'instance <code>this.idPret</code>
+     */
+    public String getIdPret() {
+        return this.idPret;
+    }
+
+    /**
+     * Setter de la variable d'instance <code>this.idPret</code>.
+     *
+     * @param idPret La valeur à utiliser pour la variable d'instance <code>this.idPret</code>
+     */
+    private void setIdPret(String idPret) {
+        this.idPret = idPret;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.idReservation</code>.
+     *
+     * @return La variable d'instance <code>this.idReservation</code>
+     */
+    public String getIdReservation() {
+        return this.idReservation;
+    }
+
+    /**
+     * Setter de la variable d'instance <code>this.idReservation</code>.
+     *
+     * @param idReservation La valeur à utiliser pour la variable d'instance <code>this.idReservation</code>
+     */
+    private void setIdReservation(String idReservation) {
+        this.idReservation = idReservation;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.titre</code>.
+     *
+     * @return La variable d'instance <code>this.titre</code>
+     */
+    public String getTitre() {
+        return this.titre;
+    }
+
+    /**
+     * Setter de la variable d'instance <code>this.titre</code>.
+     *
+     * @param titre La valeur à utiliser pour la variable d'instance <code>this.titre</code>
+     */
+    private void setTitre(String titre) {
+        this.titre = titre;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.auteur</code>.
+     *
+     * @return La variable d'instance <code>this.auteur</code>
+     */
+    public String getAuteur() {
+        return this.auteur;
+    }
+
+    /**
+     * Setter de la variable d'instance <code>this.auteur</code>.
+     *
+     * @param auteur La valeur à utiliser pour la variable d'instance <code>this.auteur</code>
+     */
+    private void setAuteur(String auteur) {
+        this.auteur = auteur;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.dateAcquisition</code>.
+     *
+     * @return La variable d'instance <code>this.dateAcquisition</code>
+     */
+    public Timestamp getDateAcquisition() {
+        return this.dateAcquisition;
+    }
+
+    /**
+     * Setter de la variable d'instance <code>this.dateAcquisition</code>.
+     *
+     * @param dateAcquisition La valeur à utiliser pour la variable d'instance <code>this.dateAcquisition</code>
+     */
+    private void setDateAcquisition(Timestamp dateAcquisition) {
+        this.dateAcquisition = dateAcquisition;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.nom</code>.
+     *
+     * @return La variable d'instance <code>this.nom</code>
+     */
+    public String getNom() {
+        return this.nom;
+    }
+
+    /**
+     * Setter de la variable d'instance <code>this.nom</code>.
+     *
+     * @param nom La valeur à utiliser pour la variable d'instance <code>this.nom</code>
+     */
+    private void setNom(String nom) {
+        this.nom = nom;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.telephone</code>.
+     *
+     * @return La variable d'instance <code>this.telephone</code>
+     */
+    public long getTelephone() {
+        return this.telephone;
+    }
+
+    /**
+     * Setter de la variable d'instance <code>this.telephone</code>.
+     *
+     * @param telephone La valeur à utiliser pour la variable d'instance <code>this.telephone</code>
+     */
+    private void setTelephone(long telephone) {
+        this.telephone = telephone;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.limitePret</code>.
+     *
+     * @return La variable d'instance <code>this.limitePret</code>
+     */
+    public int getLimitePret() {
+        return this.limitePret;
+    }
+
+    /**
+     * Setter de la variable d'instance <code>this.limitePret</code>.
+     *
+     * @param limitePret La valeur à utiliser pour la variable d'instance <code>this.limitePret</code>
+     */
+    private void setLimitePret(int limitePret) {
+        this.limitePret = limitePret;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.positionSuivante</code>.
+     *
+     * @return La position, en octets, de la ligne qui suit la commande dans le fichier de transactions ; <code>-1</code> si elle
+     *         n'est pas connue
+     */
+    public long getPositionSuivante() {
+        return this.positionSuivante;
+    }
+
+    /**
+     * Setter de la variable d'instance <code>this.positionSuivante</code>.
+     *
+     * @param positionSuivante La valeur à utiliser pour la variable d'instance <code>this.positionSuivante</code>
+     */
+    private void setPositionSuivante(long positionSuivante) {
+        this.positionSuivante = positionSuivante;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.dureeLecture</code>.
+     *
+     * @return La durée de la lecture de la commande, en nanosecondes
+     */
+    public long getDureeLecture() {
+        return this.dureeLecture;
+    }
+
+    /**
+     * Setter de la variable d'instance <code>this.dureeLecture</code>.
+     *
+     * @param dureeLecture La valeur à utiliser pour la variable d'instance <code>this.dureeLecture</code>
+     */
+    private void setDureeLecture(long dureeLecture) {
+        this.dureeLecture = dureeLecture;
+    }
+
+    // EndRegion Getters and Setters
+
+    /**
+     * Lit une commande à partir d'une ligne d'un fichier de transactions.
+     *
+     * @param numero Le numéro de la ligne dans le fichier de transactions
+     * @param ligne La ligne à lire
+     * @return La commande lue ; <code>null</code> si la ligne est vide
+     * @throws BibliothequeException Si un argument est manquant ou invalide
+     */
+    public static Commande lire(int numero,
+        String ligne) throws BibliothequeException {
+        final long debut = System.nanoTime();
+        final StringTokenizer tokenizer = new StringTokenizer(ligne,
+            " ");
+        if(!tokenizer.hasMoreTokens()) {
+            return null;
+        }
+        final Commande commande = new Commande(numero,
+            ligne,
+            TypeCommande.valueOfNom(tokenizer.nextToken()));
+        switch(commande.getTypeCommande()) {
+            case ACQUERIR:
+                commande.setTitre(Commande.readString(tokenizer));
+                commande.setAuteur(Commande.readString(tokenizer));
+                commande.setDateAcquisition(Commande.readDate(tokenizer));
+                break;
+            case VENDRE:
+                commande.setIdLivre(Commande.readId(tokenizer));
+                break;
+            case PRETER:
+                commande.setIdLivre(Commande.readId(tokenizer));
+                commande.setIdMembre(Commande.readId(tokenizer));
+                break;
+            case RENOUVELER:
+            case RETOURNER:
+                commande.setIdPret(Commande.readId(tokenizer));
+                break;
+            case INSCRIRE:
+                commande.setNom(Commande.readString(tokenizer));
+                commande.setTelephone(Commande.readLong(tokenizer));
+                commande.setLimitePret(Commande.readInt(tokenizer));
+                break;
+            case DESINSCRIRE:
+                commande.setIdMembre(Commande.readId(tokenizer));
+                break;
+            case RESERVER:
+                commande.setIdMembre(Commande.readId(tokenizer));
+                commande.setIdLivre(Commande.readId(tokenizer));
+                break;
+            case UTILISER:
+            case ANNULER:
+                commande.setIdReservation(Commande.readId(tokenizer));
+                break;
+            default:
+                break;
+        }
+        commande.setDureeLecture(System.nanoTime()
+            - debut);
+        return commande;
+    }
+
+    /**
+     * Lit une commande à partir de la ligne courante d'un fichier projeté en mémoire. La ligne elle-même n'est pas conservée ; les IDs
+     * sont vérifiés avec la même règle que {@link #lire(int, String)}. La commande retient la position de la ligne suivante pour le point de reprise.
+     *
+     * @param tokeniseur Le tokeniseur, placé sur la ligne à lire
+     * @return La commande lue ; <code>null</code> si la ligne est vide
+     * @throws BibliothequeException Si un argument est manquant ou invalide
+     */
+    public static Commande lire(TokeniseurMappe tokeniseur) throws BibliothequeException {
+        final long debut = System.nanoTime();
+        if(tokeniseur.getNombreJetons() == 0) {
+            return null;
+        }
+        final Commande commande = new Commande(tokeniseur.getNumero(),
+            null,
+            tokeniseur.lireTypeCommande());
+        commande.setPositionSuivante(tokeniseur.getPositionSuivante());
+        switch(commande.getTypeCommande()) {
+            case ACQUERIR:
+                commande.setTitre(tokeniseur.lireString(1));
+                commande.setAuteur(tokeniseur.lireString(2));
+                commande.setDateAcquisition(Commande.readDate(tokeniseur.lireString(3)));
+                break;
+            case VENDRE:
+                commande.setIdLivre(Commande.readId(tokeniseur,
+                    1));
+                break;
+            case PRETER:
+                commande.setIdLivre(Commande.readId(tokeniseur,
+                    1));
+                commande.setIdMembre(Commande.readId(tokeniseur,
+                    2));
+                break;
+            case RENOUVELER:
+            case RETOURNER:
+                commande.setIdPret(Commande.readId(tokeniseur,
+                    1));
+                break;
+            case INSCRIRE:
+                commande.setNom(tokeniseur.lireString(1));
+                commande.setTelephone(tokeniseur.lireLong(2));
+                commande.setLimitePret(Commande.readInt(tokeniseur,
+                    3));
+                break;
+            case DESINSCRIRE:
+                commande.setIdMembre(Commande.readId(tokeniseur,
+                    1));
+                break;
+            case RESERVER:
+                commande.setIdMembre(Commande.readId(tokeniseur,
+                    1));
+                commande.setIdLivre(Commande.readId(tokeniseur,
+                    2));
+                break;
+            case UTILISER:
+            case ANNULER:
+                commande.setIdReservation(Commande.readId(tokeniseur,
+                    1));
+                break;
+            default:
+                break;
+        }
+        commande.setDureeLecture(System.nanoTime()
+            - debut);
+        return commande;
+    }
+
+    /**
+     * Lit la commande suivante d'un journal binaire. Le numéro de la commande est son rang dans le journal.
+     *
+     * @param lecteur Le lecteur du journal
+     * @return La commande lue ; <code>null</code> à la fin du journal
+     * @throws IOException S'il y a une erreur de lecture ou si le journal est invalide
+     */
+    public static Commande lire(LecteurJournal lecteur) throws IOException {
+        final long debut = System.nanoTime();
+        final TypeCommande typeCommande = lecteur.lireTypeCommande();
+        if(typeCommande == null) {
+            return null;
+        }
+        final Commande commande = new Commande(lecteur.getNumero(),
+            null,
+            typeCommande);
+        switch(typeCommande) {
+            case ACQUERIR:
+                commande.setTitre(lecteur.lireString());
+                commande.setAuteur(lecteur.lireString());
+                commande.setDateAcquisition(lecteur.lireDate());
+                break;
+            case VENDRE:
+                commande.setIdLivre(lecteur.lireId());
+                break;
+            case PRETER:
+                commande.setIdLivre(lecteur.lireId());
+                commande.setIdMembre(lecteur.lireId());
+                break;
+            case RENOUVELER:
+            case RETOURNER:
+                commande.setIdPret(lecteur.lireId());
+                break;
+            case INSCRIRE:
+                commande.setNom(lecteur.lireString());
+                commande.setTelephone(lecteur.lireSigne());
+                commande.setLimitePret((int) lecteur.lireSigne());
+                break;
+            case DESINSCRIRE:
+                commande.setIdMembre(lecteur.lireId());
+                break;
+            case RESERVER:
+                commande.setIdMembre(lecteur.lireId());
+                commande.setIdLivre(lecteur.lireId());
+                break;
+            case UTILISER:
+            case ANNULER:
+                commande.setIdReservation(lecteur.lireId());
+                break;
+            default:
+                break;
+        }
+        commande.setDureeLecture(System.nanoTime()
+            - debut);
+        return commande;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return getLigne() == null
+            ? getTypeCommande().getNom()
+            : getLigne();
+    }
+
+    /**
+     * Lecture d'une chaîne de caractères de la transaction.
+     *
+     * @param tokenizer Le tokenizer à utiliser
+     * @return La chaîne lue
+     * @throws BibliothequeException S'il n'y a plus de paramètre
+     */
+    private static String readString(StringTokenizer tokenizer) throws BibliothequeException {
+        if(tokenizer.hasMoreElements()) {
+            return tokenizer.nextToken();
+        }
+        throw new BibliothequeException("autre paramètre attendu");
+    }
+
+    /**
+     * Lecture d'un ID de la transaction. L'ID est gardé tel quel ; il doit être écrit sous sa forme canonique pour désigner la même
+     * ligne que le même ID lu par {@link #lire(TokeniseurMappe)}.
+     *
+     * @param tokenizer Le tokenizer à utiliser
+     * @return L'ID lu
+     * @throws BibliothequeException S'il n'y a plus de paramètre ou si l'ID n'est pas un nombre sous sa forme canonique
+     */
+    private static String readId(StringTokenizer tokenizer) throws BibliothequeException {
+        final String id = Commande.readString(tokenizer);
+        Commande.validerId(id);
+        return id;
+    }
+
+    /**
+     * Lecture d'un nombre entier de la transaction.
+     *
+     * @param tokenizer Le tokenizer à utiliser
+     * @return Le nombre lu
+     * @throws BibliothequeException S'il n'y a plus de paramètre ou si le paramètre n'est pas un nombre
+     */
+    private static long readLong(StringTokenizer tokenizer) throws BibliothequeException {
+        final String token = Commande.readString(tokenizer);
+        try {
+            return Long.parseLong(token);
+        } catch(NumberFormatException numberFormatException) {
+            throw new BibliothequeException("Nombre attendu à la place de \""
+                + token
+                + "\"");
+        }
+    }
+
+    /**
+     * Lecture d'un nombre entier de la transaction.
+     *
+     * @param tokenizer Le tokenizer à utiliser
+     * @return Le nombre lu
+     * @throws BibliothequeException S'il n'y a plus de paramètre ou si le paramètre n'est pas un nombre
+     */
+    private static int readInt(StringTokenizer tokenizer) throws BibliothequeException {
+        final String token = Commande.readString(tokenizer);
+        try {
+            return Integer.parseInt(token);
+        } catch(NumberFormatException numberFormatException) {
+            throw new BibliothequeException("Nombre attendu à la place de \""
+                + token
+                + "\"");
+        }
+    }
+
+    /**
+     * Lecture d'un ID d'une ligne projetée en mémoire. L'ID est gardé tel quel et vérifié comme avec {@link #lire(int, String)}.
+     *
+     * @param tokeniseur Le tokeniseur à utiliser
+     * @param jeton L'indice du jeton
+     * @return L'ID lu
+     * @throws BibliothequeException S'il n'y a plus de paramètre ou si l'ID n'est pas un nombre sous sa forme canonique
+     */
+    private static String readId(TokeniseurMappe tokeniseur,
+        int jeton) throws BibliothequeException {
+        final String id = tokeniseur.lireString(jeton);
+        Commande.validerId(id);
+        return id;
+    }
+
+    /**
+     * Lecture d'un nombre entier d'une ligne projetée en mémoire.
+     *
+     * @param tokeniseur Le tokeniseur à utiliser
+     * @param jeton L'indice du jeton
+     * @return Le nombre lu
+     * @throws BibliothequeException S'il n'y a plus de paramètre ou si le paramètre n'est pas un nombre entier
+     */
+    private static int readInt(TokeniseurMappe tokeniseur,
+        int jeton) throws BibliothequeException {
+        final long valeur = tokeniseur.lireLong(jeton);
+        if(valeur < Integer.MIN_VALUE
+            || valeur > Integer.MAX_VALUE) {
+            throw new BibliothequeException("Nombre attendu à la place de \""
+                + tokeniseur.lireString(jeton)
+                + "\"");
+        }
+        return (int) valeur;
+    }
+
+    /**
+     * Vérifie qu'un ID est un nombre sous sa forme canonique : des chiffres ASCII seulement, au plus {@link #LONGUEUR_MAXIMALE_ID}, sans
+     * signe ni zéro non significatif. C'est la règle de tous les lecteurs de commandes et de l'écrivain de journal.
+     *
+     * @param id L'ID à vérifier ; <code>null</code> si la commande n'utilise pas cet ID
+     * @throws BibliothequeException Si l'ID n'est pas un nombre sous sa forme canonique
+     */
+    static void validerId(String id) throws BibliothequeException {
+        if(id == null) {
+            return;
+        }
+        boolean canonique = !id.isEmpty()
+            && id.length() <= Commande.LONGUEUR_MAXIMALE_ID
+            && (id.length() == 1
+                || id.charAt(0) != '0');
+        for(int i = 0; canonique
+            && i < id.length(); i++) {
+            final char chiffre = id.charAt(i);
+            canonique = chiffre >= '0'
+                && chiffre <= '9';
+        }
+        if(!canonique) {
+            throw new BibliothequeException("ID invalide : \""
+                + id
+                + "\"");
+        }
+    }
+
+    /**
+     * Lecture d'une date en format YYYY-MM-DD.
+     *
+     * @param tokenizer Le tokenizer à utiliser
+     * @return La date lue
+     * @throws BibliothequeException S'il n'y a plus de paramètre ou si le paramètre n'est pas une date
+     */
+    private static Timestamp readDate(StringTokenizer tokenizer) throws BibliothequeException {
+        return Commande.readDate(Commande.readString(tokenizer));
+    }
+
+    /**
+     * Conversion d'une date en format YYYY-MM-DD.
+     *
+     * @param token Le paramètre à convertir
+     * @return La date lue
+     * @throws BibliothequeException Si le paramètre n'est pas une date
+     */
+    private static Timestamp readDate(String token) throws BibliothequeException {
+        try {
+            return FormatteurDate.timestampValue(token);
+        } catch(ParseException parseException) {
+            throw new BibliothequeException("Date en format YYYY-MM-DD attendue à la place  de \""
+                + token
+                + "\"");
+        }
+    }
+}
@@ -0,0 +1,96 @@
+// Fichier ConvertisseurJournal.java
+// Auteur : Dragons Vicieux
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliotheque.commande;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import ca.qc.collegeahuntsic.bibliotheque.exception.BibliothequeException;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Convertit un fichier de transactions en journal binaire.<br />
+ * <br />
+ * Les commandes transactionnelles sont écrites dans le journal ; l'aide, les commentaires, les lignes vides et les commandes non
+ * reconnues sont ignorés. Une ligne invalide est journalisée avec son numéro puis ignorée.
+ *
+ * Paramètres
+ * 0 - Chemin du fichier de transactions
+ * 1 - Chemin du journal binaire à créer
+ *
+ * @author Dragons Vicieux
+ */
+public final class ConvertisseurJournal {
+    private static final Log LOGGER = LogFactory.getLog(ConvertisseurJournal.class);
+
+    /**
+     * Constructeur privé pour empêcher toute instanciation.
+     */
+    private ConvertisseurJournal() {
+        super();
+    }
+
+    /**
+     * Convertit un fichier de transactions.
+     *
+     * @param argv Les paramètres du main
+     */
+    public static void main(String[] argv) {
+        if(argv.length < 2) {
+            ConvertisseurJournal.LOGGER.info("Usage: java ConvertisseurJournal <fichier-transactions> <journal-binaire>");
+            return;
+        }
+        try(
+            BufferedReader reader = new BufferedReader(new InputStreamReader(Files.newInputStream(Paths.get(argv[0]))));
+            EcrivainJournal ecrivainJournal = new EcrivainJournal(Files.newOutputStream(Paths.get(argv[1])),
+                true)) {
+            final int nombreCommandes = ConvertisseurJournal.convertir(reader,
+                ecrivainJournal);
+            ConvertisseurJournal.LOGGER.info(nombreCommandes
+                + " commandes écrites dans "
+                + argv[1]);
+        } catch(IOException ioException) {
+            ConvertisseurJournal.LOGGER.info(" **** "
+                + ioException.getMessage());
+        }
+    }
+
+    /**
+     * Écrit dans un journal binaire toutes les commandes transactionnelles d'un fichier de transactions.
+     *
+     * @param reader Le reader du fichier de transactions
+     * @param ecrivainJournal L'écrivain du journal
+     * @return Le nombre de commandes écrites
+     * @throws IOException S'il y a une erreur de lecture ou d'écriture
+     */
+    public static int convertir(BufferedReader reader,
+        EcrivainJournal ecrivainJournal) throws IOException {
+        int nombreCommandes = 0;
+        int numero = 0;
+        String ligne = reader.readLine();
+        while(ligne != null) {
+            numero++;
+            try {
+                final Commande commande = Commande.lire(numero,
+                    ligne);
+                if(commande != null
+                    && commande.getTypeCommande().isTransactionnelle()) {
+                    ecrivainJournal.ecrire(commande);
+                    nombreCommandes++;
+                }
+            } catch(BibliothequeException bibliothequeException) {
+                ConvertisseurJournal.LOGGER.error("ligne "
+                    + numero
+                    + " : "
+                    + bibliothequeException.getMessage());
+            }
+            ligne = reader.readLine();
+        }
+        return nombreCommandes;
+    }
+}
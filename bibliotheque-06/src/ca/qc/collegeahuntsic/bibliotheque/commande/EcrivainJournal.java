@@ -0,0 +1,321 @@
+// Fichier EcrivainJournal.java
+// Auteur : Dragons Vicieux
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliotheque.commande;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Timestamp;
+import ca.qc.collegeahuntsic.bibliotheque.exception.BibliothequeException;
+
+/**
+ * Écrit des commandes dans un journal binaire.<br />
+ * <br />
+ * Le journal commence par l'en-tête {@link #ENTETE} suivi de la version du format. Chaque commande est ensuite écrite comme un code
+ * d'un octet ({@link TypeCommande#getCode()}) suivi de ses arguments, dans l'ordre du fichier de transactions :
+ * <ul>
+ * <li>les IDs sont des entiers positifs écrits en varint (7 bits par octet, le bit de poids fort indiquant qu'un octet suit) ; seuls
+ * les IDs sous leur forme canonique sont acceptés, pour que l'ID relu soit le texte écrit ;</li>
+ * <li>le téléphone et la limite de prêts sont des entiers signés écrits en varint zigzag ;</li>
+ * <li>les textes sont écrits en UTF-8, précédés de leur longueur en octets en varint ; un texte compte au plus
+ * {@link #TAILLE_MAXIMALE_TEXTE} octets ;</li>
+ * <li>les dates sont écrites comme un nombre de jours depuis le 1970-01-01, en varint zigzag.</li>
+ * </ul>
+ * Seules les commandes transactionnelles sont écrites. Une commande est vérifiée avant d'être écrite : une commande refusée ne laisse
+ * aucun octet dans le journal. Les méthodes d'écriture sont synchronisées : plusieurs fils peuvent ajouter des
+ * commandes au même journal.
+ *
+ * @author Dragons Vicieux
+ */
+public class EcrivainJournal implements Closeable,
+    Flushable {
+    /**
+     * En-tête d'un journal binaire.
+     */
+    static final byte[] ENTETE = {
+        'B',
+        'I',
+        'B',
+        'J'};
+
+    /**
+     * Version du format du journal binaire.
+     */
+    static final int VERSION = 1;
+
+    /**
+     * Taille maximale d'un texte du journal binaire, en octets.
+     */
+    static final int TAILLE_MAXIMALE_TEXTE = 64 * 1024;
+
+    /**
+     * Nombre maximal d'octets UTF-8 par caractère Java.
+     */
+    private static final int OCTETS_PAR_CARACTERE = 3;
+
+    private static final int TAILLE_TAMPON = 64 * 1024;
+
+    private static final int TAILLE_VARINT = 10;
+
+    private final OutputStream outputStream;
+
+    private final byte[] tampon;
+
+    private int position;
+
+    /**
+     * Crée un écrivain sur un flux. L'en-tête est écrit si demandé.
+     *
+     * @param outputStream Le flux où écrire le journal
+     * @param entete <code>true</code> pour écrire l'en-tête ; <code>false</code> si le flux continue un journal existant
+     * @throws IOException S'il y a une erreur d'écriture
+     */
+    public EcrivainJournal(OutputStream outputStream,
+        boolean entete) throws IOException {
+        super();
+        this.outputStream = outputStream;
+        this.tampon = new byte[EcrivainJournal.TAILLE_TAMPON];
+        if(entete) {
+            this.outputStream.write(EcrivainJournal.ENTETE);
+            this.outputStream.write(EcrivainJournal.VERSION);
+        }
+    }
+
+    /**
+     * Ouvre un journal pour y ajouter des commandes. Le journal est créé s'il n'existe pas ou s'il est vide.
+     *
+     * @param fichier Le fichier du journal
+     * @return L'écrivain du journal
+     * @throws IOException S'il y a une erreur d'ouverture ou si le fichier n'est pas un journal binaire
+     */
+    public static EcrivainJournal ouvrir(Path fichier) throws IOException {
+        final boolean nouveau = !Files.exists(fichier)
+            || Files.size(fichier) == 0;
+        if(!nouveau) {
+            LecteurJournal.verifierEntete(Files.newInputStream(fichier),
+                true);
+        }
+        return new EcrivainJournal(Files.newOutputStream(fichier,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.APPEND),
+            nouveau);
+    }
+
+    /**
+     * Ajoute une commande au journal.
+     *
+     * @param commande La commande à ajouter
+     * @throws BibliothequeException Si la commande n'est pas transactionnelle, si un ID n'est pas un nombre sous sa forme canonique ou si
+     *         un texte est trop long
+     * @throws IOException S'il y a une erreur d'écriture
+     */
+    public synchronized void ecrire(Commande commande) throws BibliothequeException,
+        IOException {
+        if(!commande.getTypeCommande().isTransactionnelle()) {
+            throw new BibliothequeException("La commande "
+                + commande
+                + " ne peut être écrite dans le journal");
+        }
+        EcrivainJournal.verifierId(commande.getIdLivre());
+        EcrivainJournal.verifierId(commande.getIdMembre());
+        EcrivainJournal.verifierId(commande.getIdPret());
+        EcrivainJournal.verifierId(commande.getIdReservation());
+        EcrivainJournal.verifierTexte(commande.getTitre());
+        EcrivainJournal.verifierTexte(commande.getAuteur());
+        EcrivainJournal.verifierTexte(commande.getNom());
+        reserver(1);
+        this.tampon[this.position++] = (byte) commande.getTypeCommande().getCode();
+        switch(commande.getTypeCommande()) {
+            case ACQUERIR:
+                ecrireString(commande.getTitre());
+                ecrireString(commande.getAuteur());
+                ecrireDate(commande.getDateAcquisition());
+                break;
+            case VENDRE:
+                ecrireId(commande.getIdLivre());
+                break;
+            case PRETER:
+                ecrireId(commande.getIdLivre());
+                ecrireId(commande.getIdMembre());
+                break;
+            case RENOUVELER:
+            case RETOURNER:
+                ecrireId(commande.getIdPret());
+                break;
+            case INSCRIRE:
+                ecrireString(commande.getNom());
+                ecrireSigne(commande.getTelephone());
+                ecrireSigne(commande.getLimitePret());
+                break;
+            case DESINSCRIRE:
+                ecrireId(commande.getIdMembre());
+                break;
+            case RESERVER:
+                ecrireId(commande.getIdMembre());
+                ecrireId(commande.getIdLivre());
+                break;
+            case UTILISER:
+            case ANNULER:
+                ecrireId(commande.getIdReservation());
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void flush() throws IOException {
+        vider();
+        this.outputStream.flush();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            vider();
+        } finally {
+            this.outputStream.close();
+        }
+    }
+
+    /**
+     * Vérifie qu'un ID est un nombre positif sous sa forme canonique, avec la règle des lecteurs de commandes : <code>"01"</code> ou
+     * <code>"+1"</code> seraient relus <code>"1"</code>, qui désigne une autre ligne.
+     *
+     * @param id L'ID à vérifier ; <code>null</code> si la commande n'utilise pas cet ID
+     * @throws BibliothequeException Si l'ID n'est pas un nombre positif sous sa forme canonique
+     */
+    private static void verifierId(String id) throws BibliothequeException {
+        Commande.validerId(id);
+    }
+
+    /**
+     * Vérifie qu'un texte ne dépasse pas {@link #TAILLE_MAXIMALE_TEXTE} octets en UTF-8. Le texte n'est encodé que s'il peut dépasser la
+     * taille maximale.
+     *
+     * @param texte Le texte à vérifier ; <code>null</code> si la commande n'utilise pas ce texte
+     * @throws BibliothequeException Si le texte est trop long
+     */
+    private static void verifierTexte(String texte) throws BibliothequeException {
+        if(texte == null
+            || texte.length() <= EcrivainJournal.TAILLE_MAXIMALE_TEXTE / EcrivainJournal.OCTETS_PAR_CARACTERE) {
+            return;
+        }
+        final int taille = texte.getBytes(StandardCharsets.UTF_8).length;
+        if(taille > EcrivainJournal.TAILLE_MAXIMALE_TEXTE) {
+            throw new BibliothequeException("Texte trop long pour le journal : "
+                + taille
+                + " octets");
+        }
+    }
+
+    /**
+     * Écrit un ID, déjà vérifié par {@link #verifierId(String)}.
+     *
+     * @param id L'ID à écrire
+     * @throws IOException S'il y a une erreur d'écriture
+     */
+    private void ecrireId(String id) throws IOException {
+        ecrireVarint(Long.parseLong(id));
+    }
+
+    /**
+     * Écrit un entier signé en varint zigzag.
+     *
+     * @param valeur L'entier à écrire
+     * @throws IOException S'il y a une erreur d'écriture
+     */
+    private void ecrireSigne(long valeur) throws IOException {
+        ecrireVarint((valeur << 1)
+            ^ (valeur >> 63));
+    }
+
+    /**
+     * Écrit une date en nombre de jours depuis le 1970-01-01. L'heure est ignorée.
+     *
+     * @param date La date à écrire
+     * @throws IOException S'il y a une erreur d'écriture
+     */
+    private void ecrireDate(Timestamp date) throws IOException {
+        ecrireSigne(date.toLocalDateTime().toLocalDate().toEpochDay());
+    }
+
+    /**
+     * Écrit un texte en UTF-8, précédé de sa longueur.
+     *
+     * @param texte Le texte à écrire
+     * @throws IOException S'il y a une erreur d'écriture
+     */
+    private void ecrireString(String texte) throws IOException {
+        final byte[] octets = texte.getBytes(StandardCharsets.UTF_8);
+        ecrireVarint(octets.length);
+        if(octets.length > this.tampon.length) {
+            vider();
+            this.outputStream.write(octets);
+            return;
+        }
+        reserver(octets.length);
+        System.arraycopy(octets,
+            0,
+            this.tampon,
+            this.position,
+            octets.length);
+        this.position += octets.length;
+    }
+
+    /**
+     * Écrit un entier positif en varint.
+     *
+     * @param valeur L'entier à écrire, vu comme non signé
+     * @throws IOException S'il y a une erreur d'écriture
+     */
+    private void ecrireVarint(long valeur) throws IOException {
+        reserver(EcrivainJournal.TAILLE_VARINT);
+        long reste = valeur;
+        while((reste & ~0x7FL) != 0) {
+            this.tampon[this.position++] = (byte) ((reste & 0x7F) | 0x80);
+            reste >>>= 7;
+        }
+        this.tampon[this.position++] = (byte) reste;
+    }
+
+    /**
+     * S'assure que le tampon a de la place pour quelques octets.
+     *
+     * @param octets Le nombre d'octets à écrire
+     * @throws IOException S'il y a une erreur d'écriture
+     */
+    private void reserver(int octets) throws IOException {
+        if(this.position
+            + octets > this.tampon.length) {
+            vider();
+        }
+    }
+
+    /**
+     * Écrit le tampon dans le flux.
+     *
+     * @throws IOException S'il y a une erreur d'écriture
+     */
+    private void vider() throws IOException {
+        if(this.position > 0) {
+            this.outputStream.write(this.tampon,
+                0,
+                this.position);
+            this.position = 0;
+        }
+    }
+}
@@ -0,0 +1,748 @@
+// Fichier ExecuteurCommande.java
+// Auteur : Dragons Vicieux
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliotheque.commande;
+
+import java.util.List;
+import ca.qc.collegeahuntsic.bibliotheque.exception.BibliothequeException;
+import ca.qc.collegeahuntsic.bibliotheque.util.BibliothequeCreateur;
+import ca.qc.collegeahuntsic.bibliotheque.util.MessageJournal;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.LivreDTO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.MembreDTO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.PretDTO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.ReservationDTO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidHibernateSessionException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidPrimaryKeyException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dto.InvalidDTOException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dto.MissingDTOException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.facade.FacadeException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.service.ExistingLoanException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.service.ExistingReservationException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.service.InvalidLoanLimitException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.service.MissingLoanException;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.hibernate.Session;
+
+/**
+ * Exécute les commandes d'un fichier de transactions.<br />
+ * <br />
+ * Chaque commande est exécutée dans sa propre transaction. Une commande refusée par les règles de la bibliothèque est annulée et son
+ * erreur est journalisée ; les commandes suivantes sont exécutées normalement. Un exécuteur utilise la session que son
+ * {@link BibliothequeCreateur} lie au fil courant : plusieurs fils peuvent l'utiliser en même temps. La durée de chaque phase et chaque échec
+ * sont enregistrés dans ses {@link StatistiquesCommandes}, qui peuvent être partagées par plusieurs exécuteurs. Chaque commande
+ * exécutée produit un court enregistrement d'audit, au niveau INFO, dans le journal
+ * <code>ca.qc.collegeahuntsic.bibliotheque.audit</code>.
+ *
+ * @author Dragons Vicieux
+ */
+public class ExecuteurCommande {
+    private static final Log LOGGER = LogFactory.getLog(ExecuteurCommande.class);
+
+    private static final Log AUDIT = LogFactory.getLog("ca.qc.collegeahuntsic.bibliotheque.audit");
+
+    private static final String AIDE = String.join(System.lineSeparator(),
+        "",
+        "Chaque transaction comporte un nom et une liste d'arguments",
+        "separes par des espaces. La liste peut etre vide.",
+        " Les dates sont en format yyyy-mm-dd.",
+        "",
+        "Les transactions sont:",
+        "  aide",
+        "  exit",
+        "  acquerir <titre> <auteur> <dateAcquisition>",
+        "  preter <idLivre> <idMembre>",
+        "  renouveler <idPret>",
+        "  retourner <idPret>",
+        "  vendre <idLivre>",
+        "  inscrire <nom> <telephone> <limitePret>",
+        "  desinscrire <idMembre>",
+        "  reserver <idMembre> <idLivre> ",
+        "  utiliser <idReservation>",
+        "  annuler <idReservation>");
+
+    private final BibliothequeCreateur bibliothequeCreateur;
+
+    private final String fichierReprise;
+
+    private final StatistiquesCommandes statistiques;
+
+    /**
+     * Crée un exécuteur de commandes sans point de reprise.
+     *
+     * @param bibliothequeCreateur Le créateur des outils de la bibliothèque à utiliser
+     */
+    public ExecuteurCommande(BibliothequeCreateur bibliothequeCreateur) {
+        this(bibliothequeCreateur,
+            null);
+    }
+
+    /**
+     * Crée un exécuteur de commandes qui enregistre un point de reprise. Chaque transaction validée déplace le point de reprise du
+     * fichier après sa dernière commande, dans la même transaction : après un arrêt, le point de reprise désigne exactement la
+     * première commande qui n'a pas été validée.
+     *
+     * @param bibliothequeCreateur Le créateur des outils de la bibliothèque à utiliser
+     * @param fichierReprise Le fichier de transactions du point de reprise ; <code>null</code> pour ne pas en enregistrer
+     */
+    public ExecuteurCommande(BibliothequeCreateur bibliothequeCreateur,
+        String fichierReprise) {
+        this(bibliothequeCreateur,
+            fichierReprise,
+            new StatistiquesCommandes());
+    }
+
+    /**
+     * Crée un exécuteur de commandes qui enregistre ses mesures dans des statistiques données.
+     *
+     * @param bibliothequeCreateur Le créateur des outils de la bibliothèque à utiliser
+     * @param fichierReprise Le fichier de transactions du point de reprise ; <code>null</code> pour ne pas en enregistrer
+     * @param statistiques Les statistiques à utiliser
+     */
+    public ExecuteurCommande(BibliothequeCreateur bibliothequeCreateur,
+        String fichierReprise,
+        StatistiquesCommandes statistiques) {
+        super();
+        this.bibliothequeCreateur = bibliothequeCreateur;
+        this.fichierReprise = fichierReprise;
+        this.statistiques = statistiques;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.statistiques</code>.
+     *
+     * @return La variable d'instance <code>this.statistiques</code>
+     */
+    public StatistiquesCommandes getStatistiques() {
+        return this.statistiques;
+    }
+
+    /**
+     * Affiche le menu des transactions acceptées par le système, en un seul message.
+     */
+    public static void afficherAide() {
+        ExecuteurCommande.LOGGER.info(ExecuteurCommande.AIDE);
+    }
+
+    /**
+     * Exécute une commande dans sa propre transaction. Une {@link RuntimeException} annule la transaction avant d'être relancée : la
+     * session réutilisée du fil ne garde pas de transaction ouverte.
+     *
+     * @param commande La commande à exécuter
+     * @return <code>true</code> si une transaction a été validée ; <code>false</code> sinon
+     * @throws BibliothequeException S'il y a une erreur avec la transaction
+     */
+    public boolean executer(Commande commande) throws BibliothequeException {
+        boolean validee = false;
+        switch(commande.getTypeCommande()) {
+            case AIDE:
+                ExecuteurCommande.afficherAide();
+                break;
+            case COMMENTAIRE:
+                break;
+            case INCONNUE:
+                ExecuteurCommande.LOGGER.info("  Transactions non reconnue.  Essayer \"aide\"");
+                break;
+            default:
+                try {
+                    final long debutAppel = System.nanoTime();
+                    this.bibliothequeCreateur.beginTransaction();
+                    appliquer(commande);
+                    enregistrerPointReprise(commande);
+                    final long debutValidation = System.nanoTime();
+                    this.bibliothequeCreateur.commitTransaction();
+                    this.statistiques.enregistrerSucces(commande,
+                        debutValidation
+                            - debutAppel,
+                        System.nanoTime()
+                            - debutValidation);
+                    validee = true;
+                    ExecuteurCommande.auditer(commande,
+                        "validée");
+                } catch(
+                    InvalidHibernateSessionException
+                    | InvalidPrimaryKeyException
+                    | FacadeException
+                    | MissingDTOException
+                    | InvalidDTOException
+                    | MissingLoanException
+                    | ExistingLoanException
+                    | ExistingReservationException
+                    | InvalidLoanLimitException exception) {
+                    ExecuteurCommande.LOGGER.error(MessageJournal.de(" **** {}",
+                        exception.getMessage()));
+                    this.bibliothequeCreateur.rollbackTransaction();
+                    ExecuteurCommande.auditer(commande,
+                        "refusée");
+                    this.statistiques.enregistrerEchec(commande,
+                        exception);
+                } catch(RuntimeException runtimeException) {
+                    this.bibliothequeCreateur.rollbackTransaction();
+                    throw runtimeException;
+                }
+                break;
+        }
+        return validee;
+    }
+
+    /**
+     * Exécute un groupe de commandes dans une seule transaction. Si une commande du groupe est refusée ou si la validation échoue, la
+     * transaction est annulée sans rien journaliser : l'appelant doit alors rejouer les commandes une à une avec
+     * {@link #executer(Commande)} pour obtenir les mêmes erreurs que sans groupe. La session est vidée après chaque commande pour que
+     * la suivante lise l'état de la base de données, comme dans sa propre transaction. Les durées ne sont enregistrées que si le groupe
+     * est validé.
+     *
+     * @param commandes Les commandes à exécuter ; elles doivent toutes être transactionnelles et aucune ne doit créer d'ID, puisque
+     *        l'annulation du groupe ne rend pas les IDs obtenus (voir {@link TypeCommande#isCreatrice()})
+     * @return <code>true</code> si le groupe a été validé ; <code>false</code> s'il a été annulé
+     * @throws BibliothequeException S'il y a une erreur avec la transaction
+     */
+    public boolean executerGroupe(List<Commande> commandes) throws BibliothequeException {
+        boolean validee = false;
+        final long[] durees = new long[commandes.size()];
+        long debut = System.nanoTime();
+        this.bibliothequeCreateur.beginTransaction();
+        try {
+            for(int i = 0; i < durees.length; i++) {
+                appliquer(commandes.get(i));
+                this.bibliothequeCreateur.getSession().flush();
+                this.bibliothequeCreateur.getSession().clear();
+                final long fin = System.nanoTime();
+                durees[i] = fin
+                    - debut;
+                debut = fin;
+            }
+            enregistrerPointReprise(commandes.get(commandes.size() - 1));
+            final long debutValidation = System.nanoTime();
+            this.bibliothequeCreateur.commitTransaction();
+            this.statistiques.enregistrerValidationGroupe(System.nanoTime()
+                - debutValidation);
+            for(int i = 0; i < durees.length; i++) {
+                this.statistiques.enregistrerSucces(commandes.get(i),
+                    durees[i],
+                    -1);
+                ExecuteurCommande.auditer(commandes.get(i),
+                    "validée en groupe");
+            }
+            validee = true;
+        } catch(
+            InvalidHibernateSessionException
+            | InvalidPrimaryKeyException
+            | FacadeException
+            | MissingDTOException
+            | InvalidDTOException
+            | MissingLoanException
+            | ExistingLoanException
+            | ExistingReservationException
+            | InvalidLoanLimitException
+            | BibliothequeException
+            | RuntimeException exception) {
+            this.bibliothequeCreateur.rollbackTransaction();
+        }
+        return validee;
+    }
+
+    /**
+     * Journalise l'enregistrement d'audit d'une commande : son numéro de ligne, son type et son issue. La ligne elle-même n'est pas
+     * reproduite.
+     *
+     * @param commande La commande
+     * @param issue L'issue de la commande
+     */
+    private static void auditer(Commande commande,
+        String issue) {
+        if(ExecuteurCommande.AUDIT.isInfoEnabled()) {
+            ExecuteurCommande.AUDIT.info(MessageJournal.de("#{} {} {}",
+                commande.getNumero(),
+                commande.getTypeCommande().getNom(),
+                issue));
+        }
+    }
+
+    /**
+     * Enregistre, dans la transaction en cours, le point de reprise après une commande. Rien n'est enregistré si l'exécuteur n'a pas de
+     * fichier de reprise ou si la position de la commande n'est pas connue.
+     *
+     * @param commande La dernière commande de la transaction
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidPrimaryKeyException Si le fichier est <code>null</code>
+     * @throws FacadeException S'il y a une erreur avec la base de données
+     */
+    private void enregistrerPointReprise(Commande commande) throws InvalidHibernateSessionException,
+        InvalidPrimaryKeyException,
+        FacadeException {
+        if(this.fichierReprise != null
+            && commande.getPositionSuivante() >= 0) {
+            this.bibliothequeCreateur.getPointRepriseFacade().enregistrerPointReprise(this.bibliothequeCreateur.getSession(),
+                this.fichierReprise,
+                commande.getPositionSuivante(),
+                commande.getNumero());
+        }
+    }
+
+    /**
+     * Applique une commande dans la transaction en cours, sans la valider.
+     *
+     * @param commande La commande à appliquer
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidPrimaryKeyException Si un ID est <code>null</code>
+     * @throws FacadeException S'il y a une erreur avec la base de données
+     * @throws MissingDTOException Si un livre, un membre, un prêt ou une réservation n'existe pas
+     * @throws InvalidDTOException Si un DTO est <code>null</code>
+     * @throws MissingLoanException Si le prêt demandé n'est pas en cours
+     * @throws ExistingLoanException Si un prêt empêche la commande
+     * @throws ExistingReservationException Si une réservation empêche la commande
+     * @throws InvalidLoanLimitException Si le membre a atteint sa limite de prêts
+     */
+    private void appliquer(Commande commande) throws InvalidHibernateSessionException,
+        InvalidPrimaryKeyException,
+        FacadeException,
+        MissingDTOException,
+        InvalidDTOException,
+        MissingLoanException,
+        ExistingLoanException,
+        ExistingReservationException,
+        InvalidLoanLimitException {
+        final Session session = this.bibliothequeCreateur.getSession();
+        switch(commande.getTypeCommande()) {
+            case ACQUERIR:
+                acquerirLivre(session,
+                    commande);
+                break;
+            case VENDRE:
+                vendreLivre(session,
+                    commande);
+                break;
+            case PRETER:
+                commencerPret(session,
+                    commande);
+                break;
+            case RENOUVELER:
+                renouvelerPret(session,
+                    commande);
+                break;
+            case RETOURNER:
+                terminerPret(session,
+                    commande);
+                break;
+            case INSCRIRE:
+                inscrireMembre(session,
+                    commande);
+                break;
+            case DESINSCRIRE:
+                desinscrireMembre(session,
+                    commande);
+                break;
+            case RESERVER:
+                placerReservation(session,
+                    commande);
+                break;
+            case UTILISER:
+                utiliserReservation(session,
+                    commande);
+                break;
+            case ANNULER:
+                annulerReservation(session,
+                    commande);
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Acquiert un livre.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param commande La commande à appliquer
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidDTOException Si le livre est <code>null</code>
+     * @throws FacadeException S'il y a une erreur avec la base de données
+     */
+    private void acquerirLivre(Session session,
+        Commande commande) throws InvalidHibernateSessionException,
+        InvalidDTOException,
+        FacadeException {
+        final LivreDTO livreDTO = new LivreDTO();
+        livreDTO.setTitre(commande.getTitre());
+        livreDTO.setAuteur(commande.getAuteur());
+        livreDTO.setDateAcquisition(commande.getDateAcquisition());
+        this.bibliothequeCreateur.getLivreFacade().acquerirLivre(session,
+            livreDTO);
+    }
+
+    /**
+     * Vend un livre.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param commande La commande à appliquer
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidPrimaryKeyException Si l'ID du livre est <code>null</code>
+     * @throws MissingDTOException Si le livre n'existe pas
+     * @throws InvalidDTOException Si le livre est <code>null</code>
+     * @throws ExistingLoanException Si le livre est prêté
+     * @throws ExistingReservationException Si le livre est réservé
+     * @throws FacadeException S'il y a une erreur avec la base de données
+     */
+    private void vendreLivre(Session session,
+        Commande commande) throws InvalidHibernateSessionException,
+        InvalidPrimaryKeyException,
+        MissingDTOException,
+        InvalidDTOException,
+        ExistingLoanException,
+        ExistingReservationException,
+        FacadeException {
+        final LivreDTO livreDTO = getLivre(session,
+            commande.getIdLivre(),
+            LivreDTO.FETCH_PLAN_VENTE);
+        this.bibliothequeCreateur.getLivreFacade().vendreLivre(session,
+            livreDTO);
+    }
+
+    /**
+     * Commence un prêt.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param commande La commande à appliquer
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidPrimaryKeyException Si l'ID du livre ou du membre est <code>null</code>
+     * @throws MissingDTOException Si le livre ou le membre n'existe pas
+     * @throws InvalidDTOException Si le prêt est <code>null</code>
+     * @throws ExistingLoanException Si le livre est déjà prêté
+     * @throws InvalidLoanLimitException Si le membre a atteint sa limite de prêts
+     * @throws ExistingReservationException Si le livre est réservé par un autre membre
+     * @throws FacadeException S'il y a une erreur avec la base de données
+     */
+    private void commencerPret(Session session,
+        Commande commande) throws InvalidHibernateSessionException,
+        InvalidPrimaryKeyException,
+        MissingDTOException,
+        InvalidDTOException,
+        ExistingLoanException,
+        InvalidLoanLimitException,
+        ExistingReservationException,
+        FacadeException {
+        final LivreDTO livreDTO = getLivre(session,
+            commande.getIdLivre(),
+            null);
+        final MembreDTO membreDTO = getMembre(session,
+            commande.getIdMembre(),
+            null);
+        final PretDTO pretDTO = new PretDTO();
+        pretDTO.setLivreDTO(livreDTO);
+        pretDTO.setMembreDTO(membreDTO);
+        this.bibliothequeCreateur.getPretFacade().commencerPret(session,
+            pretDTO);
+    }
+
+    /**
+     * Renouvelle un prêt.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param commande La commande à appliquer
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidPrimaryKeyException Si l'ID du prêt est <code>null</code>
+     * @throws MissingDTOException Si le prêt n'existe pas
+     * @throws InvalidDTOException Si le prêt est <code>null</code>
+     * @throws MissingLoanException Si le prêt n'est pas en cours
+     * @throws ExistingReservationException Si le livre est réservé
+     * @throws FacadeException S'il y a une erreur avec la base de données
+     */
+    private void renouvelerPret(Session session,
+        Commande commande) throws InvalidHibernateSessionException,
+        InvalidPrimaryKeyException,
+        MissingDTOException,
+        InvalidDTOException,
+        MissingLoanException,
+        ExistingReservationException,
+        FacadeException {
+        final PretDTO pretDTO = getPret(session,
+            commande.getIdPret(),
+            null);
+        this.bibliothequeCreateur.getPretFacade().renouvelerPret(session,
+            pretDTO);
+    }
+
+    /**
+     * Termine un prêt.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param commande La commande à appliquer
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidPrimaryKeyException Si l'ID du prêt est <code>null</code>
+     * @throws MissingDTOException Si le prêt n'existe pas
+     * @throws InvalidDTOException Si le prêt est <code>null</code>
+     * @throws MissingLoanException Si le prêt n'est pas en cours
+     * @throws FacadeException S'il y a une erreur avec la base de données
+     */
+    private void terminerPret(Session session,
+        Commande commande) throws InvalidHibernateSessionException,
+        InvalidPrimaryKeyException,
+        MissingDTOException,
+        InvalidDTOException,
+        MissingLoanException,
+        FacadeException {
+        final PretDTO pretDTO = getPret(session,
+            commande.getIdPret(),
+            PretDTO.FETCH_PLAN_RETOUR);
+        this.bibliothequeCreateur.getPretFacade().terminerPret(session,
+            pretDTO);
+    }
+
+    /**
+     * Inscrit un membre.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param commande La commande à appliquer
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidDTOException Si le membre est <code>null</code>
+     * @throws FacadeException S'il y a une erreur avec la base de données
+     */
+    private void inscrireMembre(Session session,
+        Commande commande) throws InvalidHibernateSessionException,
+        InvalidDTOException,
+        FacadeException {
+        final MembreDTO membreDTO = new MembreDTO();
+        membreDTO.setNom(commande.getNom());
+        membreDTO.setTelephone(commande.getTelephone());
+        membreDTO.setLimitePret(commande.getLimitePret());
+        membreDTO.setNbPret(0);
+        this.bibliothequeCreateur.getMembreFacade().inscrireMembre(session,
+            membreDTO);
+    }
+
+    /**
+     * Désinscrit un membre.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param commande La commande à appliquer
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidPrimaryKeyException Si l'ID du membre est <code>null</code>
+     * @throws MissingDTOException Si le membre n'existe pas
+     * @throws InvalidDTOException Si le membre est <code>null</code>
+     * @throws ExistingLoanException Si le membre a des prêts en cours
+     * @throws ExistingReservationException Si le membre a des réservations
+     * @throws FacadeException S'il y a une erreur avec la base de données
+     */
+    private void desinscrireMembre(Session session,
+        Commande commande) throws InvalidHibernateSessionException,
+        InvalidPrimaryKeyException,
+        MissingDTOException,
+        InvalidDTOException,
+        ExistingLoanException,
+        ExistingReservationException,
+        FacadeException {
+        final MembreDTO membreDTO = getMembre(session,
+            commande.getIdMembre(),
+            MembreDTO.FETCH_PLAN_DESINSCRIPTION);
+        this.bibliothequeCreateur.getMembreFacade().desinscrireMembre(session,
+            membreDTO);
+    }
+
+    /**
+     * Place une réservation.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param commande La commande à appliquer
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidPrimaryKeyException Si l'ID du membre ou du livre est <code>null</code>
+     * @throws MissingDTOException Si le membre ou le livre n'existe pas
+     * @throws InvalidDTOException Si la réservation est <code>null</code>
+     * @throws MissingLoanException Si le livre n'est pas prêté
+     * @throws ExistingLoanException Si le livre est déjà prêté au membre
+     * @throws ExistingReservationException Si le membre a déjà réservé le livre
+     * @throws FacadeException S'il y a une erreur avec la base de données
+     */
+    private void placerReservation(Session session,
+        Commande commande) throws InvalidHibernateSessionException,
+        InvalidPrimaryKeyException,
+        MissingDTOException,
+        InvalidDTOException,
+        MissingLoanException,
+        ExistingLoanException,
+        ExistingReservationException,
+        FacadeException {
+        final MembreDTO membreDTO = getMembre(session,
+            commande.getIdMembre(),
+            null);
+        final LivreDTO livreDTO = getLivre(session,
+            commande.getIdLivre(),
+            null);
+        final ReservationDTO reservationDTO = new ReservationDTO();
+        reservationDTO.setLivreDTO(livreDTO);
+        reservationDTO.setMembreDTO(membreDTO);
+        this.bibliothequeCreateur.getReservationFacade().placerReservation(session,
+            reservationDTO);
+    }
+
+    /**
+     * Utilise une réservation.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param commande La commande à appliquer
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidPrimaryKeyException Si l'ID de la réservation est <code>null</code>
+     * @throws MissingDTOException Si la réservation n'existe pas
+     * @throws InvalidDTOException Si la réservation est <code>null</code>
+     * @throws ExistingReservationException Si la réservation n'est pas la première du livre
+     * @throws ExistingLoanException Si le livre est prêté
+     * @throws InvalidLoanLimitException Si le membre a atteint sa limite de prêts
+     * @throws FacadeException S'il y a une erreur avec la base de données
+     */
+    private void utiliserReservation(Session session,
+        Commande commande) throws InvalidHibernateSessionException,
+        InvalidPrimaryKeyException,
+        MissingDTOException,
+        InvalidDTOException,
+        ExistingReservationException,
+        ExistingLoanException,
+        InvalidLoanLimitException,
+        FacadeException {
+        final ReservationDTO reservationDTO = getReservation(session,
+            commande.getIdReservation(),
+            ReservationDTO.FETCH_PLAN_UTILISATION);
+        this.bibliothequeCreateur.getReservationFacade().utiliserReservation(session,
+            reservationDTO);
+    }
+
+    /**
+     * Annule une réservation.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param commande La commande à appliquer
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidPrimaryKeyException Si l'ID de la réservation est <code>null</code>
+     * @throws MissingDTOException Si la réservation n'existe pas
+     * @throws InvalidDTOException Si la réservation est <code>null</code>
+     * @throws FacadeException S'il y a une erreur avec la base de données
+     */
+    private void annulerReservation(Session session,
+        Commande commande) throws InvalidHibernateSessionException,
+        InvalidPrimaryKeyException,
+        MissingDTOException,
+        InvalidDTOException,
+        FacadeException {
+        final ReservationDTO reservationDTO = getReservation(session,
+            commande.getIdReservation(),
+            null);
+        this.bibliothequeCreateur.getReservationFacade().annulerReservation(session,
+            reservationDTO);
+    }
+
+    /**
+     * Lit un livre qui doit exister.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param idLivre L'ID du livre
+     * @param fetchPlan Le plan de chargement ; <code>null</code> pour lire le livre seul
+     * @return Le livre
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidPrimaryKeyException Si l'ID du livre est <code>null</code>
+     * @throws MissingDTOException Si le livre n'existe pas
+     * @throws FacadeException S'il y a une erreur avec la base de données
+     */
+    private LivreDTO getLivre(Session session,
+        String idLivre,
+        String fetchPlan) throws InvalidHibernateSessionException,
+        InvalidPrimaryKeyException,
+        MissingDTOException,
+        FacadeException {
+        final LivreDTO livreDTO = this.bibliothequeCreateur.getLivreFacade().getLivre(session,
+            idLivre,
+            fetchPlan);
+        if(livreDTO == null) {
+            throw new MissingDTOException("Le livre "
+                + idLivre
+                + " n'existe pas");
+        }
+        return livreDTO;
+    }
+
+    /**
+     * Lit un membre qui doit exister.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param idMembre L'ID du membre
+     * @param fetchPlan Le plan de chargement ; <code>null</code> pour lire le membre seul
+     * @return Le membre
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidPrimaryKeyException Si l'ID du membre est <code>null</code>
+     * @throws MissingDTOException Si le membre n'existe pas
+     * @throws FacadeException S'il y a une erreur avec la base de données
+     */
+    private MembreDTO getMembre(Session session,
+        String idMembre,
+        String fetchPlan) throws InvalidHibernateSessionException,
+        InvalidPrimaryKeyException,
+        MissingDTOException,
+        FacadeException {
+        final MembreDTO membreDTO = this.bibliothequeCreateur.getMembreFacade().getMembre(session,
+            idMembre,
+            fetchPlan);
+        if(membreDTO == null) {
+            throw new MissingDTOException("Le membre "
+                + idMembre
+                + " n'existe pas");
+        }
+        return membreDTO;
+    }
+
+    /**
+     * Lit un prêt qui doit exister.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param idPret L'ID du prêt
+     * @param fetchPlan Le plan de chargement ; <code>null</code> pour lire le prêt seul
+     * @return Le prêt
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidPrimaryKeyException Si l'ID du prêt est <code>null</code>
+     * @throws MissingDTOException Si le prêt n'existe pas
+     * @throws FacadeException S'il y a une erreur avec la base de données
+     */
+    private PretDTO getPret(Session session,
+        String idPret,
+        String fetchPlan) throws InvalidHibernateSessionException,
+        InvalidPrimaryKeyException,
+        MissingDTOException,
+        FacadeException {
+        final PretDTO pretDTO = this.bibliothequeCreateur.getPretFacade().getPret(session,
+            idPret,
+            fetchPlan);
+        if(pretDTO == null) {
+            throw new MissingDTOException("Le pret "
+                + idPret
+                + " n'existe pas");
+        }
+        return pretDTO;
+    }
+
+    /**
+     * Lit une réservation qui doit exister.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param idReservation L'ID de la réservation
+     * @param fetchPlan Le plan de chargement ; <code>null</code> pour lire la réservation seule
+     * @return La réservation
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidPrimaryKeyException Si l'ID de la réservation est <code>null</code>
+     * @throws MissingDTOException Si la réservation n'existe pas
+     * @throws FacadeException S'il y a une erreur avec la base de données
+     */
+    private ReservationDTO getReservation(Session session,
+        String idReservation,
+        String fetchPlan) throws InvalidHibernateSessionException,
+        InvalidPrimaryKeyException,
+        MissingDTOException,
+        FacadeException {
+        final ReservationDTO reservationDTO = this.bibliothequeCreateur.getReservationFacade().getReservation(session,
+            idReservation,
+            fetchPlan);
+        if(reservationDTO == null) {
+            throw new MissingDTOException("La reservation "
+                + idReservation
+                + " n'existe pas");
+        }
+        return reservationDTO;
+    }
+}
@@ -0,0 +1,147 @@
+// Fichier GroupeurCommandes.java
+// Auteur : Dragons Vicieux
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliotheque.commande;
+
+import java.util.ArrayList;
+import java.util.List;
+import ca.qc.collegeahuntsic.bibliotheque.exception.BibliothequeException;
+
+/**
+ * Regroupe les commandes d'un fichier de transactions pour les valider ensemble.<br />
+ * <br />
+ * Un groupe est exécuté dès qu'il atteint sa taille maximale ou que son délai maximal est écoulé depuis sa première commande. Les
+ * commandes qui ne sont pas transactionnelles (aide, commentaires, commandes non reconnues) exécutent d'abord le groupe en cours, pour
+ * que le journal reste dans l'ordre du fichier. Un groupe qui contient une commande refusée est annulé, puis rejoué une commande à la
+ * fois : chaque commande valide est alors validée seule et chaque erreur est journalisée comme sans groupe.<br />
+ * <br />
+ * Les commandes qui créent un ID (acquisition, prêt, inscription, réservation et utilisation d'une réservation, qui crée un prêt) ne
+ * sont jamais groupées : elles exécutent d'abord le groupe en cours, puis sont validées seules. L'annulation d'un groupe ne rend pas les
+ * IDs déjà obtenus du générateur hi/lo ; une telle commande rejouée après l'annulation obtiendrait un autre ID qu'en exécution
+ * séquentielle et les lignes suivantes du fichier, qui utilisent cet ID, viseraient une autre ligne.
+ *
+ * @author Dragons Vicieux
+ */
+public class GroupeurCommandes {
+    private final ExecuteurCommande executeurCommande;
+
+    private final int tailleGroupe;
+
+    private final long delaiMaximum;
+
+    private final List<Commande> groupe;
+
+    private long debutGroupe;
+
+    private long debut;
+
+    private long nombreCommandes;
+
+    private long nombreGroupes;
+
+    private long nombreReprises;
+
+    private long nombreValidations;
+
+    /**
+     * Crée un groupeur de commandes.
+     *
+     * @param executeurCommande L'exécuteur des commandes
+     * @param tailleGroupe Le nombre maximal de commandes par transaction ; une valeur inférieure à 1 est ramenée à 1
+     * @param delaiMaximum Le délai maximal, en millisecondes, entre la première commande d'un groupe et sa validation
+     */
+    public GroupeurCommandes(ExecuteurCommande executeurCommande,
+        int tailleGroupe,
+        long delaiMaximum) {
+        super();
+        this.executeurCommande = executeurCommande;
+        this.tailleGroupe = Math.max(1,
+            tailleGroupe);
+        this.delaiMaximum = delaiMaximum;
+        this.groupe = new ArrayList<>(this.tailleGroupe);
+        this.debut = System.currentTimeMillis();
+    }
+
+    /**
+     * Ajoute une commande au groupe en cours et exécute le groupe s'il est complet. Une commande qui crée un ID est exécutée seule,
+     * après le groupe en cours.
+     *
+     * @param commande La commande à ajouter
+     * @throws BibliothequeException S'il y a une erreur avec la transaction
+     */
+    public void ajouter(Commande commande) throws BibliothequeException {
+        if(!commande.getTypeCommande().isTransactionnelle()) {
+            vider();
+            this.executeurCommande.executer(commande);
+            return;
+        }
+        if(commande.getTypeCommande().isCreatrice()) {
+            vider();
+            this.groupe.add(commande);
+            vider();
+            return;
+        }
+        final long maintenant = System.currentTimeMillis();
+        if(this.groupe.isEmpty()) {
+            this.debutGroupe = maintenant;
+        }
+        this.groupe.add(commande);
+        if(this.groupe.size() >= this.tailleGroupe
+            || maintenant
+                - this.debutGroupe >= this.delaiMaximum) {
+            vider();
+        }
+    }
+
+    /**
+     * Exécute le groupe en cours, s'il n'est pas vide.
+     *
+     * @throws BibliothequeException S'il y a une erreur avec la transaction
+     */
+    public void vider() throws BibliothequeException {
+        if(this.groupe.isEmpty()) {
+            return;
+        }
+        this.nombreCommandes += this.groupe.size();
+        this.nombreGroupes++;
+        if(this.groupe.size() == 1) {
+            if(this.executeurCommande.executer(this.groupe.get(0))) {
+                this.nombreValidations++;
+            }
+        } else if(this.executeurCommande.executerGroupe(this.groupe)) {
+            this.nombreValidations++;
+        } else {
+            this.nombreReprises++;
+            for(Commande commande : this.groupe) {
+                if(this.executeurCommande.executer(commande)) {
+                    this.nombreValidations++;
+                }
+            }
+        }
+        this.groupe.clear();
+    }
+
+    /**
+     * Produit le bilan des validations depuis la création du groupeur.
+     *
+     * @return Le bilan, une ligne
+     */
+    public String rapport() {
+        final long duree = Math.max(1,
+            System.currentTimeMillis()
+                - this.debut);
+        return this.nombreCommandes
+            + " commandes en "
+            + this.nombreGroupes
+            + " groupes ("
+            + this.nombreReprises
+            + " rejoués une à une), "
+            + this.nombreValidations
+            + " validations en "
+            + duree
+            + " ms, soit "
+            + (this.nombreValidations * 1000 / duree)
+            + " validations/s";
+    }
+}
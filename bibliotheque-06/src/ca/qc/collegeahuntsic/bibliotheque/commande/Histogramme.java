@@ -0,0 +1,147 @@
+// Fichier Histogramme.java
+// Auteur : Dragons Vicieux
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliotheque.commande;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histogramme de durées, en nanosecondes, à précision relative constante.<br />
+ * <br />
+ * Chaque puissance de deux est découpée en huit intervalles égaux : une durée est retenue à 12,5 % près, de la nanoseconde à
+ * plusieurs années, dans un tableau de taille fixe. Un enregistrement ne fait qu'incrémenter un compteur, sans verrou ni allocation ;
+ * plusieurs fils peuvent enregistrer en même temps.
+ *
+ * @author Dragons Vicieux
+ */
+public final class Histogramme {
+    private static final int BITS_INTERVALLE = 3;
+
+    private static final int INTERVALLES = 1 << Histogramme.BITS_INTERVALLE;
+
+    private static final int TAILLE = (Long.SIZE
+        - Histogramme.BITS_INTERVALLE) * Histogramme.INTERVALLES;
+
+    private final AtomicLongArray comptes;
+
+    private final AtomicLong maximum;
+
+    /**
+     * Crée un histogramme vide.
+     */
+    public Histogramme() {
+        super();
+        this.comptes = new AtomicLongArray(Histogramme.TAILLE);
+        this.maximum = new AtomicLong();
+    }
+
+    /**
+     * Enregistre une durée.
+     *
+     * @param duree La durée, en nanosecondes ; une durée négative est ramenée à 0
+     */
+    public void enregistrer(long duree) {
+        final long valeur = Math.max(0,
+            duree);
+        this.comptes.incrementAndGet(Histogramme.indice(valeur));
+        long courant = this.maximum.get();
+        while(valeur > courant
+            && !this.maximum.compareAndSet(courant,
+                valeur)) {
+            courant = this.maximum.get();
+        }
+    }
+
+    /**
+     * Compte les durées enregistrées.
+     *
+     * @return Le nombre de durées
+     */
+    public long getNombre() {
+        long nombre = 0;
+        for(int i = 0; i < Histogramme.TAILLE; i++) {
+            nombre += this.comptes.get(i);
+        }
+        return nombre;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.maximum</code>.
+     *
+     * @return La plus longue durée enregistrée, en nanosecondes
+     */
+    public long getMaximum() {
+        return this.maximum.get();
+    }
+
+    /**
+     * Donne un centile des durées enregistrées. La valeur donnée est la borne supérieure de son intervalle, sans dépasser le maximum.
+     *
+     * @param fraction La fraction des durées qui ne dépassent pas le centile, entre 0 et 1
+     * @return Le centile, en nanosecondes ; 0 si aucune durée n'a été enregistrée
+     */
+    public long getCentile(double fraction) {
+        final long[] copie = new long[Histogramme.TAILLE];
+        long nombre = 0;
+        for(int i = 0; i < Histogramme.TAILLE; i++) {
+            copie[i] = this.comptes.get(i);
+            nombre += copie[i];
+        }
+        final long rang = Math.max(1,
+            (long) Math.ceil(fraction
+                * nombre));
+        long cumul = 0;
+        for(int i = 0; i < Histogramme.TAILLE; i++) {
+            cumul += copie[i];
+            if(cumul >= rang) {
+                return Math.min(Histogramme.borneSuperieure(i),
+                    getMaximum());
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Donne l'indice de l'intervalle d'une durée.
+     *
+     * @param valeur La durée, positive
+     * @return L'indice
+     */
+    private static int indice(long valeur) {
+        if(valeur < Histogramme.INTERVALLES) {
+            return (int) valeur;
+        }
+        final int exposant = Long.SIZE
+            - 1
+            - Long.numberOfLeadingZeros(valeur);
+        return (exposant
+            - Histogramme.BITS_INTERVALLE
+            + 1)
+            * Histogramme.INTERVALLES
+            + (int) (valeur >>> exposant
+                - Histogramme.BITS_INTERVALLE
+                & Histogramme.INTERVALLES - 1);
+    }
+
+    /**
+     * Donne la plus grande durée d'un intervalle.
+     *
+     * @param indice L'indice de l'intervalle
+     * @return La durée
+     */
+    private static long borneSuperieure(int indice) {
+        if(indice < Histogramme.INTERVALLES) {
+            return indice;
+        }
+        final int decalage = indice
+            / Histogramme.INTERVALLES
+            - 1;
+        final long debut = (long) (Histogramme.INTERVALLES
+            + indice % Histogramme.INTERVALLES) << decalage;
+        return debut
+            + (1L << decalage)
+            - 1;
+    }
+}
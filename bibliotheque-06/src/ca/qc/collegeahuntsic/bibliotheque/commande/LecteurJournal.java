@@ -0,0 +1,244 @@
+// Fichier LecteurJournal.java
+// Auteur : Dragons Vicieux
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliotheque.commande;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+
+/**
+ * Lit les commandes d'un journal binaire écrit par un {@link EcrivainJournal}.<br />
+ * <br />
+ * Le lecteur donne accès aux valeurs du journal une à une ; {@link Commande#lire(LecteurJournal)} les assemble en commandes. Aucun
+ * texte n'est découpé et aucune date n'est analysée : les nombres et les dates sont décodés directement des octets.
+ *
+ * @author Dragons Vicieux
+ */
+public class LecteurJournal implements Closeable {
+    private static final int TAILLE_TAMPON = 64 * 1024;
+
+    private static final int DECALAGE_MAXIMAL = 63;
+
+    private final InputStream inputStream;
+
+    private final byte[] tampon;
+
+    private int position;
+
+    private int limite;
+
+    private int numero;
+
+    /**
+     * Crée un lecteur sur un flux et vérifie l'en-tête du journal.
+     *
+     * @param inputStream Le flux du journal
+     * @throws IOException S'il y a une erreur de lecture ou si le flux n'est pas un journal binaire
+     */
+    public LecteurJournal(InputStream inputStream) throws IOException {
+        super();
+        this.inputStream = inputStream;
+        this.tampon = new byte[LecteurJournal.TAILLE_TAMPON];
+        LecteurJournal.verifierEntete(inputStream,
+            false);
+    }
+
+    /**
+     * Vérifie l'en-tête d'un journal binaire.
+     *
+     * @param inputStream Le flux du journal, placé au début
+     * @param fermer <code>true</code> pour fermer le flux après la vérification
+     * @throws IOException S'il y a une erreur de lecture ou si le flux n'est pas un journal binaire de la version connue
+     */
+    static void verifierEntete(InputStream inputStream,
+        boolean fermer) throws IOException {
+        try {
+            for(byte octet : EcrivainJournal.ENTETE) {
+                if(inputStream.read() != octet) {
+                    throw new IOException("Le fichier n'est pas un journal binaire de la bibliothèque");
+                }
+            }
+            final int version = inputStream.read();
+            if(version != EcrivainJournal.VERSION) {
+                throw new IOException("Version du journal binaire non supportée : "
+                    + version);
+            }
+        } finally {
+            if(fermer) {
+                inputStream.close();
+            }
+        }
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.numero</code>.
+     *
+     * @return Le numéro de la dernière commande lue, à partir de 1
+     */
+    public int getNumero() {
+        return this.numero;
+    }
+
+    /**
+     * Lit le type de la commande suivante.
+     *
+     * @return Le type de la commande ; <code>null</code> à la fin du journal
+     * @throws IOException S'il y a une erreur de lecture ou si le code n'existe pas
+     */
+    public TypeCommande lireTypeCommande() throws IOException {
+        if(this.position == this.limite
+            && !remplir()) {
+            return null;
+        }
+        final int code = this.tampon[this.position++] & 0xFF;
+        final TypeCommande typeCommande = TypeCommande.valueOfCode(code);
+        if(typeCommande == null) {
+            throw new IOException("Code de commande inconnu dans le journal : "
+                + code);
+        }
+        this.numero++;
+        return typeCommande;
+    }
+
+    /**
+     * Lit un ID.
+     *
+     * @return L'ID
+     * @throws IOException S'il y a une erreur de lecture ou si l'ID n'est pas un nombre positif
+     */
+    public String lireId() throws IOException {
+        final long id = lireVarint();
+        if(id < 0) {
+            throw new IOException("ID invalide dans le journal : "
+                + Long.toUnsignedString(id));
+        }
+        return Long.toString(id);
+    }
+
+    /**
+     * Lit un entier signé.
+     *
+     * @return L'entier
+     * @throws IOException S'il y a une erreur de lecture
+     */
+    public long lireSigne() throws IOException {
+        final long valeur = lireVarint();
+        return (valeur >>> 1)
+            ^ -(valeur & 1);
+    }
+
+    /**
+     * Lit une date.
+     *
+     * @return La date, à minuit
+     * @throws IOException S'il y a une erreur de lecture
+     */
+    public Timestamp lireDate() throws IOException {
+        return Timestamp.valueOf(LocalDate.ofEpochDay(lireSigne()).atStartOfDay());
+    }
+
+    /**
+     * Lit un texte. Sa longueur est vérifiée avant d'allouer quoi que ce soit : un journal corrompu ne peut pas demander plus de
+     * {@link EcrivainJournal#TAILLE_MAXIMALE_TEXTE} octets.
+     *
+     * @return Le texte
+     * @throws IOException S'il y a une erreur de lecture ou si la longueur du texte est invalide
+     */
+    public String lireString() throws IOException {
+        final long longueur = lireVarint();
+        if(longueur < 0
+            || longueur > EcrivainJournal.TAILLE_MAXIMALE_TEXTE) {
+            throw new IOException("Longueur de texte invalide dans le journal : "
+                + Long.toUnsignedString(longueur));
+        }
+        final int taille = (int) longueur;
+        if(taille <= this.limite
+            - this.position) {
+            final String texte = new String(this.tampon,
+                this.position,
+                taille,
+                StandardCharsets.UTF_8);
+            this.position += taille;
+            return texte;
+        }
+        final byte[] octets = new byte[taille];
+        int lus = 0;
+        while(lus < taille) {
+            if(this.position == this.limite
+                && !remplir()) {
+                throw new EOFException("Journal tronqué");
+            }
+            final int morceau = Math.min(taille
+                - lus,
+                this.limite
+                    - this.position);
+            System.arraycopy(this.tampon,
+                this.position,
+                octets,
+                lus,
+                morceau);
+            this.position += morceau;
+            lus += morceau;
+        }
+        return new String(octets,
+            StandardCharsets.UTF_8);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() throws IOException {
+        this.inputStream.close();
+    }
+
+    /**
+     * Lit un entier positif en varint.
+     *
+     * @return L'entier
+     * @throws IOException S'il y a une erreur de lecture ou si le varint est invalide
+     */
+    private long lireVarint() throws IOException {
+        long valeur = 0;
+        int decalage = 0;
+        while(true) {
+            if(this.position == this.limite
+                && !remplir()) {
+                throw new EOFException("Journal tronqué");
+            }
+            final byte octet = this.tampon[this.position++];
+            valeur |= (long) (octet & 0x7F) << decalage;
+            if(octet >= 0) {
+                return valeur;
+            }
+            decalage += 7;
+            if(decalage > LecteurJournal.DECALAGE_MAXIMAL) {
+                throw new IOException("Nombre invalide dans le journal");
+            }
+        }
+    }
+
+    /**
+     * Remplit le tampon avec la suite du flux.
+     *
+     * @return <code>true</code> si des octets ont été lus ; <code>false</code> à la fin du flux
+     * @throws IOException S'il y a une erreur de lecture
+     */
+    private boolean remplir() throws IOException {
+        final int lus = this.inputStream.read(this.tampon,
+            0,
+            this.tampon.length);
+        if(lus <= 0) {
+            return false;
+        }
+        this.position = 0;
+        this.limite = lus;
+        return true;
+    }
+}
@@ -0,0 +1,336 @@
+// Fichier PipelineTransactions.java
+// Auteur : Dragons Vicieux
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliotheque.commande;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import ca.qc.collegeahuntsic.bibliotheque.exception.BibliothequeException;
+import ca.qc.collegeahuntsic.bibliotheque.util.MessageJournal;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Traite un fichier de transactions en deux étapes qui s'exécutent en même temps.<br />
+ * <br />
+ * L'étape de lecture lit les lignes et les transforme en {@link Commande}, ce qui rejette aussi les commandes dont les arguments sont
+ * invalides ; l'étape d'exécution, dans le fil de l'appelant, exécute les commandes avec un {@link GroupeurCommandes}. Les étapes sont
+ * reliées par une file bornée : la lecture attend quand la file est pleine. Les erreurs de lecture suivent leur ligne jusqu'à l'étape
+ * d'exécution, qui les journalise dans l'ordre du fichier, comme le traitement séquentiel. Si la lecture s'arrête sur une erreur
+ * imprévue, elle signale tout de même la fin du fichier : les lignes déjà transmises sont exécutées, puis l'erreur est relancée par
+ * {@link #traiter(BufferedReader)}.
+ *
+ * @author Dragons Vicieux
+ */
+public class PipelineTransactions {
+    private static final Log LOGGER = LogFactory.getLog(PipelineTransactions.class);
+
+    private static final Element FIN = new Element(0,
+        null,
+        null,
+        null);
+
+    private final GroupeurCommandes groupeurCommandes;
+
+    private final int capacite;
+
+    private final CompteurEtape lecture;
+
+    private final CompteurEtape execution;
+
+    private volatile IOException erreurLecture;
+
+    private volatile Throwable erreurEtape;
+
+    /**
+     * Crée un pipeline.
+     *
+     * @param groupeurCommandes Le groupeur qui exécute les commandes
+     * @param capacite La capacité de la file entre les deux étapes ; une valeur inférieure à 1 est ramenée à 1
+     */
+    public PipelineTransactions(GroupeurCommandes groupeurCommandes,
+        int capacite) {
+        super();
+        this.groupeurCommandes = groupeurCommandes;
+        this.capacite = Math.max(1,
+            capacite);
+        this.lecture = new CompteurEtape("lecture");
+        this.execution = new CompteurEtape("exécution");
+    }
+
+    /**
+     * Traite toutes les transactions d'un fichier.
+     *
+     * @param reader Le reader du fichier de transactions
+     * @throws BibliothequeException S'il y a une erreur avec la base de données, si le fil est interrompu ou si l'étape de lecture s'est
+     *         arrêtée sur une erreur imprévue
+     * @throws IOException S'il y a une erreur de lecture
+     */
+    public void traiter(BufferedReader reader) throws BibliothequeException,
+        IOException {
+        final BlockingQueue<Element> lues = new ArrayBlockingQueue<>(this.capacite);
+        final Thread filLecture = new Thread(() -> lire(reader,
+            lues),
+            "pipeline-lecture");
+        filLecture.start();
+        try {
+            executer(lues);
+        } catch(InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+            throw new BibliothequeException(interruptedException);
+        } finally {
+            filLecture.interrupt();
+        }
+        if(this.erreurEtape != null) {
+            throw new BibliothequeException(this.erreurEtape);
+        }
+        if(this.erreurLecture != null) {
+            throw this.erreurLecture;
+        }
+        PipelineTransactions.LOGGER.info(this.lecture);
+        PipelineTransactions.LOGGER.info(this.execution);
+    }
+
+    /**
+     * Étape de lecture : lit les lignes et les transforme en commandes, dont les arguments sont vérifiés par
+     * {@link Commande#lire(int, String)}. La fin du fichier est signalée même si la lecture s'arrête sur une erreur.
+     *
+     * @param reader Le reader du fichier de transactions
+     * @param lues La file des lignes lues
+     */
+    private void lire(BufferedReader reader,
+        BlockingQueue<Element> lues) {
+        try {
+            int numero = 0;
+            String ligne = reader.readLine();
+            while(ligne != null) {
+                numero++;
+                Element element;
+                try {
+                    element = new Element(numero,
+                        ligne,
+                        Commande.lire(numero,
+                            ligne),
+                        null);
+                } catch(BibliothequeException bibliothequeException) {
+                    element = new Element(numero,
+                        ligne,
+                        null,
+                        bibliothequeException.getMessage());
+                    this.lecture.rejeter();
+                }
+                this.lecture.compter();
+                lues.put(element);
+                ligne = reader.readLine();
+            }
+        } catch(IOException ioException) {
+            this.erreurLecture = ioException;
+        } catch(InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+        } catch(
+            RuntimeException
+            | Error erreur) {
+            echouer(erreur);
+        } finally {
+            PipelineTransactions.signalerFin(lues);
+            this.lecture.terminer();
+        }
+    }
+
+    /**
+     * Conserve la première erreur imprévue de l'étape de lecture, pour que {@link #traiter(BufferedReader)} la relance.
+     *
+     * @param erreur L'erreur
+     */
+    private synchronized void echouer(Throwable erreur) {
+        if(this.erreurEtape == null) {
+            this.erreurEtape = erreur;
+        }
+    }
+
+    /**
+     * Signale la fin du fichier à l'étape suivante.
+     *
+     * @param file La file de l'étape suivante
+     */
+    private static void signalerFin(BlockingQueue<Element> file) {
+        try {
+            file.put(PipelineTransactions.FIN);
+        } catch(InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Étape d'exécution : journalise l'erreur éventuelle de chaque ligne avec son numéro, puis exécute sa commande.
+     *
+     * @param lues La file des lignes lues
+     * @throws BibliothequeException S'il y a une erreur avec la base de données
+     * @throws InterruptedException Si le fil est interrompu
+     */
+    private void executer(BlockingQueue<Element> lues) throws BibliothequeException,
+        InterruptedException {
+        Element element = lues.take();
+        while(element != PipelineTransactions.FIN) {
+            if(element.getErreur() != null) {
+                PipelineTransactions.LOGGER.error(MessageJournal.de("ligne {} : {}",
+                    element.getNumero(),
+                    element.getErreur()));
+            } else if(element.getCommande() != null) {
+                try {
+                    this.groupeurCommandes.ajouter(element.getCommande());
+                } catch(BibliothequeException bibliothequeException) {
+                    PipelineTransactions.LOGGER.error(bibliothequeException.getMessage());
+                }
+            }
+            this.execution.compter();
+            element = lues.take();
+        }
+        this.groupeurCommandes.vider();
+        this.execution.terminer();
+    }
+
+    /**
+     * Ligne du fichier de transactions qui passe d'une étape à l'autre : sa commande, ou l'erreur qui l'a rejetée.
+     */
+    private static final class Element {
+        private final int numero;
+
+        private final String ligne;
+
+        private final Commande commande;
+
+        private final String erreur;
+
+        /**
+         * Crée un élément.
+         *
+         * @param numero Le numéro de la ligne
+         * @param ligne La ligne
+         * @param commande La commande ; <code>null</code> si la ligne est vide ou rejetée
+         * @param erreur Le message de l'erreur qui a rejeté la ligne ; <code>null</code> sinon
+         */
+        Element(int numero,
+            String ligne,
+            Commande commande,
+            String erreur) {
+            super();
+            this.numero = numero;
+            this.ligne = ligne;
+            this.commande = commande;
+            this.erreur = erreur;
+        }
+
+        /**
+         * Getter de la variable d'instance <code>this.numero</code>.
+         *
+         * @return La variable d'instance <code>this.numero</code>
+         */
+        int getNumero() {
+            return this.numero;
+        }
+
+        /**
+         * Getter de la variable d'instance <code>this.ligne</code>.
+         *
+         * @return La variable d'instance <code>this.ligne</code>
+         */
+        String getLigne() {
+            return this.ligne;
+        }
+
+        /**
+         * Getter de la variable d'instance <code>this.commande</code>.
+         *
+         * @return La variable d'instance <code>this.commande</code>
+         */
+        Commande getCommande() {
+            return this.commande;
+        }
+
+        /**
+         * Getter de la variable d'instance <code>this.erreur</code>.
+         *
+         * @return La variable d'instance <code>this.erreur</code>
+         */
+        String getErreur() {
+            return this.erreur;
+        }
+    }
+
+    /**
+     * Compteurs d'une étape : lignes traitées, lignes rejetées et débit.
+     */
+    private static final class CompteurEtape {
+        private final String nom;
+
+        private final AtomicLong traitees;
+
+        private final AtomicLong rejetees;
+
+        private final long debut;
+
+        private volatile long fin;
+
+        /**
+         * Crée les compteurs d'une étape.
+         *
+         * @param nom Le nom de l'étape
+         */
+        CompteurEtape(String nom) {
+            super();
+            this.nom = nom;
+            this.traitees = new AtomicLong();
+            this.rejetees = new AtomicLong();
+            this.debut = System.currentTimeMillis();
+        }
+
+        /**
+         * Compte une ligne traitée.
+         */
+        void compter() {
+            this.traitees.incrementAndGet();
+        }
+
+        /**
+         * Compte une ligne rejetée.
+         */
+        void rejeter() {
+            this.rejetees.incrementAndGet();
+        }
+
+        /**
+         * Marque la fin de l'étape.
+         */
+        void terminer() {
+            this.fin = System.currentTimeMillis();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String toString() {
+            final long duree = Math.max(1,
+                (this.fin == 0
+                    ? System.currentTimeMillis()
+                    : this.fin)
+                    - this.debut);
+            return "Étape "
+                + this.nom
+                + " : "
+                + this.traitees.get()
+                + " lignes, "
+                + this.rejetees.get()
+                + " rejetées, "
+                + duree
+                + " ms, soit "
+                + (this.traitees.get() * 1000 / duree)
+                + " lignes/s";
+        }
+    }
+}
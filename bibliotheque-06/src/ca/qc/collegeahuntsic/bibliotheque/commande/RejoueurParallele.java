@@ -0,0 +1,379 @@
+// Fichier RejoueurParallele.java
+// Auteur : Dragons Vicieux
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliotheque.commande;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import ca.qc.collegeahuntsic.bibliotheque.exception.BibliothequeException;
+import ca.qc.collegeahuntsic.bibliotheque.util.BibliothequeCreateur;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Rejoue un fichier de transactions en parallèle.<br />
+ * <br />
+ * Le fichier est lu en entier, puis les clefs de conflit de chaque commande sont calculées par le {@link ResolveurClefs}. Chaque
+ * commande attend les commandes précédentes avec lesquelles elle partage une clef ; les autres sont exécutées en même temps par un
+ * groupe de fils. Les fils partagent le {@link BibliothequeCreateur}, qui lie une session Hibernate à chaque fil. L'ordre est conservé pour
+ * chaque clef : le résultat est le même qu'en exécution séquentielle, à l'exception des IDs générés pour les lignes que le fichier
+ * n'utilise pas ensuite et de l'ordre des messages du journal.
+ *
+ * @author Dragons Vicieux
+ */
+public class RejoueurParallele {
+    private static final Log LOGGER = LogFactory.getLog(RejoueurParallele.class);
+
+    private final int nombreFils;
+
+    private final StatistiquesCommandes statistiques;
+
+    /**
+     * Crée un rejoueur parallèle.
+     *
+     * @param nombreFils Le nombre de fils qui exécutent les commandes ; une valeur inférieure à 1 est ramenée à 1
+     */
+    public RejoueurParallele(int nombreFils) {
+        super();
+        this.nombreFils = Math.max(1,
+            nombreFils);
+        this.statistiques = new StatistiquesCommandes();
+    }
+
+    /**
+     * Rejoue toutes les commandes d'un fichier de transactions.
+     *
+     * @param reader Le reader du fichier de transactions
+     * @param bibliothequeCreateur Le créateur des outils de la bibliothèque à utiliser pour calculer les clefs de conflit et exécuter
+     *        les commandes
+     * @throws BibliothequeException S'il y a une erreur avec la base de données ou si un fil est interrompu
+     * @throws IOException S'il y a une erreur de lecture
+     */
+    public void rejouer(BufferedReader reader,
+        BibliothequeCreateur bibliothequeCreateur) throws BibliothequeException,
+        IOException {
+        final long debut = System.currentTimeMillis();
+        final List<Commande> commandes = RejoueurParallele.lire(reader);
+        final List<ClefsConflit> clefsConflits = new ResolveurClefs(bibliothequeCreateur).resoudre(commandes);
+        final List<Noeud> noeuds = RejoueurParallele.planifier(commandes,
+            clefsConflits);
+        executer(noeuds,
+            bibliothequeCreateur);
+        RejoueurParallele.LOGGER.info(commandes.size()
+            + " commandes rejouées en "
+            + (System.currentTimeMillis() - debut)
+            + " ms avec "
+            + this.nombreFils
+            + " fils");
+        RejoueurParallele.LOGGER.info(this.statistiques.rapport());
+    }
+
+    /**
+     * Lit toutes les commandes d'un fichier de transactions. Les lignes vides sont ignorées ; une ligne invalide est journalisée puis
+     * ignorée.
+     *
+     * @param reader Le reader du fichier de transactions
+     * @return Les commandes, dans l'ordre du fichier
+     * @throws IOException S'il y a une erreur de lecture
+     */
+    private static List<Commande> lire(BufferedReader reader) throws IOException {
+        final List<Commande> commandes = new ArrayList<>();
+        int numero = 0;
+        String ligne = reader.readLine();
+        while(ligne != null) {
+            numero++;
+            try {
+                final Commande commande = Commande.lire(numero,
+                    ligne);
+                if(commande != null) {
+                    commandes.add(commande);
+                }
+            } catch(BibliothequeException bibliothequeException) {
+                RejoueurParallele.LOGGER.error(" **** ligne "
+                    + numero
+                    + " : "
+                    + bibliothequeException.getMessage());
+            }
+            ligne = reader.readLine();
+        }
+        return commandes;
+    }
+
+    /**
+     * Construit le graphe des dépendances entre les commandes. Une commande dépend de la dernière commande précédente qui a la même
+     * clef ou qui est dans la même chaîne, ainsi que de la dernière barrière de chaque type qu'elle touche. Une barrière dépend de toutes
+     * les commandes de son type depuis la barrière précédente.
+     *
+     * @param commandes Les commandes, dans l'ordre du fichier
+     * @param clefsConflits Les clefs de conflit de chaque commande
+     * @return Les noeuds du graphe, dans l'ordre du fichier
+     */
+    private static List<Noeud> planifier(List<Commande> commandes,
+        List<ClefsConflit> clefsConflits) {
+        final Map<TypeClef, Map<String, Noeud>> derniers = new EnumMap<>(TypeClef.class);
+        final Map<TypeClef, Noeud> dernieresChaines = new EnumMap<>(TypeClef.class);
+        final Map<TypeClef, Noeud> dernieresBarrieres = new EnumMap<>(TypeClef.class);
+        final Map<TypeClef, List<Noeud>> depuisBarrieres = new EnumMap<>(TypeClef.class);
+        for(TypeClef typeClef : TypeClef.values()) {
+            derniers.put(typeClef,
+                new HashMap<>());
+            depuisBarrieres.put(typeClef,
+                new ArrayList<>());
+        }
+
+        final List<Noeud> noeuds = new ArrayList<>(commandes.size());
+        for(int i = 0; i < commandes.size(); i++) {
+            final Noeud noeud = new Noeud(commandes.get(i));
+            final ClefsConflit clefsConflit = clefsConflits.get(i);
+            noeuds.add(noeud);
+            if(clefsConflit.isVide()) {
+                continue;
+            }
+
+            final Set<Noeud> dependances = new HashSet<>();
+            for(TypeClef typeClef : clefsConflit.getBarrieres()) {
+                dependances.addAll(depuisBarrieres.get(typeClef));
+                dependances.add(dernieresBarrieres.get(typeClef));
+            }
+            for(Map.Entry<TypeClef, String> clef : clefsConflit.getClefs().entrySet()) {
+                if(!clefsConflit.getBarrieres().contains(clef.getKey())) {
+                    dependances.add(derniers.get(clef.getKey()).get(clef.getValue()));
+                    dependances.add(dernieresBarrieres.get(clef.getKey()));
+                }
+            }
+            for(TypeClef typeClef : clefsConflit.getChaines()) {
+                if(!clefsConflit.getBarrieres().contains(typeClef)) {
+                    dependances.add(dernieresChaines.get(typeClef));
+                    dependances.add(dernieresBarrieres.get(typeClef));
+                }
+            }
+            dependances.remove(null);
+            for(Noeud dependance : dependances) {
+                dependance.getSuccesseurs().add(noeud);
+            }
+            noeud.getDependances().set(dependances.size());
+
+            for(TypeClef typeClef : clefsConflit.getBarrieres()) {
+                depuisBarrieres.get(typeClef).clear();
+                derniers.get(typeClef).clear();
+                dernieresChaines.remove(typeClef);
+                dernieresBarrieres.put(typeClef,
+                    noeud);
+            }
+            for(Map.Entry<TypeClef, String> clef : clefsConflit.getClefs().entrySet()) {
+                if(!clefsConflit.getBarrieres().contains(clef.getKey())) {
+                    derniers.get(clef.getKey()).put(clef.getValue(),
+                        noeud);
+                    depuisBarrieres.get(clef.getKey()).add(noeud);
+                }
+            }
+            for(TypeClef typeClef : clefsConflit.getChaines()) {
+                if(!clefsConflit.getBarrieres().contains(typeClef)) {
+                    dernieresChaines.put(typeClef,
+                        noeud);
+                    depuisBarrieres.get(typeClef).add(noeud);
+                }
+            }
+        }
+        return noeuds;
+    }
+
+    /**
+     * Exécute le graphe des commandes. Les commandes prêtes sont prises dans l'ordre du fichier ; une commande devient prête quand
+     * toutes ses dépendances sont terminées, qu'elles aient réussi ou non. Une {@link Error} arrête le fil qui l'a reçue ; les autres
+     * fils terminent le rejeu et l'erreur est relancée à la fin.
+     *
+     * @param noeuds Les noeuds du graphe, dans l'ordre du fichier
+     * @param bibliothequeCreateur Le créateur des outils de la bibliothèque, partagé par les fils
+     * @throws BibliothequeException Si le fil principal est interrompu ou si un fil a reçu une {@link Error}
+     */
+    private void executer(List<Noeud> noeuds,
+        BibliothequeCreateur bibliothequeCreateur) throws BibliothequeException {
+        final PriorityBlockingQueue<Noeud> prets = new PriorityBlockingQueue<>();
+        final AtomicInteger restants = new AtomicInteger(noeuds.size());
+        final AtomicReference<Error> echec = new AtomicReference<>();
+        for(Noeud noeud : noeuds) {
+            if(noeud.getDependances().get() == 0) {
+                prets.add(noeud);
+            }
+        }
+        if(noeuds.isEmpty()) {
+            terminer(prets);
+        }
+
+        final ExecuteurCommande executeurCommande = new ExecuteurCommande(bibliothequeCreateur,
+            null,
+            this.statistiques);
+        final List<Thread> fils = new ArrayList<>(this.nombreFils);
+        for(int i = 0; i < this.nombreFils; i++) {
+            final Thread thread = new Thread(() -> travailler(executeurCommande,
+                bibliothequeCreateur,
+                prets,
+                restants,
+                echec),
+                "rejoueur-"
+                    + i);
+            fils.add(thread);
+            thread.start();
+        }
+        try {
+            for(Thread thread : fils) {
+                thread.join();
+            }
+        } catch(InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+            for(Thread thread : fils) {
+                thread.interrupt();
+            }
+            throw new BibliothequeException(interruptedException);
+        }
+        if(echec.get() != null) {
+            throw new BibliothequeException(echec.get());
+        }
+    }
+
+    /**
+     * Boucle d'un fil : exécute les commandes prêtes jusqu'à ce qu'il n'en reste plus. Une erreur d'une commande est journalisée et
+     * n'empêche pas les commandes qui en dépendent d'être exécutées, comme en exécution séquentielle. Une {@link Error} est conservée
+     * dans <code>echec</code> et arrête le fil, mais la commande est tout de même comptée comme terminée et ses successeurs sont libérés
+     * pour que les autres fils ne l'attendent pas. La session du fil est fermée à la fin.
+     *
+     * @param executeurCommande L'exécuteur des commandes
+     * @param bibliothequeCreateur Le créateur des outils de la bibliothèque
+     * @param prets Les commandes prêtes
+     * @param restants Le nombre de commandes qui ne sont pas terminées
+     * @param echec La première {@link Error} reçue par un fil
+     */
+    private void travailler(ExecuteurCommande executeurCommande,
+        BibliothequeCreateur bibliothequeCreateur,
+        PriorityBlockingQueue<Noeud> prets,
+        AtomicInteger restants,
+        AtomicReference<Error> echec) {
+        try {
+            Noeud noeud = prets.take();
+            while(noeud != Noeud.FIN) {
+                try {
+                    executeurCommande.executer(noeud.getCommande());
+                } catch(
+                    BibliothequeException
+                    | RuntimeException exception) {
+                    RejoueurParallele.LOGGER.error(" **** ligne "
+                        + noeud.getCommande().getNumero()
+                        + " : "
+                        + exception.getMessage());
+                } catch(Error error) {
+                    echec.compareAndSet(null,
+                        error);
+                    throw error;
+                } finally {
+                    for(Noeud successeur : noeud.getSuccesseurs()) {
+                        if(successeur.getDependances().decrementAndGet() == 0) {
+                            prets.add(successeur);
+                        }
+                    }
+                    if(restants.decrementAndGet() == 0) {
+                        terminer(prets);
+                    }
+                }
+                noeud = prets.take();
+            }
+        } catch(InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+        } finally {
+            try {
+                bibliothequeCreateur.fermerSession();
+            } catch(BibliothequeException bibliothequeException) {
+                RejoueurParallele.LOGGER.error(bibliothequeException.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Signale la fin du rejeu à tous les fils.
+     *
+     * @param prets Les commandes prêtes
+     */
+    private void terminer(PriorityBlockingQueue<Noeud> prets) {
+        for(int i = 0; i < this.nombreFils; i++) {
+            prets.add(Noeud.FIN);
+        }
+    }
+
+    /**
+     * Noeud du graphe des dépendances : une commande, le nombre de ses dépendances qui ne sont pas terminées et les commandes qui
+     * dépendent d'elle. Les noeuds sont classés dans l'ordre du fichier.
+     */
+    private static final class Noeud implements Comparable<Noeud> {
+        private static final Noeud FIN = new Noeud(null);
+
+        private final Commande commande;
+
+        private final int numero;
+
+        private final AtomicInteger dependances;
+
+        private final List<Noeud> successeurs;
+
+        /**
+         * Crée un noeud.
+         *
+         * @param commande La commande ; <code>null</code> pour le noeud de fin
+         */
+        Noeud(Commande commande) {
+            super();
+            this.commande = commande;
+            this.numero = commande == null
+                ? Integer.MAX_VALUE
+                : commande.getNumero();
+            this.dependances = new AtomicInteger();
+            this.successeurs = new ArrayList<>(1);
+        }
+
+        /**
+         * Getter de la variable d'instance <code>this.commande</code>.
+         *
+         * @return La variable d'instance <code>this.commande</code>
+         */
+        Commande getCommande() {
+            return this.commande;
+        }
+
+        /**
+         * Getter de la variable d'instance <code>this.dependances</code>.
+         *
+         * @return La variable d'instance <code>this.dependances</code>
+         */
+        AtomicInteger getDependances() {
+            return this.dependances;
+        }
+
+        /**
+         * Getter de la variable d'instance <code>this.successeurs</code>.
+         *
+         * @return La variable d'instance <code>this.successeurs</code>
+         */
+        List<Noeud> getSuccesseurs() {
+            return this.successeurs;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int compareTo(Noeud noeud) {
+            return Integer.compare(this.numero,
+                noeud.numero);
+        }
+    }
+}
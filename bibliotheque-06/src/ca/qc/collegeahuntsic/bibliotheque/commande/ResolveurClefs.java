@@ -0,0 +1,353 @@
+// Fichier ResolveurClefs.java
+// Auteur : Dragons Vicieux
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliotheque.commande;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import ca.qc.collegeahuntsic.bibliotheque.exception.BibliothequeException;
+import ca.qc.collegeahuntsic.bibliotheque.util.BibliothequeCreateur;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dao.criteria.Condition;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dao.criteria.SearchCriteria;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.LivreDTO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.MembreDTO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.PretDTO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.ReservationDTO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidCriterionException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidCriterionValueException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidHibernateSessionException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.facade.FacadeException;
+import org.hibernate.Session;
+
+/**
+ * Calcule les clefs de conflit des commandes d'un fichier de transactions.<br />
+ * <br />
+ * Les IDs de livres et de membres sont lus directement dans les commandes. Un prêt ou une réservation touche aussi un livre et un
+ * membre : pour ceux qui existent déjà, ils sont lus dans la base de données, par lots, avant l'exécution. Un ID qui n'existe pas encore
+ * désigne une ligne créée plus tôt dans le fichier, ou une erreur ; les créations de ce type sont alors mises en chaîne pour que les IDs
+ * générés soient les mêmes qu'en exécution séquentielle. Comme le livre et le membre d'un prêt ou d'une réservation créé pendant
+ * l'exécution ne sont pas connus, une commande qui l'utilise est une barrière sur les livres et les membres.
+ *
+ * @author Dragons Vicieux
+ */
+public class ResolveurClefs {
+    /**
+     * Nombre d'IDs cherchés par requête.
+     */
+    public static final int TAILLE_LOT = 500;
+
+    private final BibliothequeCreateur bibliothequeCreateur;
+
+    /**
+     * Crée le résolveur des clefs de conflit.
+     *
+     * @param bibliothequeCreateur Le créateur des outils de la bibliothèque à utiliser pour lire les IDs existants
+     */
+    public ResolveurClefs(BibliothequeCreateur bibliothequeCreateur) {
+        super();
+        this.bibliothequeCreateur = bibliothequeCreateur;
+    }
+
+    /**
+     * Calcule les clefs de conflit de chaque commande.
+     *
+     * @param commandes Les commandes, dans l'ordre du fichier
+     * @return Les clefs de conflit, dans le même ordre que les commandes
+     * @throws BibliothequeException S'il y a une erreur avec la base de données
+     */
+    public List<ClefsConflit> resoudre(List<Commande> commandes) throws BibliothequeException {
+        final Set<String> idLivres = new HashSet<>();
+        final Set<String> idMembres = new HashSet<>();
+        final Set<String> idPrets = new HashSet<>();
+        final Set<String> idReservations = new HashSet<>();
+        for(Commande commande : commandes) {
+            ResolveurClefs.ajouter(idLivres,
+                commande.getIdLivre());
+            ResolveurClefs.ajouter(idMembres,
+                commande.getIdMembre());
+            ResolveurClefs.ajouter(idPrets,
+                commande.getIdPret());
+            ResolveurClefs.ajouter(idReservations,
+                commande.getIdReservation());
+        }
+
+        final Set<String> livres = new HashSet<>();
+        final Set<String> membres = new HashSet<>();
+        final Map<String, String[]> prets = new HashMap<>();
+        final Map<String, String[]> reservations = new HashMap<>();
+        try {
+            this.bibliothequeCreateur.beginTransaction(true);
+            final Session session = this.bibliothequeCreateur.getSession();
+            chercher(session,
+                idLivres,
+                (lotSession, lot) -> this.bibliothequeCreateur.getLivreFacade().searchLivres(lotSession,
+                    SearchCriteria.forClass(LivreDTO.class).where(Condition.in(LivreDTO.ID_LIVRE_COLUMN_NAME,
+                        lot))),
+                livreDTO -> livres.add(livreDTO.getIdLivre()));
+            chercher(session,
+                idMembres,
+                (lotSession, lot) -> this.bibliothequeCreateur.getMembreFacade().searchMembres(lotSession,
+                    SearchCriteria.forClass(MembreDTO.class).where(Condition.in(MembreDTO.ID_MEMBRE_COLUMN_NAME,
+                        lot))),
+                membreDTO -> membres.add(membreDTO.getIdMembre()));
+            chercher(session,
+                idPrets,
+                (lotSession, lot) -> this.bibliothequeCreateur.getPretFacade().searchPrets(lotSession,
+                    SearchCriteria.forClass(PretDTO.class).where(Condition.in(PretDTO.ID_PRET_COLUMN_NAME,
+                        lot))),
+                pretDTO -> prets.put(pretDTO.getIdPret(),
+                    new String[] {pretDTO.getLivreDTO().getIdLivre(),
+                        pretDTO.getMembreDTO().getIdMembre()}));
+            chercher(session,
+                idReservations,
+                (lotSession, lot) -> this.bibliothequeCreateur.getReservationFacade().searchReservations(lotSession,
+                    SearchCriteria.forClass(ReservationDTO.class).where(Condition.in(ReservationDTO.ID_RESERVATION_COLUMN_NAME,
+                        lot))),
+                reservationDTO -> reservations.put(reservationDTO.getIdReservation(),
+                    new String[] {reservationDTO.getLivreDTO().getIdLivre(),
+                        reservationDTO.getMembreDTO().getIdMembre()}));
+            this.bibliothequeCreateur.commitTransaction();
+        } catch(
+            InvalidHibernateSessionException
+            | InvalidCriterionException
+            | InvalidCriterionValueException
+            | FacadeException exception) {
+            this.bibliothequeCreateur.rollbackTransaction();
+            throw new BibliothequeException(exception);
+        }
+
+        final Set<TypeClef> chaines = EnumSet.noneOf(TypeClef.class);
+        if(!livres.containsAll(idLivres)) {
+            chaines.add(TypeClef.LIVRE);
+        }
+        if(!membres.containsAll(idMembres)) {
+            chaines.add(TypeClef.MEMBRE);
+        }
+        if(!prets.keySet().containsAll(idPrets)) {
+            chaines.add(TypeClef.PRET);
+        }
+        if(!reservations.keySet().containsAll(idReservations)) {
+            chaines.add(TypeClef.RESERVATION);
+        }
+
+        final List<ClefsConflit> clefsConflits = new ArrayList<>(commandes.size());
+        for(Commande commande : commandes) {
+            final ClefsConflit clefsConflit = new ClefsConflit();
+            switch(commande.getTypeCommande()) {
+                case ACQUERIR:
+                    ResolveurClefs.creer(clefsConflit,
+                        chaines,
+                        TypeClef.LIVRE);
+                    break;
+                case INSCRIRE:
+                    ResolveurClefs.creer(clefsConflit,
+                        chaines,
+                        TypeClef.MEMBRE);
+                    break;
+                case VENDRE:
+                case DESINSCRIRE:
+                    ResolveurClefs.utiliser(clefsConflit,
+                        TypeClef.LIVRE,
+                        commande.getIdLivre(),
+                        livres);
+                    ResolveurClefs.utiliser(clefsConflit,
+                        TypeClef.MEMBRE,
+                        commande.getIdMembre(),
+                        membres);
+                    break;
+                case PRETER:
+                case RESERVER:
+                    ResolveurClefs.utiliser(clefsConflit,
+                        TypeClef.LIVRE,
+                        commande.getIdLivre(),
+                        livres);
+                    ResolveurClefs.utiliser(clefsConflit,
+                        TypeClef.MEMBRE,
+                        commande.getIdMembre(),
+                        membres);
+                    ResolveurClefs.creer(clefsConflit,
+                        chaines,
+                        commande.getTypeCommande() == TypeCommande.PRETER
+                            ? TypeClef.PRET
+                            : TypeClef.RESERVATION);
+                    break;
+                case RENOUVELER:
+                case RETOURNER:
+                    ResolveurClefs.utiliser(clefsConflit,
+                        TypeClef.PRET,
+                        commande.getIdPret(),
+                        prets);
+                    break;
+                case UTILISER:
+                    ResolveurClefs.utiliser(clefsConflit,
+                        TypeClef.RESERVATION,
+                        commande.getIdReservation(),
+                        reservations);
+                    ResolveurClefs.creer(clefsConflit,
+                        chaines,
+                        TypeClef.PRET);
+                    break;
+                case ANNULER:
+                    ResolveurClefs.utiliser(clefsConflit,
+                        TypeClef.RESERVATION,
+                        commande.getIdReservation(),
+                        reservations);
+                    break;
+                default:
+                    break;
+            }
+            clefsConflits.add(clefsConflit);
+        }
+        return clefsConflits;
+    }
+
+    /**
+     * Ajoute un ID à un ensemble s'il n'est pas <code>null</code>.
+     *
+     * @param ids L'ensemble des IDs
+     * @param id L'ID à ajouter
+     */
+    private static void ajouter(Set<String> ids,
+        String id) {
+        if(id != null) {
+            ids.add(id);
+        }
+    }
+
+    /**
+     * Ajoute les clefs d'une commande qui crée une ligne. La création n'est mise en chaîne que si le fichier utilise des IDs de ce type
+     * qui n'existent pas encore.
+     *
+     * @param clefsConflit Les clefs de la commande
+     * @param chaines Les types dont les créations sont mises en chaîne
+     * @param typeClef Le type de la ligne créée
+     */
+    private static void creer(ClefsConflit clefsConflit,
+        Set<TypeClef> chaines,
+        TypeClef typeClef) {
+        if(chaines.contains(typeClef)) {
+            clefsConflit.ajouterChaine(typeClef);
+        }
+    }
+
+    /**
+     * Ajoute la clef d'un livre ou d'un membre utilisé par une commande. Un ID inexistant est mis dans la chaîne de son type, après la
+     * création qui le précède.
+     *
+     * @param clefsConflit Les clefs de la commande
+     * @param typeClef Le type de l'ID
+     * @param id L'ID utilisé ; <code>null</code> si la commande n'en utilise pas
+     * @param existants Les IDs qui existent avant l'exécution
+     */
+    private static void utiliser(ClefsConflit clefsConflit,
+        TypeClef typeClef,
+        String id,
+        Set<String> existants) {
+        if(id == null) {
+            return;
+        }
+        clefsConflit.ajouterClef(typeClef,
+            id);
+        if(!existants.contains(id)) {
+            clefsConflit.ajouterChaine(typeClef);
+        }
+    }
+
+    /**
+     * Ajoute les clefs d'un prêt ou d'une réservation utilisé par une commande. S'il existe avant l'exécution, son livre et son membre
+     * sont connus ; sinon, la commande est une barrière sur les livres et les membres.
+     *
+     * @param clefsConflit Les clefs de la commande
+     * @param typeClef Le type de l'ID
+     * @param id L'ID utilisé
+     * @param existants Le livre et le membre de chaque ID qui existe avant l'exécution
+     */
+    private static void utiliser(ClefsConflit clefsConflit,
+        TypeClef typeClef,
+        String id,
+        Map<String, String[]> existants) {
+        clefsConflit.ajouterClef(typeClef,
+            id);
+        final String[] livreMembre = existants.get(id);
+        if(livreMembre == null) {
+            clefsConflit.ajouterChaine(typeClef);
+            clefsConflit.ajouterBarriere(TypeClef.LIVRE);
+            clefsConflit.ajouterBarriere(TypeClef.MEMBRE);
+        } else {
+            clefsConflit.ajouterClef(TypeClef.LIVRE,
+                livreMembre[0]);
+            clefsConflit.ajouterClef(TypeClef.MEMBRE,
+                livreMembre[1]);
+        }
+    }
+
+    /**
+     * Cherche des DTOs par lots d'IDs. La session est vidée après chaque lot pour que la mémoire utilisée reste constante.
+     *
+     * @param <T> Le type de DTO cherché
+     * @param session La session Hibernate à utiliser
+     * @param ids Les IDs à chercher
+     * @param recherche La recherche d'un lot d'IDs
+     * @param consommateur Le consommateur qui reçoit chaque DTO trouvé
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidCriterionException Si les critères de recherche sont invalides
+     * @throws InvalidCriterionValueException Si un lot d'IDs est invalide
+     * @throws FacadeException S'il y a une erreur avec la base de données
+     */
+    private static <T> void chercher(Session session,
+        Collection<String> ids,
+        Recherche<T> recherche,
+        Consumer<? super T> consommateur) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidCriterionValueException,
+        FacadeException {
+        final Iterator<String> iterator = ids.iterator();
+        final List<String> lot = new ArrayList<>(ResolveurClefs.TAILLE_LOT);
+        while(iterator.hasNext()) {
+            lot.add(iterator.next());
+            if(lot.size() == ResolveurClefs.TAILLE_LOT
+                || !iterator.hasNext()) {
+                for(T dto : recherche.chercher(session,
+                    lot)) {
+                    consommateur.accept(dto);
+                }
+                session.clear();
+                lot.clear();
+            }
+        }
+    }
+
+    /**
+     * Recherche d'un lot d'IDs.
+     *
+     * @param <T> Le type de DTO cherché
+     */
+    @FunctionalInterface
+    private interface Recherche<T> {
+        /**
+         * Cherche les DTOs d'un lot d'IDs.
+         *
+         * @param session La session Hibernate à utiliser
+         * @param lot Les IDs à chercher
+         * @return Les DTOs trouvés
+         * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+         * @throws InvalidCriterionException Si les critères de recherche sont invalides
+         * @throws InvalidCriterionValueException Si le lot d'IDs est invalide
+         * @throws FacadeException S'il y a une erreur avec la base de données
+         */
+        List<T> chercher(Session session,
+            List<String> lot) throws InvalidHibernateSessionException,
+            InvalidCriterionException,
+            InvalidCriterionValueException,
+            FacadeException;
+    }
+}
@@ -0,0 +1,872 @@
+// Fichier SimulateurBibliotheque.java
+// Auteur : Dragons Vicieux
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliotheque.commande;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import ca.qc.collegeahuntsic.bibliotheque.exception.BibliothequeException;
+import ca.qc.collegeahuntsic.bibliotheque.util.BibliothequeCreateur;
+import ca.qc.collegeahuntsic.bibliotheque.util.MessageJournal;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.LivreDTO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.LivreSummaryDTO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.MembreDTO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.MembreSummaryDTO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.PretDTO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.ReservationDTO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidConsumerException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidHibernateSessionException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidPaginationException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidSortByPropertyException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.facade.FacadeException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.util.Page;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.util.PageRequest;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.util.StringHiLoGenerator;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.hibernate.HibernateException;
+import org.hibernate.Session;
+
+/**
+ * Simule en mémoire les commandes d'un fichier de transactions, sans toucher à la base de données.<br />
+ * <br />
+ * Le simulateur part d'un instantané des livres, des membres, des prêts et des réservations, lu une seule fois, et applique les mêmes
+ * règles que les services : limite de prêts, prêt en cours, ordre des réservations, vente et désinscription bloquées. Il prévoit
+ * ainsi l'issue de chaque commande ; un traitement réel peut ensuite sauter les commandes dont l'échec est prévu, au lieu de payer une
+ * transaction et son annulation pour chacune.<br />
+ * <br />
+ * Un échec n'est prévu que s'il est certain. Les IDs des livres, des membres, des prêts et des réservations créés par le fichier sont
+ * prévus dans l'ordre à partir du prochain ID du générateur hi/lo, lu avec l'instantané (voir
+ * {@link StringHiLoGenerator#prevoirProchainId(Session, Class)}). Avec un autre générateur, comme les séquences Oracle, ils ne sont pas
+ * connus et une commande qui utilise un ID absent de l'instantané est incertaine. Dès qu'une commande qui modifie l'état est incertaine, le simulateur ne prévoit plus d'échec pour le reste du fichier.
+ * Le fichier ne doit pas être traité pendant que d'autres programmes modifient la base de données.
+ *
+ * @author Dragons Vicieux
+ */
+public final class SimulateurBibliotheque {
+    private static final Log LOGGER = LogFactory.getLog(SimulateurBibliotheque.class);
+
+    private static final int TAILLE_PAGE = 1000;
+
+    private final Map<String, Livre> livres;
+
+    private final Map<String, Membre> membres;
+
+    private final Map<String, Pret> prets;
+
+    private final Set<String> pretsTermines;
+
+    private final Map<String, Reservation> reservations;
+
+    private final Sequence sequenceLivres;
+
+    private final Sequence sequenceMembres;
+
+    private final Sequence sequencePrets;
+
+    private final Sequence sequenceReservations;
+
+    private boolean desynchronise;
+
+    private String erreur;
+
+    private long nombreSucces;
+
+    private long nombreEchecs;
+
+    private long nombreIncertaines;
+
+    /**
+     * Crée un simulateur vide.
+     */
+    private SimulateurBibliotheque() {
+        super();
+        this.livres = new HashMap<>();
+        this.membres = new HashMap<>();
+        this.prets = new HashMap<>();
+        this.pretsTermines = new HashSet<>();
+        this.reservations = new HashMap<>();
+        this.sequenceLivres = new Sequence();
+        this.sequenceMembres = new Sequence();
+        this.sequencePrets = new Sequence();
+        this.sequenceReservations = new Sequence();
+    }
+
+    /**
+     * Crée un simulateur à partir d'un instantané de la base de données, lu dans sa propre transaction.
+     *
+     * @param bibliothequeCreateur Le créateur des outils de la bibliothèque à utiliser
+     * @return Le simulateur
+     * @throws BibliothequeException S'il y a une erreur avec la base de données
+     */
+    public static SimulateurBibliotheque charger(BibliothequeCreateur bibliothequeCreateur) throws BibliothequeException {
+        final SimulateurBibliotheque simulateur = new SimulateurBibliotheque();
+        try {
+            bibliothequeCreateur.beginTransaction(true);
+            final Session session = bibliothequeCreateur.getSession();
+            for(LivreSummaryDTO livreSummaryDTO : bibliothequeCreateur.getLivreFacade().getAllLivreSummaries(session,
+                LivreDTO.ID_LIVRE_COLUMN_NAME)) {
+                simulateur.livres.put(livreSummaryDTO.getIdLivre(),
+                    new Livre());
+            }
+            for(MembreSummaryDTO membreSummaryDTO : bibliothequeCreateur.getMembreFacade().getAllMembreSummaries(session,
+                MembreDTO.ID_MEMBRE_COLUMN_NAME)) {
+                simulateur.membres.put(membreSummaryDTO.getIdMembre(),
+                    new Membre(membreSummaryDTO.getNbPret(),
+                        membreSummaryDTO.getLimitePret()));
+            }
+            bibliothequeCreateur.getPretFacade().streamPrets(session,
+                PretDTO.ID_PRET_COLUMN_NAME,
+                simulateur::chargerPret);
+            Page<ReservationDTO> page = bibliothequeCreateur.getReservationFacade().getAllReservations(session,
+                ReservationDTO.DATE_RESERVATION_COLUMN_NAME,
+                PageRequest.keyset(SimulateurBibliotheque.TAILLE_PAGE));
+            while(true) {
+                for(ReservationDTO reservationDTO : page.getElements()) {
+                    simulateur.chargerReservation(reservationDTO);
+                }
+                if(!page.hasNext()) {
+                    break;
+                }
+                page = bibliothequeCreateur.getReservationFacade().getAllReservations(session,
+                    ReservationDTO.DATE_RESERVATION_COLUMN_NAME,
+                    page.getNextPageRequest());
+            }
+            simulateur.sequenceLivres.initialiser(StringHiLoGenerator.prevoirProchainId(session,
+                LivreDTO.class));
+            simulateur.sequenceMembres.initialiser(StringHiLoGenerator.prevoirProchainId(session,
+                MembreDTO.class));
+            simulateur.sequencePrets.initialiser(StringHiLoGenerator.prevoirProchainId(session,
+                PretDTO.class));
+            simulateur.sequenceReservations.initialiser(StringHiLoGenerator.prevoirProchainId(session,
+                ReservationDTO.class));
+            bibliothequeCreateur.commitTransaction();
+        } catch(
+            InvalidHibernateSessionException
+            | InvalidSortByPropertyException
+            | InvalidConsumerException
+            | InvalidPaginationException
+            | FacadeException
+            | HibernateException exception) {
+            bibliothequeCreateur.rollbackTransaction();
+            throw new BibliothequeException(exception);
+        }
+        return simulateur;
+    }
+
+    /**
+     * Simule un fichier de transactions en entier et journalise chaque échec prévu avec son numéro de ligne.
+     *
+     * @param fichier Le chemin du fichier de transactions
+     * @return Les numéros des lignes dont l'échec est prévu ; une ligne invalide n'en fait pas partie
+     * @throws IOException S'il y a une erreur de lecture
+     */
+    public BitSet prevoir(Path fichier) throws IOException {
+        final BitSet echecs = new BitSet();
+        try(
+            TokeniseurMappe tokeniseur = new TokeniseurMappe(fichier)) {
+            while(tokeniseur.avancer()) {
+                try {
+                    final Commande commande = Commande.lire(tokeniseur);
+                    if(commande != null) {
+                        final String erreur = simuler(commande);
+                        if(erreur != null) {
+                            echecs.set(commande.getNumero());
+                            SimulateurBibliotheque.LOGGER.info(MessageJournal.de("ligne {} : échec prévu : {}",
+                                commande.getNumero(),
+                                erreur));
+                        }
+                    }
+                } catch(BibliothequeException bibliothequeException) {
+                    SimulateurBibliotheque.LOGGER.info(MessageJournal.de("ligne {} : {}",
+                        tokeniseur.getNumero(),
+                        bibliothequeException.getMessage()));
+                }
+            }
+        }
+        return echecs;
+    }
+
+    /**
+     * Simule une commande. Si son succès est prévu, son effet est appliqué à l'état simulé.
+     *
+     * @param commande La commande à simuler
+     * @return Le message d'erreur prévu si l'échec de la commande est certain ; <code>null</code> sinon
+     */
+    public String simuler(Commande commande) {
+        if(!commande.getTypeCommande().isTransactionnelle()) {
+            return null;
+        }
+        if(this.desynchronise) {
+            this.nombreIncertaines++;
+            return null;
+        }
+        final Issue issue = appliquer(commande);
+        if(issue == Issue.INCERTAINE) {
+            this.nombreIncertaines++;
+            this.desynchronise = true;
+            return null;
+        }
+        if(issue == Issue.SUCCES) {
+            this.nombreSucces++;
+            return null;
+        }
+        this.nombreEchecs++;
+        return this.erreur;
+    }
+
+    /**
+     * Résume les prévisions.
+     *
+     * @return Le rapport
+     */
+    public String rapport() {
+        return "Simulation : "
+            + this.nombreSucces
+            + " succès, "
+            + this.nombreEchecs
+            + " échecs et "
+            + this.nombreIncertaines
+            + " commandes incertaines prévus"
+            + (this.desynchronise
+                ? " (prévisions arrêtées à la première commande incertaine)"
+                : "");
+    }
+
+    /**
+     * Ajoute un prêt de l'instantané.
+     *
+     * @param pretDTO Le prêt
+     */
+    private void chargerPret(PretDTO pretDTO) {
+        if(pretDTO.getDateRetour() != null) {
+            this.pretsTermines.add(pretDTO.getIdPret());
+            return;
+        }
+        final Livre livre = this.livres.get(pretDTO.getLivreDTO().getIdLivre());
+        final Membre membre = this.membres.get(pretDTO.getMembreDTO().getIdMembre());
+        final Pret pret = new Pret(livre,
+            membre);
+        this.prets.put(pretDTO.getIdPret(),
+            pret);
+        livre.pret = pret;
+        membre.pretsActifs++;
+    }
+
+    /**
+     * Ajoute une réservation de l'instantané. Les réservations sont lues dans l'ordre de leur file.
+     *
+     * @param reservationDTO La réservation
+     */
+    private void chargerReservation(ReservationDTO reservationDTO) {
+        final Livre livre = this.livres.get(reservationDTO.getLivreDTO().getIdLivre());
+        final Membre membre = this.membres.get(reservationDTO.getMembreDTO().getIdMembre());
+        final Reservation reservation = new Reservation(reservationDTO.getIdReservation(),
+            livre,
+            membre,
+            true);
+        this.reservations.put(reservation.id,
+            reservation);
+        livre.getFile().add(reservation);
+        membre.reservations++;
+    }
+
+    /**
+     * Prévoit l'issue d'une commande et applique son effet si elle réussit.
+     *
+     * @param commande La commande
+     * @return L'issue de la commande ; le message d'erreur d'un échec est conservé par {@link #echec(String)}
+     */
+    private Issue appliquer(Commande commande) {
+        switch(commande.getTypeCommande()) {
+            case ACQUERIR:
+                return acquerir();
+            case VENDRE:
+                return vendre(commande.getIdLivre());
+            case PRETER:
+                return preter(commande.getIdLivre(),
+                    commande.getIdMembre());
+            case RENOUVELER:
+                return renouveler(commande.getIdPret());
+            case RETOURNER:
+                return retourner(commande.getIdPret());
+            case INSCRIRE:
+                return inscrire(commande.getLimitePret());
+            case DESINSCRIRE:
+                return desinscrire(commande.getIdMembre());
+            case RESERVER:
+                return reserver(commande.getIdMembre(),
+                    commande.getIdLivre());
+            case UTILISER:
+                return utiliser(commande.getIdReservation());
+            case ANNULER:
+                return annuler(commande.getIdReservation());
+            default:
+                return Issue.SUCCES;
+        }
+    }
+
+    /**
+     * Simule <code>acquerir</code>.
+     *
+     * @return {@link Issue#SUCCES}
+     */
+    private Issue acquerir() {
+        final String id = this.sequenceLivres.suivant();
+        if(id != null) {
+            this.livres.put(id,
+                new Livre());
+        }
+        return Issue.SUCCES;
+    }
+
+    /**
+     * Simule <code>vendre</code>.
+     *
+     * @param idLivre L'ID du livre
+     * @return L'issue de la commande
+     */
+    private Issue vendre(String idLivre) {
+        final Livre livre = this.livres.get(idLivre);
+        if(livre == null) {
+            return absent(this.sequenceLivres,
+                "Le livre "
+                    + idLivre
+                    + " n'existe pas");
+        }
+        if(livre.pret != null) {
+            return echec("Le livre "
+                + idLivre
+                + " est prêté");
+        }
+        if(livre.aDesReservations()) {
+            return echec("Le livre "
+                + idLivre
+                + " est réservé");
+        }
+        this.livres.remove(idLivre);
+        return Issue.SUCCES;
+    }
+
+    /**
+     * Simule <code>preter</code>.
+     *
+     * @param idLivre L'ID du livre
+     * @param idMembre L'ID du membre
+     * @return L'issue de la commande
+     */
+    private Issue preter(String idLivre,
+        String idMembre) {
+        final Livre livre = this.livres.get(idLivre);
+        if(livre == null) {
+            return absent(this.sequenceLivres,
+                "Le livre "
+                    + idLivre
+                    + " n'existe pas");
+        }
+        final Membre membre = this.membres.get(idMembre);
+        if(membre == null) {
+            return absent(this.sequenceMembres,
+                "Le membre "
+                    + idMembre
+                    + " n'existe pas");
+        }
+        if(livre.pret != null) {
+            return echec("Le livre "
+                + idLivre
+                + " est déjà prêté");
+        }
+        if(livre.aDesReservations()) {
+            return echec("Le livre "
+                + idLivre
+                + " est réservé");
+        }
+        if(membre.nbPret == membre.limitePret) {
+            return echec("Le membre "
+                + idMembre
+                + " a atteint sa limite de prêt");
+        }
+        return commencerPret(livre,
+            membre);
+    }
+
+    /**
+     * Simule <code>renouveler</code>.
+     *
+     * @param idPret L'ID du prêt
+     * @return L'issue de la commande
+     */
+    private Issue renouveler(String idPret) {
+        final Pret pret = this.prets.get(idPret);
+        if(pret == null) {
+            return pretAbsent(idPret);
+        }
+        if(pret.livre.aDesReservations()) {
+            return echec("Le livre du prêt "
+                + idPret
+                + " est réservé");
+        }
+        return Issue.SUCCES;
+    }
+
+    /**
+     * Simule <code>retourner</code>.
+     *
+     * @param idPret L'ID du prêt
+     * @return L'issue de la commande
+     */
+    private Issue retourner(String idPret) {
+        final Pret pret = this.prets.remove(idPret);
+        if(pret == null) {
+            return pretAbsent(idPret);
+        }
+        this.pretsTermines.add(idPret);
+        pret.livre.pret = null;
+        pret.membre.nbPret--;
+        pret.membre.pretsActifs--;
+        return Issue.SUCCES;
+    }
+
+    /**
+     * Simule <code>inscrire</code>.
+     *
+     * @param limitePret La limite de prêts du membre
+     * @return {@link Issue#SUCCES}
+     */
+    private Issue inscrire(int limitePret) {
+        final String id = this.sequenceMembres.suivant();
+        if(id != null) {
+            this.membres.put(id,
+                new Membre(0,
+                    limitePret));
+        }
+        return Issue.SUCCES;
+    }
+
+    /**
+     * Simule <code>desinscrire</code>.
+     *
+     * @param idMembre L'ID du membre
+     * @return L'issue de la commande
+     */
+    private Issue desinscrire(String idMembre) {
+        final Membre membre = this.membres.get(idMembre);
+        if(membre == null) {
+            return absent(this.sequenceMembres,
+                "Le membre "
+                    + idMembre
+                    + " n'existe pas");
+        }
+        if(membre.pretsActifs > 0) {
+            return echec("Le membre "
+                + idMembre
+                + " a encore des livres en sa possession");
+        }
+        if(membre.reservations > 0) {
+            return echec("Le membre "
+                + idMembre
+                + " a encore des réservations");
+        }
+        this.membres.remove(idMembre);
+        return Issue.SUCCES;
+    }
+
+    /**
+     * Simule <code>reserver</code>.
+     *
+     * @param idMembre L'ID du membre
+     * @param idLivre L'ID du livre
+     * @return L'issue de la commande
+     */
+    private Issue reserver(String idMembre,
+        String idLivre) {
+        final Membre membre = this.membres.get(idMembre);
+        if(membre == null) {
+            return absent(this.sequenceMembres,
+                "Le membre "
+                    + idMembre
+                    + " n'existe pas");
+        }
+        final Livre livre = this.livres.get(idLivre);
+        if(livre == null) {
+            return absent(this.sequenceLivres,
+                "Le livre "
+                    + idLivre
+                    + " n'existe pas");
+        }
+        if(livre.pret == null) {
+            return echec("Le livre "
+                + idLivre
+                + " n'a pas été prêté encore");
+        }
+        if(livre.pret.membre == membre) {
+            return echec("Le livre "
+                + idLivre
+                + " est déjà prêté au membre "
+                + idMembre);
+        }
+        for(Reservation reservation : livre.getFile()) {
+            if(reservation.membre == membre) {
+                return echec("Le livre "
+                    + idLivre
+                    + " a déjà été réservé par le membre "
+                    + idMembre);
+            }
+        }
+        final String id = this.sequenceReservations.suivant();
+        if(id == null) {
+            return Issue.INCERTAINE;
+        }
+        final Reservation reservation = new Reservation(id,
+            livre,
+            membre,
+            false);
+        this.reservations.put(id,
+            reservation);
+        livre.getFile().add(reservation);
+        membre.reservations++;
+        return Issue.SUCCES;
+    }
+
+    /**
+     * Simule <code>utiliser</code>. Si la réservation peut être la première de la file sans l'être certainement, l'issue est
+     * incertaine.
+     *
+     * @param idReservation L'ID de la réservation
+     * @return L'issue de la commande
+     */
+    private Issue utiliser(String idReservation) {
+        final Reservation reservation = this.reservations.get(idReservation);
+        if(reservation == null) {
+            return absent(this.sequenceReservations,
+                "La reservation "
+                    + idReservation
+                    + " n'existe pas");
+        }
+        final List<Reservation> file = reservation.livre.getFile();
+        final int rang = file.indexOf(reservation);
+        boolean premiere = true;
+        for(int i = 0; i < file.size(); i++) {
+            final Reservation autre = file.get(i);
+            if(i < rang
+                && !SimulateurBibliotheque.peutPreceder(reservation,
+                    autre)) {
+                return echec("La réservation n'est pas la première de la liste pour ce livre; la première est "
+                    + file.get(0).id);
+            }
+            if(i != rang
+                && (i < rang
+                    || SimulateurBibliotheque.peutPreceder(autre,
+                        reservation))) {
+                premiere = false;
+            }
+        }
+        if(!premiere) {
+            return Issue.INCERTAINE;
+        }
+        if(reservation.livre.pret != null) {
+            return echec("Le livre de la réservation "
+                + idReservation
+                + " est prêté");
+        }
+        if(reservation.membre.nbPret >= reservation.membre.limitePret) {
+            return echec("Le membre de la réservation "
+                + idReservation
+                + " a atteint sa limite de prêt");
+        }
+        retirer(reservation);
+        return commencerPret(reservation.livre,
+            reservation.membre);
+    }
+
+    /**
+     * Simule <code>annuler</code>.
+     *
+     * @param idReservation L'ID de la réservation
+     * @return L'issue de la commande
+     */
+    private Issue annuler(String idReservation) {
+        final Reservation reservation = this.reservations.get(idReservation);
+        if(reservation == null) {
+            return absent(this.sequenceReservations,
+                "La reservation "
+                    + idReservation
+                    + " n'existe pas");
+        }
+        retirer(reservation);
+        return Issue.SUCCES;
+    }
+
+    /**
+     * Crée un prêt simulé.
+     *
+     * @param livre Le livre
+     * @param membre Le membre
+     * @return {@link Issue#SUCCES} si l'ID du prêt est prévu ; {@link Issue#INCERTAINE} sinon
+     */
+    private Issue commencerPret(Livre livre,
+        Membre membre) {
+        final String id = this.sequencePrets.suivant();
+        if(id == null) {
+            return Issue.INCERTAINE;
+        }
+        final Pret pret = new Pret(livre,
+            membre);
+        this.prets.put(id,
+            pret);
+        livre.pret = pret;
+        membre.nbPret++;
+        membre.pretsActifs++;
+        return Issue.SUCCES;
+    }
+
+    /**
+     * Donne l'issue d'une commande sur un prêt qui n'est pas en cours.
+     *
+     * @param idPret L'ID du prêt
+     * @return L'issue de la commande
+     */
+    private Issue pretAbsent(String idPret) {
+        if(this.pretsTermines.contains(idPret)) {
+            return echec("Le prêt "
+                + idPret
+                + " est terminé");
+        }
+        return absent(this.sequencePrets,
+            "Le pret "
+                + idPret
+                + " n'existe pas");
+    }
+
+    /**
+     * Prévoit l'échec d'une commande et conserve son message d'erreur.
+     *
+     * @param message Le message d'erreur
+     * @return {@link Issue#ECHEC}
+     */
+    private Issue echec(String message) {
+        this.erreur = message;
+        return Issue.ECHEC;
+    }
+
+    /**
+     * Donne l'issue d'une commande qui utilise un ID absent de l'état simulé.
+     *
+     * @param sequence La prévision des IDs de la table
+     * @param message Le message d'erreur si l'ID n'existe certainement pas
+     * @return {@link Issue#ECHEC} ; {@link Issue#INCERTAINE} si l'ID peut être celui d'une création
+     */
+    private Issue absent(Sequence sequence,
+        String message) {
+        return sequence.isIncertaine()
+            ? Issue.INCERTAINE
+            : echec(message);
+    }
+
+    /**
+     * Vérifie si une réservation qui suit une autre dans la file simulée peut la précéder dans la base de données. Deux réservations
+     * faites dans la même seconde sont classées par leur ID comparé comme du texte ; l'ordre des réservations de l'instantané est sûr.
+     *
+     * @param suivante La réservation qui suit dans la file simulée
+     * @param precedente La réservation qui précède dans la file simulée
+     * @return <code>true</code> si l'ordre des deux réservations peut être inversé ; <code>false</code> sinon
+     */
+    private static boolean peutPreceder(Reservation suivante,
+        Reservation precedente) {
+        return !(suivante.chargee
+            && precedente.chargee)
+            && suivante.id.compareTo(precedente.id) < 0;
+    }
+
+    /**
+     * Retire une réservation simulée.
+     *
+     * @param reservation La réservation
+     */
+    private void retirer(Reservation reservation) {
+        this.reservations.remove(reservation.id);
+        reservation.livre.getFile().remove(reservation);
+        reservation.membre.reservations--;
+    }
+
+    /**
+     * Issue prévue d'une commande.
+     */
+    private enum Issue {
+        /**
+         * La commande réussit.
+         */
+        SUCCES,
+
+        /**
+         * La commande échoue.
+         */
+        ECHEC,
+
+        /**
+         * L'issue de la commande ne peut être prévue.
+         */
+        INCERTAINE
+    }
+
+    /**
+     * Livre simulé.
+     */
+    private static final class Livre {
+        private Pret pret;
+
+        private List<Reservation> file;
+
+        /**
+         * Donne la file des réservations du livre, créée au besoin.
+         *
+         * @return La file des réservations
+         */
+        List<Reservation> getFile() {
+            if(this.file == null) {
+                this.file = new ArrayList<>(2);
+            }
+            return this.file;
+        }
+
+        /**
+         * Vérifie si le livre a des réservations.
+         *
+         * @return <code>true</code> si le livre a des réservations ; <code>false</code> sinon
+         */
+        boolean aDesReservations() {
+            return this.file != null
+                && !this.file.isEmpty();
+        }
+    }
+
+    /**
+     * Membre simulé.
+     */
+    private static final class Membre {
+        private final int limitePret;
+
+        private int nbPret;
+
+        private int pretsActifs;
+
+        private int reservations;
+
+        /**
+         * Crée un membre simulé.
+         *
+         * @param nbPret Le nombre de prêts du membre
+         * @param limitePret La limite de prêts du membre
+         */
+        Membre(int nbPret,
+            int limitePret) {
+            this.nbPret = nbPret;
+            this.limitePret = limitePret;
+        }
+    }
+
+    /**
+     * Prêt en cours simulé.
+     */
+    private static final class Pret {
+        private final Livre livre;
+
+        private final Membre membre;
+
+        /**
+         * Crée un prêt simulé.
+         *
+         * @param livre Le livre
+         * @param membre Le membre
+         */
+        Pret(Livre livre,
+            Membre membre) {
+            this.livre = livre;
+            this.membre = membre;
+        }
+    }
+
+    /**
+     * Réservation simulée.
+     */
+    private static final class Reservation {
+        private final String id;
+
+        private final Livre livre;
+
+        private final Membre membre;
+
+        private final boolean chargee;
+
+        /**
+         * Crée une réservation simulée.
+         *
+         * @param id L'ID de la réservation
+         * @param livre Le livre
+         * @param membre Le membre
+         * @param chargee <code>true</code> si la réservation vient de l'instantané
+         */
+        Reservation(String id,
+            Livre livre,
+            Membre membre,
+            boolean chargee) {
+            this.id = id;
+            this.livre = livre;
+            this.membre = membre;
+            this.chargee = chargee;
+        }
+    }
+
+    /**
+     * Prévision des IDs d'une table.
+     */
+    private static final class Sequence {
+        private long suivant;
+
+        private boolean prevue;
+
+        private boolean creations;
+
+        /**
+         * Indique le prochain ID de la table.
+         *
+         * @param prochainId Le prochain ID lu du générateur ; <code>null</code> s'il ne peut être prévu
+         */
+        void initialiser(String prochainId) {
+            this.prevue = prochainId != null;
+            if(this.prevue) {
+                this.suivant = Long.parseLong(prochainId);
+            }
+        }
+
+        /**
+         * Donne l'ID de la prochaine création.
+         *
+         * @return L'ID prévu ; <code>null</code> s'il ne peut être prévu
+         */
+        String suivant() {
+            this.creations = true;
+            return this.prevue
+                ? Long.toString(this.suivant++)
+                : null;
+        }
+
+        /**
+         * Indique si un ID absent de l'état simulé peut être celui d'une création dont l'ID n'a pas été prévu.
+         *
+         * @return <code>true</code> si l'ID peut être celui d'une création ; <code>false</code> s'il n'existe certainement pas
+         */
+        boolean isIncertaine() {
+            return this.creations
+                && !this.prevue;
+        }
+    }
+}
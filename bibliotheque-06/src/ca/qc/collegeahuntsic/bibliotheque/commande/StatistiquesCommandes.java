@@ -0,0 +1,230 @@
+// Fichier StatistiquesCommandes.java
+// Auteur : Dragons Vicieux
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliotheque.commande;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Mesure l'exécution des commandes d'un traitement par lots.<br />
+ * <br />
+ * Pour chaque type de commande, la durée de chaque phase d'une commande validée est retenue dans un {@link Histogramme} : la lecture
+ * de la ligne, l'appel des façades et la validation de la transaction. Les échecs sont comptés par type de commande et par type
+ * d'exception. Une ligne d'avancement est journalisée au plus une fois par intervalle et un bilan est produit à la fin du
+ * traitement.<br />
+ * <br />
+ * Un enregistrement ne coûte que quelques compteurs atomiques : les statistiques peuvent rester actives en production et être
+ * partagées par plusieurs exécuteurs.
+ *
+ * @author Dragons Vicieux
+ */
+public final class StatistiquesCommandes {
+    private static final Log LOGGER = LogFactory.getLog(StatistiquesCommandes.class);
+
+    private static final long INTERVALLE_AVANCEMENT = 10_000_000_000L;
+
+    private static final double NANOSECONDES_PAR_MICROSECONDE = 1000.0;
+
+    private static final double NANOSECONDES_PAR_SECONDE = 1_000_000_000.0;
+
+    private static final int NOMBRE_PHASES = 3;
+
+    private static final int LECTURE = 0;
+
+    private static final int APPEL = 1;
+
+    private static final int VALIDATION = 2;
+
+    private static final String[] NOMS_PHASES = {
+        "lecture",
+        "appel",
+        "validation"};
+
+    private final Histogramme[][] histogrammes;
+
+    private final LongAdder[] succes;
+
+    private final LongAdder[] echecs;
+
+    private final Map<String, LongAdder> exceptions;
+
+    private final Histogramme validationsGroupes;
+
+    private final long debut;
+
+    private final AtomicLong prochainAvancement;
+
+    /**
+     * Crée des statistiques vides.
+     */
+    public StatistiquesCommandes() {
+        super();
+        final int nombreTypes = TypeCommande.values().length;
+        this.histogrammes = new Histogramme[nombreTypes][StatistiquesCommandes.NOMBRE_PHASES];
+        this.succes = new LongAdder[nombreTypes];
+        this.echecs = new LongAdder[nombreTypes];
+        for(int i = 0; i < nombreTypes; i++) {
+            for(int j = 0; j < StatistiquesCommandes.NOMBRE_PHASES; j++) {
+                this.histogrammes[i][j] = new Histogramme();
+            }
+            this.succes[i] = new LongAdder();
+            this.echecs[i] = new LongAdder();
+        }
+        this.exceptions = new ConcurrentHashMap<>();
+        this.validationsGroupes = new Histogramme();
+        this.debut = System.nanoTime();
+        this.prochainAvancement = new AtomicLong(this.debut
+            + StatistiquesCommandes.INTERVALLE_AVANCEMENT);
+    }
+
+    /**
+     * Enregistre une commande validée.
+     *
+     * @param commande La commande
+     * @param dureeAppel La durée de l'appel des façades, en nanosecondes
+     * @param dureeValidation La durée de la validation, en nanosecondes ; -1 si la commande a été validée dans un groupe
+     */
+    public void enregistrerSucces(Commande commande,
+        long dureeAppel,
+        long dureeValidation) {
+        final int type = commande.getTypeCommande().ordinal();
+        final Histogramme[] phases = this.histogrammes[type];
+        phases[StatistiquesCommandes.LECTURE].enregistrer(commande.getDureeLecture());
+        phases[StatistiquesCommandes.APPEL].enregistrer(dureeAppel);
+        if(dureeValidation >= 0) {
+            phases[StatistiquesCommandes.VALIDATION].enregistrer(dureeValidation);
+        }
+        this.succes[type].increment();
+        avancer();
+    }
+
+    /**
+     * Enregistre la validation d'un groupe de commandes. Chaque commande du groupe doit aussi être enregistrée avec
+     * {@link #enregistrerSucces(Commande, long, long)}.
+     *
+     * @param dureeValidation La durée de la validation, en nanosecondes
+     */
+    public void enregistrerValidationGroupe(long dureeValidation) {
+        this.validationsGroupes.enregistrer(dureeValidation);
+    }
+
+    /**
+     * Enregistre une commande refusée.
+     *
+     * @param commande La commande
+     * @param exception L'exception qui a refusé la commande
+     */
+    public void enregistrerEchec(Commande commande,
+        Exception exception) {
+        this.echecs[commande.getTypeCommande().ordinal()].increment();
+        this.exceptions.computeIfAbsent(exception.getClass().getSimpleName(),
+            nom -> new LongAdder()).increment();
+        avancer();
+    }
+
+    /**
+     * Produit le bilan des commandes exécutées depuis la création des statistiques. Les durées sont en microsecondes.
+     *
+     * @return Le bilan, une ligne par type de commande exécuté
+     */
+    public String rapport() {
+        final StringBuilder rapport = new StringBuilder(ligneAvancement());
+        final TypeCommande[] types = TypeCommande.values();
+        for(int i = 0; i < types.length; i++) {
+            final long nombreSucces = this.succes[i].sum();
+            final long nombreEchecs = this.echecs[i].sum();
+            if(nombreSucces
+                + nombreEchecs == 0) {
+                continue;
+            }
+            rapport.append(System.lineSeparator());
+            rapport.append(String.format("  %-12s %9d succès %9d échecs",
+                types[i].getNom(),
+                nombreSucces,
+                nombreEchecs));
+            for(int j = 0; j < StatistiquesCommandes.NOMBRE_PHASES; j++) {
+                if(this.histogrammes[i][j].getNombre() > 0) {
+                    rapport.append(" | ");
+                    rapport.append(StatistiquesCommandes.NOMS_PHASES[j]);
+                    rapport.append(' ');
+                    rapport.append(StatistiquesCommandes.centiles(this.histogrammes[i][j]));
+                }
+            }
+        }
+        if(this.validationsGroupes.getNombre() > 0) {
+            rapport.append(System.lineSeparator());
+            rapport.append("  validations de groupe : ");
+            rapport.append(this.validationsGroupes.getNombre());
+            rapport.append(' ');
+            rapport.append(StatistiquesCommandes.centiles(this.validationsGroupes));
+        }
+        for(Map.Entry<String, LongAdder> exception : new TreeMap<>(this.exceptions).entrySet()) {
+            rapport.append(System.lineSeparator());
+            rapport.append("  ");
+            rapport.append(exception.getKey());
+            rapport.append(" : ");
+            rapport.append(exception.getValue().sum());
+        }
+        return rapport.toString();
+    }
+
+    /**
+     * Journalise une ligne d'avancement si l'intervalle est écoulé. Un seul fil journalise par intervalle.
+     */
+    private void avancer() {
+        final long maintenant = System.nanoTime();
+        final long prochain = this.prochainAvancement.get();
+        if(maintenant
+            - prochain >= 0
+            && this.prochainAvancement.compareAndSet(prochain,
+                maintenant
+                    + StatistiquesCommandes.INTERVALLE_AVANCEMENT)) {
+            StatistiquesCommandes.LOGGER.info(ligneAvancement());
+        }
+    }
+
+    /**
+     * Produit la ligne d'avancement.
+     *
+     * @return Le nombre de succès et d'échecs, la durée écoulée et le débit
+     */
+    private String ligneAvancement() {
+        long nombreSucces = 0;
+        long nombreEchecs = 0;
+        for(int i = 0; i < this.succes.length; i++) {
+            nombreSucces += this.succes[i].sum();
+            nombreEchecs += this.echecs[i].sum();
+        }
+        final double secondes = Math.max(1,
+            System.nanoTime()
+                - this.debut)
+            / StatistiquesCommandes.NANOSECONDES_PAR_SECONDE;
+        return String.format("%d succès et %d échecs en %.1f s, soit %.0f commandes/s",
+            nombreSucces,
+            nombreEchecs,
+            secondes,
+            (nombreSucces + nombreEchecs)
+                / secondes);
+    }
+
+    /**
+     * Formate les centiles d'un histogramme.
+     *
+     * @param histogramme L'histogramme
+     * @return Les centiles 50, 90 et 99 et le maximum, en microsecondes
+     */
+    private static String centiles(Histogramme histogramme) {
+        return String.format("p50=%.0f p90=%.0f p99=%.0f max=%.0f",
+            histogramme.getCentile(0.5) / StatistiquesCommandes.NANOSECONDES_PAR_MICROSECONDE,
+            histogramme.getCentile(0.9) / StatistiquesCommandes.NANOSECONDES_PAR_MICROSECONDE,
+            histogramme.getCentile(0.99) / StatistiquesCommandes.NANOSECONDES_PAR_MICROSECONDE,
+            histogramme.getMaximum() / StatistiquesCommandes.NANOSECONDES_PAR_MICROSECONDE);
+    }
+}
@@ -0,0 +1,430 @@
+// Fichier TokeniseurMappe.java
+// Auteur : Dragons Vicieux
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliotheque.commande;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import ca.qc.collegeahuntsic.bibliotheque.exception.BibliothequeException;
+
+/**
+ * Découpe un fichier de transactions projeté en mémoire, sans créer de {@link String} par jeton.<br />
+ * <br />
+ * Le fichier est projeté par fenêtres successives avec {@link FileChannel#map(FileChannel.MapMode, long, long)}, ce qui permet de lire
+ * des fichiers de plus de 2 Go. Chaque appel à {@link #avancer()} passe à la ligne suivante et repère ses jetons, séparés par des
+ * espaces, par leurs positions dans la fenêtre. Les nombres sont décodés directement des octets ; une {@link String} n'est créée que
+ * pour les arguments texte et les IDs. Une ligne ne peut pas être plus longue qu'une fenêtre.
+ *
+ * @author Dragons Vicieux
+ */
+public final class TokeniseurMappe implements Closeable {
+    private static final int TAILLE_FENETRE = 64 * 1024 * 1024;
+
+    private static final int NOMBRE_MAXIMAL_JETONS = 8;
+
+    private static final int CHIFFRES_LONG = 18;
+
+    private static final TypeCommande[] TYPES_COMMANDES = TypeCommande.values();
+
+    private static final byte[][] NOMS_COMMANDES = new byte[TokeniseurMappe.TYPES_COMMANDES.length][];
+
+    static {
+        for(int i = 0; i < TokeniseurMappe.TYPES_COMMANDES.length; i++) {
+            TokeniseurMappe.NOMS_COMMANDES[i] = TokeniseurMappe.TYPES_COMMANDES[i].getNom().getBytes(Charset.defaultCharset());
+        }
+    }
+
+    private final FileChannel canal;
+
+    private final long taille;
+
+    private final int tailleFenetre;
+
+    private final int[] debuts;
+
+    private final int[] fins;
+
+    private MappedByteBuffer fenetre;
+
+    private long debutFenetre;
+
+    private int position;
+
+    private int numero;
+
+    private int debutLigne;
+
+    private int finLigne;
+
+    private int nombreJetons;
+
+    private byte[] tampon;
+
+    /**
+     * Ouvre un fichier de transactions avec la taille de fenêtre par défaut.
+     *
+     * @param fichier Le fichier de transactions
+     * @throws IOException S'il y a une erreur d'ouverture
+     */
+    public TokeniseurMappe(Path fichier) throws IOException {
+        this(fichier,
+            TokeniseurMappe.TAILLE_FENETRE);
+    }
+
+    /**
+     * Ouvre un fichier de transactions.
+     *
+     * @param fichier Le fichier de transactions
+     * @param tailleFenetre La taille, en octets, de la partie du fichier projetée à la fois
+     * @throws IOException S'il y a une erreur d'ouverture
+     */
+    public TokeniseurMappe(Path fichier,
+        int tailleFenetre) throws IOException {
+        super();
+        this.canal = FileChannel.open(fichier,
+            StandardOpenOption.READ);
+        this.taille = this.canal.size();
+        this.tailleFenetre = tailleFenetre;
+        this.debuts = new int[TokeniseurMappe.NOMBRE_MAXIMAL_JETONS];
+        this.fins = new int[TokeniseurMappe.NOMBRE_MAXIMAL_JETONS];
+        this.tampon = new byte[64];
+        projeter(0);
+    }
+
+    /**
+     * Passe à la ligne suivante.
+     *
+     * @return <code>true</code> si une ligne a été lue ; <code>false</code> à la fin du fichier
+     * @throws IOException S'il y a une erreur de lecture ou si une ligne est plus longue qu'une fenêtre
+     */
+    public boolean avancer() throws IOException {
+        if(this.debutFenetre
+            + this.position >= this.taille) {
+            return false;
+        }
+        int fin = parcourir(this.position);
+        if(fin < 0
+            && this.debutFenetre
+                + this.fenetre.limit() < this.taille) {
+            projeter(this.debutFenetre
+                + this.position);
+            fin = parcourir(this.position);
+            if(fin < 0
+                && this.debutFenetre
+                    + this.fenetre.limit() < this.taille) {
+                throw new IOException("La ligne "
+                    + (this.numero + 1)
+                    + " est plus longue que la fenêtre de "
+                    + this.tailleFenetre
+                    + " octets");
+            }
+        }
+        final int limite = this.fenetre.limit();
+        if(fin < 0) {
+            fin = limite;
+        }
+        this.numero++;
+        this.debutLigne = this.position;
+        this.finLigne = fin;
+        int suivante = fin + 1;
+        if(suivante < limite
+            && this.fenetre.get(fin) == '\r'
+            && this.fenetre.get(suivante) == '\n') {
+            suivante++;
+        }
+        this.position = Math.min(suivante,
+            limite);
+        return true;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.numero</code>.
+     *
+     * @return Le numéro de la ligne courante, à partir de 1
+     */
+    public int getNumero() {
+        return this.numero;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.nombreJetons</code>.
+     *
+     * @return Le nombre de jetons de la ligne courante
+     */
+    public int getNombreJetons() {
+        return this.nombreJetons;
+    }
+
+    /**
+     * Donne la position, dans le fichier, du début de la ligne qui suit la ligne courante.
+     *
+     * @return La position, en octets, de la ligne suivante
+     */
+    public long getPositionSuivante() {
+        return this.debutFenetre
+            + this.position;
+    }
+
+    /**
+     * Place le tokeniseur sur une position du fichier, sans lire les lignes qui la précèdent. La position doit être le début d'une
+     * ligne, comme celle donnée par {@link #getPositionSuivante()}.
+     *
+     * @param positionFichier La position, en octets, de la prochaine ligne à lire
+     * @param numeroLigne Le numéro de la ligne qui précède cette position
+     * @throws IOException Si la position dépasse la fin du fichier ou s'il y a une erreur de projection
+     */
+    public void positionner(long positionFichier,
+        int numeroLigne) throws IOException {
+        if(positionFichier < 0
+            || positionFichier > this.taille) {
+            throw new IOException("La position "
+                + positionFichier
+                + " est hors du fichier de "
+                + this.taille
+                + " octets");
+        }
+        projeter(positionFichier);
+        this.numero = numeroLigne;
+        this.nombreJetons = 0;
+    }
+
+    /**
+     * Trouve le type de commande du premier jeton de la ligne courante.
+     *
+     * @return Le type de commande ; {@link TypeCommande#INCONNUE} si le jeton n'est pas reconnu
+     */
+    public TypeCommande lireTypeCommande() {
+        final byte premier = this.fenetre.get(this.debuts[0]);
+        for(int i = 0; i < TokeniseurMappe.TYPES_COMMANDES.length; i++) {
+            if(TokeniseurMappe.TYPES_COMMANDES[i] != TypeCommande.INCONNUE
+                && TokeniseurMappe.NOMS_COMMANDES[i][0] == premier
+                && egal(0,
+                    TokeniseurMappe.NOMS_COMMANDES[i])) {
+                return TokeniseurMappe.TYPES_COMMANDES[i];
+            }
+        }
+        return TypeCommande.INCONNUE;
+    }
+
+    /**
+     * Décode un jeton de la ligne courante en <code>long</code>, sans créer de {@link String}.
+     *
+     * @param jeton L'indice du jeton
+     * @return La valeur du jeton
+     * @throws BibliothequeException Si le jeton n'existe pas ou n'est pas un nombre
+     */
+    public long lireLong(int jeton) throws BibliothequeException {
+        verifierJeton(jeton);
+        int i = this.debuts[jeton];
+        final boolean negatif = this.fenetre.get(i) == '-';
+        if(negatif
+            || this.fenetre.get(i) == '+') {
+            i++;
+        }
+        if(i == this.fins[jeton]
+            || this.fins[jeton]
+                - i > TokeniseurMappe.CHIFFRES_LONG) {
+            return lireLongLong(jeton);
+        }
+        long valeur = 0;
+        for(; i < this.fins[jeton]; i++) {
+            final byte octet = this.fenetre.get(i);
+            if(octet < '0'
+                || octet > '9') {
+                throw nombreAttendu(jeton);
+            }
+            valeur = valeur * 10
+                + (octet - '0');
+        }
+        return negatif
+            ? -valeur
+            : valeur;
+    }
+
+    /**
+     * Lit un jeton de la ligne courante.
+     *
+     * @param jeton L'indice du jeton
+     * @return Le jeton
+     * @throws BibliothequeException Si le jeton n'existe pas
+     */
+    public String lireString(int jeton) throws BibliothequeException {
+        verifierJeton(jeton);
+        return decoder(this.debuts[jeton],
+            this.fins[jeton]);
+    }
+
+    /**
+     * Lit la ligne courante en entier.
+     *
+     * @return La ligne courante, sans son retour de ligne
+     */
+    public String getLigne() {
+        return decoder(this.debutLigne,
+            this.finLigne);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() throws IOException {
+        this.fenetre = null;
+        this.canal.close();
+    }
+
+    /**
+     * Projette une fenêtre du fichier en mémoire.
+     *
+     * @param debut La position, dans le fichier, du début de la fenêtre
+     * @throws IOException S'il y a une erreur de projection
+     */
+    private void projeter(long debut) throws IOException {
+        this.fenetre = this.canal.map(FileChannel.MapMode.READ_ONLY,
+            debut,
+            Math.min(this.tailleFenetre,
+                this.taille
+                    - debut));
+        this.debutFenetre = debut;
+        this.position = 0;
+    }
+
+    /**
+     * Cherche la fin d'une ligne dans la fenêtre et repère ses jetons au passage, en une seule lecture des octets. Comme avec un
+     * {@link java.util.StringTokenizer}, les jetons sont séparés par un ou plusieurs espaces ; les jetons en trop sont ignorés. Comme
+     * avec {@link java.io.BufferedReader#readLine()}, une ligne se termine par <code>\n</code>, <code>\r</code> ou <code>\r\n</code>.
+     * Un <code>\r</code> en fin de fenêtre ne termine la ligne qu'à la fin du fichier : il peut être suivi d'un <code>\n</code> dans la
+     * fenêtre suivante.
+     *
+     * @param debut La position du début de la ligne dans la fenêtre
+     * @return La position du retour de ligne ; <code>-1</code> s'il n'est pas dans la fenêtre
+     */
+    private int parcourir(int debut) {
+        final int limite = this.fenetre.limit();
+        this.nombreJetons = 0;
+        boolean dansJeton = false;
+        for(int i = debut; i < limite; i++) {
+            final byte octet = this.fenetre.get(i);
+            if(octet == '\n'
+                || octet == '\r') {
+                if(octet == '\r'
+                    && i + 1 == limite
+                    && this.debutFenetre
+                        + limite < this.taille) {
+                    return -1;
+                }
+                if(dansJeton) {
+                    this.fins[this.nombreJetons++] = i;
+                }
+                return i;
+            }
+            if(octet == ' ') {
+                if(dansJeton) {
+                    this.fins[this.nombreJetons++] = i;
+                    dansJeton = false;
+                }
+            } else if(!dansJeton
+                && this.nombreJetons < TokeniseurMappe.NOMBRE_MAXIMAL_JETONS) {
+                this.debuts[this.nombreJetons] = i;
+                dansJeton = true;
+            }
+        }
+        if(dansJeton) {
+            this.fins[this.nombreJetons++] = limite;
+        }
+        return -1;
+    }
+
+    /**
+     * Compare un jeton de la ligne courante à une suite d'octets.
+     *
+     * @param jeton L'indice du jeton
+     * @param mot Les octets à comparer
+     * @return <code>true</code> si le jeton est égal aux octets ; <code>false</code> sinon
+     */
+    private boolean egal(int jeton,
+        byte[] mot) {
+        if(jeton >= this.nombreJetons
+            || this.fins[jeton]
+                - this.debuts[jeton] != mot.length) {
+            return false;
+        }
+        for(int i = 0; i < mot.length; i++) {
+            if(this.fenetre.get(this.debuts[jeton]
+                + i) != mot[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Décode un jeton trop long pour la lecture directe, avec les règles de {@link Long#parseLong(String)}.
+     *
+     * @param jeton L'indice du jeton
+     * @return La valeur du jeton
+     * @throws BibliothequeException Si le jeton n'est pas un nombre
+     */
+    private long lireLongLong(int jeton) throws BibliothequeException {
+        try {
+            return Long.parseLong(lireString(jeton));
+        } catch(NumberFormatException numberFormatException) {
+            throw nombreAttendu(jeton);
+        }
+    }
+
+    /**
+     * Crée l'erreur d'un jeton qui n'est pas un nombre.
+     *
+     * @param jeton L'indice du jeton
+     * @return L'erreur
+     * @throws BibliothequeException Si le jeton n'existe pas
+     */
+    private BibliothequeException nombreAttendu(int jeton) throws BibliothequeException {
+        return new BibliothequeException("Nombre attendu à la place de \""
+            + lireString(jeton)
+            + "\"");
+    }
+
+    /**
+     * Vérifie qu'un jeton existe dans la ligne courante.
+     *
+     * @param jeton L'indice du jeton
+     * @throws BibliothequeException Si le jeton n'existe pas
+     */
+    private void verifierJeton(int jeton) throws BibliothequeException {
+        if(jeton >= this.nombreJetons) {
+            throw new BibliothequeException("autre paramètre attendu");
+        }
+    }
+
+    /**
+     * Décode une partie de la fenêtre.
+     *
+     * @param debut La position du début dans la fenêtre
+     * @param fin La position de la fin dans la fenêtre
+     * @return Le texte décodé
+     */
+    private String decoder(int debut,
+        int fin) {
+        final int longueur = fin
+            - debut;
+        if(this.tampon.length < longueur) {
+            this.tampon = new byte[longueur];
+        }
+        this.fenetre.position(debut);
+        this.fenetre.get(this.tampon,
+            0,
+            longueur);
+        return new String(this.tampon,
+            0,
+            longueur,
+            Charset.defaultCharset());
+    }
+}
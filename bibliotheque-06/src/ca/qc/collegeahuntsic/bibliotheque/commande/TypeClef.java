@@ -0,0 +1,32 @@
+// Fichier TypeClef.java
+// Auteur : Dragons Vicieux
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliotheque.commande;
+
+/**
+ * Types des clefs de conflit d'une commande, un par table touchée.
+ *
+ * @author Dragons Vicieux
+ */
+public enum TypeClef {
+    /**
+     * Clef sur l'ID d'un livre.
+     */
+    LIVRE,
+
+    /**
+     * Clef sur l'ID d'un membre.
+     */
+    MEMBRE,
+
+    /**
+     * Clef sur l'ID d'un prêt.
+     */
+    PRET,
+
+    /**
+     * Clef sur l'ID d'une réservation.
+     */
+    RESERVATION
+}
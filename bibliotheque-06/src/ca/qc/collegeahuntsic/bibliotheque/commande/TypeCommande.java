@@ -0,0 +1,194 @@
+// Fichier TypeCommande.java
+// Auteur : Dragons Vicieux
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliotheque.commande;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Types des commandes d'un fichier de transactions.
+ *
+ * @author Dragons Vicieux
+ */
+public enum TypeCommande {
+    /**
+     * Affiche l'aide.
+     */
+    AIDE("aide",
+        0),
+
+    /**
+     * Acquiert un livre.
+     */
+    ACQUERIR("acquerir",
+        1),
+
+    /**
+     * Vend un livre.
+     */
+    VENDRE("vendre",
+        2),
+
+    /**
+     * Commence un prêt.
+     */
+    PRETER("preter",
+        3),
+
+    /**
+     * Renouvelle un prêt.
+     */
+    RENOUVELER("renouveler",
+        4),
+
+    /**
+     * Termine un prêt.
+     */
+    RETOURNER("retourner",
+        5),
+
+    /**
+     * Inscrit un membre.
+     */
+    INSCRIRE("inscrire",
+        6),
+
+    /**
+     * Désinscrit un membre.
+     */
+    DESINSCRIRE("desinscrire",
+        7),
+
+    /**
+     * Place une réservation.
+     */
+    RESERVER("reserver",
+        8),
+
+    /**
+     * Utilise une réservation.
+     */
+    UTILISER("utiliser",
+        9),
+
+    /**
+     * Annule une réservation.
+     */
+    ANNULER("annuler",
+        10),
+
+    /**
+     * Ligne de commentaire.
+     */
+    COMMENTAIRE("--",
+        11),
+
+    /**
+     * Commande non reconnue.
+     */
+    INCONNUE("",
+        12);
+
+    private static final Map<String, TypeCommande> PAR_NOM = new HashMap<>();
+
+    private static final TypeCommande[] PAR_CODE = new TypeCommande[TypeCommande.values().length];
+
+    static {
+        for(TypeCommande typeCommande : TypeCommande.values()) {
+            if(typeCommande != TypeCommande.INCONNUE) {
+                TypeCommande.PAR_NOM.put(typeCommande.getNom(),
+                    typeCommande);
+            }
+            TypeCommande.PAR_CODE[typeCommande.getCode()] = typeCommande;
+        }
+    }
+
+    private final String nom;
+
+    private final int code;
+
+    /**
+     * Crée un type de commande.
+     *
+     * @param nom Le nom de la commande dans le fichier de transactions
+     * @param code Le code de la commande dans le journal binaire ; il ne doit jamais changer
+     */
+    TypeCommande(String nom,
+        int code) {
+        this.nom = nom;
+        this.code = code;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.nom</code>.
+     *
+     * @return La variable d'instance <code>this.nom</code>
+     */
+    public String getNom() {
+        return this.nom;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.code</code>.
+     *
+     * @return La variable d'instance <code>this.code</code>
+     */
+    public int getCode() {
+        return this.code;
+    }
+
+    /**
+     * Indique si une commande de ce type s'exécute dans une transaction.
+     *
+     * @return <code>true</code> si la commande modifie la base de données ; <code>false</code> pour l'aide, les commentaires et les
+     *         commandes non reconnues
+     */
+    public boolean isTransactionnelle() {
+        return this != TypeCommande.AIDE
+            && this != TypeCommande.COMMENTAIRE
+            && this != TypeCommande.INCONNUE;
+    }
+
+    /**
+     * Indique si une commande de ce type crée une ligne et obtient donc un ID du générateur hi/lo. Un ID obtenu n'est pas rendu si la
+     * transaction est annulée.
+     *
+     * @return <code>true</code> pour l'acquisition, le prêt, l'inscription, la réservation et l'utilisation d'une réservation, qui crée
+     *         un prêt ; <code>false</code> sinon
+     */
+    public boolean isCreatrice() {
+        return this == TypeCommande.ACQUERIR
+            || this == TypeCommande.PRETER
+            || this == TypeCommande.INSCRIRE
+            || this == TypeCommande.RESERVER
+            || this == TypeCommande.UTILISER;
+    }
+
+    /**
+     * Trouve le type d'une commande à partir de son nom.
+     *
+     * @param nom Le nom de la commande
+     * @return Le type de la commande ; {@link #INCONNUE} si le nom n'est pas reconnu
+     */
+    public static TypeCommande valueOfNom(String nom) {
+        final TypeCommande typeCommande = TypeCommande.PAR_NOM.get(nom);
+        return typeCommande == null
+            ? TypeCommande.INCONNUE
+            : typeCommande;
+    }
+
+    /**
+     * Trouve le type d'une commande à partir de son code dans le journal binaire.
+     *
+     * @param code Le code de la commande
+     * @return Le type de la commande ; <code>null</code> si le code n'existe pas
+     */
+    public static TypeCommande valueOfCode(int code) {
+        return code < 0
+            || code >= TypeCommande.PAR_CODE.length
+                ? null
+                : TypeCommande.PAR_CODE[code];
+    }
+}
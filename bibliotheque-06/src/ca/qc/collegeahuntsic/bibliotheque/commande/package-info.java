@@ -0,0 +1,10 @@
+// Fichier package-info.java
+// Auteur : Dragons Vicieux
+// Date de création : 2026-10-18
+/**
+ * Provides the typed commands of the transaction files and their parallel replay.
+ *
+ * @author Dragons Vicieux
+ */
+
+package ca.qc.collegeahuntsic.bibliotheque.commande;
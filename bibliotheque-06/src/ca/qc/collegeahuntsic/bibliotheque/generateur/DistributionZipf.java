@@ -0,0 +1,159 @@
+// Fichier DistributionZipf.java
+// Auteur : Dragons Vicieux
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliotheque.generateur;
+
+import java.util.SplittableRandom;
+
+/**
+ * Tire des rangs selon une loi de Zipf : le rang <code>k</code> est tiré avec une probabilité proportionnelle à
+ * <code>1 / k<sup>exposant</sup></code>.<br />
+ * <br />
+ * Le tirage utilise la méthode de rejet-inversion de Hörmann et Derflinger : il se fait en temps constant, sans table, ce qui permet
+ * de changer le nombre de rangs à chaque tirage quand la population grandit ou diminue. Les constantes ne sont recalculées que si le
+ * nombre de rangs change. Avec un exposant nul, les rangs sont uniformes.
+ *
+ * @author Dragons Vicieux
+ */
+public final class DistributionZipf {
+    private final double exposant;
+
+    private int nombreRangs;
+
+    private double hIntegraleX1;
+
+    private double hIntegraleN;
+
+    private double s;
+
+    /**
+     * Crée une distribution de Zipf.
+     *
+     * @param exposant L'exposant de la loi ; 0 pour des rangs uniformes, environ 1 pour une popularité très concentrée
+     */
+    public DistributionZipf(double exposant) {
+        super();
+        if(exposant < 0) {
+            throw new IllegalArgumentException("L'exposant de Zipf ne peut être négatif : "
+                + exposant);
+        }
+        this.exposant = exposant;
+    }
+
+    /**
+     * Tire un rang.
+     *
+     * @param aleatoire Le générateur aléatoire à utiliser
+     * @param nombre Le nombre de rangs ; doit être positif
+     * @return Un rang, de 0 (le plus populaire) à <code>nombre - 1</code>
+     */
+    public int tirer(SplittableRandom aleatoire,
+        int nombre) {
+        if(this.exposant == 0
+            || nombre == 1) {
+            return aleatoire.nextInt(nombre);
+        }
+        if(nombre != this.nombreRangs) {
+            this.nombreRangs = nombre;
+            this.hIntegraleX1 = hIntegrale(1.5) - 1.0;
+            this.hIntegraleN = hIntegrale(nombre + 0.5);
+            this.s = 2.0 - hIntegraleInverse(hIntegrale(2.5) - h(2));
+        }
+        while(true) {
+            final double u = this.hIntegraleN
+                + aleatoire.nextDouble()
+                * (this.hIntegraleX1
+                    - this.hIntegraleN);
+            final double x = hIntegraleInverse(u);
+            int k = (int) (x + 0.5);
+            if(k < 1) {
+                k = 1;
+            } else if(k > nombre) {
+                k = nombre;
+            }
+            if(k
+                - x <= this.s
+                || u >= hIntegrale(k + 0.5)
+                    - h(k)) {
+                return k - 1;
+            }
+        }
+    }
+
+    /**
+     * Densité non normalisée <code>x<sup>-exposant</sup></code>.
+     *
+     * @param x Le point
+     * @return La densité au point
+     */
+    private double h(double x) {
+        return Math.exp(-this.exposant
+            * Math.log(x));
+    }
+
+    /**
+     * Primitive de {@link #h(double)}, définie aussi pour un exposant de 1.
+     *
+     * @param x Le point
+     * @return La primitive au point
+     */
+    private double hIntegrale(double x) {
+        final double logX = Math.log(x);
+        return DistributionZipf.expm1SurX((1.0 - this.exposant)
+            * logX)
+            * logX;
+    }
+
+    /**
+     * Inverse de {@link #hIntegrale(double)}.
+     *
+     * @param x Le point
+     * @return L'inverse de la primitive au point
+     */
+    private double hIntegraleInverse(double x) {
+        double t = x
+            * (1.0 - this.exposant);
+        if(t < -1.0) {
+            t = -1.0;
+        }
+        return Math.exp(DistributionZipf.log1pSurX(t)
+            * x);
+    }
+
+    /**
+     * Calcule <code>log(1 + x) / x</code> sans perte de précision près de 0.
+     *
+     * @param x Le point
+     * @return La valeur au point
+     */
+    private static double log1pSurX(double x) {
+        if(Math.abs(x) > 1e-8) {
+            return Math.log1p(x)
+                / x;
+        }
+        return 1.0
+            - x
+            * (0.5 - x
+                * (1.0 / 3.0 - 0.25 * x));
+    }
+
+    /**
+     * Calcule <code>(exp(x) - 1) / x</code> sans perte de précision près de 0.
+     *
+     * @param x Le point
+     * @return La valeur au point
+     */
+    private static double expm1SurX(double x) {
+        if(Math.abs(x) > 1e-8) {
+            return Math.expm1(x)
+                / x;
+        }
+        return 1.0
+            + x
+            * 0.5
+            * (1.0 + x
+                * (1.0 / 3.0)
+                * (1.0 + 0.25 * x));
+    }
+}
@@ -0,0 +1,631 @@
+// Fichier EtatBibliotheque.java
+// Auteur : Dragons Vicieux
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliotheque.generateur;
+
+import java.util.Arrays;
+
+/**
+ * État simulé de la bibliothèque pendant la génération d'un fichier de transactions.<br />
+ * <br />
+ * L'état applique les mêmes règles que les services : il permet au générateur de n'écrire que des commandes qui seront acceptées. Les
+ * IDs sont attribués dans l'ordre, à partir de 1, comme le fait le générateur hi/lo d'une base de données vide pendant un seul
+ * traitement.<br />
+ * <br />
+ * Seuls les livres et les membres sont indexés par ID. Les prêts en cours et les réservations sont rangés dans des tableaux denses
+ * retirés par échange avec le dernier élément : la mémoire utilisée dépend de l'état courant et non du nombre de lignes générées. Les
+ * livres et les membres vivants sont aussi rangés dans des tableaux denses, dont l'ordre sert de rang de popularité.
+ *
+ * @author Dragons Vicieux
+ */
+final class EtatBibliotheque {
+    private static final int CAPACITE_INITIALE = 1024;
+
+    private int dernierLivre;
+
+    private int[] livresVivants = new int[EtatBibliotheque.CAPACITE_INITIALE];
+
+    private int nombreLivres;
+
+    private int[] positionLivre = new int[EtatBibliotheque.CAPACITE_INITIALE];
+
+    private int[] pretDuLivre = new int[EtatBibliotheque.CAPACITE_INITIALE];
+
+    private int[][] fileDuLivre = new int[EtatBibliotheque.CAPACITE_INITIALE][];
+
+    private int[] tailleFile = new int[EtatBibliotheque.CAPACITE_INITIALE];
+
+    private int[] livresEnAttente = new int[EtatBibliotheque.CAPACITE_INITIALE];
+
+    private int nombreEnAttente;
+
+    private int[] positionAttente = new int[EtatBibliotheque.CAPACITE_INITIALE];
+
+    private int dernierMembre;
+
+    private int[] membresVivants = new int[EtatBibliotheque.CAPACITE_INITIALE];
+
+    private int nombreMembres;
+
+    private int[] positionMembre = new int[EtatBibliotheque.CAPACITE_INITIALE];
+
+    private int[] limitePret = new int[EtatBibliotheque.CAPACITE_INITIALE];
+
+    private int[][] livresPretes = new int[EtatBibliotheque.CAPACITE_INITIALE][];
+
+    private int[] nombrePretsMembre = new int[EtatBibliotheque.CAPACITE_INITIALE];
+
+    private int[][] livresReserves = new int[EtatBibliotheque.CAPACITE_INITIALE][];
+
+    private int[] nombreReservationsMembre = new int[EtatBibliotheque.CAPACITE_INITIALE];
+
+    private long dernierPret;
+
+    private long[] idsPrets = new long[EtatBibliotheque.CAPACITE_INITIALE];
+
+    private int[] livresPrets = new int[EtatBibliotheque.CAPACITE_INITIALE];
+
+    private int[] membresPrets = new int[EtatBibliotheque.CAPACITE_INITIALE];
+
+    private int nombrePrets;
+
+    private long dernierReservation;
+
+    private long[] idsReservations = new long[EtatBibliotheque.CAPACITE_INITIALE];
+
+    private int[] livresReservations = new int[EtatBibliotheque.CAPACITE_INITIALE];
+
+    private int[] membresReservations = new int[EtatBibliotheque.CAPACITE_INITIALE];
+
+    private int nombreReservations;
+
+    /**
+     * Crée l'état d'une bibliothèque vide.
+     */
+    EtatBibliotheque() {
+        super();
+    }
+
+    // Region Livres
+    /**
+     * Acquiert un livre.
+     *
+     * @return L'ID du livre
+     */
+    int acquerir() {
+        final int livre = ++this.dernierLivre;
+        if(livre >= this.positionLivre.length) {
+            final int capacite = this.positionLivre.length * 2;
+            this.positionLivre = Arrays.copyOf(this.positionLivre,
+                capacite);
+            this.pretDuLivre = Arrays.copyOf(this.pretDuLivre,
+                capacite);
+            this.fileDuLivre = Arrays.copyOf(this.fileDuLivre,
+                capacite);
+            this.tailleFile = Arrays.copyOf(this.tailleFile,
+                capacite);
+            this.positionAttente = Arrays.copyOf(this.positionAttente,
+                capacite);
+        }
+        this.livresVivants = EtatBibliotheque.agrandir(this.livresVivants,
+            this.nombreLivres);
+        this.positionLivre[livre] = this.nombreLivres;
+        this.livresVivants[this.nombreLivres++] = livre;
+        this.pretDuLivre[livre] = -1;
+        this.positionAttente[livre] = -1;
+        return livre;
+    }
+
+    /**
+     * Vend un livre. Le livre ne doit être ni prêté ni réservé.
+     *
+     * @param livre L'ID du livre
+     */
+    void vendre(int livre) {
+        final int position = this.positionLivre[livre];
+        final int dernier = this.livresVivants[--this.nombreLivres];
+        this.livresVivants[position] = dernier;
+        this.positionLivre[dernier] = position;
+        this.positionLivre[livre] = -1;
+        this.fileDuLivre[livre] = null;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.nombreLivres</code>.
+     *
+     * @return Le nombre de livres de la bibliothèque
+     */
+    int getNombreLivres() {
+        return this.nombreLivres;
+    }
+
+    /**
+     * Donne le livre d'un rang de popularité.
+     *
+     * @param rang Le rang, de 0 à <code>getNombreLivres() - 1</code>
+     * @return L'ID du livre
+     */
+    int getLivre(int rang) {
+        return this.livresVivants[rang];
+    }
+
+    /**
+     * Vérifie si un livre est prêté.
+     *
+     * @param livre L'ID du livre
+     * @return <code>true</code> si le livre est prêté ; <code>false</code> sinon
+     */
+    boolean isPrete(int livre) {
+        return this.pretDuLivre[livre] >= 0;
+    }
+
+    /**
+     * Donne le membre qui emprunte un livre prêté.
+     *
+     * @param livre L'ID du livre
+     * @return L'ID du membre
+     */
+    int getEmprunteur(int livre) {
+        return this.membresPrets[this.pretDuLivre[livre]];
+    }
+
+    /**
+     * Donne le nombre de réservations d'un livre.
+     *
+     * @param livre L'ID du livre
+     * @return Le nombre de réservations
+     */
+    int getTailleFile(int livre) {
+        return this.tailleFile[livre];
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.nombreEnAttente</code>.
+     *
+     * @return Le nombre de livres rendus qui ont des réservations
+     */
+    int getNombreEnAttente() {
+        return this.nombreEnAttente;
+    }
+
+    /**
+     * Donne un livre rendu qui a des réservations.
+     *
+     * @param index L'index, de 0 à <code>getNombreEnAttente() - 1</code>
+     * @return L'ID du livre
+     */
+    int getLivreEnAttente(int index) {
+        return this.livresEnAttente[index];
+    }
+
+    // EndRegion Livres
+
+    // Region Membres
+    /**
+     * Inscrit un membre.
+     *
+     * @param limite La limite de prêts du membre
+     * @return L'ID du membre
+     */
+    int inscrire(int limite) {
+        final int membre = ++this.dernierMembre;
+        if(membre >= this.positionMembre.length) {
+            final int capacite = this.positionMembre.length * 2;
+            this.positionMembre = Arrays.copyOf(this.positionMembre,
+                capacite);
+            this.limitePret = Arrays.copyOf(this.limitePret,
+                capacite);
+            this.livresPretes = Arrays.copyOf(this.livresPretes,
+                capacite);
+            this.nombrePretsMembre = Arrays.copyOf(this.nombrePretsMembre,
+                capacite);
+            this.livresReserves = Arrays.copyOf(this.livresReserves,
+                capacite);
+            this.nombreReservationsMembre = Arrays.copyOf(this.nombreReservationsMembre,
+                capacite);
+        }
+        this.membresVivants = EtatBibliotheque.agrandir(this.membresVivants,
+            this.nombreMembres);
+        this.positionMembre[membre] = this.nombreMembres;
+        this.membresVivants[this.nombreMembres++] = membre;
+        this.limitePret[membre] = limite;
+        this.livresPretes[membre] = new int[limite];
+        this.livresReserves[membre] = new int[limite];
+        return membre;
+    }
+
+    /**
+     * Désinscrit un membre. Le membre ne doit avoir ni prêt ni réservation.
+     *
+     * @param membre L'ID du membre
+     */
+    void desinscrire(int membre) {
+        final int position = this.positionMembre[membre];
+        final int dernier = this.membresVivants[--this.nombreMembres];
+        this.membresVivants[position] = dernier;
+        this.positionMembre[dernier] = position;
+        this.positionMembre[membre] = -1;
+        this.livresPretes[membre] = null;
+        this.livresReserves[membre] = null;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.nombreMembres</code>.
+     *
+     * @return Le nombre de membres inscrits
+     */
+    int getNombreMembres() {
+        return this.nombreMembres;
+    }
+
+    /**
+     * Donne le membre d'un rang de popularité.
+     *
+     * @param rang Le rang, de 0 à <code>getNombreMembres() - 1</code>
+     * @return L'ID du membre
+     */
+    int getMembre(int rang) {
+        return this.membresVivants[rang];
+    }
+
+    /**
+     * Vérifie si un membre peut encore emprunter.
+     *
+     * @param membre L'ID du membre
+     * @return <code>true</code> si le membre n'a pas atteint sa limite de prêts ; <code>false</code> sinon
+     */
+    boolean peutEmprunter(int membre) {
+        return this.nombrePretsMembre[membre] < this.limitePret[membre];
+    }
+
+    /**
+     * Vérifie si un membre peut encore réserver. Un membre ne garde pas plus de réservations que sa limite de prêts.
+     *
+     * @param membre L'ID du membre
+     * @return <code>true</code> si le membre peut réserver ; <code>false</code> sinon
+     */
+    boolean peutReserver(int membre) {
+        return this.nombreReservationsMembre[membre] < this.limitePret[membre];
+    }
+
+    /**
+     * Vérifie si un membre n'a ni prêt ni réservation.
+     *
+     * @param membre L'ID du membre
+     * @return <code>true</code> si le membre peut être désinscrit ; <code>false</code> sinon
+     */
+    boolean isLibre(int membre) {
+        return this.nombrePretsMembre[membre] == 0
+            && this.nombreReservationsMembre[membre] == 0;
+    }
+
+    /**
+     * Vérifie si un membre a réservé un livre.
+     *
+     * @param membre L'ID du membre
+     * @param livre L'ID du livre
+     * @return <code>true</code> si le membre a réservé le livre ; <code>false</code> sinon
+     */
+    boolean aReserve(int membre,
+        int livre) {
+        final int[] livres = this.livresReserves[membre];
+        for(int i = 0; i < this.nombreReservationsMembre[membre]; i++) {
+            if(livres[i] == livre) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Donne le prêt le plus ancien d'un membre.
+     *
+     * @param membre L'ID du membre ; il doit avoir un prêt
+     * @return L'index du prêt
+     */
+    int getPremierPret(int membre) {
+        return this.pretDuLivre[this.livresPretes[membre][0]];
+    }
+
+    // EndRegion Membres
+
+    // Region Prêts
+    /**
+     * Prête un livre. Le livre ne doit être ni prêté ni réservé par un autre membre.
+     *
+     * @param livre L'ID du livre
+     * @param membre L'ID du membre
+     * @return L'ID du prêt
+     */
+    long preter(int livre,
+        int membre) {
+        final long pret = ++this.dernierPret;
+        if(this.nombrePrets == this.idsPrets.length) {
+            final int capacite = this.nombrePrets * 2;
+            this.idsPrets = Arrays.copyOf(this.idsPrets,
+                capacite);
+            this.livresPrets = Arrays.copyOf(this.livresPrets,
+                capacite);
+            this.membresPrets = Arrays.copyOf(this.membresPrets,
+                capacite);
+        }
+        this.idsPrets[this.nombrePrets] = pret;
+        this.livresPrets[this.nombrePrets] = livre;
+        this.membresPrets[this.nombrePrets] = membre;
+        this.pretDuLivre[livre] = this.nombrePrets++;
+        this.livresPretes[membre][this.nombrePretsMembre[membre]++] = livre;
+        return pret;
+    }
+
+    /**
+     * Termine un prêt. Si le livre a des réservations, il devient disponible pour la première.
+     *
+     * @param index L'index du prêt
+     */
+    void retourner(int index) {
+        final int livre = this.livresPrets[index];
+        final int membre = this.membresPrets[index];
+        EtatBibliotheque.retirer(this.livresPretes[membre],
+            this.nombrePretsMembre[membre]--,
+            livre);
+        this.pretDuLivre[livre] = -1;
+        final int dernier = --this.nombrePrets;
+        if(index != dernier) {
+            this.idsPrets[index] = this.idsPrets[dernier];
+            this.livresPrets[index] = this.livresPrets[dernier];
+            this.membresPrets[index] = this.membresPrets[dernier];
+            this.pretDuLivre[this.livresPrets[index]] = index;
+        }
+        if(this.tailleFile[livre] > 0) {
+            ajouterEnAttente(livre);
+        }
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.nombrePrets</code>.
+     *
+     * @return Le nombre de prêts en cours
+     */
+    int getNombrePrets() {
+        return this.nombrePrets;
+    }
+
+    /**
+     * Donne l'ID d'un prêt en cours.
+     *
+     * @param index L'index du prêt, de 0 à <code>getNombrePrets() - 1</code>
+     * @return L'ID du prêt
+     */
+    long getIdPret(int index) {
+        return this.idsPrets[index];
+    }
+
+    /**
+     * Donne le livre d'un prêt en cours.
+     *
+     * @param index L'index du prêt
+     * @return L'ID du livre
+     */
+    int getLivrePret(int index) {
+        return this.livresPrets[index];
+    }
+
+    // EndRegion Prêts
+
+    // Region Réservations
+    /**
+     * Réserve un livre prêté à un autre membre.
+     *
+     * @param membre L'ID du membre
+     * @param livre L'ID du livre
+     * @return L'ID de la réservation
+     */
+    long reserver(int membre,
+        int livre) {
+        final long reservation = ++this.dernierReservation;
+        if(this.nombreReservations == this.idsReservations.length) {
+            final int capacite = this.nombreReservations * 2;
+            this.idsReservations = Arrays.copyOf(this.idsReservations,
+                capacite);
+            this.livresReservations = Arrays.copyOf(this.livresReservations,
+                capacite);
+            this.membresReservations = Arrays.copyOf(this.membresReservations,
+                capacite);
+        }
+        final int index = this.nombreReservations++;
+        this.idsReservations[index] = reservation;
+        this.livresReservations[index] = livre;
+        this.membresReservations[index] = membre;
+        if(this.fileDuLivre[livre] == null) {
+            this.fileDuLivre[livre] = new int[4];
+        }
+        this.fileDuLivre[livre] = EtatBibliotheque.agrandir(this.fileDuLivre[livre],
+            this.tailleFile[livre]);
+        this.fileDuLivre[livre][this.tailleFile[livre]++] = index;
+        this.livresReserves[membre][this.nombreReservationsMembre[membre]++] = livre;
+        return reservation;
+    }
+
+    /**
+     * Donne la première réservation d'un livre.
+     *
+     * @param livre L'ID du livre ; il doit avoir des réservations
+     * @return L'index de la réservation
+     */
+    int getPremiereReservation(int livre) {
+        return this.fileDuLivre[livre][0];
+    }
+
+    /**
+     * Vérifie si la première réservation d'un livre est aussi la première pour la base de données. Les réservations faites dans la
+     * même seconde sont départagées par leur ID, qui est comparé comme du texte : la réservation 100 passe alors avant la 99.
+     *
+     * @param livre L'ID du livre ; il doit avoir des réservations
+     * @return <code>true</code> si l'ID de la première réservation est aussi le plus petit en texte ; <code>false</code> sinon
+     */
+    boolean isPremiereSansAmbiguite(int livre) {
+        final int[] file = this.fileDuLivre[livre];
+        final String premiere = Long.toString(this.idsReservations[file[0]]);
+        for(int i = 1; i < this.tailleFile[livre]; i++) {
+            if(Long.toString(this.idsReservations[file[i]]).compareTo(premiere) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Utilise la première réservation d'un livre rendu : la réservation devient un prêt.
+     *
+     * @param livre L'ID du livre
+     * @return L'ID du prêt créé
+     */
+    long utiliser(int livre) {
+        final int index = this.fileDuLivre[livre][0];
+        final int membre = this.membresReservations[index];
+        annuler(index);
+        retirerEnAttente(livre);
+        return preter(livre,
+            membre);
+    }
+
+    /**
+     * Annule une réservation.
+     *
+     * @param index L'index de la réservation
+     */
+    void annuler(int index) {
+        final int livre = this.livresReservations[index];
+        final int membre = this.membresReservations[index];
+        final int[] file = this.fileDuLivre[livre];
+        int position = 0;
+        while(file[position] != index) {
+            position++;
+        }
+        System.arraycopy(file,
+            position + 1,
+            file,
+            position,
+            --this.tailleFile[livre]
+                - position);
+        EtatBibliotheque.retirer(this.livresReserves[membre],
+            this.nombreReservationsMembre[membre]--,
+            livre);
+        if(this.tailleFile[livre] == 0) {
+            retirerEnAttente(livre);
+        }
+        final int dernier = --this.nombreReservations;
+        if(index != dernier) {
+            this.idsReservations[index] = this.idsReservations[dernier];
+            this.livresReservations[index] = this.livresReservations[dernier];
+            this.membresReservations[index] = this.membresReservations[dernier];
+            final int[] fileDeplacee = this.fileDuLivre[this.livresReservations[index]];
+            int i = 0;
+            while(fileDeplacee[i] != dernier) {
+                i++;
+            }
+            fileDeplacee[i] = index;
+        }
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.nombreReservations</code>.
+     *
+     * @return Le nombre de réservations
+     */
+    int getNombreReservations() {
+        return this.nombreReservations;
+    }
+
+    /**
+     * Donne l'ID d'une réservation.
+     *
+     * @param index L'index de la réservation, de 0 à <code>getNombreReservations() - 1</code>
+     * @return L'ID de la réservation
+     */
+    long getIdReservation(int index) {
+        return this.idsReservations[index];
+    }
+
+    /**
+     * Donne le membre d'une réservation.
+     *
+     * @param index L'index de la réservation
+     * @return L'ID du membre
+     */
+    int getMembreReservation(int index) {
+        return this.membresReservations[index];
+    }
+
+    // EndRegion Réservations
+
+    /**
+     * Ajoute un livre aux livres rendus qui ont des réservations.
+     *
+     * @param livre L'ID du livre
+     */
+    private void ajouterEnAttente(int livre) {
+        if(this.positionAttente[livre] < 0) {
+            this.livresEnAttente = EtatBibliotheque.agrandir(this.livresEnAttente,
+                this.nombreEnAttente);
+            this.positionAttente[livre] = this.nombreEnAttente;
+            this.livresEnAttente[this.nombreEnAttente++] = livre;
+        }
+    }
+
+    /**
+     * Retire un livre des livres rendus qui ont des réservations.
+     *
+     * @param livre L'ID du livre
+     */
+    private void retirerEnAttente(int livre) {
+        final int position = this.positionAttente[livre];
+        if(position >= 0) {
+            final int dernier = this.livresEnAttente[--this.nombreEnAttente];
+            this.livresEnAttente[position] = dernier;
+            this.positionAttente[dernier] = position;
+            this.positionAttente[livre] = -1;
+        }
+    }
+
+    /**
+     * Double la capacité d'un tableau s'il est plein.
+     *
+     * @param tableau Le tableau
+     * @param taille Le nombre d'éléments du tableau
+     * @return Le tableau, agrandi au besoin
+     */
+    private static int[] agrandir(int[] tableau,
+        int taille) {
+        if(taille < tableau.length) {
+            return tableau;
+        }
+        return Arrays.copyOf(tableau,
+            Math.max(4,
+                tableau.length * 2));
+    }
+
+    /**
+     * Retire une valeur d'un petit tableau en conservant l'ordre des autres.
+     *
+     * @param tableau Le tableau
+     * @param taille Le nombre d'éléments du tableau
+     * @param valeur La valeur à retirer ; elle doit être présente
+     */
+    private static void retirer(int[] tableau,
+        int taille,
+        int valeur) {
+        int position = 0;
+        while(tableau[position] != valeur) {
+            position++;
+        }
+        System.arraycopy(tableau,
+            position + 1,
+            tableau,
+            position,
+            taille
+                - position
+                - 1);
+    }
+}
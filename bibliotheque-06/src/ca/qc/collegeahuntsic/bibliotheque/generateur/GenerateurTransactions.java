@@ -0,0 +1,610 @@
+// Fichier GenerateurTransactions.java
+// Auteur : Dragons Vicieux
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliotheque.generateur;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import ca.qc.collegeahuntsic.bibliotheque.commande.TypeCommande;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Génère des fichiers de transactions synthétiques pour les tests de charge.<br />
+ * <br />
+ * Le fichier commence par l'inscription des membres et l'acquisition des livres de départ, puis enchaîne des commandes tirées selon un
+ * mélange d'opérations. Les livres et les membres sont choisis selon une loi de Zipf : quelques titres et quelques membres concentrent
+ * la plupart des prêts et des réservations, ce qui reproduit la contention sur les titres populaires. Chaque commande respecte les
+ * règles de la bibliothèque : elle est acceptée si le fichier est traité en entier, dans l'ordre, sur une base de données vide. Un
+ * membre qui a atteint sa limite de prêts rend un livre avant d'en emprunter un autre.<br />
+ * <br />
+ * La même graine produit toujours le même fichier. La mémoire utilisée dépend du nombre de livres, de membres, de prêts en cours et de
+ * réservations, et non du nombre de lignes.
+ *
+ * Paramètres
+ * 0 - Chemin du fichier à générer
+ * 1 - Nombre de lignes
+ * 2.. - Options <code>clef=valeur</code> (optionnel) : <code>graine</code>, <code>livres</code>, <code>membres</code>,
+ * <code>zipf</code> (exposant), <code>limite</code> (limite de prêts maximale) et <code>melange</code> (poids des opérations, par
+ * exemple <code>preter:30,retourner:25</code>)
+ *
+ * @author Dragons Vicieux
+ */
+public final class GenerateurTransactions {
+    private static final Log LOGGER = LogFactory.getLog(GenerateurTransactions.class);
+
+    private static final long GRAINE = 1;
+
+    private static final int LIVRES = 1000;
+
+    private static final int MEMBRES = 500;
+
+    private static final double EXPOSANT_ZIPF = 1.0;
+
+    private static final int LIMITE_PRET = 5;
+
+    private static final String MELANGE = "preter:30,retourner:20,renouveler:10,reserver:12,utiliser:8,annuler:4,inscrire:2,acquerir:2,vendre:1,desinscrire:1";
+
+    private static final int ESSAIS = 8;
+
+    private static final int TAILLE_TAMPON = 1 << 20;
+
+    private static final LocalDate DATE_ACQUISITION = LocalDate.of(2000,
+        1,
+        1);
+
+    private static final int JOURS_ACQUISITION = 16 * 365;
+
+    private final SplittableRandom aleatoire;
+
+    private final DistributionZipf distributionZipf;
+
+    private final int limitePretMaximale;
+
+    private final TypeCommande[] typesMelange;
+
+    private final int[] poidsCumules;
+
+    private final long[] compteurs;
+
+    private final EtatBibliotheque etat;
+
+    private final StringBuilder ligne;
+
+    private Writer writer;
+
+    /**
+     * Crée un générateur.
+     *
+     * @param graine La graine du générateur aléatoire
+     * @param exposantZipf L'exposant de la loi de Zipf des livres et des membres ; 0 pour une popularité uniforme
+     * @param limitePretMaximale La limite de prêts maximale des membres ; chaque membre reçoit une limite entre 1 et celle-ci
+     * @param melange Le poids de chaque opération ; seules les commandes transactionnelles sont acceptées
+     */
+    public GenerateurTransactions(long graine,
+        double exposantZipf,
+        int limitePretMaximale,
+        Map<TypeCommande, Integer> melange) {
+        super();
+        if(limitePretMaximale < 1) {
+            throw new IllegalArgumentException("La limite de prêts doit être positive : "
+                + limitePretMaximale);
+        }
+        this.aleatoire = new SplittableRandom(graine);
+        this.distributionZipf = new DistributionZipf(exposantZipf);
+        this.limitePretMaximale = limitePretMaximale;
+        this.typesMelange = new TypeCommande[melange.size()];
+        this.poidsCumules = new int[melange.size()];
+        int total = 0;
+        int i = 0;
+        for(Map.Entry<TypeCommande, Integer> entree : melange.entrySet()) {
+            if(!entree.getKey().isTransactionnelle()
+                || entree.getValue() < 0) {
+                throw new IllegalArgumentException("Opération invalide dans le mélange : "
+                    + entree.getKey().getNom()
+                    + ":"
+                    + entree.getValue());
+            }
+            total += entree.getValue();
+            this.typesMelange[i] = entree.getKey();
+            this.poidsCumules[i++] = total;
+        }
+        if(total == 0) {
+            throw new IllegalArgumentException("Le mélange d'opérations est vide");
+        }
+        this.compteurs = new long[TypeCommande.values().length];
+        this.etat = new EtatBibliotheque();
+        this.ligne = new StringBuilder(128);
+    }
+
+    /**
+     * Lit un mélange d'opérations de la forme <code>preter:30,retourner:25</code>.
+     *
+     * @param texte Le mélange
+     * @return Le poids de chaque opération
+     */
+    public static Map<TypeCommande, Integer> lireMelange(String texte) {
+        final Map<TypeCommande, Integer> melange = new EnumMap<>(TypeCommande.class);
+        for(String operation : texte.split(",")) {
+            final int separateur = operation.indexOf(':');
+            final TypeCommande typeCommande = separateur < 0
+                ? null
+                : TypeCommande.valueOfNom(operation.substring(0,
+                    separateur).trim());
+            if(typeCommande == null) {
+                throw new IllegalArgumentException("Opération invalide dans le mélange : "
+                    + operation);
+            }
+            melange.put(typeCommande,
+                Integer.valueOf(operation.substring(separateur + 1).trim()));
+        }
+        return melange;
+    }
+
+    /**
+     * Génère un fichier de transactions.
+     *
+     * @param sortie Le writer à utiliser ; il n'est pas fermé
+     * @param nombreLignes Le nombre de lignes à générer, population de départ comprise
+     * @param livres Le nombre de livres acquis au départ
+     * @param membres Le nombre de membres inscrits au départ
+     * @throws IOException S'il y a une erreur d'écriture
+     */
+    public void generer(Writer sortie,
+        long nombreLignes,
+        int livres,
+        int membres) throws IOException {
+        this.writer = sortie;
+        long lignes = 0;
+        for(int i = 0; i < membres
+            && lignes < nombreLignes; i++, lignes++) {
+            inscrire();
+        }
+        for(int i = 0; i < livres
+            && lignes < nombreLignes; i++, lignes++) {
+            acquerir();
+        }
+        for(; lignes < nombreLignes; lignes++) {
+            genererOperation();
+        }
+        this.writer.flush();
+    }
+
+    /**
+     * Résume les commandes générées par type.
+     *
+     * @return Le rapport
+     */
+    public String rapport() {
+        final StringBuilder rapport = new StringBuilder("Commandes générées :");
+        for(TypeCommande typeCommande : TypeCommande.values()) {
+            if(this.compteurs[typeCommande.getCode()] > 0) {
+                rapport.append(' ').append(typeCommande.getNom()).append('=').append(this.compteurs[typeCommande.getCode()]);
+            }
+        }
+        return rapport.append(" ; livres=").append(this.etat.getNombreLivres()).append(", membres=").append(this.etat.getNombreMembres()).append(", prêts en cours=").append(this.etat.getNombrePrets()).append(", réservations=").append(this.etat.getNombreReservations()).toString();
+    }
+
+    /**
+     * Génère une ligne du fichier. L'opération tirée est tentée ; si elle est impossible dans l'état courant, une autre est tirée.
+     * Après plusieurs échecs, un livre est acquis, ce qui est toujours possible.
+     *
+     * @throws IOException S'il y a une erreur d'écriture
+     */
+    private void genererOperation() throws IOException {
+        for(int i = 0; i < GenerateurTransactions.ESSAIS; i++) {
+            if(tenter(tirerOperation())) {
+                return;
+            }
+        }
+        acquerir();
+    }
+
+    /**
+     * Tire une opération selon le mélange.
+     *
+     * @return Le type de l'opération
+     */
+    private TypeCommande tirerOperation() {
+        final int tirage = this.aleatoire.nextInt(this.poidsCumules[this.poidsCumules.length - 1]);
+        int i = 0;
+        while(tirage >= this.poidsCumules[i]) {
+            i++;
+        }
+        return this.typesMelange[i];
+    }
+
+    /**
+     * Tente d'écrire une opération.
+     *
+     * @param typeCommande Le type de l'opération
+     * @return <code>true</code> si une ligne a été écrite ; <code>false</code> si l'opération est impossible
+     * @throws IOException S'il y a une erreur d'écriture
+     */
+    private boolean tenter(TypeCommande typeCommande) throws IOException {
+        switch(typeCommande) {
+            case INSCRIRE:
+                inscrire();
+                return true;
+            case ACQUERIR:
+                acquerir();
+                return true;
+            case PRETER:
+                return preter();
+            case RESERVER:
+                return reserver();
+            case RENOUVELER:
+                return renouveler();
+            case RETOURNER:
+                if(this.etat.getNombrePrets() == 0) {
+                    return false;
+                }
+                retourner(this.aleatoire.nextInt(this.etat.getNombrePrets()));
+                return true;
+            case UTILISER:
+                return utiliser();
+            case ANNULER:
+                return annuler();
+            case VENDRE:
+                return vendre();
+            case DESINSCRIRE:
+                return desinscrire();
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Écrit l'inscription d'un membre.
+     *
+     * @throws IOException S'il y a une erreur d'écriture
+     */
+    private void inscrire() throws IOException {
+        final int limite = 1 + this.aleatoire.nextInt(this.limitePretMaximale);
+        final int membre = this.etat.inscrire(limite);
+        commencer(TypeCommande.INSCRIRE).append(" Membre_").append(membre).append(" 514").append(1000000 + this.aleatoire.nextInt(9000000)).append(' ').append(limite);
+        terminer();
+    }
+
+    /**
+     * Écrit l'acquisition d'un livre.
+     *
+     * @throws IOException S'il y a une erreur d'écriture
+     */
+    private void acquerir() throws IOException {
+        final int livre = this.etat.acquerir();
+        commencer(TypeCommande.ACQUERIR).append(" Titre_").append(livre).append(" Auteur_").append(1 + this.aleatoire.nextInt(1 + livre / 10)).append(' ').append(GenerateurTransactions.DATE_ACQUISITION.plusDays(this.aleatoire.nextInt(GenerateurTransactions.JOURS_ACQUISITION)));
+        terminer();
+    }
+
+    /**
+     * Écrit le prêt d'un livre populaire à un membre populaire. Si le membre a atteint sa limite, il rend d'abord son plus ancien
+     * prêt ; si le livre est prêté à un autre membre, il le réserve.
+     *
+     * @return <code>true</code> si une ligne a été écrite ; <code>false</code> sinon
+     * @throws IOException S'il y a une erreur d'écriture
+     */
+    private boolean preter() throws IOException {
+        if(this.etat.getNombreLivres() == 0
+            || this.etat.getNombreMembres() == 0) {
+            return false;
+        }
+        final int membre = tirerMembre();
+        if(!this.etat.peutEmprunter(membre)) {
+            retourner(this.etat.getPremierPret(membre));
+            return true;
+        }
+        final int livre = tirerLivre();
+        if(this.etat.isPrete(livre)) {
+            return reserver(membre,
+                livre);
+        }
+        if(this.etat.getTailleFile(livre) > 0) {
+            return false;
+        }
+        commencer(TypeCommande.PRETER).append(' ').append(livre).append(' ').append(membre);
+        terminer();
+        this.etat.preter(livre,
+            membre);
+        return true;
+    }
+
+    /**
+     * Écrit la réservation d'un livre populaire par un membre populaire.
+     *
+     * @return <code>true</code> si une ligne a été écrite ; <code>false</code> sinon
+     * @throws IOException S'il y a une erreur d'écriture
+     */
+    private boolean reserver() throws IOException {
+        if(this.etat.getNombrePrets() == 0
+            || this.etat.getNombreMembres() == 0) {
+            return false;
+        }
+        final int livre = tirerLivre();
+        return this.etat.isPrete(livre)
+            && reserver(tirerMembre(),
+                livre);
+    }
+
+    /**
+     * Écrit la réservation d'un livre prêté, si le membre peut le réserver.
+     *
+     * @param membre L'ID du membre
+     * @param livre L'ID du livre ; il doit être prêté
+     * @return <code>true</code> si une ligne a été écrite ; <code>false</code> sinon
+     * @throws IOException S'il y a une erreur d'écriture
+     */
+    private boolean reserver(int membre,
+        int livre) throws IOException {
+        if(this.etat.getEmprunteur(livre) == membre
+            || !this.etat.peutReserver(membre)
+            || this.etat.aReserve(membre,
+                livre)) {
+            return false;
+        }
+        commencer(TypeCommande.RESERVER).append(' ').append(membre).append(' ').append(livre);
+        terminer();
+        this.etat.reserver(membre,
+            livre);
+        return true;
+    }
+
+    /**
+     * Écrit le renouvellement d'un prêt en cours dont le livre n'est pas réservé.
+     *
+     * @return <code>true</code> si une ligne a été écrite ; <code>false</code> sinon
+     * @throws IOException S'il y a une erreur d'écriture
+     */
+    private boolean renouveler() throws IOException {
+        if(this.etat.getNombrePrets() == 0) {
+            return false;
+        }
+        final int index = this.aleatoire.nextInt(this.etat.getNombrePrets());
+        if(this.etat.getTailleFile(this.etat.getLivrePret(index)) > 0) {
+            return false;
+        }
+        commencer(TypeCommande.RENOUVELER).append(' ').append(this.etat.getIdPret(index));
+        terminer();
+        return true;
+    }
+
+    /**
+     * Écrit le retour d'un prêt en cours.
+     *
+     * @param index L'index du prêt
+     * @throws IOException S'il y a une erreur d'écriture
+     */
+    private void retourner(int index) throws IOException {
+        commencer(TypeCommande.RETOURNER).append(' ').append(this.etat.getIdPret(index));
+        terminer();
+        this.etat.retourner(index);
+    }
+
+    /**
+     * Écrit l'utilisation de la première réservation d'un livre rendu. Si le membre a atteint sa limite, il rend d'abord son plus
+     * ancien prêt. Si la base de données peut voir une autre réservation en premier, le membre annule la sienne.
+     *
+     * @return <code>true</code> si une ligne a été écrite ; <code>false</code> sinon
+     * @throws IOException S'il y a une erreur d'écriture
+     */
+    private boolean utiliser() throws IOException {
+        if(this.etat.getNombreEnAttente() == 0) {
+            return false;
+        }
+        final int livre = this.etat.getLivreEnAttente(this.aleatoire.nextInt(this.etat.getNombreEnAttente()));
+        final int reservation = this.etat.getPremiereReservation(livre);
+        final int membre = this.etat.getMembreReservation(reservation);
+        if(!this.etat.isPremiereSansAmbiguite(livre)) {
+            annuler(reservation);
+        } else if(!this.etat.peutEmprunter(membre)) {
+            retourner(this.etat.getPremierPret(membre));
+        } else {
+            commencer(TypeCommande.UTILISER).append(' ').append(this.etat.getIdReservation(reservation));
+            terminer();
+            this.etat.utiliser(livre);
+        }
+        return true;
+    }
+
+    /**
+     * Écrit l'annulation d'une réservation.
+     *
+     * @return <code>true</code> si une ligne a été écrite ; <code>false</code> sinon
+     * @throws IOException S'il y a une erreur d'écriture
+     */
+    private boolean annuler() throws IOException {
+        if(this.etat.getNombreReservations() == 0) {
+            return false;
+        }
+        annuler(this.aleatoire.nextInt(this.etat.getNombreReservations()));
+        return true;
+    }
+
+    /**
+     * Écrit l'annulation d'une réservation.
+     *
+     * @param index L'index de la réservation
+     * @throws IOException S'il y a une erreur d'écriture
+     */
+    private void annuler(int index) throws IOException {
+        commencer(TypeCommande.ANNULER).append(' ').append(this.etat.getIdReservation(index));
+        terminer();
+        this.etat.annuler(index);
+    }
+
+    /**
+     * Écrit la vente d'un livre qui n'est ni prêté ni réservé. Le livre est choisi uniformément : les titres peu populaires, plus
+     * nombreux, sont vendus plus souvent.
+     *
+     * @return <code>true</code> si une ligne a été écrite ; <code>false</code> sinon
+     * @throws IOException S'il y a une erreur d'écriture
+     */
+    private boolean vendre() throws IOException {
+        if(this.etat.getNombreLivres() < 2) {
+            return false;
+        }
+        final int livre = this.etat.getLivre(this.aleatoire.nextInt(this.etat.getNombreLivres()));
+        if(this.etat.isPrete(livre)
+            || this.etat.getTailleFile(livre) > 0) {
+            return false;
+        }
+        commencer(TypeCommande.VENDRE).append(' ').append(livre);
+        terminer();
+        this.etat.vendre(livre);
+        return true;
+    }
+
+    /**
+     * Écrit la désinscription d'un membre qui n'a ni prêt ni réservation, choisi uniformément.
+     *
+     * @return <code>true</code> si une ligne a été écrite ; <code>false</code> sinon
+     * @throws IOException S'il y a une erreur d'écriture
+     */
+    private boolean desinscrire() throws IOException {
+        if(this.etat.getNombreMembres() < 2) {
+            return false;
+        }
+        final int membre = this.etat.getMembre(this.aleatoire.nextInt(this.etat.getNombreMembres()));
+        if(!this.etat.isLibre(membre)) {
+            return false;
+        }
+        commencer(TypeCommande.DESINSCRIRE).append(' ').append(membre);
+        terminer();
+        this.etat.desinscrire(membre);
+        return true;
+    }
+
+    /**
+     * Tire un livre selon sa popularité.
+     *
+     * @return L'ID du livre
+     */
+    private int tirerLivre() {
+        return this.etat.getLivre(this.distributionZipf.tirer(this.aleatoire,
+            this.etat.getNombreLivres()));
+    }
+
+    /**
+     * Tire un membre selon son activité.
+     *
+     * @return L'ID du membre
+     */
+    private int tirerMembre() {
+        return this.etat.getMembre(this.distributionZipf.tirer(this.aleatoire,
+            this.etat.getNombreMembres()));
+    }
+
+    /**
+     * Commence une ligne.
+     *
+     * @param typeCommande Le type de la commande
+     * @return La ligne
+     */
+    private StringBuilder commencer(TypeCommande typeCommande) {
+        this.compteurs[typeCommande.getCode()]++;
+        this.ligne.setLength(0);
+        return this.ligne.append(typeCommande.getNom());
+    }
+
+    /**
+     * Écrit la ligne commencée.
+     *
+     * @throws IOException S'il y a une erreur d'écriture
+     */
+    private void terminer() throws IOException {
+        this.ligne.append('\n');
+        this.writer.append(this.ligne);
+    }
+
+    /**
+     * Génère un fichier de transactions.
+     *
+     * @param argv Les paramètres du main
+     */
+    public static void main(String[] argv) {
+        if(argv.length < 2) {
+            GenerateurTransactions.LOGGER.info("Usage: java GenerateurTransactions <fichier> <nombre-lignes> [graine=<n>] [livres=<n>] [membres=<n>] [zipf=<exposant>] [limite=<n>] [melange=<operation>:<poids>,...]");
+            return;
+        }
+        long graine = GenerateurTransactions.GRAINE;
+        int livres = GenerateurTransactions.LIVRES;
+        int membres = GenerateurTransactions.MEMBRES;
+        double exposantZipf = GenerateurTransactions.EXPOSANT_ZIPF;
+        int limite = GenerateurTransactions.LIMITE_PRET;
+        String melange = GenerateurTransactions.MELANGE;
+        try {
+            final long nombreLignes = Long.parseLong(argv[1]);
+            for(int i = 2; i < argv.length; i++) {
+                final int separateur = argv[i].indexOf('=');
+                final String clef = separateur < 0
+                    ? argv[i]
+                    : argv[i].substring(0,
+                        separateur);
+                final String valeur = argv[i].substring(separateur + 1);
+                switch(clef) {
+                    case "graine":
+                        graine = Long.parseLong(valeur);
+                        break;
+                    case "livres":
+                        livres = Integer.parseInt(valeur);
+                        break;
+                    case "membres":
+                        membres = Integer.parseInt(valeur);
+                        break;
+                    case "zipf":
+                        exposantZipf = Double.parseDouble(valeur);
+                        break;
+                    case "limite":
+                        limite = Integer.parseInt(valeur);
+                        break;
+                    case "melange":
+                        melange = valeur;
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Option inconnue : "
+                            + argv[i]);
+                }
+            }
+            final GenerateurTransactions generateur = new GenerateurTransactions(graine,
+                exposantZipf,
+                limite,
+                GenerateurTransactions.lireMelange(melange));
+            final long debut = System.nanoTime();
+            try(
+                Writer sortie = new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(Paths.get(argv[0])),
+                    StandardCharsets.UTF_8),
+                    GenerateurTransactions.TAILLE_TAMPON)) {
+                generateur.generer(sortie,
+                    nombreLignes,
+                    livres,
+                    membres);
+            }
+            final double secondes = (System.nanoTime() - debut) / 1e9;
+            GenerateurTransactions.LOGGER.info(nombreLignes
+                + " lignes en "
+                + String.format("%.1f",
+                    secondes)
+                + " s ("
+                + String.format("%.0f",
+                    nombreLignes
+                        / secondes)
+                + " lignes/s)");
+            GenerateurTransactions.LOGGER.info(generateur.rapport());
+        } catch(
+            IOException
+            | IllegalArgumentException exception) {
+            GenerateurTransactions.LOGGER.info(" **** "
+                + exception.getMessage());
+        }
+    }
+}
@@ -0,0 +1,10 @@
+// Fichier package-info.java
+// Auteur : Dragons Vicieux
+// Date de création : 2026-10-18
+/**
+ * Provides the generator of synthetic transaction files used for load tests.
+ *
+ * @author Dragons Vicieux
+ */
+
+package ca.qc.collegeahuntsic.bibliotheque.generateur;
@@ -0,0 +1,192 @@
+// Fichier AppendeurAnneau.java
+// Auteur : Dragons Vicieux
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliotheque.util;
+
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import org.apache.log4j.Appender;
+import org.apache.log4j.AppenderSkeleton;
+import org.apache.log4j.Logger;
+import org.apache.log4j.helpers.AppenderAttachableImpl;
+import org.apache.log4j.helpers.LogLog;
+import org.apache.log4j.spi.LoggingEvent;
+
+/**
+ * Appendeur log4j asynchrone.<br />
+ * <br />
+ * Les événements sont déposés dans un anneau de taille fixe et écrits par un fil dédié dans les appendeurs cibles : le fil qui
+ * journalise ne paie ni le formatage du message, ni l'écriture sur la console ou dans le fichier. Un message qui n'est pas une
+ * chaîne, comme un {@link MessageJournal}, n'est formaté que par le fil d'écriture. Si l'anneau est plein, le fil qui journalise
+ * attend qu'une place se libère : aucun événement n'est perdu.<br />
+ * <br />
+ * {@link #installer()} place l'appendeur devant les appendeurs de la racine, tels que configurés par <code>log4j.properties</code>, et
+ * {@link #close()} écrit les événements restants avant de fermer les cibles.
+ *
+ * @author Dragons Vicieux
+ */
+public final class AppendeurAnneau extends AppenderSkeleton {
+    private static final String NOM = "anneau";
+
+    private static final int CAPACITE = 8192;
+
+    private static final long ATTENTE = 1_000_000L;
+
+    private static final long DELAI_FERMETURE = 5000;
+
+    private final AtomicReferenceArray<LoggingEvent> evenements;
+
+    private final AppenderAttachableImpl cibles;
+
+    private final Thread ecrivain;
+
+    private long production;
+
+    private volatile long consommation;
+
+    private volatile boolean enAttente;
+
+    private volatile boolean ferme;
+
+    /**
+     * Crée un appendeur asynchrone et démarre son fil d'écriture.
+     *
+     * @param cibles Les appendeurs dans lesquels les événements sont écrits
+     */
+    public AppendeurAnneau(List<Appender> cibles) {
+        super();
+        this.evenements = new AtomicReferenceArray<>(AppendeurAnneau.CAPACITE);
+        this.cibles = new AppenderAttachableImpl();
+        for(Appender cible : cibles) {
+            this.cibles.addAppender(cible);
+        }
+        this.ecrivain = new Thread(this::ecrire,
+            "journal");
+        this.ecrivain.setDaemon(true);
+        this.ecrivain.start();
+    }
+
+    /**
+     * Place un appendeur asynchrone devant les appendeurs de la racine. Les appendeurs de la racine deviennent ses cibles. Un
+     * crochet d'arrêt écrit les événements restants à la fin du programme. Sans effet si l'appendeur est déjà installé.
+     */
+    public static synchronized void installer() {
+        final Logger racine = Logger.getRootLogger();
+        if(racine.getAppender(AppendeurAnneau.NOM) != null) {
+            return;
+        }
+        final List<Appender> cibles = new ArrayList<>();
+        final Enumeration<?> appendeurs = racine.getAllAppenders();
+        while(appendeurs.hasMoreElements()) {
+            cibles.add((Appender) appendeurs.nextElement());
+        }
+        final AppendeurAnneau appendeurAnneau = new AppendeurAnneau(cibles);
+        appendeurAnneau.setName(AppendeurAnneau.NOM);
+        for(Appender cible : cibles) {
+            racine.removeAppender(cible);
+        }
+        racine.addAppender(appendeurAnneau);
+        Runtime.getRuntime().addShutdownHook(new Thread(appendeurAnneau::close,
+            "fermeture-journal"));
+    }
+
+    /**
+     * Ferme l'appendeur installé par {@link #installer()}, après avoir écrit ses événements. Sans effet s'il n'est pas installé.
+     */
+    public static synchronized void desinstaller() {
+        final Appender appendeur = Logger.getRootLogger().getAppender(AppendeurAnneau.NOM);
+        if(appendeur != null) {
+            appendeur.close();
+        }
+    }
+
+    /**
+     * Dépose un événement dans l'anneau. Les valeurs qui dépendent du fil qui journalise sont lues avant le dépôt. Les appels sont
+     * sérialisés par {@link AppenderSkeleton#doAppend(LoggingEvent)}.
+     *
+     * @param event L'événement
+     */
+    @Override
+    protected void append(LoggingEvent event) {
+        event.getThreadName();
+        event.getNDC();
+        event.getMDCCopy();
+        final long sequence = this.production++;
+        while(sequence
+            - this.consommation >= AppendeurAnneau.CAPACITE) {
+            LockSupport.parkNanos(AppendeurAnneau.ATTENTE);
+        }
+        this.evenements.set((int) (sequence & AppendeurAnneau.CAPACITE - 1),
+            event);
+        if(this.enAttente) {
+            LockSupport.unpark(this.ecrivain);
+        }
+    }
+
+    /**
+     * Écrit les événements restants, arrête le fil d'écriture et ferme les cibles.
+     */
+    @Override
+    public void close() {
+        synchronized(this) {
+            if(this.closed) {
+                return;
+            }
+            this.closed = true;
+        }
+        this.ferme = true;
+        LockSupport.unpark(this.ecrivain);
+        try {
+            this.ecrivain.join(AppendeurAnneau.DELAI_FERMETURE);
+        } catch(InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+        }
+        this.cibles.removeAllAppenders();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean requiresLayout() {
+        return false;
+    }
+
+    /**
+     * Boucle du fil d'écriture : écrit les événements dans l'ordre de leur dépôt jusqu'à la fermeture, puis vide l'anneau. Une erreur
+     * d'une cible est signalée par {@link LogLog} et n'arrête pas le fil : sinon l'anneau ne se viderait plus et tout fil qui journalise
+     * finirait par attendre une place indéfiniment.
+     */
+    private void ecrire() {
+        long sequence = 0;
+        while(true) {
+            final int indice = (int) (sequence & AppendeurAnneau.CAPACITE - 1);
+            final LoggingEvent event = this.evenements.get(indice);
+            if(event == null) {
+                if(this.ferme) {
+                    break;
+                }
+                this.enAttente = true;
+                if(this.evenements.get(indice) == null) {
+                    LockSupport.parkNanos(AppendeurAnneau.ATTENTE);
+                }
+                this.enAttente = false;
+                continue;
+            }
+            this.evenements.set(indice,
+                null);
+            sequence++;
+            this.consommation = sequence;
+            try {
+                this.cibles.appendLoopOnAppenders(event);
+            } catch(RuntimeException runtimeException) {
+                LogLog.error("Impossible d'écrire un événement dans les appendeurs cibles",
+                    runtimeException);
+            }
+        }
+    }
+}
@@ -5,10 +5,13 @@
 package ca.qc.collegeahuntsic.bibliotheque.util;
 
 import ca.qc.collegeahuntsic.bibliotheque.exception.BibliothequeException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.cache.CacheStatisticsReporter;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.facade.interfaces.ILivreFacade;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.facade.interfaces.IMembreFacade;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.facade.interfaces.IPretFacade;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.facade.interfaces.IPointRepriseFacade;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.facade.interfaces.IReservationFacade;
+import org.hibernate.FlushMode;
 import org.hibernate.HibernateException;
 import org.hibernate.Session;
 import org.hibernate.SessionFactory;
@@ -18,7 +21,18 @@ import org.springframework.context.ApplicationContext;
 import org.springframework.context.support.ClassPathXmlApplicationContext;
 
 /**
- * Utilitaire de création des outils de la bibliothèque.
+ * Utilitaire de création des outils de la bibliothèque.<br />
+ * <br />
+ * La session Hibernate et la transaction sont liées au fil qui appelle {@link #beginTransaction()} : plusieurs fils peuvent utiliser
+ * le même créateur en même temps, chacun avec sa propre session, que {@link #getSession()} donne au fil courant. Sans réutilisation,
+ * chaque transaction ouvre une session et la ferme à la fin. Avec réutilisation, la session d'un fil est vidée après chaque
+ * transaction validée et servira à la transaction suivante du même fil ; elle est fermée après une annulation, puisque son état n'est
+ * plus sûr, ou par {@link #fermerSession()}. Une session inactive ne garde pas de connexion JDBC : Hibernate la libère à la fin de
+ * chaque transaction.<br />
+ * <br />
+ * Une transaction en lecture seule, démarrée par {@link #beginTransaction(boolean)}, n'est jamais vidée : la session passe en
+ * {@link FlushMode#MANUAL}, les DAOs y chargent les DTOs en lecture seule, sans copie pour la détection des modifications, et rien
+ * n'est écrit à la validation.
  *
  * @author Dragons Vicieux
  */
@@ -46,6 +60,10 @@ public class BibliothequeCreateur {
 
     private static final String PRET_FACADE_NAME = "pretFacade";
 
+    private static final String POINT_REPRISE_FACADE_NAME = "pointRepriseFacade";
+
+    private static final String CACHE_STATISTICS_REPORTER_NAME = "cacheStatisticsReporter";
+
     private static final String[] APPLICATION_CONTEXT_FILENAMES = new String[] {BibliothequeCreateur.APPLICATION_CONTEXT_JDBC_FILENAME,
         BibliothequeCreateur.APPLICATION_CONTEXT_DAO_FILENAME,
         BibliothequeCreateur.APPLICATION_CONTEXT_DTO_FILENAME,
@@ -57,9 +75,11 @@ public class BibliothequeCreateur {
 
     private SessionFactory sessionFactory;
 
-    private Session session;
+    private final ThreadLocal<ContexteSession> contextes;
+
+    private final boolean reutiliserSessions;
 
-    private Transaction transaction;
+    private final StatistiquesSessions statistiquesSessions;
 
     private ILivreFacade livreFacade;
 
@@ -69,19 +89,39 @@ public class BibliothequeCreateur {
 
     private IReservationFacade reservationFacade;
 
+    private IPointRepriseFacade pointRepriseFacade;
+
+    private CacheStatisticsReporter cacheStatisticsReporter;
+
     /**
-     * Crée le système transactionnel nécessaire à l'application bibliothèque.
+     * Crée le système transactionnel nécessaire à l'application bibliothèque, sans réutilisation des sessions.
      *
      * @throws BibliothequeException S'il y a une erreur avec la base de données
      */
     public BibliothequeCreateur() throws BibliothequeException {
+        this(false);
+    }
+
+    /**
+     * Crée le système transactionnel nécessaire à l'application bibliothèque.
+     *
+     * @param reutiliserSessions <code>true</code> pour garder la session de chaque fil d'une transaction à l'autre ;
+     *        <code>false</code> pour ouvrir une session par transaction
+     * @throws BibliothequeException S'il y a une erreur avec la base de données
+     */
+    public BibliothequeCreateur(boolean reutiliserSessions) throws BibliothequeException {
         super();
+        this.contextes = ThreadLocal.withInitial(ContexteSession::new);
+        this.reutiliserSessions = reutiliserSessions;
+        this.statistiquesSessions = new StatistiquesSessions();
         try {
             setSessionFactory((SessionFactory) BibliothequeCreateur.APPLICATION_CONTEXT.getBean(BibliothequeCreateur.SESSION_FACTORY_NAME));
             setMembreFacade((IMembreFacade) BibliothequeCreateur.APPLICATION_CONTEXT.getBean(BibliothequeCreateur.MEMBRE_FACADE_NAME));
             setLivreFacade((ILivreFacade) BibliothequeCreateur.APPLICATION_CONTEXT.getBean(BibliothequeCreateur.LIVRE_FACADE_NAME));
             setPretFacade((IPretFacade) BibliothequeCreateur.APPLICATION_CONTEXT.getBean(BibliothequeCreateur.PRET_FACADE_NAME));
             setReservationFacade((IReservationFacade) BibliothequeCreateur.APPLICATION_CONTEXT.getBean(BibliothequeCreateur.RESERVATION_FACADE_NAME));
+            setPointRepriseFacade((IPointRepriseFacade) BibliothequeCreateur.APPLICATION_CONTEXT.getBean(BibliothequeCreateur.POINT_REPRISE_FACADE_NAME));
+            setCacheStatisticsReporter((CacheStatisticsReporter) BibliothequeCreateur.APPLICATION_CONTEXT.getBean(BibliothequeCreateur.CACHE_STATISTICS_REPORTER_NAME));
 
         } catch(BeansException beansException) {
             throw new BibliothequeException(beansException);
@@ -89,72 +129,149 @@ public class BibliothequeCreateur {
     }
 
     /**
-     * Ouvre une session Hibernate.
+     * Ouvre une session Hibernate pour le fil courant, ou reprend la sienne si elle est réutilisable.
      *
      * @return La session Hibernate
      * @throws BibliothequeException S'il y a une erreur
      */
     private Session openSession() throws BibliothequeException {
+        final ContexteSession contexteSession = this.contextes.get();
+        if(contexteSession.session != null
+            && contexteSession.session.isOpen()) {
+            this.statistiquesSessions.enregistrerReutilisation();
+            return contexteSession.session;
+        }
         try {
-            setSession(getSessionFactory().openSession());
+            final long debut = System.nanoTime();
+            contexteSession.session = getSessionFactory().openSession();
+            contexteSession.ouverture = System.nanoTime();
+            this.statistiquesSessions.enregistrerOuverture(contexteSession.ouverture
+                - debut);
         } catch(HibernateException hibernateException) {
             throw new BibliothequeException(hibernateException);
         }
-        return getSession();
+        return contexteSession.session;
     }
 
     /**
-     * Ferme une session Hibernate.
+     * Ferme la session Hibernate du fil courant.
      *
      * @throws BibliothequeException S'il y a une erreur
      */
     private void closeSession() throws BibliothequeException {
+        final ContexteSession contexteSession = this.contextes.get();
+        final Session session = contexteSession.session;
+        contexteSession.session = null;
+        contexteSession.transaction = null;
+        if(session == null) {
+            return;
+        }
+        this.statistiquesSessions.enregistrerFermeture(System.nanoTime()
+            - contexteSession.ouverture);
+        try {
+            session.close();
+        } catch(HibernateException hibernateException) {
+            throw new BibliothequeException(hibernateException);
+        }
+    }
+
+    /**
+     * Termine l'unité de travail du fil courant après une validation : vide la session pour la transaction suivante si elle est
+     * réutilisable, la ferme sinon.
+     *
+     * @throws BibliothequeException S'il y a une erreur
+     */
+    private void endSession() throws BibliothequeException {
+        if(!this.reutiliserSessions) {
+            closeSession();
+            return;
+        }
         try {
-            getSession().close();
+            getSession().clear();
         } catch(HibernateException hibernateException) {
+            closeSession();
             throw new BibliothequeException(hibernateException);
         }
     }
 
     /**
-     * Démarre une transaction.
+     * Démarre une transaction dans la session du fil courant.
      *
      * @throws BibliothequeException S'il y a une erreur
      */
     public void beginTransaction() throws BibliothequeException {
+        beginTransaction(false);
+    }
+
+    /**
+     * Démarre une transaction dans la session du fil courant, en lecture seule ou non. Une transaction en lecture seule ne doit
+     * appeler que des lectures : les modifications faites dans la session ne sont pas écrites. Si le fil a encore une transaction
+     * active, parce qu'une erreur a empêché de la terminer, elle est annulée et sa session est fermée : Hibernate ne démarrerait pas
+     * de nouvelle transaction et la validation suivante écrirait aussi les modifications de l'ancienne.
+     *
+     * @param lectureSeule <code>true</code> pour une transaction en lecture seule
+     * @throws BibliothequeException S'il y a une erreur
+     */
+    public void beginTransaction(boolean lectureSeule) throws BibliothequeException {
+        final Transaction transactionActive = getTransaction();
+        if(transactionActive != null
+            && transactionActive.isActive()) {
+            rollbackTransaction();
+        }
+        final Session session = openSession();
         try {
-            setTransaction(openSession().beginTransaction());
+            session.setFlushMode(lectureSeule
+                ? FlushMode.MANUAL
+                : FlushMode.AUTO);
+            setTransaction(session.beginTransaction());
         } catch(HibernateException hibernateException) {
+            closeSession();
             throw new BibliothequeException(hibernateException);
         }
     }
 
     /**
-     * Commit une transaction.
+     * Commit la transaction du fil courant. Si la validation échoue, la session est fermée.
      *
      * @throws BibliothequeException S'il y a une erreur
      */
     public void commitTransaction() throws BibliothequeException {
         try {
             getTransaction().commit();
-            closeSession();
         } catch(HibernateException hibernateException) {
+            closeSession();
             throw new BibliothequeException(hibernateException);
         }
+        endSession();
     }
 
     /**
-     * Rollback une transaction.
+     * Rollback la transaction du fil courant et ferme sa session.
      *
      * @throws BibliothequeException S'il y a une erreur
      */
     public void rollbackTransaction() throws BibliothequeException {
         try {
             getTransaction().rollback();
-            closeSession();
         } catch(HibernateException hibernateException) {
+            closeSession();
             throw new BibliothequeException(hibernateException);
         }
+        closeSession();
+    }
+
+    /**
+     * Ferme la session réutilisable du fil courant, s'il en a une. Un fil qui a utilisé le créateur avec réutilisation doit l'appeler
+     * quand il a terminé.
+     *
+     * @throws BibliothequeException S'il y a une erreur
+     */
+    public void fermerSession() throws BibliothequeException {
+        try {
+            closeSession();
+        } finally {
+            this.contextes.remove();
+        }
     }
 
     /**
@@ -176,39 +293,39 @@ public class BibliothequeCreateur {
     }
 
     /**
-     * Getter de la variable d'instance <code>this.session</code>.
+     * Donne la session Hibernate du fil courant.
      *
-     * @return La variable d'instance <code>this.session</code>
+     * @return La session du fil courant ; <code>null</code> s'il n'en a pas
      */
     public Session getSession() {
-        return this.session;
+        return this.contextes.get().session;
     }
 
     /**
-     * Setter de la variable d'instance <code>this.session</code>.
+     * Donne la transaction du fil courant.
      *
-     * @param session La valeur à utiliser pour la variable d'instance <code>this.session</code>
+     * @return La transaction du fil courant ; <code>null</code> s'il n'en a pas
      */
-    private void setSession(Session session) {
-        this.session = session;
+    private Transaction getTransaction() {
+        return this.contextes.get().transaction;
     }
 
     /**
-     * Getter de la variable d'instance <code>this.transaction</code>.
+     * Lie une transaction au fil courant.
      *
-     * @return La variable d'instance <code>this.transaction</code>
+     * @param transaction La transaction
      */
-    private Transaction getTransaction() {
-        return this.transaction;
+    private void setTransaction(Transaction transaction) {
+        this.contextes.get().transaction = transaction;
     }
 
     /**
-     * Setter de la variable d'instance <code>this.transaction</code>.
+     * Getter de la variable d'instance <code>this.statistiquesSessions</code>.
      *
-     * @param transaction La valeur à utiliser pour la variable d'instance <code>this.transaction</code>
+     * @return La variable d'instance <code>this.statistiquesSessions</code>
      */
-    private void setTransaction(Transaction transaction) {
-        this.transaction = transaction;
+    public StatistiquesSessions getStatistiquesSessions() {
+        return this.statistiquesSessions;
     }
 
     /**
@@ -283,4 +400,51 @@ public class BibliothequeCreateur {
         this.reservationFacade = reservationFacade;
     }
 
+    /**
+     * Getter de la variable d'instance <code>this.pointRepriseFacade</code>.
+     *
+     * @return La variable d'instance <code>this.pointRepriseFacade</code>
+     */
+    public IPointRepriseFacade getPointRepriseFacade() {
+        return this.pointRepriseFacade;
+    }
+
+    /**
+     * Setter de la variable d'instance <code>this.pointRepriseFacade</code>.
+     *
+     * @param pointRepriseFacade La valeur à utiliser pour la variable d'instance <code>this.pointRepriseFacade</code>
+     */
+    private void setPointRepriseFacade(IPointRepriseFacade pointRepriseFacade) {
+        this.pointRepriseFacade = pointRepriseFacade;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.cacheStatisticsReporter</code>.
+     *
+     * @return La variable d'instance <code>this.cacheStatisticsReporter</code>
+     */
+    public CacheStatisticsReporter getCacheStatisticsReporter() {
+        return this.cacheStatisticsReporter;
+    }
+
+    /**
+     * Setter de la variable d'instance <code>this.cacheStatisticsReporter</code>.
+     *
+     * @param cacheStatisticsReporter La valeur à utiliser pour la variable d'instance <code>this.cacheStatisticsReporter</code>
+     */
+    private void setCacheStatisticsReporter(CacheStatisticsReporter cacheStatisticsReporter) {
+        this.cacheStatisticsReporter = cacheStatisticsReporter;
+    }
+
+    /**
+     * Session et transaction d'un fil.
+     */
+    private static final class ContexteSession {
+        private Session session;
+
+        private Transaction transaction;
+
+        private long ouverture;
+    }
+
 }
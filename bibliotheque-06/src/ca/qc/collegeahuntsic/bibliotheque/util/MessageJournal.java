@@ -0,0 +1,150 @@
+// Fichier MessageJournal.java
+// Auteur : Dragons Vicieux
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliotheque.util;
+
+/**
+ * Message de journal paramétré, formaté seulement quand il est écrit.<br />
+ * <br />
+ * Chaque <code>{}</code> du modèle est remplacé par un argument, dans l'ordre. Le message n'est formaté que par
+ * {@link #toString()} : avec un {@link AppendeurAnneau}, c'est le fil d'écriture qui le formate, et un message d'un niveau désactivé ne
+ * l'est jamais. Les arguments doivent donc rester inchangés après la journalisation. Les méthodes à nombre fixe d'arguments évitent
+ * l'allocation d'un tableau.
+ *
+ * @author Dragons Vicieux
+ */
+public final class MessageJournal {
+    private static final String PARAMETRE = "{}";
+
+    private final String modele;
+
+    private final int nombreArguments;
+
+    private final Object premier;
+
+    private final Object deuxieme;
+
+    private final Object troisieme;
+
+    /**
+     * Crée un message.
+     *
+     * @param modele Le modèle du message
+     * @param nombreArguments Le nombre d'arguments
+     * @param premier Le premier argument
+     * @param deuxieme Le deuxième argument
+     * @param troisieme Le troisième argument
+     */
+    private MessageJournal(String modele,
+        int nombreArguments,
+        Object premier,
+        Object deuxieme,
+        Object troisieme) {
+        super();
+        this.modele = modele;
+        this.nombreArguments = nombreArguments;
+        this.premier = premier;
+        this.deuxieme = deuxieme;
+        this.troisieme = troisieme;
+    }
+
+    /**
+     * Crée un message à un argument.
+     *
+     * @param modele Le modèle du message
+     * @param premier L'argument
+     * @return Le message
+     */
+    public static MessageJournal de(String modele,
+        Object premier) {
+        return new MessageJournal(modele,
+            1,
+            premier,
+            null,
+            null);
+    }
+
+    /**
+     * Crée un message à deux arguments.
+     *
+     * @param modele Le modèle du message
+     * @param premier Le premier argument
+     * @param deuxieme Le deuxième argument
+     * @return Le message
+     */
+    public static MessageJournal de(String modele,
+        Object premier,
+        Object deuxieme) {
+        return new MessageJournal(modele,
+            2,
+            premier,
+            deuxieme,
+            null);
+    }
+
+    /**
+     * Crée un message à trois arguments.
+     *
+     * @param modele Le modèle du message
+     * @param premier Le premier argument
+     * @param deuxieme Le deuxième argument
+     * @param troisieme Le troisième argument
+     * @return Le message
+     */
+    public static MessageJournal de(String modele,
+        Object premier,
+        Object deuxieme,
+        Object troisieme) {
+        return new MessageJournal(modele,
+            3,
+            premier,
+            deuxieme,
+            troisieme);
+    }
+
+    /**
+     * Formate le message. Un <code>{}</code> en trop est laissé tel quel.
+     *
+     * @return Le message formaté
+     */
+    @Override
+    public String toString() {
+        final StringBuilder message = new StringBuilder(this.modele.length() + 32);
+        int debut = 0;
+        for(int i = 0; i < this.nombreArguments; i++) {
+            final int parametre = this.modele.indexOf(MessageJournal.PARAMETRE,
+                debut);
+            if(parametre < 0) {
+                break;
+            }
+            message.append(this.modele,
+                debut,
+                parametre);
+            message.append(argument(i));
+            debut = parametre
+                + MessageJournal.PARAMETRE.length();
+        }
+        message.append(this.modele,
+            debut,
+            this.modele.length());
+        return message.toString();
+    }
+
+    /**
+     * Donne un argument par son rang.
+     *
+     * @param rang Le rang de l'argument, à partir de 0
+     * @return L'argument
+     */
+    private Object argument(int rang) {
+        switch(rang) {
+            case 0:
+                return this.premier;
+            case 1:
+                return this.deuxieme;
+            default:
+                return this.troisieme;
+        }
+    }
+}
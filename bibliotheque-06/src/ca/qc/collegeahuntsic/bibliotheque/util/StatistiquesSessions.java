@@ -0,0 +1,111 @@
+// Fichier StatistiquesSessions.java
+// Auteur : Dragons Vicieux
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliotheque.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Compte les sessions Hibernate ouvertes, réutilisées et fermées par un {@link BibliothequeCreateur}, avec le temps d'ouverture et la
+ * durée de vie des sessions. Les compteurs peuvent être mis à jour par plusieurs fils en même temps.
+ *
+ * @author Dragons Vicieux
+ */
+public final class StatistiquesSessions {
+    private static final double NANOSECONDES_PAR_MICROSECONDE = 1000.0;
+
+    private static final double NANOSECONDES_PAR_MILLISECONDE = 1_000_000.0;
+
+    private static final double NANOSECONDES_PAR_SECONDE = 1_000_000_000.0;
+
+    private final LongAdder ouvertures;
+
+    private final LongAdder reutilisations;
+
+    private final LongAdder fermetures;
+
+    private final LongAdder dureeOuvertures;
+
+    private final LongAdder dureeVies;
+
+    private final AtomicLong dureeVieMaximum;
+
+    private final long debut;
+
+    /**
+     * Crée des statistiques vides.
+     */
+    StatistiquesSessions() {
+        super();
+        this.ouvertures = new LongAdder();
+        this.reutilisations = new LongAdder();
+        this.fermetures = new LongAdder();
+        this.dureeOuvertures = new LongAdder();
+        this.dureeVies = new LongAdder();
+        this.dureeVieMaximum = new AtomicLong();
+        this.debut = System.nanoTime();
+    }
+
+    /**
+     * Enregistre l'ouverture d'une session.
+     *
+     * @param duree La durée de l'ouverture, en nanosecondes
+     */
+    void enregistrerOuverture(long duree) {
+        this.ouvertures.increment();
+        this.dureeOuvertures.add(duree);
+    }
+
+    /**
+     * Enregistre une transaction qui réutilise la session de son fil.
+     */
+    void enregistrerReutilisation() {
+        this.reutilisations.increment();
+    }
+
+    /**
+     * Enregistre la fermeture d'une session.
+     *
+     * @param dureeVie Le temps écoulé depuis l'ouverture de la session, en nanosecondes
+     */
+    void enregistrerFermeture(long dureeVie) {
+        this.fermetures.increment();
+        this.dureeVies.add(dureeVie);
+        this.dureeVieMaximum.accumulateAndGet(dureeVie,
+            Math::max);
+    }
+
+    /**
+     * Produit le bilan des sessions depuis la création des statistiques.
+     *
+     * @return Le bilan, une ligne
+     */
+    public String rapport() {
+        final long nombreOuvertures = this.ouvertures.sum();
+        final long nombreFermetures = this.fermetures.sum();
+        final double secondes = Math.max(1,
+            System.nanoTime()
+                - this.debut)
+            / StatistiquesSessions.NANOSECONDES_PAR_SECONDE;
+        return String.format("Sessions : %d ouvertes (%.1f/s, ouverture moyenne %.0f µs), %d réutilisées, %d fermées (%.1f/s, durée de vie moyenne %.1f ms, maximale %.1f ms)",
+            nombreOuvertures,
+            nombreOuvertures
+                / secondes,
+            this.dureeOuvertures.sum()
+                / StatistiquesSessions.NANOSECONDES_PAR_MICROSECONDE
+                / Math.max(1,
+                    nombreOuvertures),
+            this.reutilisations.sum(),
+            nombreFermetures,
+            nombreFermetures
+                / secondes,
+            this.dureeVies.sum()
+                / StatistiquesSessions.NANOSECONDES_PAR_MILLISECONDE
+                / Math.max(1,
+                    nombreFermetures),
+            this.dureeVieMaximum.get()
+                / StatistiquesSessions.NANOSECONDES_PAR_MILLISECONDE);
+    }
+}